@@ -0,0 +1,402 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the GuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * GuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/guitoolkit
+ */
+package com.mhschmieder.guitoolkit.component;
+
+import java.awt.Component;
+import java.awt.RenderingHints;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.event.HierarchyEvent;
+import java.awt.event.HierarchyListener;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+
+import javax.swing.JComponent;
+import javax.swing.JViewport;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+import javax.swing.event.ChangeListener;
+
+/**
+ * {@code AdaptiveRenderingHints} switches a component between a quality
+ * rendering profile and a speed rendering profile, based on whether the user
+ * is interacting with it.
+ * <p>
+ * While the user drags, scrolls or resizes, the speed profile is layered over
+ * the component's regular {@link RenderingHints}, typically turning off
+ * antialiasing and other expensive effects so that painting keeps up with the
+ * interaction. Once no interaction has happened for the idle delay, the
+ * quality profile is restored and the owner is notified, so that it can
+ * repaint once more at full quality.
+ * <p>
+ * Interaction is detected automatically for mouse drags and resizing of the
+ * component it is installed on, and for scrolling of the enclosing viewport if
+ * any; other interactions, such as mouse wheel zooming, can be reported via
+ * {@link #noteInteraction}. Mouse wheel events are deliberately not listened
+ * for, as AWT then delivers them to the component instead of its enclosing
+ * scroll pane, which would stop scrolling; the viewport listener already
+ * covers wheel scrolling. All methods must be called on the Event Dispatch
+ * Thread.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class AdaptiveRenderingHints {
+
+    /**
+     * The default delay, in milliseconds, after the last interaction before
+     * the quality profile is restored.
+     */
+    public static final int         DEFAULT_IDLE_DELAY_MS = 250;
+
+    /**
+     * The action to run when the quality profile is restored, which usually
+     * triggers a final high-quality repaint.
+     */
+    private final Runnable          qualityRestoredAction;
+
+    /**
+     * The timer that restores the quality profile once interaction has been
+     * idle for long enough.
+     */
+    private final Timer             idleTimer;
+
+    /**
+     * The hints that override the regular hints during interaction.
+     */
+    private RenderingHints          speedRenderingHints;
+
+    /**
+     * Flag for whether the user is currently interacting, meaning that the
+     * speed profile is in effect.
+     */
+    private boolean                 interacting;
+
+    /**
+     * The regular hints that the cached speed profile was merged from.
+     */
+    private RenderingHints          mergedQualityHints;
+
+    /**
+     * The cached merge of the regular hints and the speed hints.
+     */
+    private RenderingHints          mergedSpeedHints;
+
+    /**
+     * The component that interaction is detected on, if installed.
+     */
+    private JComponent              installedComponent;
+
+    /**
+     * The viewport enclosing the installed component, if any.
+     */
+    private JViewport               installedViewport;
+
+    /**
+     * The listener for mouse drags.
+     */
+    private final MouseAdapter      mouseInteractionListener;
+
+    /**
+     * The listener for resizing of the installed component.
+     */
+    private final ComponentAdapter  resizeInteractionListener;
+
+    /**
+     * The listener for scrolling of the enclosing viewport.
+     */
+    private final ChangeListener    scrollInteractionListener;
+
+    /**
+     * The listener for changes to the enclosing viewport.
+     */
+    private final HierarchyListener hierarchyListener;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs an {@code AdaptiveRenderingHints} controller with the default
+     * speed profile and idle delay.
+     *
+     * @param restoredAction
+     *            The action to run when the quality profile is restored, which
+     *            usually triggers a final high-quality repaint
+     *
+     * @since 1.0
+     */
+    public AdaptiveRenderingHints( final Runnable restoredAction ) {
+        qualityRestoredAction = restoredAction;
+
+        idleTimer = new Timer( DEFAULT_IDLE_DELAY_MS, evt -> restoreQuality() );
+        idleTimer.setRepeats( false );
+
+        speedRenderingHints = createSpeedRenderingHints();
+        interacting = false;
+        mergedQualityHints = null;
+        mergedSpeedHints = null;
+        installedComponent = null;
+        installedViewport = null;
+
+        mouseInteractionListener = new MouseAdapter() {
+            @Override
+            public void mouseDragged( final MouseEvent me ) {
+                noteInteraction();
+            }
+        };
+        resizeInteractionListener = new ComponentAdapter() {
+            @Override
+            public void componentResized( final ComponentEvent ce ) {
+                noteInteraction();
+            }
+        };
+        scrollInteractionListener = evt -> noteInteraction();
+        hierarchyListener = evt -> {
+            if ( ( evt.getChangeFlags() & HierarchyEvent.PARENT_CHANGED ) != 0 ) {
+                updateInstalledViewport();
+            }
+        };
+    }
+
+    /**
+     * Returns a new set of {@link RenderingHints} that favors speed over
+     * quality in every respect.
+     *
+     * @return A new set of {@link RenderingHints} that favors speed
+     *
+     * @since 1.0
+     */
+    public static RenderingHints createSpeedRenderingHints() {
+        final RenderingHints speedHints = new RenderingHints( RenderingHints.KEY_RENDERING,
+                                                              RenderingHints.VALUE_RENDER_SPEED );
+        speedHints.put( RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF );
+        speedHints.put( RenderingHints.KEY_TEXT_ANTIALIASING,
+                        RenderingHints.VALUE_TEXT_ANTIALIAS_OFF );
+        speedHints.put( RenderingHints.KEY_ALPHA_INTERPOLATION,
+                        RenderingHints.VALUE_ALPHA_INTERPOLATION_SPEED );
+        speedHints.put( RenderingHints.KEY_COLOR_RENDERING,
+                        RenderingHints.VALUE_COLOR_RENDER_SPEED );
+        speedHints.put( RenderingHints.KEY_INTERPOLATION,
+                        RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR );
+        speedHints.put( RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_NORMALIZE );
+        speedHints.put( RenderingHints.KEY_FRACTIONALMETRICS,
+                        RenderingHints.VALUE_FRACTIONALMETRICS_OFF );
+        return speedHints;
+    }
+
+    ////////////////////////// Profile methods ///////////////////////////////
+
+    /**
+     * Returns the hints that override the regular hints during interaction.
+     *
+     * @return The hints that override the regular hints during interaction
+     *
+     * @since 1.0
+     */
+    public RenderingHints getSpeedRenderingHints() {
+        return speedRenderingHints;
+    }
+
+    /**
+     * Sets the hints that override the regular hints during interaction.
+     *
+     * @param speedHints
+     *            The hints that override the regular hints during interaction
+     *
+     * @since 1.0
+     */
+    public void setSpeedRenderingHints( final RenderingHints speedHints ) {
+        speedRenderingHints = speedHints;
+        mergedQualityHints = null;
+        mergedSpeedHints = null;
+    }
+
+    /**
+     * Returns the delay after the last interaction before the quality profile
+     * is restored.
+     *
+     * @return The idle delay, in milliseconds
+     *
+     * @since 1.0
+     */
+    public int getIdleDelay() {
+        return idleTimer.getInitialDelay();
+    }
+
+    /**
+     * Sets the delay after the last interaction before the quality profile is
+     * restored.
+     *
+     * @param idleDelay
+     *            The idle delay, in milliseconds
+     *
+     * @since 1.0
+     */
+    public void setIdleDelay( final int idleDelay ) {
+        idleTimer.setInitialDelay( idleDelay );
+    }
+
+    /**
+     * Returns {@code true} if the user is currently interacting, meaning that
+     * the speed profile is in effect.
+     *
+     * @return {@code true} if the user is currently interacting
+     *
+     * @since 1.0
+     */
+    public boolean isInteracting() {
+        return interacting;
+    }
+
+    /**
+     * Reports an interaction, switching to the speed profile if it isn't in
+     * effect already, and postponing the return to the quality profile.
+     *
+     * @since 1.0
+     */
+    public void noteInteraction() {
+        interacting = true;
+        idleTimer.restart();
+    }
+
+    /**
+     * Returns the hints to render with right now: the regular hints during
+     * idle periods, or the regular hints overridden by the speed hints during
+     * interaction.
+     *
+     * @param qualityHints
+     *            The regular hints of the component, or {@code null} if none
+     * @return The hints to render with right now
+     *
+     * @since 1.0
+     */
+    public RenderingHints getActiveRenderingHints( final RenderingHints qualityHints ) {
+        if ( !interacting ) {
+            return qualityHints;
+        }
+
+        // Merging allocates, so only do it when the regular hints change.
+        if ( ( mergedSpeedHints == null ) || ( mergedQualityHints != qualityHints ) ) {
+            mergedSpeedHints = new RenderingHints( null );
+            if ( qualityHints != null ) {
+                mergedSpeedHints.add( qualityHints );
+            }
+            mergedSpeedHints.add( speedRenderingHints );
+            mergedQualityHints = qualityHints;
+        }
+
+        return mergedSpeedHints;
+    }
+
+    /**
+     * Restores the quality profile and notifies the owner, once interaction
+     * has been idle for long enough.
+     *
+     * @since 1.0
+     */
+    private void restoreQuality() {
+        if ( !interacting ) {
+            return;
+        }
+
+        interacting = false;
+        qualityRestoredAction.run();
+    }
+
+    /////////////////////// Installation methods /////////////////////////////
+
+    /**
+     * Starts detecting interaction on the specified component, and on the
+     * viewport that encloses it, if any.
+     *
+     * @param component
+     *            The component to detect interaction on
+     *
+     * @since 1.0
+     */
+    public void install( final JComponent component ) {
+        uninstall();
+
+        installedComponent = component;
+        installedComponent.addMouseMotionListener( mouseInteractionListener );
+        installedComponent.addComponentListener( resizeInteractionListener );
+        installedComponent.addHierarchyListener( hierarchyListener );
+
+        updateInstalledViewport();
+    }
+
+    /**
+     * Stops detecting interaction, and restores the quality profile without
+     * notifying the owner.
+     *
+     * @since 1.0
+     */
+    public void uninstall() {
+        idleTimer.stop();
+        interacting = false;
+
+        if ( installedComponent == null ) {
+            return;
+        }
+
+        installedComponent.removeMouseMotionListener( mouseInteractionListener );
+        installedComponent.removeComponentListener( resizeInteractionListener );
+        installedComponent.removeHierarchyListener( hierarchyListener );
+        if ( installedViewport != null ) {
+            installedViewport.removeChangeListener( scrollInteractionListener );
+            installedViewport = null;
+        }
+        installedComponent = null;
+    }
+
+    /**
+     * Moves the scroll listener to whatever viewport now encloses the
+     * installed component.
+     *
+     * @since 1.0
+     */
+    private void updateInstalledViewport() {
+        final Component viewport = SwingUtilities.getAncestorOfClass( JViewport.class,
+                                                                      installedComponent );
+        if ( viewport == installedViewport ) {
+            return;
+        }
+
+        if ( installedViewport != null ) {
+            installedViewport.removeChangeListener( scrollInteractionListener );
+        }
+        installedViewport = ( JViewport ) viewport;
+        if ( installedViewport != null ) {
+            installedViewport.addChangeListener( scrollInteractionListener );
+        }
+    }
+
+}
@@ -31,17 +31,28 @@
 package com.mhschmieder.guitoolkit.component;
 
 import java.awt.Color;
+import java.awt.EventQueue;
 import java.awt.Graphics2D;
 import java.awt.GridLayout;
+import java.awt.Rectangle;
+import java.io.IOException;
+import java.util.BitSet;
 import java.util.HashSet;
 
+import javax.swing.JScrollPane;
 import javax.swing.JTable;
+import javax.swing.event.TableModelEvent;
 import javax.swing.table.TableColumn;
+import javax.swing.table.TableColumnModel;
 import javax.swing.table.TableModel;
 
 import com.mhschmieder.graphicstoolkit.color.ColorUtilities;
 import com.mhschmieder.guitoolkit.table.DataViewCellRenderer;
 import com.mhschmieder.guitoolkit.table.DataViewTableModel;
+import com.mhschmieder.guitoolkit.table.HeaderRepeatPolicy;
+import com.mhschmieder.guitoolkit.table.RingBufferTableModel;
+import com.mhschmieder.guitoolkit.table.TablePageExporter;
+import com.mhschmieder.guitoolkit.table.TablePageSink;
 import com.mhschmieder.guitoolkit.table.TableVectorizationUtilities;
 
 /**
@@ -73,6 +84,17 @@ public abstract class DataViewXComponent extends XComponent {
      */
     private final DataViewCellRenderer dataViewCellRenderer;
 
+    /**
+     * The ring buffer model for streaming mode, or {@code null} otherwise.
+     */
+    private RingBufferTableModel       streamingTableModel;
+
+    /**
+     * Flag for whether streaming mode keeps the newest rows in view, as long
+     * as the view was already showing the newest rows.
+     */
+    private boolean                    tailFollowingEnabled;
+
     //////////////////////////// Constructors ////////////////////////////////
 
     /**
@@ -86,6 +108,8 @@ public abstract class DataViewXComponent extends XComponent {
         super();
 
         dataViewCellRenderer = new DataViewCellRenderer();
+        streamingTableModel = null;
+        tailFollowingEnabled = true;
 
         // Avoid constructor failure by wrapping the layout initialization in an
         // exception handler that logs the exception and then returns an object.
@@ -161,6 +185,137 @@ public abstract class DataViewXComponent extends XComponent {
         add( table );
     }
 
+    /**
+     * Initializes the table that is hosted by this component in streaming
+     * mode, where rows are appended live via {@link #appendRow(Object[])} and
+     * only the most recent rows up to the specified capacity are kept.
+     * <p>
+     * As the number of rows changes continuously, the table is hosted directly
+     * as the viewport view of a scroll pane, so that only the visible rows are
+     * laid out and painted, and so that the newest rows can be kept in view.
+     *
+     * @param columnNames
+     *            The names of the table columns
+     * @param capacity
+     *            The maximum number of rows to keep
+     * @param horizontalAlignment
+     *            The horizontal alignment to use for the table cells
+     *
+     * @version 1.0
+     */
+    protected final void initStreamingTable( final String[] columnNames,
+                                             final int capacity,
+                                             final int horizontalAlignment ) {
+        // Set the ring buffer table model, which batches appended rows into at
+        // most one deletion and one insertion event per frame.
+        streamingTableModel = new RingBufferTableModel( columnNames, capacity );
+
+        // Create the table from the ring buffer table model.
+        //
+        // Do not allow column reordering or row sorting as this destroys the
+        // relationship of the data.
+        //
+        // Grid lines between cells are disabled, as we want to blend in with
+        // the layout's background for this special custom implementation.
+        table = new XTable( streamingTableModel, false, false );
+        table.setTableHeader( null );
+
+        // Use the custom Table Cell Renderer for all columns, set to specified
+        // alignment, and with no column header row as rows scroll away.
+        dataViewCellRenderer.setHorizontalAlignment( horizontalAlignment );
+        dataViewCellRenderer.setFirstRowHeader( false );
+        final TableColumnModel columnModel = table.getColumnModel();
+        for ( int i = 0; i < columnModel.getColumnCount(); i++ ) {
+            final TableColumn column = columnModel.getColumn( i );
+            column.setCellRenderer( dataViewCellRenderer );
+        }
+
+        // Keep the newest rows in view, but only if the view was already at the
+        // tail when the rows arrived, so that scrolling back isn't disrupted.
+        //
+        // The model has already grown by the time this is notified, and the
+        // table has no row sorter to hide that, so the old tail is found by
+        // discounting the inserted rows from the current row count.
+        streamingTableModel.addTableModelListener( tableModelEvent -> {
+            if ( tailFollowingEnabled
+                    && ( tableModelEvent.getType() == TableModelEvent.INSERT ) ) {
+                final int insertedRowCount = ( tableModelEvent.getLastRow()
+                        - tableModelEvent.getFirstRow() ) + 1;
+                final int previousLastRow = ( streamingTableModel.getRowCount()
+                        - insertedRowCount ) - 1;
+                if ( isShowingRow( previousLastRow ) ) {
+                    EventQueue.invokeLater( this::scrollToTail );
+                }
+            }
+        } );
+
+        // Add the table to this component, hosted directly in a viewport.
+        final JScrollPane scrollPane = TableUtilities.makeViewportTableScrollPane( table, -1, -1 );
+        add( scrollPane );
+    }
+
+    ////////////////////////// Row streaming methods /////////////////////////
+
+    /**
+     * Appends a row to the end of the streaming table; this may be called from
+     * any thread, and has no effect if the table is not in streaming mode.
+     *
+     * @param row
+     *            The cell values for the new row, which must not be modified
+     *            after this call
+     *
+     * @version 1.0
+     */
+    public final void appendRow( final Object[] row ) {
+        if ( streamingTableModel != null ) {
+            streamingTableModel.appendRow( row );
+        }
+    }
+
+    /**
+     * Sets whether streaming mode keeps the newest rows in view.
+     *
+     * @param tailFollowing
+     *            {@code true} if the newest rows should be kept in view
+     *
+     * @version 1.0
+     */
+    public final void setTailFollowingEnabled( final boolean tailFollowing ) {
+        tailFollowingEnabled = tailFollowing;
+    }
+
+    /**
+     * Returns {@code true} if the view is scrolled down to at least the
+     * specified row, or if there is no such row.
+     *
+     * @param row
+     *            The row to check, or -1 if the table was empty
+     * @return {@code true} if the view is scrolled down to at least the row
+     *
+     * @version 1.0
+     */
+    private boolean isShowingRow( final int row ) {
+        if ( row < 0 ) {
+            return true;
+        }
+
+        final Rectangle visibleRect = table.getVisibleRect();
+        final Rectangle rowRect = table.getCellRect( row, 0, true );
+        return visibleRect.getMaxY() >= rowRect.getMaxY();
+    }
+
+    /**
+     * Scrolls the table so that its last row is visible.
+     *
+     * @version 1.0
+     */
+    private void scrollToTail() {
+        final int rowCount = table.getRowCount();
+        if ( rowCount > 0 ) {
+            table.scrollRectToVisible( table.getCellRect( rowCount - 1, 0, true ) );
+        }
+    }
+
     //////////////////////// Vectorization methods ///////////////////////////
 
     /**
@@ -197,6 +352,87 @@ public abstract class DataViewXComponent extends XComponent {
                                                     backgroundColor );
     }
 
+    /**
+     * This method vectorizes the table, via direct custom graphics calls,
+     * skipping the rows whose bits are set.
+     * <p>
+     * This is the allocation-free equivalent of
+     * {@link #vectorize(Graphics2D, int, int, HashSet)}; it has a distinct
+     * name so that calls passing {@code null} for the excluded rows stay
+     * unambiguous.
+     *
+     * @param graphicsContext
+     *            The {@link Graphics2D} Graphics Context for vectorizing the
+     *            content of this component
+     * @param offsetX
+     *            The initial offset to apply along the x-axis for positioning
+     *            the table rows in the vectorized output
+     * @param offsetY
+     *            The initial offset to apply along the y-axis for positioning
+     *            the table columns in the vectorized output
+     * @param rowsToExclude
+     *            A {@link BitSet} of the rows to exclude from vectorization;
+     *            not required to be contiguous, and may be {@code null}
+     *
+     * @version 1.0
+     */
+    public final void vectorizeExcludingRows( final Graphics2D graphicsContext,
+                                              final int offsetX,
+                                              final int offsetY,
+                                              final BitSet rowsToExclude ) {
+        final Color backgroundColor = getBackground();
+
+        // Vectorize the full table, but skip the table header in this context.
+        TableVectorizationUtilities.vectorizeTableExcludingRows( graphicsContext,
+                                                                 offsetX,
+                                                                 offsetY,
+                                                                 table,
+                                                                 false,
+                                                                 rowsToExclude,
+                                                                 backgroundColor );
+    }
+
+    /**
+     * Returns the number of pages that were exported, after vectorizing the
+     * table across fixed-height pages that are each streamed to the page sink
+     * as soon as they are complete.
+     *
+     * @param pageSink
+     *            The destination for the vectorized pages
+     * @param pageHeight
+     *            The height of each page, in pixels
+     * @param offsetX
+     *            The offset to apply along the x-axis on every page
+     * @param offsetY
+     *            The offset to apply along the y-axis on every page
+     * @param rowsToExclude
+     *            A {@link BitSet} of the rows to exclude from vectorization;
+     *            not required to be contiguous, and may be {@code null}
+     * @return The number of pages that were exported
+     * @throws IOException
+     *             If the page sink failed to create or write a page
+     *
+     * @version 1.0
+     */
+    public final int vectorizePages( final TablePageSink pageSink,
+                                     final int pageHeight,
+                                     final int offsetX,
+                                     final int offsetY,
+                                     final BitSet rowsToExclude )
+            throws IOException {
+        final Color backgroundColor = getBackground();
+
+        // The table header is always skipped in this context.
+        final TablePageExporter pageExporter = new TablePageExporter( table,
+                                                                      pageHeight,
+                                                                      HeaderRepeatPolicy.NONE );
+        return pageExporter.exportPages( pageSink,
+                                         offsetX,
+                                         offsetY,
+                                         rowsToExclude,
+                                         backgroundColor );
+    }
+
     ////////////////////// XComponent method overrides ///////////////////////
 
     /**
@@ -0,0 +1,220 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the GuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * GuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/guitoolkit
+ */
+package com.mhschmieder.guitoolkit.component;
+
+import java.awt.Graphics2D;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.function.Consumer;
+
+import javax.swing.JComponent;
+
+import com.mhschmieder.guitoolkit.graphics.DisplayList;
+import com.mhschmieder.guitoolkit.graphics.DisplayListCache;
+
+/**
+ * {@code DisplayListCachingSupport} is a helper for {@link VectorSource}
+ * components that can record their painted content into a display list once
+ * per content change, and then replay that display list for each vectorization
+ * rather than painting every time.
+ * <p>
+ * The cached display list is keyed on the size of the component, and is
+ * invalidated by changes to the component properties that commonly affect
+ * painting (background, foreground, font and enabled state). All other content
+ * changes must be signalled by calling {@link #invalidate()}, as plain repaint
+ * requests are far too frequent to be treated as content changes.
+ * <p>
+ * Caching is opt-in, as it is only valid for painters that don't depend on the
+ * type of the supplied graphics context.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class DisplayListCachingSupport implements PropertyChangeListener {
+
+    /**
+     * The component whose content is cached, for its size and properties.
+     */
+    private final JComponent             component;
+
+    /**
+     * The painter that renders the content of the component.
+     */
+    private final Consumer< Graphics2D > painter;
+
+    /**
+     * The cache of the most recently recorded display list.
+     */
+    private final DisplayListCache       displayListCache;
+
+    /**
+     * Flag for whether vectorization replays the cached display list rather
+     * than painting every time.
+     */
+    private boolean                      cachingEnabled;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs a {@code DisplayListCachingSupport} for the specified
+     * component and painter, with caching initially disabled.
+     *
+     * @param cachedComponent
+     *            The component whose content is cached
+     * @param contentPainter
+     *            The painter that renders the content of the component
+     *
+     * @since 1.0
+     */
+    public DisplayListCachingSupport( final JComponent cachedComponent,
+                                      final Consumer< Graphics2D > contentPainter ) {
+        component = cachedComponent;
+        painter = contentPainter;
+        displayListCache = new DisplayListCache();
+        cachingEnabled = false;
+    }
+
+    ////////////////// Display list caching methods //////////////////////////
+
+    /**
+     * Returns {@code true} if vectorization replays a cached display list for
+     * unchanged content, rather than painting the content every time.
+     *
+     * @return {@code true} if display list caching is enabled
+     *
+     * @since 1.0
+     */
+    public boolean isCachingEnabled() {
+        return cachingEnabled;
+    }
+
+    /**
+     * Sets whether vectorization replays a cached display list for unchanged
+     * content, rather than painting the content every time.
+     *
+     * @param enabled
+     *            {@code true} to enable display list caching
+     *
+     * @since 1.0
+     */
+    public void setCachingEnabled( final boolean enabled ) {
+        if ( enabled == cachingEnabled ) {
+            return;
+        }
+
+        cachingEnabled = enabled;
+        displayListCache.invalidate();
+
+        // Only listen for property changes while caching, so that a disabled
+        // helper adds no overhead to the component.
+        if ( enabled ) {
+            component.addPropertyChangeListener( this );
+        }
+        else {
+            component.removePropertyChangeListener( this );
+        }
+    }
+
+    /**
+     * Discards any cached display list, as the content of the component has
+     * changed.
+     *
+     * @since 1.0
+     */
+    public void invalidate() {
+        displayListCache.invalidate();
+    }
+
+    /**
+     * Returns the display list for the current content of the component,
+     * recording it first if the cached one is missing or stale.
+     *
+     * @param graphicsContext
+     *            The {@link Graphics2D} Graphics Context that the display list
+     *            is intended for, used for the initial graphics state
+     * @return The display list for the current content of the component
+     *
+     * @since 1.0
+     */
+    public DisplayList getDisplayList( final Graphics2D graphicsContext ) {
+        return displayListCache.getDisplayList( graphicsContext,
+                                                component.getWidth(),
+                                                component.getHeight(),
+                                                painter );
+    }
+
+    /**
+     * Paints the content of the component to the supplied Graphics Context,
+     * replaying the cached display list if caching is enabled, and otherwise
+     * invoking the painter directly.
+     *
+     * @param graphicsContext
+     *            The {@link Graphics2D} Graphics Context to paint to
+     *
+     * @since 1.0
+     */
+    public void paint( final Graphics2D graphicsContext ) {
+        if ( cachingEnabled ) {
+            getDisplayList( graphicsContext ).replay( graphicsContext );
+        }
+        else {
+            painter.accept( graphicsContext );
+        }
+    }
+
+    ///////////// PropertyChangeListener implementation methods //////////////
+
+    /**
+     * Invalidates the cached display list when a component property that
+     * commonly affects painting has changed.
+     *
+     * @param propertyChangeEvent
+     *            The event describing the changed property
+     *
+     * @since 1.0
+     */
+    @SuppressWarnings("nls")
+    @Override
+    public void propertyChange( final PropertyChangeEvent propertyChangeEvent ) {
+        switch ( String.valueOf( propertyChangeEvent.getPropertyName() ) ) {
+        case "background":
+        case "foreground":
+        case "font":
+        case "enabled":
+            displayListCache.invalidate();
+            break;
+        default:
+            break;
+        }
+    }
+
+}
@@ -32,8 +32,13 @@ package com.mhschmieder.guitoolkit.component;
 
 import java.awt.EventQueue;
 
+import javax.swing.ListSelectionModel;
+import javax.swing.table.TableModel;
+
 import org.apache.commons.math3.util.FastMath;
 
+import com.mhschmieder.guitoolkit.table.ColumnStoreTableModel;
+
 /**
  * {@code DynamicTableXPanel} is a further abstraction of {@link TableXPanel}
  * that sets up the functionality that is likely to be shared by all multi-row
@@ -75,6 +80,34 @@ public abstract class DynamicTableXPanel extends TableXPanel {
         super( firstColumn, lastColumn, autoSelectionIsEnabled );
     }
 
+    /**
+     * Constructs a {@code DynamicTableXPanel} with minimal initial
+     * specifications, along with the choice of table hosting mode.
+     * <p>
+     * This is an abstract base class, so its purpose is to avoid copy/paste
+     * code in the derived classes; it is unable to function on its own.
+     *
+     * @param firstColumn
+     *            The index for the first column in the Table
+     * @param lastColumn
+     *            The index for the last column in the Table
+     * @param autoSelectionIsEnabled
+     *            {@code true} if auto-selection is enabled when nothing is
+     *            manually or programmatically selected
+     * @param viewportHostingIsEnabled
+     *            {@code true} if the Table should be hosted directly as the
+     *            viewport view of its Scroll Pane vs. wrapped in a panel
+     *
+     * @since 1.0
+     */
+    protected DynamicTableXPanel( final int firstColumn,
+                                  final int lastColumn,
+                                  final boolean autoSelectionIsEnabled,
+                                  final boolean viewportHostingIsEnabled ) {
+        // Always call the superclass constructor first!
+        super( firstColumn, lastColumn, autoSelectionIsEnabled, viewportHostingIsEnabled );
+    }
+
     ////////////////////// Table manipulation methods ////////////////////////
 
     /**
@@ -119,11 +152,18 @@ public abstract class DynamicTableXPanel extends TableXPanel {
         // the logic auto-selected to the last row.
         //
         // Maybe provide or override the preferred auto-select row index?
+        //
+        // The selection is scanned in place from the selection model, to avoid
+        // taking a snapshot of what may be a very large selection.
         boolean canDeleteRows = true;
-        final Integer[] selectedRowIndices = getSelectedRows();
-        if ( ( selectedRowIndices != null ) && ( selectedRowIndices.length > 0 ) ) {
-            for ( final Integer selectedRowIndex : selectedRowIndices ) {
-                if ( !canDeleteTableRowAt( selectedRowIndex.intValue() ) ) {
+        final ListSelectionModel selectionModel = table.getSelectionModel();
+        final int minimumSelectedRowIndex = selectionModel.getMinSelectionIndex();
+        if ( minimumSelectedRowIndex >= 0 ) {
+            final int maximumSelectedRowIndex = selectionModel.getMaxSelectionIndex();
+            for ( int rowIndex = minimumSelectedRowIndex; rowIndex <= maximumSelectedRowIndex;
+                    rowIndex++ ) {
+                if ( selectionModel.isSelectedIndex( rowIndex )
+                        && !canDeleteTableRowAt( rowIndex ) ) {
                     canDeleteRows = false;
                     break;
                 }
@@ -261,7 +301,226 @@ public abstract class DynamicTableXPanel extends TableXPanel {
                                                      maximumLastRowIndex );
 
         // Request an auto-scroll to the row that was just inserted.
-        //
+        scrollToInsertedRow( referenceIndex );
+
+        return referenceIndex;
+    }
+
+    /**
+     * Returns the row index for the first newly inserted row (if valid), after
+     * adding the specified number of rows to the table after the selected row.
+     * <p>
+     * This is the bulk equivalent of {@link #insertTableRow()}, and inserts the
+     * whole block of rows as one contiguous range.
+     *
+     * @param numberOfRows
+     *            The number of rows to insert
+     * @return The row index for the first newly inserted row (if valid)
+     *
+     * @since 1.0
+     */
+    public int insertTableRows( final int numberOfRows ) {
+        final int minimumInsertIndex = 0;
+        final int maximumLastRowIndex = Integer.MAX_VALUE;
+        final int referenceIndex = insertTableRows( numberOfRows,
+                                                    minimumInsertIndex,
+                                                    maximumLastRowIndex );
+
+        return referenceIndex;
+    }
+
+    /**
+     * Returns the row index for the first newly inserted row (if valid), after
+     * adding the specified number of rows to the table after the selected row.
+     * <p>
+     * The number of rows is clamped so that the table never grows beyond the
+     * maximum last row index.
+     *
+     * @param numberOfRows
+     *            The number of rows to insert
+     * @param minimumInsertIndex
+     *            The minimum allowed index for inserting a new row
+     * @param maximumLastRowIndex
+     *            The maximum index that is ever allowed for this table
+     * @return The row index for the first newly inserted row (if valid)
+     *
+     * @since 1.0
+     */
+    protected final int insertTableRows( final int numberOfRows,
+                                         final int minimumInsertIndex,
+                                         final int maximumLastRowIndex ) {
+        // Never grow the table beyond the maximum allowed row count.
+        final int lastRowIndex = getLastRowIndex();
+        final int availableRows = ( maximumLastRowIndex == Integer.MAX_VALUE )
+            ? numberOfRows
+            : FastMath.min( numberOfRows, maximumLastRowIndex - lastRowIndex );
+        if ( availableRows <= 0 ) {
+            return -1;
+        }
+
+        // Insert the block of rows after the selected row, as one range.
+        final int selectionIndex = getSelectedRow( minimumInsertIndex );
+        final int insertIndex = selectionIndex + 1;
+        final int maximumInsertIndex = lastRowIndex + 1;
+        final int referenceIndex = insertTableRowRange( insertIndex,
+                                                        availableRows,
+                                                        minimumInsertIndex,
+                                                        maximumInsertIndex,
+                                                        maximumLastRowIndex );
+
+        // Request an auto-scroll to the first row that was just inserted.
+        scrollToInsertedRow( referenceIndex );
+
+        return referenceIndex;
+    }
+
+    /**
+     * Returns the row index for the first newly inserted row (if valid), after
+     * adding a contiguous range of rows to the table at the specified index.
+     * <p>
+     * This is the bulk insertion hook. The default implementation inserts one
+     * row at a time via {@link #insertTableRowAt}, so that derived classes that
+     * keep side data in sync with each row keep working unchanged. Derived
+     * classes whose data model supports range insertion should override this
+     * to make a single model mutation that fires a single event; those backed
+     * by a {@link ColumnStoreTableModel} with no side data can simply delegate
+     * to {@link #insertColumnStoreRowRange}.
+     *
+     * @param insertIndex
+     *            The selected index for inserting the first new row
+     * @param numberOfRows
+     *            The number of rows to insert
+     * @param minimumInsertIndex
+     *            The minimum allowed index for inserting a new row
+     * @param maximumInsertIndex
+     *            The maximum allowed index for inserting the first new row
+     * @param maximumLastRowIndex
+     *            The maximum index that is ever allowed for this table
+     * @return The row index for the first newly inserted row (if valid)
+     *
+     * @since 1.0
+     */
+    protected int insertTableRowRange( final int insertIndex,
+                                       final int numberOfRows,
+                                       final int minimumInsertIndex,
+                                       final int maximumInsertIndex,
+                                       final int maximumLastRowIndex ) {
+        return insertTableRowsIndividually( insertIndex,
+                                            numberOfRows,
+                                            minimumInsertIndex,
+                                            maximumInsertIndex,
+                                            maximumLastRowIndex );
+    }
+
+    /**
+     * Returns the row index for the first newly inserted row (if valid), after
+     * inserting a contiguous range of rows directly into the
+     * {@link ColumnStoreTableModel} as copies of the row before the range, in
+     * a single mutation that fires a single event.
+     * <p>
+     * This is a convenience for overrides of {@link #insertTableRowRange} in
+     * derived classes that keep no side data per row. Each row of the range is
+     * first checked with {@link #canInsertTableRowAt}; if any is vetoed, or if
+     * the model is not a {@link ColumnStoreTableModel} or the table is sorted,
+     * the rows are inserted one at a time via {@link #insertTableRowAt}
+     * instead.
+     *
+     * @param insertIndex
+     *            The selected index for inserting the first new row
+     * @param numberOfRows
+     *            The number of rows to insert
+     * @param minimumInsertIndex
+     *            The minimum allowed index for inserting a new row
+     * @param maximumInsertIndex
+     *            The maximum allowed index for inserting the first new row
+     * @param maximumLastRowIndex
+     *            The maximum index that is ever allowed for this table
+     * @return The row index for the first newly inserted row (if valid)
+     *
+     * @since 1.0
+     */
+    protected final int insertColumnStoreRowRange( final int insertIndex,
+                                                   final int numberOfRows,
+                                                   final int minimumInsertIndex,
+                                                   final int maximumInsertIndex,
+                                                   final int maximumLastRowIndex ) {
+        final TableModel tableModel = table.getModel();
+        boolean canInsertRange = ( tableModel instanceof ColumnStoreTableModel )
+                && ( table.getRowSorter() == null );
+        for ( int i = 0; canInsertRange && ( i < numberOfRows ); i++ ) {
+            canInsertRange = canInsertTableRowAt( insertIndex + i,
+                                                  minimumInsertIndex,
+                                                  maximumInsertIndex + i,
+                                                  maximumLastRowIndex );
+        }
+        if ( !canInsertRange ) {
+            return insertTableRowsIndividually( insertIndex,
+                                                numberOfRows,
+                                                minimumInsertIndex,
+                                                maximumInsertIndex,
+                                                maximumLastRowIndex );
+        }
+
+        // Each new row starts out as a copy of the row it is inserted after.
+        ( ( ColumnStoreTableModel ) tableModel )
+                .insertRows( insertIndex, numberOfRows, insertIndex - 1 );
+        return insertIndex;
+    }
+
+    /**
+     * Returns the row index for the first newly inserted row (if valid), after
+     * inserting a contiguous range of rows one at a time via
+     * {@link #insertTableRowAt}.
+     *
+     * @param insertIndex
+     *            The selected index for inserting the first new row
+     * @param numberOfRows
+     *            The number of rows to insert
+     * @param minimumInsertIndex
+     *            The minimum allowed index for inserting a new row
+     * @param maximumInsertIndex
+     *            The maximum allowed index for inserting the first new row
+     * @param maximumLastRowIndex
+     *            The maximum index that is ever allowed for this table
+     * @return The row index for the first newly inserted row (if valid)
+     *
+     * @since 1.0
+     */
+    private int insertTableRowsIndividually( final int insertIndex,
+                                             final int numberOfRows,
+                                             final int minimumInsertIndex,
+                                             final int maximumInsertIndex,
+                                             final int maximumLastRowIndex ) {
+        final TableModel tableModel = table.getModel();
+
+        // Track how many rows were actually inserted, as derived classes may
+        // decline to insert some of them.
+        int referenceIndex = -1;
+        int insertedRowCount = 0;
+        for ( int i = 0; i < numberOfRows; i++ ) {
+            final int rowCount = tableModel.getRowCount();
+            final int rowIndex = insertTableRowAt( insertIndex + insertedRowCount,
+                                                   minimumInsertIndex,
+                                                   maximumInsertIndex + insertedRowCount,
+                                                   maximumLastRowIndex );
+            insertedRowCount += tableModel.getRowCount() - rowCount;
+            if ( referenceIndex < 0 ) {
+                referenceIndex = rowIndex;
+            }
+        }
+
+        return referenceIndex;
+    }
+
+    /**
+     * Requests an auto-scroll to the specified newly inserted row.
+     *
+     * @param referenceIndex
+     *            The row index for the newly inserted row
+     *
+     * @since 1.0
+     */
+    private void scrollToInsertedRow( final int referenceIndex ) {
         // These actions MUST be done on the event-dispatching thread!
         EventQueue.invokeLater( () -> {
             // A reasonable compromise is to assume table height of twenty rows
@@ -271,8 +530,6 @@ public abstract class DynamicTableXPanel extends TableXPanel {
             table.scrollRectToVisible( table
                     .getCellRect( scrollToRow, table.getColumnCount(), false ) );
         } );
-
-        return referenceIndex;
     }
 
     /**
@@ -344,26 +601,48 @@ public abstract class DynamicTableXPanel extends TableXPanel {
     protected final int deleteTableRows( final int minimumDeleteIndex,
                                          final int minimumLastRowIndex ) {
         // Delete all of the selected table row(s), except the minimum row.
+        //
+        // The selection is coalesced into contiguous ranges, which are deleted
+        // in reverse order so that the indices of the ranges that are still to
+        // be deleted are not affected by the ones that were already deleted.
         int referenceIndex = -1;
-        final Integer[] selectedRowIndices = getSelectedRows();
+        final int[] selectedRowIndices = table.getSelectedRows();
         if ( ( selectedRowIndices != null ) && ( selectedRowIndices.length > 0 ) ) {
-            int correctedIndex = -1;
-            for ( final Integer deleteIndex : selectedRowIndices ) {
-                // As the table changes size inside this loop, we have to
-                // refresh the last row index on each iteration.
-                final int maximumDeleteIndex = getLastRowIndex();
-                correctedIndex = deleteTableRowAt( deleteIndex.intValue(),
-                                                   minimumDeleteIndex,
-                                                   maximumDeleteIndex,
-                                                   minimumLastRowIndex );
-
-                // Make sure we only use the first valid corrected index, as we
-                // handle delete in reverse order and want to use the last
-                // selected row as the reference row.
-                if ( referenceIndex < 0 ) {
-                    referenceIndex = correctedIndex;
+            // Hold off on selection listener notifications until all of the
+            // ranges are deleted, to avoid per-range selection churn.
+            final ListSelectionModel selectionModel = table.getSelectionModel();
+            selectionModel.setValueIsAdjusting( true );
+            try {
+                int lastIndex = selectedRowIndices.length - 1;
+                while ( lastIndex >= 0 ) {
+                    int firstIndex = lastIndex;
+                    while ( ( firstIndex > 0 ) && ( selectedRowIndices[ firstIndex
+                            - 1 ] == ( selectedRowIndices[ firstIndex ] - 1 ) ) ) {
+                        firstIndex--;
+                    }
+
+                    // As the table changes size inside this loop, we have to
+                    // refresh the last row index on each iteration.
+                    final int maximumDeleteIndex = getLastRowIndex();
+                    final int correctedIndex = deleteTableRowRange( selectedRowIndices[ firstIndex ],
+                                                                    selectedRowIndices[ lastIndex ],
+                                                                    minimumDeleteIndex,
+                                                                    maximumDeleteIndex,
+                                                                    minimumLastRowIndex );
+
+                    // Make sure we only use the first valid corrected index, as
+                    // we handle delete in reverse order and want to use the
+                    // last selected row as the reference row.
+                    if ( referenceIndex < 0 ) {
+                        referenceIndex = correctedIndex;
+                    }
+
+                    lastIndex = firstIndex - 1;
                 }
             }
+            finally {
+                selectionModel.setValueIsAdjusting( false );
+            }
 
             // Now adjust the last selected row index for the number of rows
             // deleted (minus one, as we always try to select the row directly
@@ -388,6 +667,195 @@ public abstract class DynamicTableXPanel extends TableXPanel {
         return referenceIndex;
     }
 
+    /**
+     * Returns the row index for the last deleted row in a contiguous range of
+     * rows (if any rows were deleted).
+     * <p>
+     * The range is first clamped to the allowed delete indices, and then
+     * trimmed from the front if deleting all of it would shrink the table below
+     * the minimum row count, matching the behaviour of deleting the selected
+     * rows one at a time from the bottom up.
+     * <p>
+     * The deletion itself is delegated to {@link #deleteTableRowRangeAt},
+     * which derived classes whose data model supports range removal should
+     * override to make a single model mutation that fires a single event.
+     *
+     * @param firstDeleteIndex
+     *            The first index of the contiguous range of rows to delete
+     * @param lastDeleteIndex
+     *            The last index of the contiguous range of rows to delete
+     * @param minimumDeleteIndex
+     *            The minimum allowed index for deleting an existing row
+     * @param maximumDeleteIndex
+     *            The maximum allowed index for deleting an existing row
+     * @param minimumLastRowIndex
+     *            The minimum index that is ever allowed for this table
+     * @return The row index for the last deleted row (if any were deleted)
+     *
+     * @since 1.0
+     */
+    protected final int deleteTableRowRange( final int firstDeleteIndex,
+                                             final int lastDeleteIndex,
+                                             final int minimumDeleteIndex,
+                                             final int maximumDeleteIndex,
+                                             final int minimumLastRowIndex ) {
+        final int lastIndex = FastMath.min( lastDeleteIndex, maximumDeleteIndex );
+        final int maximumDeletableRows = maximumDeleteIndex - minimumLastRowIndex;
+        final int firstIndex = FastMath.max( FastMath.max( firstDeleteIndex, minimumDeleteIndex ),
+                                             lastIndex - maximumDeletableRows + 1 );
+        if ( firstIndex > lastIndex ) {
+            return -1;
+        }
+
+        return deleteTableRowRangeAt( firstIndex,
+                                      lastIndex,
+                                      minimumDeleteIndex,
+                                      maximumDeleteIndex,
+                                      minimumLastRowIndex );
+    }
+
+    /**
+     * Returns the row index for the last deleted row in a contiguous range of
+     * rows that has already been validated against the table constraints.
+     * <p>
+     * This is the bulk deletion hook. The default implementation deletes one
+     * row at a time via {@link #deleteTableRowAt}, from the bottom up, so that
+     * derived classes that veto deletions or keep side data in sync with each
+     * row keep working unchanged. Derived classes whose data model supports
+     * range removal should override this to make a single model mutation that
+     * fires a single event; those backed by a {@link ColumnStoreTableModel}
+     * with no side data can simply delegate to
+     * {@link #deleteColumnStoreRowRange}.
+     *
+     * @param firstDeleteIndex
+     *            The first index of the validated range of rows to delete
+     * @param lastDeleteIndex
+     *            The last index of the validated range of rows to delete
+     * @param minimumDeleteIndex
+     *            The minimum allowed index for deleting an existing row
+     * @param maximumDeleteIndex
+     *            The maximum allowed index for deleting an existing row
+     * @param minimumLastRowIndex
+     *            The minimum index that is ever allowed for this table
+     * @return The row index for the last deleted row (if any were deleted)
+     *
+     * @since 1.0
+     */
+    protected int deleteTableRowRangeAt( final int firstDeleteIndex,
+                                         final int lastDeleteIndex,
+                                         final int minimumDeleteIndex,
+                                         final int maximumDeleteIndex,
+                                         final int minimumLastRowIndex ) {
+        return deleteTableRowsIndividually( firstDeleteIndex,
+                                            lastDeleteIndex,
+                                            minimumDeleteIndex,
+                                            maximumDeleteIndex,
+                                            minimumLastRowIndex );
+    }
+
+    /**
+     * Returns the row index for the last deleted row in a contiguous range of
+     * rows, after removing the range directly from the
+     * {@link ColumnStoreTableModel} in a single mutation that fires a single
+     * event.
+     * <p>
+     * This is a convenience for overrides of {@link #deleteTableRowRangeAt} in
+     * derived classes that keep no side data per row. Each row of the range is
+     * first checked with both forms of {@link #canDeleteTableRowAt}, in the
+     * same bottom-up order as deleting the rows one at a time; if any is
+     * vetoed, or if the model is not a {@link ColumnStoreTableModel} or the
+     * table is sorted, the rows are deleted one at a time via
+     * {@link #deleteTableRowAt} instead.
+     *
+     * @param firstDeleteIndex
+     *            The first index of the validated range of rows to delete
+     * @param lastDeleteIndex
+     *            The last index of the validated range of rows to delete
+     * @param minimumDeleteIndex
+     *            The minimum allowed index for deleting an existing row
+     * @param maximumDeleteIndex
+     *            The maximum allowed index for deleting an existing row
+     * @param minimumLastRowIndex
+     *            The minimum index that is ever allowed for this table
+     * @return The row index for the last deleted row (if any were deleted)
+     *
+     * @since 1.0
+     */
+    protected final int deleteColumnStoreRowRange( final int firstDeleteIndex,
+                                                   final int lastDeleteIndex,
+                                                   final int minimumDeleteIndex,
+                                                   final int maximumDeleteIndex,
+                                                   final int minimumLastRowIndex ) {
+        final TableModel tableModel = table.getModel();
+        boolean canDeleteRange = ( tableModel instanceof ColumnStoreTableModel )
+                && ( table.getRowSorter() == null );
+        int deletedRowCount = 0;
+        for ( int deleteIndex = lastDeleteIndex;
+                canDeleteRange && ( deleteIndex >= firstDeleteIndex ); deleteIndex-- ) {
+            canDeleteRange = canDeleteTableRowAt( deleteIndex )
+                    && canDeleteTableRowAt( deleteIndex,
+                                            minimumDeleteIndex,
+                                            maximumDeleteIndex - deletedRowCount,
+                                            minimumLastRowIndex );
+            deletedRowCount++;
+        }
+        if ( !canDeleteRange ) {
+            return deleteTableRowsIndividually( firstDeleteIndex,
+                                                lastDeleteIndex,
+                                                minimumDeleteIndex,
+                                                maximumDeleteIndex,
+                                                minimumLastRowIndex );
+        }
+
+        ( ( ColumnStoreTableModel ) tableModel ).removeRows( firstDeleteIndex, lastDeleteIndex );
+        return lastDeleteIndex;
+    }
+
+    /**
+     * Returns the row index for the last deleted row in a contiguous range of
+     * rows, after deleting the range one row at a time via
+     * {@link #deleteTableRowAt}, from the bottom up.
+     *
+     * @param firstDeleteIndex
+     *            The first index of the validated range of rows to delete
+     * @param lastDeleteIndex
+     *            The last index of the validated range of rows to delete
+     * @param minimumDeleteIndex
+     *            The minimum allowed index for deleting an existing row
+     * @param maximumDeleteIndex
+     *            The maximum allowed index for deleting an existing row
+     * @param minimumLastRowIndex
+     *            The minimum index that is ever allowed for this table
+     * @return The row index for the last deleted row (if any were deleted)
+     *
+     * @since 1.0
+     */
+    private int deleteTableRowsIndividually( final int firstDeleteIndex,
+                                             final int lastDeleteIndex,
+                                             final int minimumDeleteIndex,
+                                             final int maximumDeleteIndex,
+                                             final int minimumLastRowIndex ) {
+        final TableModel tableModel = table.getModel();
+
+        // Track how many rows were actually deleted, as derived classes may
+        // decline to delete some of them.
+        int referenceIndex = -1;
+        int deletedRowCount = 0;
+        for ( int deleteIndex = lastDeleteIndex; deleteIndex >= firstDeleteIndex; deleteIndex-- ) {
+            final int rowCount = tableModel.getRowCount();
+            final int correctedIndex = deleteTableRowAt( deleteIndex,
+                                                         minimumDeleteIndex,
+                                                         maximumDeleteIndex - deletedRowCount,
+                                                         minimumLastRowIndex );
+            deletedRowCount += rowCount - tableModel.getRowCount();
+            if ( referenceIndex < 0 ) {
+                referenceIndex = correctedIndex;
+            }
+        }
+
+        return referenceIndex;
+    }
+
     /**
      * Returns the row index for the deleted row (if the row was deleted).
      * <p>
@@ -0,0 +1,106 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the GuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * GuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/guitoolkit
+ */
+package com.mhschmieder.guitoolkit.component;
+
+import java.awt.Graphics2D;
+import java.util.List;
+
+/**
+ * {@code LayeredZBufferManager} is an interface that extends the single
+ * background image of {@link ZBufferManager} with a stack of named, ordered,
+ * translucent off-screen layers that are composited over the background image
+ * whenever it is shown.
+ * <p>
+ * Each layer has its own buffer and its own invalidation flag, so content that
+ * changes at different rates can be split up accordingly, such as static grids
+ * and axes in the background image, semi-static data in one layer, and dynamic
+ * overlays in another. Changing an overlay then only re-renders that layer.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public interface LayeredZBufferManager extends ZBufferManager {
+
+    /**
+     * Adds a new translucent off-screen layer on top of all existing layers.
+     *
+     * @param layerName
+     *            The unique name of the layer
+     *
+     * @since 1.0
+     */
+    void addOffScreenLayer( final String layerName );
+
+    /**
+     * Removes an off-screen layer, releasing its buffer.
+     *
+     * @param layerName
+     *            The name of the layer to remove
+     *
+     * @since 1.0
+     */
+    void removeOffScreenLayer( final String layerName );
+
+    /**
+     * Returns the names of the off-screen layers, from bottom to top.
+     *
+     * @return The names of the off-screen layers, from bottom to top
+     *
+     * @since 1.0
+     */
+    List< String > getOffScreenLayerNames();
+
+    /**
+     * Marks an off-screen layer as needing regeneration, without affecting
+     * the background image or any of the other layers.
+     *
+     * @param layerName
+     *            The name of the layer to regenerate
+     *
+     * @since 1.0
+     */
+    void invalidateOffScreenLayer( final String layerName );
+
+    /**
+     * Returns a Graphics Context for regenerating an off-screen layer, cleared
+     * to full transparency, if the layer needs regeneration.
+     *
+     * @param layerName
+     *            The name of the layer to regenerate
+     * @return A Graphics Context for regenerating the layer, or {@code null}
+     *         if the layer is still valid and can simply be re-displayed
+     *
+     * @since 1.0
+     */
+    Graphics2D createLayerGraphics( final String layerName );
+
+}
@@ -0,0 +1,75 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the GuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * GuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/guitoolkit
+ */
+package com.mhschmieder.guitoolkit.component;
+
+/**
+ * {@code OffScreenMemoryClient} is an interface that establishes the contract
+ * for components whose off-screen buffers are subject to the global memory
+ * budget of the {@link OffScreenMemoryManager}.
+ * <p>
+ * Clients must be able to give up all of their off-screen buffers at any time
+ * and regenerate them lazily the next time they are painted.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public interface OffScreenMemoryClient {
+
+    /**
+     * Returns the approximate number of bytes held by the client's off-screen
+     * buffers.
+     *
+     * @return The approximate number of bytes held by the off-screen buffers
+     *
+     * @since 1.0
+     */
+    long getOffScreenByteSize();
+
+    /**
+     * Returns {@code true} if the client is currently showing on screen;
+     * clients that are not showing are evicted first.
+     *
+     * @return {@code true} if the client is currently showing on screen
+     *
+     * @since 1.0
+     */
+    boolean isShowing();
+
+    /**
+     * Releases all of the client's off-screen buffers, so that they are
+     * regenerated the next time the client is painted.
+     *
+     * @since 1.0
+     */
+    void evictOffScreenBuffers();
+
+}
@@ -0,0 +1,296 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the GuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * GuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/guitoolkit
+ */
+package com.mhschmieder.guitoolkit.component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * {@code OffScreenMemoryManager} enforces a global budget on the memory held
+ * by the off-screen buffers of all registered clients, such as the z-buffers
+ * of every {@link XPanel} in the application.
+ * <p>
+ * Clients register themselves whenever they use their buffers, which also
+ * marks them as recently used. When the total exceeds the budget, clients
+ * that aren't showing, such as panels on hidden cards, non-selected tabs and
+ * hidden dialogs, are evicted until it no longer does, least recently used
+ * first. Evicted clients regenerate their buffers lazily when they are next
+ * painted.
+ * <p>
+ * Clients that are showing are never evicted, as they would just regenerate
+ * their buffers on their next paint and evict each other in turn; the budget
+ * is allowed to be exceeded instead when the showing clients alone exceed it.
+ * <p>
+ * Clients are held weakly, so registration never keeps a discarded component
+ * alive. All methods are meant to be called on the Event Dispatch Thread, as
+ * eviction changes the state of the clients.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class OffScreenMemoryManager {
+
+    /**
+     * The default memory budget, in bytes.
+     */
+    public static final long                    DEFAULT_MEMORY_BUDGET = 256L * 1024L * 1024L;
+
+    /**
+     * The shared manager, used by default for all z-buffered components.
+     */
+    private static final OffScreenMemoryManager SHARED_MANAGER        =
+                                                               new OffScreenMemoryManager( DEFAULT_MEMORY_BUDGET );
+
+    /**
+     * The registered clients, along with their memory use at last sight.
+     */
+    private final Map< OffScreenMemoryClient, ClientUsage > clientUsages;
+
+    /**
+     * The total number of bytes held by the registered clients, at last sight;
+     * this may overstate the total until it is recomputed, as discarded
+     * clients are dropped from the weak map without notice.
+     */
+    private long                                            registeredByteSize;
+
+    /**
+     * The maximum number of bytes to allow the registered clients to hold.
+     */
+    private long                                            memoryBudget;
+
+    /**
+     * The counter that orders uses of the registered clients.
+     */
+    private long                                            useCounter;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs an {@code OffScreenMemoryManager} with no registered clients.
+     *
+     * @param maximumByteSize
+     *            The maximum number of bytes to allow registered clients to
+     *            hold
+     *
+     * @since 1.0
+     */
+    public OffScreenMemoryManager( final long maximumByteSize ) {
+        clientUsages = new WeakHashMap<>();
+        registeredByteSize = 0L;
+        memoryBudget = FastMath.max( 0L, maximumByteSize );
+        useCounter = 0L;
+    }
+
+    /**
+     * Returns the shared manager, used by default for all z-buffered
+     * components.
+     *
+     * @return The shared manager
+     *
+     * @since 1.0
+     */
+    public static OffScreenMemoryManager getSharedManager() {
+        return SHARED_MANAGER;
+    }
+
+    ////////////////////////// Budget methods ////////////////////////////////
+
+    /**
+     * Registers a client as having just used its off-screen buffers, updating
+     * its memory use, and evicts other clients if the budget is exceeded.
+     * <p>
+     * The client itself is never evicted here, as it is presumably in the
+     * middle of painting.
+     *
+     * @param client
+     *            The client that just used its off-screen buffers
+     *
+     * @since 1.0
+     */
+    public synchronized void touch( final OffScreenMemoryClient client ) {
+        ClientUsage clientUsage = clientUsages.get( client );
+        if ( clientUsage == null ) {
+            clientUsage = new ClientUsage();
+            clientUsages.put( client, clientUsage );
+        }
+
+        final long byteSize = client.getOffScreenByteSize();
+        registeredByteSize += byteSize - clientUsage.byteSize;
+        clientUsage.byteSize = byteSize;
+        clientUsage.lastUse = ++useCounter;
+
+        enforceMemoryBudget( client );
+    }
+
+    /**
+     * Unregisters a client, such as after it released its off-screen buffers
+     * of its own accord.
+     *
+     * @param client
+     *            The client to unregister
+     *
+     * @since 1.0
+     */
+    public synchronized void unregister( final OffScreenMemoryClient client ) {
+        final ClientUsage clientUsage = clientUsages.remove( client );
+        if ( clientUsage != null ) {
+            registeredByteSize -= clientUsage.byteSize;
+        }
+    }
+
+    /**
+     * Returns the total number of bytes held by the registered clients, as of
+     * the last time each of them was registered.
+     *
+     * @return The total number of bytes held by the registered clients
+     *
+     * @since 1.0
+     */
+    public synchronized long getRegisteredByteSize() {
+        recomputeRegisteredByteSize();
+
+        return registeredByteSize;
+    }
+
+    /**
+     * Returns the maximum number of bytes to allow registered clients to hold.
+     *
+     * @return The maximum number of bytes to allow registered clients to hold
+     *
+     * @since 1.0
+     */
+    public synchronized long getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    /**
+     * Sets the maximum number of bytes to allow registered clients to hold,
+     * evicting clients immediately if the new budget is exceeded.
+     *
+     * @param maximumByteSize
+     *            The maximum number of bytes to allow registered clients to
+     *            hold
+     *
+     * @since 1.0
+     */
+    public synchronized void setMemoryBudget( final long maximumByteSize ) {
+        memoryBudget = FastMath.max( 0L, maximumByteSize );
+
+        enforceMemoryBudget( null );
+    }
+
+    /**
+     * Recomputes the total number of bytes held by the registered clients,
+     * discounting any clients that were discarded since the last time.
+     *
+     * @since 1.0
+     */
+    private void recomputeRegisteredByteSize() {
+        registeredByteSize = 0L;
+        for ( final ClientUsage clientUsage : clientUsages.values() ) {
+            registeredByteSize += clientUsage.byteSize;
+        }
+    }
+
+    /**
+     * Evicts registered clients that aren't showing until the budget is no
+     * longer exceeded, starting with the least recently used.
+     *
+     * @param exemptClient
+     *            The client that must not be evicted, or {@code null} if none
+     *
+     * @since 1.0
+     */
+    private void enforceMemoryBudget( final OffScreenMemoryClient exemptClient ) {
+        // The running total can only overstate the memory in use, so it is
+        // only worth recomputing once it appears to exceed the budget.
+        if ( registeredByteSize <= memoryBudget ) {
+            return;
+        }
+
+        recomputeRegisteredByteSize();
+        if ( registeredByteSize <= memoryBudget ) {
+            return;
+        }
+
+        // Order the eviction candidates by last use; eviction is rare enough
+        // that sorting on demand is cheap. The candidates are held strongly so
+        // that none of them can be discarded part way through.
+        final List< OffScreenMemoryClient > candidates = new ArrayList<>( clientUsages.size() );
+        for ( final OffScreenMemoryClient client : clientUsages.keySet() ) {
+            if ( ( client != null ) && ( client != exemptClient ) && !client.isShowing() ) {
+                candidates.add( client );
+            }
+        }
+        candidates.sort( ( client1, client2 ) -> Long.compare( clientUsages.get( client1 ).lastUse,
+                                                               clientUsages.get( client2 ).lastUse ) );
+
+        for ( final OffScreenMemoryClient client : candidates ) {
+            if ( registeredByteSize <= memoryBudget ) {
+                break;
+            }
+
+            registeredByteSize -= clientUsages.remove( client ).byteSize;
+            client.evictOffScreenBuffers();
+        }
+    }
+
+    /**
+     * The memory use of a registered client at last sight.
+     */
+    private static final class ClientUsage {
+
+        /**
+         * The number of bytes held by the client's off-screen buffers.
+         */
+        long byteSize;
+
+        /**
+         * The order of the client's last use, relative to other clients.
+         */
+        long lastUse;
+
+        /**
+         * Constructs a {@code ClientUsage} for a client not seen before.
+         */
+        ClientUsage() {
+            byteSize = 0L;
+            lastUse = 0L;
+        }
+
+    }
+
+}
@@ -81,4 +81,21 @@ public interface RenderingHintSource {
      */
     void setRenderingHints( final RenderingHints parentRenderingHints );
 
+    /**
+     * Returns the {@link RenderingHints} to render with right now, which may
+     * differ from the cached {@link RenderingHints} while a faster rendering
+     * profile is temporarily in effect, such as during user interaction.
+     * <p>
+     * The default implementation just returns the cached
+     * {@link RenderingHints}, for implementers without rendering profiles.
+     *
+     * @return
+     *         The {@link RenderingHints} to render with right now
+     *
+     * @since 1.0
+     */
+    default RenderingHints getActiveRenderingHints() {
+        return getRenderingHints();
+    }
+
 }
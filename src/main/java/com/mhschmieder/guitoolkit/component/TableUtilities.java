@@ -122,6 +122,57 @@ public class TableUtilities {
         return scrollPane;
     }
 
+    /**
+     * Creates and lays out a scroll pane that hosts the table directly as its
+     * viewport view, rather than wrapping it in a panel first.
+     * <p>
+     * This is the preferred hosting mode for tables with many rows, as the
+     * table then only has to lay out and paint the rows that intersect the
+     * visible viewport, instead of sizing itself to its full height inside a
+     * non-scrollable panel and painting every row regardless of visibility.
+     * <p>
+     * The table header is installed by the table itself in the scroll pane's
+     * column header viewport, so it must not be re-added to any other panel.
+     * <p>
+     * Pass in -1 for width or height if you don't care about one dimension or
+     * the other, and it will preserve the default preferred viewport dimension.
+     *
+     * @param table The table to host as the scroll pane's viewport view
+     * @param tableWidthPixels
+     *            The width of the table's viewport, in pixels
+     * @param tableHeightPixels
+     *            The height of the table's viewport, in pixels
+     * @return a scroll pane whose viewport view is the supplied table
+     *
+     * @since 1.0
+     */
+    public static JScrollPane makeViewportTableScrollPane(
+            final JTable table,
+            final int tableWidthPixels,
+            final int tableHeightPixels ) {
+        final JScrollPane scrollPane = new JScrollPane( table );
+
+        // As the table is Scrollable, the viewport sizes itself from the
+        // preferred scrollable viewport size, so that is all we need to set.
+        final Dimension defaultSize = table.getPreferredScrollableViewportSize();
+        final int preferredWidth = ( tableWidthPixels > 0 )
+                ? tableWidthPixels : defaultSize.width;
+        final int preferredHeight = ( tableHeightPixels > 0 )
+                ? tableHeightPixels : defaultSize.height;
+        table.setPreferredScrollableViewportSize( new Dimension(
+                preferredWidth, preferredHeight ) );
+
+        // Leave the table height at its natural size, so that any viewport
+        // area below the last row shows the viewport background color just as
+        // the panel-wrapped hosting mode shows the wrapper panel background.
+        table.setFillsViewportHeight( false );
+
+        // The unit increment is deliberately left unset, as the table then
+        // supplies its own row-based scrolling increments to the scroll bars.
+
+        return scrollPane;
+    }
+
     /**
      * Returns a panel that lays out the table with all of its additional
      * controls, scrollbars, and optional title.
@@ -33,8 +33,8 @@ package com.mhschmieder.guitoolkit.component;
 import java.awt.BorderLayout;
 import java.awt.Color;
 import java.awt.Graphics2D;
-import java.util.Arrays;
-import java.util.Collections;
+import java.io.IOException;
+import java.util.BitSet;
 import java.util.HashSet;
 
 import javax.swing.BorderFactory;
@@ -49,8 +49,12 @@ import org.apache.commons.math3.util.FastMath;
 
 import com.mhschmieder.graphicstoolkit.color.ColorUtilities;
 import com.mhschmieder.guitoolkit.border.BorderUtilities;
+import com.mhschmieder.guitoolkit.table.DirtyCellTracker;
+import com.mhschmieder.guitoolkit.table.HeaderRepeatPolicy;
 import com.mhschmieder.guitoolkit.table.TableHeaderRenderer;
 import com.mhschmieder.guitoolkit.table.TableInitializationUtilities;
+import com.mhschmieder.guitoolkit.table.TablePageExporter;
+import com.mhschmieder.guitoolkit.table.TablePageSink;
 import com.mhschmieder.guitoolkit.table.TableVectorizationUtilities;
 
 /**
@@ -86,6 +90,9 @@ public abstract class TableXPanel extends XPanel {
 
     /**
      * The Panel that hosts the Scroll Pane that in turn hosts the Table.
+     * <p>
+     * This is {@code null} when the Table is hosted directly as the viewport
+     * view of the Scroll Pane.
      */
     private JPanel            scrollableTablePanel;
 
@@ -121,6 +128,24 @@ public abstract class TableXPanel extends XPanel {
      */
     private final boolean     autoSelectionEnabled;
 
+    /**
+     * Flag for whether the Table is hosted directly as the viewport view of
+     * the Scroll Pane, so that only the visible rows get laid out and painted.
+     */
+    private final boolean     viewportHostingEnabled;
+
+    /**
+     * The tracker for the cells that were edited or changed since the last
+     * time the view was committed to the data.
+     */
+    private DirtyCellTracker  dirtyCellTracker;
+
+    /**
+     * Flag for whether {@link #updateModel()} only visits the dirty cells,
+     * instead of sweeping through every row of the table.
+     */
+    private boolean           dirtyCellSweepEnabled;
+
     //////////////////////////// Constructors ////////////////////////////////
 
     /**
@@ -142,6 +167,37 @@ public abstract class TableXPanel extends XPanel {
     protected TableXPanel( final int firstColumn,
                            final int lastColumn,
                            final boolean autoSelectionIsEnabled ) {
+        this( firstColumn, lastColumn, autoSelectionIsEnabled, false );
+    }
+
+    /**
+     * Constructs a {@code TableXPanel} with minimal initial specifications,
+     * along with the choice of table hosting mode.
+     * <p>
+     * This is an abstract base class, so its purpose is to avoid copy/paste
+     * code in the derived classes; it is unable to function on its own.
+     * <p>
+     * Viewport hosting is recommended for tables with many rows, as the table
+     * is then the direct viewport view of its scroll pane and only lays out
+     * and paints the rows that are actually visible.
+     *
+     * @param firstColumn
+     *            The index for the first column in the Table
+     * @param lastColumn
+     *            The index for the last column in the Table
+     * @param autoSelectionIsEnabled
+     *            {@code true} if auto-selection is enabled when nothing is
+     *            manually or programmatically selected
+     * @param viewportHostingIsEnabled
+     *            {@code true} if the Table should be hosted directly as the
+     *            viewport view of its Scroll Pane vs. wrapped in a panel
+     *
+     * @since 1.0
+     */
+    protected TableXPanel( final int firstColumn,
+                           final int lastColumn,
+                           final boolean autoSelectionIsEnabled,
+                           final boolean viewportHostingIsEnabled ) {
         // Always call the superclass constructor first!
         super();
 
@@ -149,6 +205,7 @@ public abstract class TableXPanel extends XPanel {
         lastColumnIndex = lastColumn;
 
         autoSelectionEnabled = autoSelectionIsEnabled;
+        viewportHostingEnabled = viewportHostingIsEnabled;
 
         tableHeaderInUse = false;
 
@@ -294,6 +351,20 @@ public abstract class TableXPanel extends XPanel {
                             rowBasedSelectionAllowed,
                             autoCreateRowSorter );
 
+        // Track the cells that are edited or changed, so that committing the
+        // view to the data only has to visit those cells. If the components are
+        // reloaded, the existing tracker is moved over to the new model rather
+        // than leaving it registered on the old one, and nothing is known about
+        // the cells of the new table.
+        if ( dirtyCellTracker == null ) {
+            dirtyCellTracker = new DirtyCellTracker( tableModel );
+        }
+        else {
+            dirtyCellTracker.setTableModel( tableModel );
+            dirtyCellTracker.markAll();
+        }
+        table.setDirtyCellTracker( dirtyCellTracker );
+
         // Initialize table metrics, such as row height, column width.
         TableInitializationUtilities.initTableMetrics( table, columnWidths );
     }
@@ -304,8 +375,11 @@ public abstract class TableXPanel extends XPanel {
      * @since 1.0
      */
     protected void loadPanels() {
-        // Layout the scrollable table panel with its components.
-        scrollableTablePanel = TableUtilities.makeScrollableTablePanel( table );
+        // Layout the scrollable table panel with its components, unless the
+        // table is to be hosted directly by the scroll pane's viewport.
+        if ( !viewportHostingEnabled ) {
+            scrollableTablePanel = TableUtilities.makeScrollableTablePanel( table );
+        }
     }
 
     /**
@@ -321,10 +395,14 @@ public abstract class TableXPanel extends XPanel {
      */
     private final void loadScrollPanes( final int tableWidthPixels,
                                         final int tableHeightPixels ) {
-        scrollPane = TableUtilities.makeTableScrollPane( table,
-                                                         scrollableTablePanel,
-                                                         tableWidthPixels,
-                                                         tableHeightPixels );
+        scrollPane = viewportHostingEnabled
+            ? TableUtilities.makeViewportTableScrollPane( table,
+                                                          tableWidthPixels,
+                                                          tableHeightPixels )
+            : TableUtilities.makeTableScrollPane( table,
+                                                  scrollableTablePanel,
+                                                  tableWidthPixels,
+                                                  tableHeightPixels );
     }
 
     /**
@@ -344,13 +422,22 @@ public abstract class TableXPanel extends XPanel {
         // Cache the Table Header in use status, for later export decisions.
         tableHeaderInUse = tableHeaderIsInUse;
 
+        // When the table is the viewport view, the scroll pane hosts the
+        // table header in its column header viewport, so it must not also be
+        // re-added to the main panel. If no header is wanted, we remove it
+        // from the table so that the scroll pane doesn't install it either.
+        final boolean tableHeaderReAdded = tableHeaderIsInUse && !viewportHostingEnabled;
+        if ( viewportHostingEnabled && !tableHeaderIsInUse ) {
+            table.setTableHeader( null );
+        }
+
         // Layout the main panel with its components.
         //
         // NOTE: No table control panel in this context as this version is for 
         //  fixed size vs. dynamic tables.
         mainPanel = TableUtilities.makeTablePanel( null, 
                                                    null, 
-                                                   tableHeaderIsInUse, 
+                                                   tableHeaderReAdded, 
                                                    scrollPane, 
                                                    table );
 
@@ -414,6 +501,20 @@ public abstract class TableXPanel extends XPanel {
         return autoSelectionEnabled;
     }
 
+    /**
+     * Returns {@code true} if the Table is hosted directly as the viewport view
+     * of its Scroll Pane, so that only the visible rows are laid out and
+     * painted.
+     *
+     * @return {@code true} if the Table is hosted directly as the viewport view
+     *         of its Scroll Pane
+     *
+     * @since 1.0
+     */
+    public final boolean isViewportHostingEnabled() {
+        return viewportHostingEnabled;
+    }
+
     ////////////////////// Model/View syncing methods ////////////////////////
 
     /**
@@ -523,6 +624,93 @@ public abstract class TableXPanel extends XPanel {
                                                     backgroundColor );
     }
 
+    /**
+     * This method vectorizes the table, via direct custom graphics calls,
+     * skipping the rows whose bits are set.
+     * <p>
+     * This is the allocation-free equivalent of
+     * {@link #vectorize(Graphics2D, int, int, HashSet)}; it has a distinct
+     * name so that calls passing {@code null} for the excluded rows stay
+     * unambiguous.
+     *
+     * @param graphicsContext
+     *            The {@link Graphics2D} Graphics Context for vectorizing the
+     *            content of this component
+     * @param offsetX
+     *            The initial offset to apply along the x-axis for positioning
+     *            the table rows in the vectorized output
+     * @param offsetY
+     *            The initial offset to apply along the y-axis for positioning
+     *            the table columns in the vectorized output
+     * @param rowsToExclude
+     *            A {@link BitSet} of the rows to exclude from vectorization;
+     *            not required to be contiguous, and may be {@code null}
+     *
+     * @version 1.0
+     */
+    public final void vectorizeExcludingRows( final Graphics2D graphicsContext,
+                                              final int offsetX,
+                                              final int offsetY,
+                                              final BitSet rowsToExclude ) {
+        final Color backgroundColor = getBackground();
+
+        // Vectorize the full table, optionally including the table header.
+        TableVectorizationUtilities.vectorizeTableExcludingRows( graphicsContext,
+                                                                 offsetX,
+                                                                 offsetY,
+                                                                 table,
+                                                                 tableHeaderInUse,
+                                                                 rowsToExclude,
+                                                                 backgroundColor );
+    }
+
+    /**
+     * Returns the number of pages that were exported, after vectorizing the
+     * table across fixed-height pages that are each streamed to the page sink
+     * as soon as they are complete.
+     *
+     * @param pageSink
+     *            The destination for the vectorized pages
+     * @param pageHeight
+     *            The height of each page, in pixels
+     * @param headerRepeatPolicy
+     *            The policy for which pages the table header is output on
+     * @param offsetX
+     *            The offset to apply along the x-axis on every page
+     * @param offsetY
+     *            The offset to apply along the y-axis on every page
+     * @param rowsToExclude
+     *            A {@link BitSet} of the rows to exclude from vectorization;
+     *            not required to be contiguous, and may be {@code null}
+     * @return The number of pages that were exported
+     * @throws IOException
+     *             If the page sink failed to create or write a page
+     *
+     * @version 1.0
+     */
+    public final int vectorizePages( final TablePageSink pageSink,
+                                     final int pageHeight,
+                                     final HeaderRepeatPolicy headerRepeatPolicy,
+                                     final int offsetX,
+                                     final int offsetY,
+                                     final BitSet rowsToExclude )
+            throws IOException {
+        final Color backgroundColor = getBackground();
+
+        // The table header is only output when it is in use for this panel.
+        final HeaderRepeatPolicy pageHeaderRepeatPolicy = tableHeaderInUse
+            ? headerRepeatPolicy
+            : HeaderRepeatPolicy.NONE;
+        final TablePageExporter pageExporter = new TablePageExporter( table,
+                                                                      pageHeight,
+                                                                      pageHeaderRepeatPolicy );
+        return pageExporter.exportPages( pageSink,
+                                         offsetX,
+                                         offsetY,
+                                         rowsToExclude,
+                                         backgroundColor );
+    }
+
     ////////////////////// Table manipulation methods ////////////////////////
 
     /**
@@ -579,18 +767,16 @@ public abstract class TableXPanel extends XPanel {
      * @return The number of selected rows, or zero if none selected
      */
     public final int getNumberOfSelectedRows() {
-        final Integer[] selectedRowIndices = getSelectedRows();
-        final int numberOfSelectedRows = ( selectedRowIndices != null )
-            ? selectedRowIndices.length
-            : 0;
-
-        return numberOfSelectedRows;
+        return table.getSelectedRowCount();
     }
 
     /**
      * Returns the list of currently selected table row indices, in reverse
      * order so that deletions and other actions can be performed sequentially
      * without any of the indices "going bad" mid-stream.
+     * <p>
+     * This is kept for compatibility; prefer {@link #getSelectedRowIndices()}
+     * or {@link #getSelectedRowSet()}, which avoid boxing every index.
      *
      * @return A list of the selected table row indices, or {@code null} if none
      *         selected
@@ -606,17 +792,63 @@ public abstract class TableXPanel extends XPanel {
 
         // In order to guarantee that all indices are valid at the time they are
         // applied without having to be altered to accommodate a dynamically
-        // changing table, we apply Java's sort algorithms to rearrange the list
-        // of indices in reverse numerical order.
+        // changing table, we rearrange the list of indices in reverse numerical
+        // order; as the selected rows are in ascending order, no sort is needed.
         final Integer[] selectedRowIndices = new Integer[ selectionLength ];
         for ( int rowIndex = 0; rowIndex < selectionLength; rowIndex++ ) {
-            selectedRowIndices[ rowIndex ] = Integer.valueOf( selectedTableRows[ rowIndex ] );
+            selectedRowIndices[ selectionLength - 1 - rowIndex ] = Integer
+                    .valueOf( selectedTableRows[ rowIndex ] );
         }
-        Arrays.sort( selectedRowIndices, Collections.reverseOrder() );
 
         return selectedRowIndices;
     }
 
+    /**
+     * Returns a snapshot of the currently selected table row indices, in
+     * ascending order.
+     *
+     * @return The selected table row indices, which is empty if none selected
+     *
+     * @since 1.0
+     */
+    public final int[] getSelectedRowIndices() {
+        return table.getSelectedRows();
+    }
+
+    /**
+     * Returns a snapshot of the currently selected table row indices as a
+     * {@link BitSet}, which can be iterated in either direction.
+     *
+     * @return The selected table row indices, which is empty if none selected
+     *
+     * @since 1.0
+     */
+    public final BitSet getSelectedRowSet() {
+        return table.getSelectedRowSet();
+    }
+
+    /**
+     * Returns the lowest selected row index, or -1 if none selected.
+     *
+     * @return The lowest selected row index, or -1 if none selected
+     *
+     * @since 1.0
+     */
+    public final int getMinSelectedRowIndex() {
+        return table.getMinSelectedRow();
+    }
+
+    /**
+     * Returns the highest selected row index, or -1 if none selected.
+     *
+     * @return The highest selected row index, or -1 if none selected
+     *
+     * @since 1.0
+     */
+    public final int getMaxSelectedRowIndex() {
+        return table.getMaxSelectedRow();
+    }
+
     /**
      * Returns the hierarchically-lower-most selected row, or the last row in
      * the table if none were selected.
@@ -634,10 +866,9 @@ public abstract class TableXPanel extends XPanel {
         // overrides the initial default.
         int selectionIndex = minimumRowIndex - 1;
 
-        final Integer[] selectedRowIndices = getSelectedRows();
-        if ( ( selectedRowIndices != null ) && ( selectedRowIndices.length > 0 ) ) {
-            final int maximumRowIndex = selectedRowIndices.length - 1;
-            selectionIndex = selectedRowIndices[ maximumRowIndex ].intValue();
+        final int minimumSelectedRowIndex = table.getMinSelectedRow();
+        if ( minimumSelectedRowIndex >= 0 ) {
+            selectionIndex = minimumSelectedRowIndex;
         }
         else {
             // If no rows were selected, and auto-selection is enabled, correct
@@ -725,9 +956,9 @@ public abstract class TableXPanel extends XPanel {
      * Returns the status of the view-to-model syncing ({@code true} if the data
      * changed) after performing it hierarchically on the full panel layout.
      * <p>
-     * This method iterates through all of the table's rows to sync the data
-     * model to their current values and to determine if any data changed
-     * anywhere in the table.
+     * This method iterates through all of the table's rows, unless dirty cell
+     * sweeps were enabled via {@link #setDirtyCellSweepEnabled}, in which case
+     * it only visits the cells that were edited or changed since the last sync.
      *
      * @return {@code true} if the model changed after syncing it from the view
      *
@@ -735,18 +966,102 @@ public abstract class TableXPanel extends XPanel {
      */
     @Override
     public boolean updateModel() {
+        return updateModel( !dirtyCellSweepEnabled );
+    }
+
+    /**
+     * Returns {@code true} if {@link #updateModel()} only visits the cells that
+     * were edited or changed since the last sync.
+     *
+     * @return {@code true} if dirty cell sweeps are enabled
+     *
+     * @since 1.0
+     */
+    public final boolean isDirtyCellSweepEnabled() {
+        return dirtyCellSweepEnabled;
+    }
+
+    /**
+     * Sets whether {@link #updateModel()} only visits the cells that were
+     * edited or changed since the last sync; this is off by default.
+     * <p>
+     * Only enable this if every change to the table's model either goes through
+     * the table or fires a Table Model Event, as cells that are written to the
+     * model silently would otherwise never be committed.
+     *
+     * @param sweepEnabled
+     *            {@code true} if only the dirty cells should be committed
+     *
+     * @since 1.0
+     */
+    public final void setDirtyCellSweepEnabled( final boolean sweepEnabled ) {
+        dirtyCellSweepEnabled = sweepEnabled;
+    }
+
+    /**
+     * Returns the status of the view-to-model syncing ({@code true} if the data
+     * changed) after performing it hierarchically on the full panel layout.
+     * <p>
+     * A full sweep iterates through all of the table's rows to sync the data
+     * model to their current values and to determine if any data changed
+     * anywhere in the table. Otherwise, only the cells that were edited or
+     * changed since the last sync are visited, making a commit proportional
+     * to the number of edits rather than to the size of the table.
+     *
+     * @param fullSweep
+     *            {@code true} if every cell should be synced regardless of
+     *            whether it was edited or changed
+     * @return {@code true} if the model changed after syncing it from the view
+     *
+     * @since 1.0
+     */
+    public boolean updateModel( final boolean fullSweep ) {
         boolean modelChanged = false;
         final TableModel tableModel = table.getModel();
         final int numberOfRows = tableModel.getRowCount();
 
-        // Iterate through the individual rows.
-        for ( int row = 0; row < numberOfRows; row++ ) {
-            modelChanged |= updateModelAt( row );
+        if ( fullSweep || ( dirtyCellTracker == null )
+                || ( dirtyCellTracker.getTableModel() != tableModel )
+                || dirtyCellTracker.isFullSweepRequired() ) {
+            // Iterate through the individual rows.
+            for ( int row = 0; row < numberOfRows; row++ ) {
+                modelChanged |= updateModelAt( row );
+            }
+        }
+        else {
+            // Iterate through the individual dirty cells, in row-major order.
+            int cellIndex = dirtyCellTracker.nextDirtyCell( 0 );
+            while ( cellIndex >= 0 ) {
+                final int row = dirtyCellTracker.getRow( cellIndex );
+                if ( row >= numberOfRows ) {
+                    break;
+                }
+                modelChanged |= updateModelAt( row, dirtyCellTracker.getColumn( cellIndex ) );
+                cellIndex = dirtyCellTracker.nextDirtyCell( cellIndex + 1 );
+            }
         }
 
+        // The view and the data are now in sync, so nothing is dirty anymore.
+        clearDirtyCells();
+
         return modelChanged;
     }
 
+    /**
+     * Clears the record of edited and changed cells.
+     * <p>
+     * This is done automatically after syncing the model from the view, but
+     * derived classes may also call this after syncing the view to the model,
+     * so that the cells that were loaded from the data aren't committed back.
+     *
+     * @since 1.0
+     */
+    protected final void clearDirtyCells() {
+        if ( dirtyCellTracker != null ) {
+            dirtyCellTracker.clear();
+        }
+    }
+
     /**
      * Syncs the view to the data model hierarchically on the full panel layout.
      * <p>
@@ -778,7 +1093,9 @@ public abstract class TableXPanel extends XPanel {
 
         // Forward this method to the subcomponents.
         mainPanel.setEnabled( enabled );
-        scrollableTablePanel.setEnabled( enabled );
+        if ( scrollableTablePanel != null ) {
+            scrollableTablePanel.setEnabled( enabled );
+        }
         scrollPane.setEnabled( enabled );
         table.setEnabled( enabled );
     }
@@ -812,8 +1129,10 @@ public abstract class TableXPanel extends XPanel {
         mainPanel.setBackground( backColor );
         mainPanel.setForeground( foreColor );
 
-        scrollableTablePanel.setBackground( backColor );
-        scrollableTablePanel.setForeground( foreColor );
+        if ( scrollableTablePanel != null ) {
+            scrollableTablePanel.setBackground( backColor );
+            scrollableTablePanel.setForeground( foreColor );
+        }
 
         // Set the background color that will be used if the main viewport view
         // is smaller than the viewport, or is not opaque.
@@ -0,0 +1,72 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the GuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * GuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/guitoolkit
+ */
+package com.mhschmieder.guitoolkit.component;
+
+/**
+ * {@code VectorExportListener} is an interface that establishes the contract
+ * for monitoring the progress of a {@link VectorExportPipeline}.
+ * <p>
+ * All notifications are delivered on the Event Dispatch Thread, so that they
+ * can be used to directly update progress bars and other GUI components.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public interface VectorExportListener {
+
+    /**
+     * Notifies the listener that another page has been assembled into the
+     * export output.
+     *
+     * @param assembledPageCount
+     *            The number of pages assembled so far
+     * @param pageCount
+     *            The total number of pages in the export
+     *
+     * @since 1.0
+     */
+    void exportProgress( final int assembledPageCount, final int pageCount );
+
+    /**
+     * Notifies the listener that the export has ended, whether or not it ran
+     * to completion.
+     *
+     * @param completed
+     *            {@code true} if all pages were assembled and the export output
+     *            was completed; {@code false} if the export was cancelled or
+     *            failed
+     *
+     * @since 1.0
+     */
+    void exportFinished( final boolean completed );
+
+}
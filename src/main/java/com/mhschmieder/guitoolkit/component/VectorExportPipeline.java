@@ -0,0 +1,667 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the GuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * GuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/guitoolkit
+ */
+package com.mhschmieder.guitoolkit.component;
+
+import java.awt.EventQueue;
+import java.awt.geom.Rectangle2D;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import org.apache.commons.math3.util.FastMath;
+
+import com.mhschmieder.guitoolkit.graphics.DisplayList;
+import com.mhschmieder.guitoolkit.graphics.DisplayListGraphics2D;
+import com.mhschmieder.guitoolkit.graphics.VectorPageAssembler;
+import com.mhschmieder.guitoolkit.graphics.VectorPageEncoder;
+
+/**
+ * {@code VectorExportPipeline} exports several vector sources and tables as
+ * pages of a single export, without blocking the Event Dispatch Thread for
+ * longer than it takes to paint them.
+ * <p>
+ * The export runs in three stages:
+ * <ol>
+ * <li>Each page is snapshotted on the Event Dispatch Thread, by recording its
+ * vectorization into an immutable {@link DisplayList}; this is the only stage
+ * that touches Swing components and their models.</li>
+ * <li>The snapshots are encoded in parallel on a pool of worker threads, by the
+ * supplied {@link VectorPageEncoder}.</li>
+ * <li>The encoded pages are handed to the supplied {@link VectorPageAssembler}
+ * strictly in page order, on a single assembly thread.</li>
+ * </ol>
+ * Every page is snapshotted up front, as that is the only point at which the
+ * components are guaranteed not to change, and each snapshot is released as
+ * soon as its page is encoded. Only a small window of pages is encoded ahead
+ * of the page being assembled, so the encoded pages awaiting assembly stay
+ * bounded regardless of the number of pages. Progress is
+ * reported on the Event Dispatch Thread via an optional
+ * {@link VectorExportListener}, and the export can be cancelled at any time.
+ * <p>
+ * A pipeline runs only once; create a new pipeline for each export.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class VectorExportPipeline {
+
+    /**
+     * The number of pages to encode ahead of the page being assembled, per
+     * worker thread; this keeps every worker busy without letting encoded
+     * pages pile up in memory while waiting for a slow earlier page.
+     */
+    private static final int                 PAGES_AHEAD_PER_WORKER = 2;
+
+    /**
+     * The encoder that converts page snapshots into the export format.
+     */
+    private final VectorPageEncoder                pageEncoder;
+
+    /**
+     * The assembler that writes the encoded pages to the export output.
+     */
+    private final VectorPageAssembler              pageAssembler;
+
+    /**
+     * The number of worker threads to use for encoding pages in parallel.
+     */
+    private final int                              parallelism;
+
+    /**
+     * The pending pages, as deferred vectorization calls along with their
+     * page bounds.
+     */
+    private final List< PageSource >               pageSources;
+
+    /**
+     * The optional listener for export progress notifications.
+     */
+    private VectorExportListener                   exportListener;
+
+    /**
+     * Flag for whether the export has been cancelled.
+     */
+    private final AtomicBoolean                    cancelled;
+
+    /**
+     * The pending result of the assembly stage, once the export is started.
+     */
+    private Future< Integer >                      assemblyResult;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs a {@code VectorExportPipeline} that encodes pages on as many
+     * worker threads as there are available processors.
+     *
+     * @param encoder
+     *            The encoder that converts page snapshots into the export
+     *            format
+     * @param assembler
+     *            The assembler that writes the encoded pages to the export
+     *            output
+     *
+     * @version 1.0
+     */
+    public VectorExportPipeline( final VectorPageEncoder encoder,
+                                 final VectorPageAssembler assembler ) {
+        this( encoder, assembler, Runtime.getRuntime().availableProcessors() );
+    }
+
+    /**
+     * Constructs a {@code VectorExportPipeline} that encodes pages on the
+     * specified number of worker threads.
+     *
+     * @param encoder
+     *            The encoder that converts page snapshots into the export
+     *            format
+     * @param assembler
+     *            The assembler that writes the encoded pages to the export
+     *            output
+     * @param workerCount
+     *            The number of worker threads to use for encoding pages in
+     *            parallel; clamped to at least one
+     *
+     * @version 1.0
+     */
+    public VectorExportPipeline( final VectorPageEncoder encoder,
+                                 final VectorPageAssembler assembler,
+                                 final int workerCount ) {
+        pageEncoder = encoder;
+        pageAssembler = assembler;
+        parallelism = FastMath.max( 1, workerCount );
+
+        pageSources = new ArrayList<>();
+        exportListener = null;
+        cancelled = new AtomicBoolean( false );
+        assemblyResult = null;
+    }
+
+    ////////////////////// Page declaration methods //////////////////////////
+
+    /**
+     * Adds a vector source as the next page of the export, bounded by its
+     * vector source extents.
+     *
+     * @param vectorSource
+     *            The vector source to export as the next page
+     *
+     * @version 1.0
+     */
+    public void addVectorSource( final VectorSource vectorSource ) {
+        final double minX = vectorSource.getVectorSourceMinX();
+        final double minY = vectorSource.getVectorSourceMinY();
+        final Rectangle2D pageBounds = new Rectangle2D.Double( minX,
+                                                               minY,
+                                                               vectorSource
+                                                                       .getVectorSourceMaxX()
+                                                                       - minX,
+                                                               vectorSource
+                                                                       .getVectorSourceMaxY()
+                                                                       - minY );
+
+        // The vector source paints in its own coordinate space, so it has to
+        // be positioned at its bounding box within the page.
+        addPage( graphicsContext -> {
+            graphicsContext.translate( minX, minY );
+            vectorSource.vectorize( graphicsContext );
+        }, pageBounds );
+    }
+
+    /**
+     * Adds a table panel as the next page of the export, bounded by the
+     * extents of its vectorized content.
+     *
+     * @param tablePanel
+     *            The table panel to export as the next page
+     * @param rowsToExclude
+     *            A {@link BitSet} of the rows to exclude from vectorization;
+     *            not required to be contiguous, and may be {@code null}
+     *
+     * @version 1.0
+     */
+    public void addTable( final TableXPanel tablePanel, final BitSet rowsToExclude ) {
+        // Copy the exclusions, as the caller may reuse them before the table
+        // is snapshotted.
+        final BitSet excludedRows = ( rowsToExclude != null )
+            ? ( BitSet ) rowsToExclude.clone()
+            : null;
+        addPage( graphicsContext -> tablePanel
+                .vectorizeExcludingRows( graphicsContext, 0, 0, excludedRows ), null );
+    }
+
+    /**
+     * Adds a custom vectorization call as the next page of the export.
+     * <p>
+     * The vectorization call is made on the Event Dispatch Thread when the
+     * export is started, and is recorded rather than encoded directly.
+     *
+     * @param pageVectorizer
+     *            The vectorization call for the page content
+     * @param pageBounds
+     *            The bounds of the page content, or {@code null} to use the
+     *            bounds of whatever was vectorized
+     *
+     * @version 1.0
+     */
+    public void addPage( final Consumer< DisplayListGraphics2D > pageVectorizer,
+                         final Rectangle2D pageBounds ) {
+        if ( assemblyResult != null ) {
+            throw new IllegalStateException( "Pages cannot be added once the export is started" ); //$NON-NLS-1$
+        }
+
+        pageSources.add( new PageSource( pageVectorizer, pageBounds ) );
+    }
+
+    /**
+     * Returns the number of pages in the export.
+     *
+     * @return The number of pages in the export
+     *
+     * @version 1.0
+     */
+    public int getPageCount() {
+        return pageSources.size();
+    }
+
+    /**
+     * Sets the listener for export progress notifications.
+     *
+     * @param listener
+     *            The listener for export progress notifications, or
+     *            {@code null} for none
+     *
+     * @version 1.0
+     */
+    public void setExportListener( final VectorExportListener listener ) {
+        exportListener = listener;
+    }
+
+    ////////////////////////// Export methods ////////////////////////////////
+
+    /**
+     * Starts the export, returning as soon as all of the pages have been
+     * snapshotted, and before any of them are encoded.
+     * <p>
+     * This method must be called on the Event Dispatch Thread, as that is
+     * where it is safe to vectorize Swing components. The returned future
+     * yields the number of pages assembled, or throws the {@link IOException}
+     * (wrapped in an {@link ExecutionException}) that stopped the export;
+     * cancelling it is equivalent to calling {@link #cancel}.
+     *
+     * @return The pending result of the export
+     *
+     * @version 1.0
+     */
+    public Future< Integer > start() {
+        if ( !EventQueue.isDispatchThread() ) {
+            throw new IllegalStateException( "Exports must be started on the Event Dispatch Thread" ); //$NON-NLS-1$
+        }
+        if ( assemblyResult != null ) {
+            throw new IllegalStateException( "Exports can only be started once" ); //$NON-NLS-1$
+        }
+
+        // Snapshot every page while the components can't change under us.
+        final int pageCount = pageSources.size();
+        final DisplayList[] displayLists = new DisplayList[ pageCount ];
+        final Rectangle2D[] pageBounds = new Rectangle2D[ pageCount ];
+        for ( int pageIndex = 0; pageIndex < pageCount; pageIndex++ ) {
+            final PageSource pageSource = pageSources.get( pageIndex );
+            final DisplayListGraphics2D recorder = new DisplayListGraphics2D();
+            try {
+                pageSource.pageVectorizer.accept( recorder );
+            }
+            finally {
+                recorder.dispose();
+            }
+
+            displayLists[ pageIndex ] = recorder.getDisplayList();
+            pageBounds[ pageIndex ] = getPageBounds( pageSource.pageBounds,
+                                                     displayLists[ pageIndex ] );
+        }
+
+        final ExecutorService assemblyExecutor = Executors
+                .newSingleThreadExecutor( runnable -> newDaemonThread( runnable,
+                                                                       "VectorExportAssembler" ) ); //$NON-NLS-1$
+        final VectorExportListener listener = exportListener;
+        assemblyResult = assemblyExecutor
+                .submit( () -> assemblePages( displayLists, pageBounds, listener ) );
+        assemblyExecutor.shutdown();
+
+        return new CancellingFuture( assemblyResult );
+    }
+
+    /**
+     * Cancels the export; pages that are already being encoded are abandoned,
+     * and no further pages are handed to the assembler.
+     *
+     * @version 1.0
+     */
+    public void cancel() {
+        cancelled.set( true );
+
+        if ( assemblyResult != null ) {
+            assemblyResult.cancel( true );
+        }
+    }
+
+    /**
+     * Returns {@code true} if the export has been cancelled.
+     *
+     * @return {@code true} if the export has been cancelled
+     *
+     * @version 1.0
+     */
+    public boolean isCancelled() {
+        return cancelled.get();
+    }
+
+    /**
+     * Returns the number of pages assembled, after encoding the pages in
+     * parallel and handing them to the assembler in page order; this runs on
+     * the assembly thread.
+     *
+     * @param displayLists
+     *            The page snapshots, which are released as they are encoded
+     * @param pageBounds
+     *            The bounds of each page
+     * @param listener
+     *            The listener for export progress notifications, or
+     *            {@code null} for none
+     * @return The number of pages assembled
+     * @throws IOException
+     *             If a page could not be encoded or assembled
+     *
+     * @version 1.0
+     */
+    private int assemblePages( final DisplayList[] displayLists,
+                               final Rectangle2D[] pageBounds,
+                               final VectorExportListener listener )
+            throws IOException {
+        final int pageCount = displayLists.length;
+        final ExecutorService encodingExecutor = Executors
+                .newFixedThreadPool( parallelism,
+                                     runnable -> newDaemonThread( runnable,
+                                                                  "VectorExportEncoder" ) ); //$NON-NLS-1$
+        final List< Future< byte[] > > encodedPages = new ArrayList<>( pageCount );
+        final int pagesAhead = parallelism * PAGES_AHEAD_PER_WORKER;
+
+        boolean completed = false;
+        try {
+            int submittedPageCount = 0;
+            for ( int pageIndex = 0; pageIndex < pageCount; pageIndex++ ) {
+                // Keep the encoding window full, without running arbitrarily
+                // far ahead of the page being assembled.
+                while ( ( submittedPageCount < pageCount )
+                        && ( submittedPageCount <= ( pageIndex + pagesAhead ) ) ) {
+                    final int encodingIndex = submittedPageCount++;
+                    encodedPages.add( encodingExecutor
+                            .submit( () -> encodePage( displayLists,
+                                                       pageBounds[ encodingIndex ],
+                                                       encodingIndex ) ) );
+                }
+
+                final byte[] encodedPage = getEncodedPage( encodedPages.get( pageIndex ) );
+                encodedPages.set( pageIndex, null );
+
+                pageAssembler.appendPage( pageIndex, encodedPage );
+                fireExportProgress( listener, pageIndex + 1, pageCount );
+            }
+
+            throwIfCancelled();
+            pageAssembler.finish();
+            completed = true;
+        }
+        finally {
+            // Abandon any pages still being encoded if we stopped early.
+            encodingExecutor.shutdownNow();
+            fireExportFinished( listener, completed );
+        }
+
+        return pageCount;
+    }
+
+    /**
+     * Returns the encoded form of a page, releasing its snapshot once it is
+     * encoded; this runs on an encoding worker thread.
+     *
+     * @param displayLists
+     *            The page snapshots
+     * @param bounds
+     *            The bounds of the page
+     * @param pageIndex
+     *            The index of the page to encode
+     * @return The encoded form of the page
+     * @throws IOException
+     *             If the page could not be encoded
+     *
+     * @version 1.0
+     */
+    private byte[] encodePage( final DisplayList[] displayLists,
+                               final Rectangle2D bounds,
+                               final int pageIndex )
+            throws IOException {
+        throwIfCancelled();
+
+        final byte[] encodedPage = pageEncoder
+                .encodePage( pageIndex, displayLists[ pageIndex ], bounds );
+        displayLists[ pageIndex ] = null;
+
+        return encodedPage;
+    }
+
+    /**
+     * Returns the encoded form of a page once its encoding completes, unwrapping
+     * any encoding failure.
+     *
+     * @param encodedPage
+     *            The pending encoded form of the page
+     * @return The encoded form of the page
+     * @throws IOException
+     *             If the page could not be encoded
+     *
+     * @version 1.0
+     */
+    private byte[] getEncodedPage( final Future< byte[] > encodedPage ) throws IOException {
+        try {
+            throwIfCancelled();
+            return encodedPage.get();
+        }
+        catch ( final InterruptedException ie ) {
+            // Interruption of the assembly thread means cancellation.
+            cancelled.set( true );
+            Thread.currentThread().interrupt();
+            throw new CancellationException();
+        }
+        catch ( final ExecutionException ee ) {
+            final Throwable cause = ee.getCause();
+            if ( cause instanceof IOException ) {
+                throw ( IOException ) cause;
+            }
+            if ( cause instanceof RuntimeException ) {
+                throw ( RuntimeException ) cause;
+            }
+            if ( cause instanceof Error ) {
+                throw ( Error ) cause;
+            }
+            throw new IOException( cause );
+        }
+    }
+
+    /**
+     * Throws a {@link CancellationException} if the export has been cancelled.
+     *
+     * @version 1.0
+     */
+    private void throwIfCancelled() {
+        if ( cancelled.get() ) {
+            throw new CancellationException();
+        }
+    }
+
+    ////////////////////// Notification methods //////////////////////////////
+
+    /**
+     * Notifies the listener of export progress on the Event Dispatch Thread.
+     *
+     * @param listener
+     *            The listener to notify, or {@code null} for none
+     * @param assembledPageCount
+     *            The number of pages assembled so far
+     * @param pageCount
+     *            The total number of pages in the export
+     *
+     * @version 1.0
+     */
+    private static void fireExportProgress( final VectorExportListener listener,
+                                            final int assembledPageCount,
+                                            final int pageCount ) {
+        if ( listener != null ) {
+            EventQueue.invokeLater( () -> listener.exportProgress( assembledPageCount,
+                                                                   pageCount ) );
+        }
+    }
+
+    /**
+     * Notifies the listener that the export has ended, on the Event Dispatch
+     * Thread.
+     *
+     * @param listener
+     *            The listener to notify, or {@code null} for none
+     * @param completed
+     *            {@code true} if the export ran to completion
+     *
+     * @version 1.0
+     */
+    private static void fireExportFinished( final VectorExportListener listener,
+                                            final boolean completed ) {
+        if ( listener != null ) {
+            EventQueue.invokeLater( () -> listener.exportFinished( completed ) );
+        }
+    }
+
+    ////////////////////// Helper methods and classes ////////////////////////
+
+    /**
+     * Returns the bounds to use for a page, falling back to the bounds of its
+     * recorded content when no explicit bounds were declared.
+     *
+     * @param declaredBounds
+     *            The declared page bounds, or {@code null} if none
+     * @param displayList
+     *            The page snapshot
+     * @return The bounds to use for the page
+     *
+     * @version 1.0
+     */
+    private static Rectangle2D getPageBounds( final Rectangle2D declaredBounds,
+                                              final DisplayList displayList ) {
+        if ( declaredBounds != null ) {
+            return declaredBounds;
+        }
+
+        final Rectangle2D recordedBounds = displayList.getBounds();
+        return ( recordedBounds != null ) ? recordedBounds : new Rectangle2D.Double();
+    }
+
+    /**
+     * Returns a new daemon thread, so that a stalled export never keeps the
+     * application from exiting.
+     *
+     * @param runnable
+     *            The task for the thread to run
+     * @param threadName
+     *            The name of the thread
+     * @return A new daemon thread
+     *
+     * @version 1.0
+     */
+    private static Thread newDaemonThread( final Runnable runnable, final String threadName ) {
+        final Thread thread = new Thread( runnable, threadName );
+        thread.setDaemon( true );
+        return thread;
+    }
+
+    /**
+     * A page that is pending export, as a deferred vectorization call and its
+     * declared page bounds.
+     */
+    private static final class PageSource {
+
+        /**
+         * The deferred vectorization call for the page content.
+         */
+        final Consumer< DisplayListGraphics2D > pageVectorizer;
+
+        /**
+         * The declared page bounds, or {@code null} to use the recorded bounds.
+         */
+        final Rectangle2D                       pageBounds;
+
+        /**
+         * Constructs a {@code PageSource}.
+         *
+         * @param vectorizer
+         *            The deferred vectorization call for the page content
+         * @param bounds
+         *            The declared page bounds, or {@code null} to use the
+         *            recorded bounds
+         */
+        PageSource( final Consumer< DisplayListGraphics2D > vectorizer,
+                    final Rectangle2D bounds ) {
+            pageVectorizer = vectorizer;
+            pageBounds = bounds;
+        }
+
+    }
+
+    /**
+     * A view of the assembly result whose cancellation also cancels the rest
+     * of the pipeline, so that pending encodings are abandoned too.
+     */
+    private final class CancellingFuture implements Future< Integer > {
+
+        /**
+         * The pending result of the assembly stage.
+         */
+        private final Future< Integer > delegate;
+
+        /**
+         * Constructs a {@code CancellingFuture}.
+         *
+         * @param assemblyFuture
+         *            The pending result of the assembly stage
+         */
+        CancellingFuture( final Future< Integer > assemblyFuture ) {
+            delegate = assemblyFuture;
+        }
+
+        @Override
+        public boolean cancel( final boolean mayInterruptIfRunning ) {
+            cancelled.set( true );
+            return delegate.cancel( mayInterruptIfRunning );
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return delegate.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            return delegate.isDone();
+        }
+
+        @Override
+        public Integer get() throws InterruptedException, ExecutionException {
+            return delegate.get();
+        }
+
+        @Override
+        public Integer get( final long timeout, final TimeUnit unit )
+                throws InterruptedException, ExecutionException, TimeoutException {
+            return delegate.get( timeout, unit );
+        }
+
+    }
+
+}
@@ -31,6 +31,10 @@
 package com.mhschmieder.guitoolkit.component;
 
 import java.awt.Graphics2D;
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+
+import com.mhschmieder.guitoolkit.graphics.SvgGraphics2D;
 
 /**
  * {@code VectorSource} is an interface that establishes the contract for
@@ -129,4 +133,47 @@ public interface VectorSource {
      */
     double getVectorSourceMaxY();
 
+    /**
+     * Returns the status of whether the vectorization to SVG succeeded (if
+     * {@code true}) or not (if {@code false}).
+     * <p>
+     * This method vectorizes the vector source as a complete SVG document
+     * that is streamed to the specified channel as the drawing happens, sized
+     * from the vector source's bounding box, and then closes the channel.
+     *
+     * @param channel
+     *            The channel to write the SVG document to
+     * @param compress
+     *            {@code true} to gzip compress the output, as for SVGZ files
+     * @return {@code true} if the export succeeded; {@code false} if it failed
+     * @throws IOException
+     *             If the SVG document could not be written to the channel
+     *
+     * @since 1.0
+     */
+    default boolean vectorizeToSvg( final WritableByteChannel channel, final boolean compress )
+            throws IOException {
+        final double minX = getVectorSourceMinX();
+        final double minY = getVectorSourceMinY();
+        final SvgGraphics2D svgGraphics = new SvgGraphics2D( channel,
+                                                             minX,
+                                                             minY,
+                                                             getVectorSourceMaxX(),
+                                                             getVectorSourceMaxY(),
+                                                             compress );
+
+        // The vector source paints in its own coordinate space, so it has to
+        // be positioned at its bounding box within the document's view box.
+        final boolean vectorized;
+        try {
+            svgGraphics.translate( minX, minY );
+            vectorized = vectorize( svgGraphics );
+        }
+        finally {
+            svgGraphics.close();
+        }
+
+        return vectorized;
+    }
+
 }
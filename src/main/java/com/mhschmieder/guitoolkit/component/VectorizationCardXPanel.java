@@ -35,6 +35,8 @@ import java.awt.LayoutManager;
 
 import javax.swing.JPanel;
 
+import com.mhschmieder.guitoolkit.graphics.DisplayList;
+
 /**
  * {@code VectorizationCardXPanel} is an example of a {@link CardXPanel} that
  * can vectorize via a {@link Graphics2D} instance, and that can also be
@@ -64,7 +66,14 @@ public class VectorizationCardXPanel extends CardXPanel
      * regeneration may need to happen either first or last. Also, some content
      * might need to be excluded from vectorization on a case by case basis.
      */
-    private boolean           vectorizationActive;
+    private boolean                   vectorizationActive;
+
+    /**
+     * The helper that records the painted content into a display list once per
+     * content change, and then replays that display list for each
+     * vectorization rather than painting every time, if enabled.
+     */
+    private DisplayListCachingSupport displayListCachingSupport;
 
     //////////////////////////// Constructors ////////////////////////////////
 
@@ -201,6 +210,69 @@ public class VectorizationCardXPanel extends CardXPanel
     private final void initPanel() {
         // Vectorization is initially turned off, until requested by the user.
         vectorizationActive = false;
+
+        // Display list caching is opt-in, as not all content is cacheable.
+        displayListCachingSupport = new DisplayListCachingSupport( this, this::paintComponent );
+    }
+
+    ////////////////// Display list caching methods //////////////////////////
+
+    /**
+     * Returns {@code true} if vectorization replays a cached display list for
+     * unchanged content, rather than painting the content every time.
+     *
+     * @return {@code true} if display list caching is enabled
+     *
+     * @since 1.0
+     */
+    public final boolean isDisplayListCachingEnabled() {
+        return displayListCachingSupport.isCachingEnabled();
+    }
+
+    /**
+     * Sets whether vectorization replays a cached display list for unchanged
+     * content, rather than painting the content every time.
+     * <p>
+     * This should only be enabled when {@code paintComponent()} produces the
+     * same output regardless of the type of graphics context it paints to, as
+     * the content is recorded once and then replayed into each target. Once
+     * enabled, {@link #invalidateDisplayList()} must be called whenever the
+     * painted content changes, other than through size, colors, font or the
+     * enabled state, which are tracked automatically.
+     *
+     * @param cachingEnabled
+     *            {@code true} to enable display list caching
+     *
+     * @since 1.0
+     */
+    public final void setDisplayListCachingEnabled( final boolean cachingEnabled ) {
+        displayListCachingSupport.setCachingEnabled( cachingEnabled );
+    }
+
+    /**
+     * Discards any cached display list, as the painted content has changed.
+     * Derived classes call this whenever the model or state they paint from
+     * changes; plain repaint requests do not invalidate the cache.
+     *
+     * @since 1.0
+     */
+    public final void invalidateDisplayList() {
+        displayListCachingSupport.invalidate();
+    }
+
+    /**
+     * Returns the display list for the current content of this panel,
+     * recording it first if the cached one is missing or stale.
+     *
+     * @param graphicsContext
+     *            The {@link Graphics2D} Graphics Context that the display list
+     *            is intended for, used for the initial graphics state
+     * @return The display list for the current content of this panel
+     *
+     * @since 1.0
+     */
+    protected final DisplayList getDisplayList( final Graphics2D graphicsContext ) {
+        return displayListCachingSupport.getDisplayList( graphicsContext );
     }
 
     ////////////// VectorizationManager implementation methods ///////////////
@@ -250,6 +322,8 @@ public class VectorizationCardXPanel extends CardXPanel
      * This method can be invoked from many contexts, whether from a top-level
      * layout component or a lower-level one (or called multiple times for
      * sub-panels).
+     * <p>
+     * Nothing is painted if this panel lies entirely outside the clip region.
      *
      * @param graphicsContext
      *            The {@link Graphics2D} Graphics Context for vectorizing the
@@ -260,6 +334,13 @@ public class VectorizationCardXPanel extends CardXPanel
      */
     @Override
     public boolean vectorize( final Graphics2D graphicsContext ) {
+        // Skip all painting when this panel is entirely outside the clip
+        // region, as there is then nothing to export and nothing has failed.
+        if ( !VectorizationUtilities
+                .intersectsClip( graphicsContext, 0d, 0d, getWidth(), getHeight() ) ) {
+            return true;
+        }
+
         // Default to "not exported" status, in case of unrecoverable errors.
         boolean panelExported = false;
 
@@ -269,8 +350,10 @@ public class VectorizationCardXPanel extends CardXPanel
         try {
             // Paint this Swing component using a potential override of the
             // paintComponent() method that may process the rendering
-            // different if it knows that vectorization is active.
-            paintComponent( graphicsContext );
+            // different if it knows that vectorization is active. If display
+            // list caching is enabled, the painting is only done when the
+            // content has changed, and is otherwise replayed from the cache.
+            displayListCachingSupport.paint( graphicsContext );
             panelExported = true;
         }
         catch ( final Exception e ) {
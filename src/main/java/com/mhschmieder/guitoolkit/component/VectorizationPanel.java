@@ -228,6 +228,8 @@ public class VectorizationPanel extends JPanel implements VectorizationManager,
      * This method can be invoked from many contexts, whether from a top-level
      * layout component or a lower-level one (or called multiple times for
      * sub-panels).
+     * <p>
+     * Nothing is painted if this panel lies entirely outside the clip region.
      *
      * @param graphicsContext
      *            The {@link Graphics2D} Graphics Context for vectorizing the
@@ -238,6 +240,13 @@ public class VectorizationPanel extends JPanel implements VectorizationManager,
      */
     @Override
     public boolean vectorize( final Graphics2D graphicsContext ) {
+        // Skip all painting when this panel is entirely outside the clip
+        // region, as there is then nothing to export and nothing has failed.
+        if ( !VectorizationUtilities
+                .intersectsClip( graphicsContext, 0d, 0d, getWidth(), getHeight() ) ) {
+            return true;
+        }
+
         // Default to "not exported" status, in case of unrecoverable errors.
         boolean panelExported = false;
 
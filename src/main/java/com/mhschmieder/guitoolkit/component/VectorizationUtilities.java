@@ -0,0 +1,91 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the GuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * GuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/guitoolkit
+ */
+package com.mhschmieder.guitoolkit.component;
+
+import java.awt.Graphics2D;
+import java.awt.Shape;
+
+/**
+ * {@code VectorizationUtilities} is a utility class for methods related to the
+ * vectorization of {@link VectorSource} implementations, such as culling the
+ * content that lies outside the clip of the Graphics Context.
+ * <p>
+ * Culling is what keeps the export of a zoomed-in region of a large layout
+ * proportional in cost to the visible region, rather than to the full layout.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class VectorizationUtilities {
+
+    /**
+     * The default constructor is disabled, as this is a static utilities class
+     */
+    private VectorizationUtilities() {}
+
+    /**
+     * Returns {@code true} if the specified bounding box intersects the clip
+     * of the Graphics Context, or if the Graphics Context has no clip.
+     * <p>
+     * The test is conservative, as it uses the bounds of the clip rather than
+     * its exact shape, so it can only ever err on the side of drawing.
+     *
+     * @param graphicsContext
+     *            The {@link Graphics2D} Graphics Context whose clip to test
+     * @param minX
+     *            The x-coordinate of the top left corner of the bounding box
+     * @param minY
+     *            The y-coordinate of the top left corner of the bounding box
+     * @param maxX
+     *            The x-coordinate of the bottom right corner of the bounding
+     *            box
+     * @param maxY
+     *            The y-coordinate of the bottom right corner of the bounding
+     *            box
+     * @return {@code true} if the bounding box intersects the clip
+     *
+     * @since 1.0
+     */
+    public static boolean intersectsClip( final Graphics2D graphicsContext,
+                                          final double minX,
+                                          final double minY,
+                                          final double maxX,
+                                          final double maxY ) {
+        final Shape clip = graphicsContext.getClip();
+        if ( clip == null ) {
+            return true;
+        }
+
+        return clip.getBounds2D().intersects( minX, minY, maxX - minX, maxY - minY );
+    }
+
+}
@@ -69,6 +69,12 @@ public class XComponent extends JComponent implements RenderingHintSource, Foreg
      */
     private RenderingHints    renderingHints;
 
+    /**
+     * The controller that switches to faster Rendering Hints during user
+     * interaction, or {@code null} if the Rendering Hints are fixed.
+     */
+    private AdaptiveRenderingHints adaptiveRenderingHints;
+
     //////////////////////////// Constructors ////////////////////////////////
 
     /**
@@ -184,6 +190,88 @@ public class XComponent extends JComponent implements RenderingHintSource, Foreg
         renderingHints = parentRenderingHints;
     }
 
+    /**
+     * Returns the {@link RenderingHints} to render this component with right now,
+     * which are faster than the regular ones during user interaction if
+     * adaptive rendering is enabled.
+     *
+     * @return
+     *         The {@link RenderingHints} to render this component with right now
+     *
+     * @since 1.0
+     */
+    @Override
+    public final RenderingHints getActiveRenderingHints() {
+        return ( adaptiveRenderingHints != null )
+            ? adaptiveRenderingHints.getActiveRenderingHints( renderingHints )
+            : renderingHints;
+    }
+
+    /**
+     * Returns {@code true} if adaptive rendering is enabled for this component.
+     *
+     * @return {@code true} if adaptive rendering is enabled for this component
+     *
+     * @since 1.0
+     */
+    public final boolean isAdaptiveRenderingEnabled() {
+        return adaptiveRenderingHints != null;
+    }
+
+    /**
+     * Sets whether adaptive rendering is enabled for this component; this is off
+     * by default.
+     * <p>
+     * When enabled, faster {@link RenderingHints} are used while the user
+     * drags, scrolls or resizes this component, and the regular ones are restored
+     * with one final high-quality repaint once the interaction has been idle
+     * for a short delay. The speed profile and the delay can be tuned via
+     * {@link #getAdaptiveRenderingHints}.
+     *
+     * @param renderingEnabled
+     *            {@code true} if adaptive rendering should be enabled
+     *
+     * @since 1.0
+     */
+    public final void setAdaptiveRenderingEnabled( final boolean renderingEnabled ) {
+        if ( renderingEnabled == isAdaptiveRenderingEnabled() ) {
+            return;
+        }
+
+        if ( renderingEnabled ) {
+            adaptiveRenderingHints = new AdaptiveRenderingHints( this::restoreRenderingQuality );
+            adaptiveRenderingHints.install( this );
+        }
+        else {
+            adaptiveRenderingHints.uninstall();
+            adaptiveRenderingHints = null;
+            restoreRenderingQuality();
+        }
+    }
+
+    /**
+     * Returns the controller that switches to faster Rendering Hints during
+     * user interaction, for tuning it or for reporting other interactions.
+     *
+     * @return The adaptive rendering controller, or {@code null} if adaptive
+     *         rendering is not enabled
+     *
+     * @since 1.0
+     */
+    public final AdaptiveRenderingHints getAdaptiveRenderingHints() {
+        return adaptiveRenderingHints;
+    }
+
+    /**
+     * Repaints this component at full quality, after the speed profile of
+     * adaptive rendering has ended.
+     *
+     * @since 1.0
+     */
+    private void restoreRenderingQuality() {
+        repaint();
+    }
+
     /////////////// ForegroundManager implementation methods /////////////////
 
     /**
@@ -283,10 +371,11 @@ public class XComponent extends JComponent implements RenderingHintSource, Foreg
         // look-and-feel of the container that owns this component.
         super.paintComponent( graphicsContext );
 
-        if ( renderingHints != null ) {
-            // Set the default Rendering Hints for this component.
+        final RenderingHints activeRenderingHints = getActiveRenderingHints();
+        if ( activeRenderingHints != null ) {
+            // Set the currently active Rendering Hints for this component.
             final Graphics2D g2 = ( Graphics2D ) graphicsContext;
-            g2.addRenderingHints( renderingHints );
+            g2.addRenderingHints( activeRenderingHints );
         }
     }
 
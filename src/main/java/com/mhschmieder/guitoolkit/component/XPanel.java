@@ -37,15 +37,28 @@ import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.LayoutManager;
+import java.awt.Rectangle;
 import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.Transparency;
+import java.awt.geom.Area;
 import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 
 import javax.swing.JPanel;
 import javax.swing.JRootPane;
+import javax.swing.Timer;
 import javax.swing.border.Border;
 import javax.swing.border.TitledBorder;
 
 import com.mhschmieder.graphicstoolkit.color.ColorUtilities;
+import com.mhschmieder.guitoolkit.graphics.BackgroundFrameBuffer;
+import com.mhschmieder.guitoolkit.graphics.BufferedOffScreenBuffer;
+import com.mhschmieder.guitoolkit.graphics.OffScreenBuffer;
+import com.mhschmieder.guitoolkit.graphics.OffScreenBufferPool;
+import com.mhschmieder.guitoolkit.graphics.TiledOffScreenRenderer;
 
 /**
  * {@code XPanel} is an enhanced panel base class for Swing that adds
@@ -63,16 +76,35 @@ import com.mhschmieder.graphicstoolkit.color.ColorUtilities;
  * @author Mark Schmieder
  */
 public class XPanel extends JPanel
-        implements RenderingHintSource, ForegroundManager, ZBufferManager {
+        implements RenderingHintSource, ForegroundManager, LayeredZBufferManager,
+        OffScreenMemoryClient {
     /**
      * Unique Serial Version ID for this class, to avoid class loader conflicts.
      */
-    private static final long serialVersionUID = 8162753813950838670L;
+    private static final long   serialVersionUID           = 8162753813950838670L;
+
+    /**
+     * The delay, in milliseconds, that the panel size has to stay unchanged
+     * before an oversized off-screen buffer is shrunk.
+     */
+    private static final int    OFF_SCREEN_SHRINK_DELAY_MS = 500;
+
+    /**
+     * The fraction of the panel area beyond which dirty regions are no longer
+     * worth regenerating incrementally.
+     */
+    private static final double MAXIMUM_DIRTY_AREA_RATIO   = 0.5d;
 
     /**
      * Keep a cached copy of the Rendering Hints for this panel.
      */
-    private RenderingHints    renderingHints;
+    private RenderingHints               renderingHints;
+
+    /**
+     * The controller that switches to faster Rendering Hints during user
+     * interaction, or {@code null} if the Rendering Hints are fixed.
+     */
+    private AdaptiveRenderingHints       adaptiveRenderingHints;
 
     /**
      * This flag indicates to the {@code paintComponent} method that the
@@ -83,17 +115,89 @@ public class XPanel extends JPanel
      * not otherwise be possible to guarantee correct compositing of downstream
      * graphics operations, whether for on-screen rendering or graphics output.
      */
-    protected boolean         regenerateOffScreenImage;
+    protected boolean                    regenerateOffScreenImage;
 
     /**
-     * The off-screen image is used for accelerating graphics using traditional
-     * off-screen z-buffering.
+     * The off-screen buffer is used for accelerating graphics using traditional
+     * off-screen z-buffering. It may be larger than the panel, as it is only
+     * reallocated when the panel outgrows it or its size settles after a
+     * shrink, so only the top-left region matching the panel size is in use.
      * <p>
      * Off-screen z-buffering is the responsibility of the client, as it would
      * not otherwise be possible to guarantee correct compositing of downstream
      * graphics operations, whether for on-screen rendering or EPS Export.
      */
-    protected BufferedImage   offScreenImage;
+    protected OffScreenBuffer            offScreenBuffer;
+
+    /**
+     * The image behind the off-screen buffer, kept for derived classes that
+     * predate the {@link OffScreenBuffer} abstraction and still render into or
+     * read from it directly. It is only set while the off-screen buffer is
+     * heap-based, and is {@code null} when it is hardware-accelerated.
+     *
+     * @deprecated Use the {@link #offScreenBuffer} field instead, which also
+     *             supports hardware-accelerated buffers.
+     */
+    @Deprecated
+    protected BufferedImage              offScreenImage;
+
+    /**
+     * Flag for whether the off-screen buffer should be hardware-accelerated if
+     * possible; when acceleration is unavailable, a compatible heap-based
+     * buffer is used regardless.
+     */
+    private boolean                      offScreenAccelerationEnabled;
+
+    /**
+     * The size that the off-screen buffer was last regenerated for; the buffer
+     * itself is allocated in size steps, and so is usually somewhat larger.
+     */
+    private final Dimension              offScreenSize         = new Dimension();
+
+    /**
+     * The regions of the off-screen buffer that need regenerating, when not
+     * regenerating all of it; overlapping regions are coalesced as they are
+     * added, to keep the clip used for regeneration simple.
+     */
+    private final List< Rectangle >      offScreenDirtyRegions = new ArrayList<>();
+
+    /**
+     * The translucent off-screen layers that are composited over the
+     * off-screen buffer, from bottom to top.
+     */
+    private final List< OffScreenLayer > offScreenLayers       = new ArrayList<>();
+
+    /**
+     * The frame buffer that renders the background image on a render thread,
+     * or {@code null} if the background image is rendered on the Event
+     * Dispatch Thread as usual.
+     */
+    private BackgroundFrameBuffer        backgroundFrameBuffer;
+
+    /**
+     * The renderer that renders the background image as cached tiles, or
+     * {@code null} if the background image is rendered as a single buffer.
+     */
+    private TiledOffScreenRenderer       tiledOffScreenRenderer;
+
+    /**
+     * The adaptive Rendering Hints that were active when the background image
+     * was last requested, for the render threads to apply to their frames.
+     */
+    private volatile RenderingHints      offScreenFrameRenderingHints;
+
+    /**
+     * Flag for whether any of the background image was rendered with the
+     * speed profile of adaptive rendering since it was last fully rendered,
+     * so that it has to be regenerated once the interaction ends.
+     */
+    private boolean                      offScreenImageDegraded;
+
+    /**
+     * The timer that shrinks an oversized off-screen buffer once the panel
+     * size has settled, so that interactive resizing never reallocates.
+     */
+    private Timer                        offScreenShrinkTimer;
 
     //////////////////////////// Constructors ////////////////////////////////
 
@@ -274,6 +378,279 @@ public class XPanel extends JPanel
         regenerateOffScreenImage = true;
     }
 
+    /**
+     * Returns {@code true} if the off-screen buffer should be
+     * hardware-accelerated if possible.
+     *
+     * @return {@code true} if the off-screen buffer should be
+     *         hardware-accelerated if possible
+     *
+     * @since 1.0
+     */
+    public final boolean isOffScreenAccelerationEnabled() {
+        return offScreenAccelerationEnabled;
+    }
+
+    /**
+     * Sets whether the off-screen buffer should be hardware-accelerated if
+     * possible, using a {@code VolatileImage} rather than a
+     * {@code BufferedImage}; this is off by default.
+     * <p>
+     * Accelerated buffers make both regeneration and display of the z-buffer
+     * much faster for panels that redraw at interactive rates, at the cost of
+     * occasionally having to regenerate the buffer when its contents are lost.
+     *
+     * @param accelerationEnabled
+     *            {@code true} if the off-screen buffer should be
+     *            hardware-accelerated if possible
+     *
+     * @since 1.0
+     */
+    public final void setOffScreenAccelerationEnabled( final boolean accelerationEnabled ) {
+        if ( accelerationEnabled == offScreenAccelerationEnabled ) {
+            return;
+        }
+
+        offScreenAccelerationEnabled = accelerationEnabled;
+
+        // Force the buffers to be recreated with the new strategy.
+        releaseOffScreenBuffers();
+        regenerateOffScreenImage = true;
+        repaint();
+    }
+
+    /**
+     * Returns the image behind the off-screen buffer, for derived classes that
+     * predate the {@link OffScreenBuffer} abstraction; this is the same image
+     * as the {@link #offScreenImage} field.
+     * <p>
+     * As the buffer may be larger than this panel, only the top-left region
+     * matching the panel size is in use. When the off-screen buffer is
+     * hardware-accelerated, there is no {@code BufferedImage} behind it, so
+     * this returns {@code null}.
+     *
+     * @return The {@code BufferedImage} behind the off-screen buffer, or
+     *         {@code null} if there is none or it is hardware-accelerated
+     *
+     * @deprecated Use the {@link #offScreenBuffer} field instead, which also
+     *             supports hardware-accelerated buffers.
+     *
+     * @since 1.0
+     */
+    @Deprecated
+    protected final BufferedImage getOffScreenImage() {
+        return offScreenImage;
+    }
+
+    /**
+     * Sets the off-screen buffer, keeping the deprecated
+     * {@link #offScreenImage} field in sync with it.
+     *
+     * @param buffer
+     *            The new off-screen buffer, or {@code null} for none
+     *
+     * @since 1.0
+     */
+    @SuppressWarnings("deprecation")
+    private void setOffScreenBuffer( final OffScreenBuffer buffer ) {
+        offScreenBuffer = buffer;
+        offScreenImage = ( buffer instanceof BufferedOffScreenBuffer )
+            ? ( ( BufferedOffScreenBuffer ) buffer ).getBufferedImage()
+            : null;
+    }
+
+    /**
+     * Returns {@code true} if the background image is rendered on a render
+     * thread rather than on the Event Dispatch Thread.
+     *
+     * @return {@code true} if the background image is rendered on a render
+     *         thread
+     *
+     * @since 1.0
+     */
+    public final boolean isBackgroundRenderingEnabled() {
+        return backgroundFrameBuffer != null;
+    }
+
+    /**
+     * Sets whether the background image is rendered on a render thread rather
+     * than on the Event Dispatch Thread; this is off by default.
+     * <p>
+     * When enabled, the background image is rendered by
+     * {@link #renderOffScreenFrame} into a back buffer on a render thread,
+     * while the last completed frame keeps being shown, so that expensive
+     * scenes no longer block input handling. {@link #createGraphics} then
+     * always returns {@code null}, as there is nothing left to render on the
+     * Event Dispatch Thread; any off-screen layers are still rendered there.
+     * <p>
+     * Background rendering and tiled rendering are mutually exclusive, so
+     * enabling either one disables the other.
+     *
+     * @param renderingEnabled
+     *            {@code true} if the background image should be rendered on a
+     *            render thread
+     *
+     * @since 1.0
+     */
+    public final void setBackgroundRenderingEnabled( final boolean renderingEnabled ) {
+        if ( renderingEnabled == isBackgroundRenderingEnabled() ) {
+            return;
+        }
+
+        if ( renderingEnabled ) {
+            setTiledRenderingEnabled( false );
+            backgroundFrameBuffer = new BackgroundFrameBuffer( this::renderAdaptiveOffScreenFrame,
+                                                               this::repaint );
+
+            // The regular background image is no longer needed.
+            OffScreenBufferPool.getSharedPool().release( offScreenBuffer );
+            setOffScreenBuffer( null );
+        }
+        else {
+            backgroundFrameBuffer.dispose();
+            backgroundFrameBuffer = null;
+        }
+
+        regenerateOffScreenImage = true;
+        repaint();
+    }
+
+    /**
+     * Returns {@code true} if the background image is rendered as cached
+     * tiles rather than as a single buffer.
+     *
+     * @return {@code true} if the background image is rendered as tiles
+     *
+     * @since 1.0
+     */
+    public final boolean isTiledRenderingEnabled() {
+        return tiledOffScreenRenderer != null;
+    }
+
+    /**
+     * Sets whether the background image is rendered as cached tiles rather
+     * than as a single buffer; this is off by default.
+     * <p>
+     * When enabled, the background image is split into fixed-size tiles that
+     * are rendered by {@link #renderOffScreenFrame} only when they become
+     * visible, in parallel on worker threads, and kept in a least recently
+     * used cache that is bounded by bytes. Peak memory then scales with the
+     * visible part of the panel rather than with the panel itself, which
+     * matters for large zoomed canvases inside scroll panes.
+     * {@link #createGraphics} always returns {@code null} in this mode, and
+     * invalidation just discards the affected tiles.
+     * <p>
+     * Background rendering and tiled rendering are mutually exclusive, so
+     * enabling either one disables the other.
+     *
+     * @param renderingEnabled
+     *            {@code true} if the background image should be rendered as
+     *            tiles
+     *
+     * @since 1.0
+     */
+    public final void setTiledRenderingEnabled( final boolean renderingEnabled ) {
+        if ( renderingEnabled == isTiledRenderingEnabled() ) {
+            return;
+        }
+
+        if ( renderingEnabled ) {
+            setBackgroundRenderingEnabled( false );
+            tiledOffScreenRenderer = new TiledOffScreenRenderer( this::renderAdaptiveOffScreenFrame );
+
+            // The regular background image is no longer needed.
+            OffScreenBufferPool.getSharedPool().release( offScreenBuffer );
+            setOffScreenBuffer( null );
+        }
+        else {
+            tiledOffScreenRenderer.dispose();
+            tiledOffScreenRenderer = null;
+        }
+
+        regenerateOffScreenImage = true;
+        repaint();
+    }
+
+    /**
+     * Renders a complete frame of the background image on the render thread,
+     * when background or tiled rendering is enabled; the canvas has already
+     * been cleared to the background color.
+     * <p>
+     * As this is not called on the Event Dispatch Thread, overrides must not
+     * touch Swing components or their models, and should only read state that
+     * is immutable or safely published. With tiled rendering, it is called
+     * concurrently for several tiles, each with the Graphics Context clipped
+     * to the tile, so overrides should also cull against the clip bounds.
+     * Frames are requested whenever the background image would otherwise have
+     * been regenerated, such as after setting {@link #regenerateOffScreenImage}
+     * and repainting. If adaptive rendering is enabled, the Graphics Context
+     * already has the Rendering Hints that were active at that time.
+     *
+     * @param graphicsContext
+     *            The Graphics Context for the frame
+     * @param width
+     *            The width of the frame, in pixels
+     * @param height
+     *            The height of the frame, in pixels
+     *
+     * @since 1.0
+     */
+    protected void renderOffScreenFrame( final Graphics2D graphicsContext,
+                                         final int width,
+                                         final int height ) {}
+
+    /**
+     * Renders a complete frame of the background image on the render thread,
+     * after applying the adaptive Rendering Hints that were active when the
+     * frame was requested.
+     *
+     * @param graphicsContext
+     *            The Graphics Context for the frame
+     * @param width
+     *            The width of the frame, in pixels
+     * @param height
+     *            The height of the frame, in pixels
+     *
+     * @since 1.0
+     */
+    private void renderAdaptiveOffScreenFrame( final Graphics2D graphicsContext,
+                                               final int width,
+                                               final int height ) {
+        final RenderingHints frameRenderingHints = offScreenFrameRenderingHints;
+        if ( frameRenderingHints != null ) {
+            graphicsContext.addRenderingHints( frameRenderingHints );
+        }
+
+        renderOffScreenFrame( graphicsContext, width, height );
+    }
+
+    /**
+     * Returns the Rendering Hints to apply to off-screen Graphics Contexts,
+     * which are only the currently active ones if adaptive rendering is
+     * enabled, as otherwise clients are in full control of them.
+     *
+     * @return The Rendering Hints to apply to off-screen Graphics Contexts, or
+     *         {@code null} if adaptive rendering is not enabled
+     *
+     * @since 1.0
+     */
+    private RenderingHints getOffScreenRenderingHints() {
+        return isAdaptiveRenderingEnabled() ? getActiveRenderingHints() : null;
+    }
+
+    /**
+     * Returns {@code true} if off-screen content rendered right now uses the
+     * speed profile of adaptive rendering, and so has to be regenerated once
+     * the interaction ends.
+     *
+     * @return {@code true} if the speed profile is in effect
+     *
+     * @since 1.0
+     */
+    private boolean isOffScreenRenderingDegraded() {
+        return isAdaptiveRenderingEnabled() && adaptiveRenderingHints.isInteracting();
+    }
+
     ////////////////////// Model/View syncing methods ////////////////////////
 
     /**
@@ -337,6 +714,100 @@ public class XPanel extends JPanel
         renderingHints = parentRenderingHints;
     }
 
+    /**
+     * Returns the {@link RenderingHints} to render this panel with right now,
+     * which are faster than the regular ones during user interaction if
+     * adaptive rendering is enabled.
+     *
+     * @return
+     *         The {@link RenderingHints} to render this panel with right now
+     *
+     * @since 1.0
+     */
+    @Override
+    public final RenderingHints getActiveRenderingHints() {
+        return ( adaptiveRenderingHints != null )
+            ? adaptiveRenderingHints.getActiveRenderingHints( renderingHints )
+            : renderingHints;
+    }
+
+    /**
+     * Returns {@code true} if adaptive rendering is enabled for this panel.
+     *
+     * @return {@code true} if adaptive rendering is enabled for this panel
+     *
+     * @since 1.0
+     */
+    public final boolean isAdaptiveRenderingEnabled() {
+        return adaptiveRenderingHints != null;
+    }
+
+    /**
+     * Sets whether adaptive rendering is enabled for this panel; this is off
+     * by default.
+     * <p>
+     * When enabled, faster {@link RenderingHints} are used while the user
+     * drags, scrolls or resizes this panel, and the regular ones are restored
+     * with one final high-quality repaint once the interaction has been idle
+     * for a short delay. The speed profile and the delay can be tuned via
+     * {@link #getAdaptiveRenderingHints}.
+     *
+     * @param renderingEnabled
+     *            {@code true} if adaptive rendering should be enabled
+     *
+     * @since 1.0
+     */
+    public final void setAdaptiveRenderingEnabled( final boolean renderingEnabled ) {
+        if ( renderingEnabled == isAdaptiveRenderingEnabled() ) {
+            return;
+        }
+
+        if ( renderingEnabled ) {
+            adaptiveRenderingHints = new AdaptiveRenderingHints( this::restoreRenderingQuality );
+            adaptiveRenderingHints.install( this );
+        }
+        else {
+            adaptiveRenderingHints.uninstall();
+            adaptiveRenderingHints = null;
+            restoreRenderingQuality();
+        }
+    }
+
+    /**
+     * Returns the controller that switches to faster Rendering Hints during
+     * user interaction, for tuning it or for reporting other interactions.
+     *
+     * @return The adaptive rendering controller, or {@code null} if adaptive
+     *         rendering is not enabled
+     *
+     * @since 1.0
+     */
+    public final AdaptiveRenderingHints getAdaptiveRenderingHints() {
+        return adaptiveRenderingHints;
+    }
+
+    /**
+     * Repaints this panel at full quality, after the speed profile of
+     * adaptive rendering has ended.
+     *
+     * @since 1.0
+     */
+    private void restoreRenderingQuality() {
+        // Only what was rendered into the off-screen buffers during the
+        // interaction used the speed profile, so only that is regenerated.
+        if ( offScreenImageDegraded ) {
+            regenerateOffScreenImage = true;
+            offScreenImageDegraded = false;
+        }
+        for ( final OffScreenLayer layer : offScreenLayers ) {
+            if ( layer.degraded ) {
+                layer.regenerate = true;
+                layer.degraded = false;
+            }
+        }
+        repaint();
+    }
+
     /////////////// ForegroundManager implementation methods /////////////////
 
     /**
@@ -394,6 +865,11 @@ public class XPanel extends JPanel
      * The {@link Graphics2D} canvas to use for off-screen z-buffering, may in
      * some cases be the one that was passed in, based on the status of several
      * internal flags that keep track of z-buffering.
+     * <p>
+     * If only some regions of the off-screen buffer were invalidated via
+     * {@link #invalidateOffScreenRegion}, the returned Graphics Context is
+     * clipped to those regions, and only they are cleared; clients can use
+     * its clip bounds to skip rendering anything that lies outside of them.
      *
      * @param graphicsContext
      *            A Graphics Context reference.
@@ -406,17 +882,91 @@ public class XPanel extends JPanel
         // Determine whether zoom conditions require image regeneration.
         resetOffScreenImages();
 
+        // Capture the current adaptive Rendering Hints for the render threads.
+        final RenderingHints offScreenRenderingHints = getOffScreenRenderingHints();
+        offScreenFrameRenderingHints = offScreenRenderingHints;
+
+        // When rendering tiles, just discard the tiles wherever the background
+        // image would otherwise have been regenerated.
+        if ( tiledOffScreenRenderer != null ) {
+            tiledOffScreenRenderer.setCanvas( getGraphicsConfiguration(),
+                                              offScreenSize.width,
+                                              offScreenSize.height,
+                                              getBackground() );
+            if ( regenerateOffScreenImage ) {
+                tiledOffScreenRenderer.invalidate();
+                offScreenImageDegraded = false;
+            }
+            else {
+                for ( final Rectangle dirtyRegion : offScreenDirtyRegions ) {
+                    tiledOffScreenRenderer.invalidate( dirtyRegion );
+                }
+            }
+
+            // Tiles are rendered lazily as they become visible, so any of them
+            // may be rendered with the hints that are active right now.
+            offScreenImageDegraded |= isOffScreenRenderingDegraded();
+
+            regenerateOffScreenImage = false;
+            offScreenDirtyRegions.clear();
+
+            return null;
+        }
+
+        // When rendering in the background, just request a new frame wherever
+        // the background image would otherwise have been regenerated.
+        if ( backgroundFrameBuffer != null ) {
+            if ( regenerateOffScreenImage || !offScreenDirtyRegions.isEmpty() ) {
+                backgroundFrameBuffer.requestFrame( getGraphicsConfiguration(),
+                                                    offScreenSize.width,
+                                                    offScreenSize.height,
+                                                    getBackground() );
+                offScreenImageDegraded = isOffScreenRenderingDegraded();
+            }
+
+            regenerateOffScreenImage = false;
+            offScreenDirtyRegions.clear();
+
+            return null;
+        }
+
+        // Accelerated buffers may have lost their contents since the last time
+        // they were rendered, in which case they have to be fully regenerated.
+        if ( ( offScreenBuffer != null ) && offScreenBuffer.validate( getGraphicsConfiguration() ) ) {
+            regenerateOffScreenImage = true;
+        }
+
         // Create a graphics context and update graphics only if changes have
-        // occurred, as signaled by the "regenerate off-screen image" flag.
-        // Otherwise, just re-display the current off-screen z-buffer.
+        // occurred, as signaled by the "regenerate off-screen image" flag or by
+        // dirty regions. Otherwise, just re-display the current z-buffer.
         Graphics2D graphics2D = null;
 
-        if ( regenerateOffScreenImage ) {
+        // Dirty regions that together cover most of the panel are cheaper to
+        // regenerate in full than through a complex clip.
+        final Shape dirtyRegion = getOffScreenDirtyRegion();
+        if ( ( dirtyRegion == null ) && !offScreenDirtyRegions.isEmpty() ) {
+            regenerateOffScreenImage = true;
+        }
+
+        if ( regenerateOffScreenImage || ( dirtyRegion != null ) ) {
             // Create a Graphics Context for this off-screen image
-            if ( offScreenImage != null ) {
-                graphics2D = offScreenImage.createGraphics();
+            if ( offScreenBuffer != null ) {
+                graphics2D = offScreenBuffer.createGraphics();
             }
             if ( graphics2D != null ) {
+                if ( offScreenRenderingHints != null ) {
+                    graphics2D.addRenderingHints( offScreenRenderingHints );
+                }
+
+                // Restrict incremental regeneration to the dirty regions, so
+                // that only those are cleared and re-rendered.
+                if ( !regenerateOffScreenImage ) {
+                    graphics2D.setClip( dirtyRegion );
+                }
+
+                offScreenImageDegraded = ( offScreenImageDegraded && !regenerateOffScreenImage )
+                        || isOffScreenRenderingDegraded();
+
                 // Initialize the off-screen canvas.
                 initializeOffScreenCanvas( graphics2D );
             }
@@ -425,6 +975,7 @@ public class XPanel extends JPanel
         // Now that we have (conditionally) generated a new off-screen buffer,
         // there is no need to regenerate it until external conditions require.
         regenerateOffScreenImage = false;
+        offScreenDirtyRegions.clear();
 
         return graphics2D;
     }
@@ -433,6 +984,9 @@ public class XPanel extends JPanel
      * This method either shows the new background image, or re-displays the
      * old background image, depending on whether the cached image is null or
      * not. If null, show the new background image, otherwise show then old.
+     * <p>
+     * Any off-screen layers are composited over the background image, in
+     * order from bottom to top.
      *
      * @param graphicsContext
      *            A Graphics Context to use for showing the background image
@@ -441,14 +995,59 @@ public class XPanel extends JPanel
      */
     @Override
     public final void showBackgroundImage( final Graphics graphicsContext ) {
-        if ( offScreenImage != null ) {
-            final Graphics2D g2 = ( Graphics2D ) graphicsContext;
+        if ( ( offScreenBuffer == null ) && ( backgroundFrameBuffer == null )
+                && ( tiledOffScreenRenderer == null ) ) {
+            return;
+        }
+
+        final Graphics2D g2 = ( Graphics2D ) graphicsContext;
+
+        final Composite composite = g2.getComposite();
+        g2.setComposite( AlphaComposite.getInstance( AlphaComposite.SRC_OVER, 1f ) );
+        if ( tiledOffScreenRenderer != null ) {
+            // Only the tiles that intersect the area being painted are needed.
+            tiledOffScreenRenderer.drawTiles( g2, g2.getClipBounds(), this );
+        }
+        else if ( backgroundFrameBuffer != null ) {
+            // Until the first frame completes, just show the background color.
+            if ( !backgroundFrameBuffer.drawFrame( g2, 0, 0, this ) ) {
+                g2.setColor( getBackground() );
+                g2.fillRect( 0, 0, offScreenSize.width, offScreenSize.height );
+            }
+        }
+        else {
+            offScreenBuffer.drawBuffer( g2, 0, 0, offScreenSize.width, offScreenSize.height, this );
+        }
 
-            final Composite composite = g2.getComposite();
-            g2.setComposite( AlphaComposite.getInstance( AlphaComposite.SRC_OVER, 1f ) );
-            g2.drawImage( offScreenImage, 0, 0, this );
-            g2.setComposite( composite );
+        // Composite the translucent layers over the background image, in
+        // order from bottom to top.
+        for ( final OffScreenLayer layer : offScreenLayers ) {
+            if ( layer.buffer != null ) {
+                layer.buffer.drawBuffer( g2, 0, 0, offScreenSize.width, offScreenSize.height, this );
+            }
+        }
+        g2.setComposite( composite );
+
+        // If the accelerated contents were lost while being shown, what was
+        // shown may be garbage, so regenerate and show them again.
+        boolean contentsLost = false;
+        if ( ( offScreenBuffer != null ) && offScreenBuffer.contentsLost() ) {
+            regenerateOffScreenImage = true;
+            contentsLost = true;
         }
+        for ( final OffScreenLayer layer : offScreenLayers ) {
+            if ( ( layer.buffer != null ) && layer.buffer.contentsLost() ) {
+                layer.regenerate = true;
+                contentsLost = true;
+            }
+        }
+        if ( contentsLost ) {
+            repaint();
+        }
+
+        // Mark our buffers as recently used, which may evict the buffers of
+        // other panels if the global off-screen memory budget is exceeded.
+        OffScreenMemoryManager.getSharedManager().touch( this );
     }
 
     /**
@@ -461,13 +1060,227 @@ public class XPanel extends JPanel
         // Get current component size on screen.
         final Dimension userAreaSize = getSize();
 
-        // Create new off-screen z-buffer if necessary.
-        if ( ( offScreenImage == null ) || ( offScreenImage.getWidth() != userAreaSize.width )
-                || ( offScreenImage.getHeight() != userAreaSize.height ) ) {
-            offScreenImage =
-                           ( BufferedImage ) createImage( userAreaSize.width, userAreaSize.height );
+        // Any change in size requires regenerating the off-screen buffers, but
+        // not necessarily reallocating them, as they are allocated in steps.
+        if ( !userAreaSize.equals( offScreenSize ) ) {
+            offScreenSize.setSize( userAreaSize );
+            regenerateOffScreenImage = true;
+            for ( final OffScreenLayer layer : offScreenLayers ) {
+                layer.regenerate = true;
+            }
+        }
+
+        // Replace the off-screen z-buffers only if the panel has outgrown them;
+        // shrinking is deferred until the size settles, as it is usually just
+        // an intermediate step of an interactive resize.
+        final OffScreenBufferPool bufferPool = OffScreenBufferPool.getSharedPool();
+        if ( ( backgroundFrameBuffer == null ) && ( tiledOffScreenRenderer == null )
+                && ( ( offScreenBuffer == null )
+                        || !offScreenBuffer.fits( userAreaSize.width, userAreaSize.height ) ) ) {
+            bufferPool.release( offScreenBuffer );
+            setOffScreenBuffer( bufferPool.acquire( getGraphicsConfiguration(),
+                                                    userAreaSize.width,
+                                                    userAreaSize.height,
+                                                    offScreenAccelerationEnabled ) );
             regenerateOffScreenImage = true;
         }
+        for ( final OffScreenLayer layer : offScreenLayers ) {
+            if ( ( layer.buffer == null )
+                    || !layer.buffer.fits( userAreaSize.width, userAreaSize.height ) ) {
+                bufferPool.release( layer.buffer );
+                layer.buffer = bufferPool.acquire( getGraphicsConfiguration(),
+                                                   userAreaSize.width,
+                                                   userAreaSize.height,
+                                                   offScreenAccelerationEnabled,
+                                                   Transparency.TRANSLUCENT );
+                clearOffScreenLayer( layer );
+                layer.regenerate = true;
+            }
+        }
+
+        if ( isOffScreenBufferOversized( userAreaSize ) ) {
+            if ( offScreenShrinkTimer == null ) {
+                offScreenShrinkTimer = new Timer( OFF_SCREEN_SHRINK_DELAY_MS,
+                                                  evt -> shrinkOffScreenBuffer() );
+                offScreenShrinkTimer.setRepeats( false );
+            }
+            offScreenShrinkTimer.restart();
+        }
+    }
+
+    /**
+     * Returns {@code true} if the off-screen buffer or any of the off-screen
+     * layers is larger than necessary for the specified panel size.
+     *
+     * @param userAreaSize
+     *            The current panel size
+     * @return {@code true} if any off-screen buffer is larger than necessary
+     *
+     * @since 1.0
+     */
+    private boolean isOffScreenBufferOversized( final Dimension userAreaSize ) {
+        if ( ( offScreenBuffer != null ) && OffScreenBufferPool
+                .isOversized( offScreenBuffer, userAreaSize.width, userAreaSize.height ) ) {
+            return true;
+        }
+        for ( final OffScreenLayer layer : offScreenLayers ) {
+            if ( ( layer.buffer != null ) && OffScreenBufferPool
+                    .isOversized( layer.buffer, userAreaSize.width, userAreaSize.height ) ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Replaces the off-screen buffers with smaller ones if they are still
+     * oversized now that the panel size has settled, returning the oversized
+     * buffers to the shared pool.
+     *
+     * @since 1.0
+     */
+    private void shrinkOffScreenBuffer() {
+        final Dimension userAreaSize = getSize();
+        if ( !isOffScreenBufferOversized( userAreaSize ) ) {
+            return;
+        }
+
+        if ( ( offScreenBuffer != null ) && OffScreenBufferPool
+                .isOversized( offScreenBuffer, userAreaSize.width, userAreaSize.height ) ) {
+            setOffScreenBuffer( createShrunkOffScreenBuffer( offScreenBuffer, userAreaSize ) );
+            regenerateOffScreenImage = true;
+        }
+        for ( final OffScreenLayer layer : offScreenLayers ) {
+            if ( ( layer.buffer != null ) && OffScreenBufferPool
+                    .isOversized( layer.buffer, userAreaSize.width, userAreaSize.height ) ) {
+                layer.buffer = createShrunkOffScreenBuffer( layer.buffer, userAreaSize );
+                clearOffScreenLayer( layer );
+                layer.regenerate = true;
+            }
+        }
+
+        repaint();
+    }
+
+    /**
+     * Returns a new buffer of the stepped size for the specified panel size,
+     * with the same transparency as the oversized buffer it replaces, and
+     * returns the oversized buffer to the shared pool.
+     * <p>
+     * The new buffer is allocated directly rather than acquired from the pool,
+     * as the pool would hand back the oversized buffer (or another of similar
+     * size) and the shrink would never take effect.
+     *
+     * @param oversizedBuffer
+     *            The oversized buffer to replace
+     * @param userAreaSize
+     *            The settled panel size
+     * @return A new buffer of the stepped size for the specified panel size,
+     *         or {@code null} if this panel is no longer displayable
+     *
+     * @since 1.0
+     */
+    private OffScreenBuffer createShrunkOffScreenBuffer( final OffScreenBuffer oversizedBuffer,
+                                                         final Dimension userAreaSize ) {
+        final OffScreenBuffer shrunkBuffer = OffScreenBuffer
+                .createOffScreenBuffer( getGraphicsConfiguration(),
+                                        OffScreenBufferPool.getSteppedSize( userAreaSize.width ),
+                                        OffScreenBufferPool.getSteppedSize( userAreaSize.height ),
+                                        offScreenAccelerationEnabled,
+                                        oversizedBuffer.getTransparency() );
+        OffScreenBufferPool.getSharedPool().release( oversizedBuffer );
+        return shrunkBuffer;
+    }
+
+    /**
+     * Returns the off-screen buffer and the buffers of all off-screen layers
+     * to the shared pool, so that they are reacquired on the next paint.
+     *
+     * @since 1.0
+     */
+    private void releaseOffScreenBuffers() {
+        final OffScreenBufferPool bufferPool = OffScreenBufferPool.getSharedPool();
+        bufferPool.release( offScreenBuffer );
+        setOffScreenBuffer( null );
+        for ( final OffScreenLayer layer : offScreenLayers ) {
+            bufferPool.release( layer.buffer );
+            layer.buffer = null;
+        }
+    }
+
+    /**
+     * Marks a region of the off-screen buffer as needing regeneration, and
+     * schedules a repaint of that region.
+     * <p>
+     * Unlike setting {@link #regenerateOffScreenImage}, this lets the next
+     * call to {@link #createGraphics} clear and re-render just the regions
+     * that changed, such as the area under a cursor-tracking overlay.
+     *
+     * @param region
+     *            The region of the panel to regenerate, in panel coordinates
+     *
+     * @since 1.0
+     */
+    public final void invalidateOffScreenRegion( final Rectangle region ) {
+        final Rectangle dirtyRegion = region.intersection( new Rectangle( getSize() ) );
+        if ( dirtyRegion.isEmpty() ) {
+            return;
+        }
+
+        // Coalesce with any overlapping regions; as a merge can make the
+        // region overlap others that it didn't before, repeat until stable.
+        boolean merged = true;
+        while ( merged ) {
+            merged = false;
+            final Iterator< Rectangle > regionIterator = offScreenDirtyRegions.iterator();
+            while ( regionIterator.hasNext() ) {
+                final Rectangle existingRegion = regionIterator.next();
+                if ( existingRegion.intersects( dirtyRegion ) ) {
+                    dirtyRegion.add( existingRegion );
+                    regionIterator.remove();
+                    merged = true;
+                }
+            }
+        }
+        offScreenDirtyRegions.add( dirtyRegion );
+
+        repaint( dirtyRegion );
+    }
+
+    /**
+     * Returns the union of the dirty regions of the off-screen buffer, for use
+     * as the clip during incremental regeneration.
+     *
+     * @return The union of the dirty regions, or {@code null} if there are no
+     *         dirty regions or they cover too much of the panel to be worth
+     *         regenerating incrementally
+     *
+     * @since 1.0
+     */
+    private Shape getOffScreenDirtyRegion() {
+        if ( offScreenDirtyRegions.isEmpty() ) {
+            return null;
+        }
+
+        // The coalesced regions don't overlap, so their areas simply add up.
+        long dirtyArea = 0L;
+        for ( final Rectangle dirtyRegion : offScreenDirtyRegions ) {
+            dirtyArea += ( long ) dirtyRegion.width * dirtyRegion.height;
+        }
+        final long panelArea = ( long ) offScreenSize.width * offScreenSize.height;
+        if ( dirtyArea > ( panelArea * MAXIMUM_DIRTY_AREA_RATIO ) ) {
+            return null;
+        }
+
+        if ( offScreenDirtyRegions.size() == 1 ) {
+            return offScreenDirtyRegions.get( 0 );
+        }
+
+        final Area dirtyRegionUnion = new Area();
+        for ( final Rectangle dirtyRegion : offScreenDirtyRegions ) {
+            dirtyRegionUnion.add( new Area( dirtyRegion ) );
+        }
+        return dirtyRegionUnion;
     }
 
     /**
@@ -491,6 +1304,284 @@ public class XPanel extends JPanel
         graphics2D.clearRect( 0, 0, userAreaSize.width, userAreaSize.height );
     }
 
+    ////////////// LayeredZBufferManager implementation methods //////////////
+
+    /**
+     * Adds a new translucent off-screen layer on top of all existing layers.
+     *
+     * @param layerName
+     *            The unique name of the layer
+     *
+     * @since 1.0
+     */
+    @Override
+    public final void addOffScreenLayer( final String layerName ) {
+        if ( getOffScreenLayer( layerName ) != null ) {
+            throw new IllegalArgumentException( "Duplicate off-screen layer: " + layerName ); //$NON-NLS-1$
+        }
+
+        offScreenLayers.add( new OffScreenLayer( layerName ) );
+        repaint();
+    }
+
+    /**
+     * Removes an off-screen layer, releasing its buffer.
+     *
+     * @param layerName
+     *            The name of the layer to remove
+     *
+     * @since 1.0
+     */
+    @Override
+    public final void removeOffScreenLayer( final String layerName ) {
+        final OffScreenLayer layer = getOffScreenLayer( layerName );
+        if ( layer == null ) {
+            return;
+        }
+
+        offScreenLayers.remove( layer );
+        OffScreenBufferPool.getSharedPool().release( layer.buffer );
+        repaint();
+    }
+
+    /**
+     * Returns the names of the off-screen layers, from bottom to top.
+     *
+     * @return The names of the off-screen layers, from bottom to top
+     *
+     * @since 1.0
+     */
+    @Override
+    public final List< String > getOffScreenLayerNames() {
+        final List< String > layerNames = new ArrayList<>( offScreenLayers.size() );
+        for ( final OffScreenLayer layer : offScreenLayers ) {
+            layerNames.add( layer.name );
+        }
+        return layerNames;
+    }
+
+    /**
+     * Marks an off-screen layer as needing regeneration, without affecting
+     * the background image or any of the other layers, and schedules a
+     * repaint.
+     *
+     * @param layerName
+     *            The name of the layer to regenerate
+     *
+     * @since 1.0
+     */
+    @Override
+    public final void invalidateOffScreenLayer( final String layerName ) {
+        final OffScreenLayer layer = getRequiredOffScreenLayer( layerName );
+        layer.regenerate = true;
+        repaint();
+    }
+
+    /**
+     * Returns a Graphics Context for regenerating an off-screen layer, cleared
+     * to full transparency, if the layer needs regeneration.
+     * <p>
+     * This is normally called from {@code paintComponent}, after
+     * {@link #createGraphics} and before {@link #showBackgroundImage}.
+     *
+     * @param layerName
+     *            The name of the layer to regenerate
+     * @return A Graphics Context for regenerating the layer, or {@code null}
+     *         if the layer is still valid and can simply be re-displayed
+     *
+     * @since 1.0
+     */
+    @Override
+    public final Graphics2D createLayerGraphics( final String layerName ) {
+        final OffScreenLayer layer = getRequiredOffScreenLayer( layerName );
+
+        // Determine whether zoom conditions require layer regeneration.
+        resetOffScreenImages();
+
+        if ( layer.buffer == null ) {
+            return null;
+        }
+        if ( layer.buffer.validate( getGraphicsConfiguration() ) ) {
+            layer.regenerate = true;
+        }
+        if ( !layer.regenerate ) {
+            return null;
+        }
+        layer.regenerate = false;
+        layer.degraded = isOffScreenRenderingDegraded();
+
+        // Clear the layer to full transparency, so that only what is rendered
+        // into it covers the layers below.
+        final Graphics2D graphics2D = layer.buffer.createGraphics();
+        graphics2D.setComposite( AlphaComposite.Clear );
+        graphics2D.fillRect( 0, 0, offScreenSize.width, offScreenSize.height );
+        graphics2D.setComposite( AlphaComposite.SrcOver );
+
+        final RenderingHints offScreenRenderingHints = getOffScreenRenderingHints();
+        if ( offScreenRenderingHints != null ) {
+            graphics2D.addRenderingHints( offScreenRenderingHints );
+        }
+
+        return graphics2D;
+    }
+
+    /**
+     * Clears the buffer of an off-screen layer to full transparency.
+     * <p>
+     * This is done as soon as a buffer is acquired, as pooled and newly
+     * allocated accelerated buffers may hold leftover pixels, which would
+     * otherwise be composited over the background image until the layer is
+     * regenerated.
+     *
+     * @param layer
+     *            The off-screen layer whose buffer is to be cleared
+     *
+     * @since 1.0
+     */
+    private static void clearOffScreenLayer( final OffScreenLayer layer ) {
+        if ( layer.buffer == null ) {
+            return;
+        }
+
+        final Graphics2D graphics2D = layer.buffer.createGraphics();
+        try {
+            graphics2D.setComposite( AlphaComposite.Clear );
+            graphics2D.fillRect( 0, 0, layer.buffer.getWidth(), layer.buffer.getHeight() );
+        }
+        finally {
+            graphics2D.dispose();
+        }
+    }
+
+    /**
+     * Returns the off-screen layer with the specified name.
+     *
+     * @param layerName
+     *            The name of the layer to find
+     * @return The off-screen layer with the specified name, or {@code null} if
+     *         there is none
+     *
+     * @since 1.0
+     */
+    private OffScreenLayer getOffScreenLayer( final String layerName ) {
+        for ( final OffScreenLayer layer : offScreenLayers ) {
+            if ( layer.name.equals( layerName ) ) {
+                return layer;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the off-screen layer with the specified name, which must exist.
+     *
+     * @param layerName
+     *            The name of the layer to find
+     * @return The off-screen layer with the specified name
+     *
+     * @since 1.0
+     */
+    private OffScreenLayer getRequiredOffScreenLayer( final String layerName ) {
+        final OffScreenLayer layer = getOffScreenLayer( layerName );
+        if ( layer == null ) {
+            throw new IllegalArgumentException( "Unknown off-screen layer: " + layerName ); //$NON-NLS-1$
+        }
+        return layer;
+    }
+
+    /**
+     * An off-screen layer, with its own buffer and invalidation flag.
+     */
+    private static final class OffScreenLayer {
+
+        /**
+         * The unique name of the layer.
+         */
+        final String    name;
+
+        /**
+         * The translucent buffer that holds the layer contents, or
+         * {@code null} if it hasn't been acquired yet.
+         */
+        OffScreenBuffer buffer;
+
+        /**
+         * Flag for whether the layer needs to be regenerated.
+         */
+        boolean         regenerate;
+
+        /**
+         * Flag for whether the layer was last regenerated with the speed
+         * profile of adaptive rendering.
+         */
+        boolean         degraded;
+
+        /**
+         * Constructs an {@code OffScreenLayer} that needs generating.
+         *
+         * @param layerName
+         *            The unique name of the layer
+         */
+        OffScreenLayer( final String layerName ) {
+            name = layerName;
+            buffer = null;
+            regenerate = true;
+            degraded = false;
+        }
+
+    }
+
+    ////////////// OffScreenMemoryClient implementation methods //////////////
+
+    /**
+     * Returns the approximate number of bytes held by this panel's off-screen
+     * buffers, including any layers, tiles and background frames.
+     *
+     * @return The approximate number of bytes held by the off-screen buffers
+     *
+     * @since 1.0
+     */
+    @Override
+    public final long getOffScreenByteSize() {
+        long byteSize = 0L;
+        if ( offScreenBuffer != null ) {
+            byteSize += offScreenBuffer.getByteSize();
+        }
+        for ( final OffScreenLayer layer : offScreenLayers ) {
+            if ( layer.buffer != null ) {
+                byteSize += layer.buffer.getByteSize();
+            }
+        }
+        if ( tiledOffScreenRenderer != null ) {
+            byteSize += tiledOffScreenRenderer.getCachedByteSize();
+        }
+        if ( backgroundFrameBuffer != null ) {
+            byteSize += backgroundFrameBuffer.getByteSize();
+        }
+        return byteSize;
+    }
+
+    /**
+     * Releases all of this panel's off-screen buffers, so that they are
+     * regenerated the next time this panel is painted.
+     *
+     * @since 1.0
+     */
+    @Override
+    public final void evictOffScreenBuffers() {
+        releaseOffScreenBuffers();
+        if ( tiledOffScreenRenderer != null ) {
+            tiledOffScreenRenderer.invalidate();
+        }
+        if ( backgroundFrameBuffer != null ) {
+            backgroundFrameBuffer.releaseFrames();
+        }
+
+        // Layers regenerate on their own once their buffers are reacquired.
+        regenerateOffScreenImage = true;
+        offScreenDirtyRegions.clear();
+    }
+
     ///////////////////// JComponent method overrides ////////////////////////
 
     /**
@@ -544,10 +1635,11 @@ public class XPanel extends JPanel
         // look-and-feel of the container that owns this panel.
         super.paintComponent( graphicsContext );
 
-        if ( renderingHints != null ) {
-            // Set the default Rendering Hints for this panel.
+        final RenderingHints activeRenderingHints = getActiveRenderingHints();
+        if ( activeRenderingHints != null ) {
+            // Set the currently active Rendering Hints for this panel.
             final Graphics2D g2 = ( Graphics2D ) graphicsContext;
-            g2.addRenderingHints( renderingHints );
+            g2.addRenderingHints( activeRenderingHints );
         }
     }
 
@@ -36,7 +36,9 @@ import java.awt.Component;
 import java.awt.EventQueue;
 import java.awt.Toolkit;
 import java.awt.event.KeyEvent;
+import java.util.BitSet;
 import java.util.EventObject;
+import java.util.List;
 
 import javax.swing.JCheckBox;
 import javax.swing.JComboBox;
@@ -44,14 +46,21 @@ import javax.swing.JRootPane;
 import javax.swing.JTable;
 import javax.swing.KeyStroke;
 import javax.swing.ListSelectionModel;
+import javax.swing.RowSorter;
 import javax.swing.border.Border;
 import javax.swing.border.TitledBorder;
 import javax.swing.table.TableCellEditor;
+import javax.swing.table.TableCellRenderer;
 import javax.swing.table.TableModel;
 import javax.swing.table.TableRowSorter;
 import javax.swing.text.JTextComponent;
 
 import com.mhschmieder.graphicstoolkit.color.ColorUtilities;
+import com.mhschmieder.guitoolkit.table.AsyncTableRowSorter;
+import com.mhschmieder.guitoolkit.table.BitSetListSelectionModel;
+import com.mhschmieder.guitoolkit.table.ColumnStoreTableModel;
+import com.mhschmieder.guitoolkit.table.DirtyCellTracker;
+import com.mhschmieder.guitoolkit.table.NumberCellRenderer;
 import com.mhschmieder.guitoolkit.table.TableConstants;
 
 /**
@@ -89,6 +98,11 @@ public class XTable extends JTable implements ForegroundManager {
      */
     private boolean           tabEnterTraversalEventReceived;
 
+    /**
+     * The optional tracker to notify of cells that are committed by editors.
+     */
+    private DirtyCellTracker  dirtyCellTracker;
+
     //////////////////////////// Constructors ////////////////////////////////
 
     /**
@@ -350,12 +364,18 @@ public class XTable extends JTable implements ForegroundManager {
         tableHeader.setReorderingAllowed( false );
         tableHeader.setResizingAllowed( false );
         setAutoResizeMode( columnAutoResizeMode );
+
+        // Use a row selection model that supports constant-time selection
+        // counts and primitive snapshots, before applying the selection mode.
+        setSelectionModel( new BitSetListSelectionModel() );
         setSelectionMode( selectionMode );
         setCellSelectionEnabled( columnBasedSelectionAllowed && rowBasedSelectionAllowed );
         setColumnSelectionAllowed( columnBasedSelectionAllowed );
         setRowSelectionAllowed( rowBasedSelectionAllowed );
 
-        // Set up a generic string-based table row sorter for all columns.
+        // Set up a generic table row sorter for all columns. Sorting large
+        // tables off of the event dispatch thread is opt-in, via
+        // setAsyncRowSortingEnabled(), as it replaces the sorter type.
         //
         // Verify that this also flips the sort order.
         //
@@ -409,6 +429,101 @@ public class XTable extends JTable implements ForegroundManager {
         return tabEnterTraversalEventReceived;
     }
 
+    /**
+     * Sets the tracker to notify of cells whose values are set via the table,
+     * such as by cell editors committing their values.
+     *
+     * @param tracker
+     *            The tracker to notify of set cells, or {@code null} for none
+     *
+     * @since 1.0
+     */
+    public final void setDirtyCellTracker( final DirtyCellTracker tracker ) {
+        dirtyCellTracker = tracker;
+        if ( dirtyCellTracker != null ) {
+            dirtyCellTracker.setTableModel( getModel() );
+        }
+    }
+
+    /**
+     * Returns {@code true} if this table sorts and filters its rows off of the
+     * event dispatch thread, via an {@link AsyncTableRowSorter}.
+     *
+     * @return {@code true} if asynchronous row sorting is enabled
+     *
+     * @since 1.0
+     */
+    public final boolean isAsyncRowSortingEnabled() {
+        return getRowSorter() instanceof AsyncTableRowSorter;
+    }
+
+    /**
+     * Sets whether this table sorts and filters its rows off of the event
+     * dispatch thread, so that clicking on a column header of a large table
+     * never blocks user input; this is off by default.
+     * <p>
+     * Enabling this replaces the current row sorter with an
+     * {@link AsyncTableRowSorter}, which is not a {@link TableRowSorter}, so it
+     * should only be enabled if no code casts the row sorter to one. Disabling
+     * it restores a {@link TableRowSorter}. The sort keys are carried over,
+     * but any comparators and row filter must be set again on the new sorter.
+     *
+     * @param asyncSortingEnabled
+     *            {@code true} to sort and filter rows asynchronously
+     *
+     * @since 1.0
+     */
+    public final void setAsyncRowSortingEnabled( final boolean asyncSortingEnabled ) {
+        if ( asyncSortingEnabled == isAsyncRowSortingEnabled() ) {
+            return;
+        }
+
+        final RowSorter< ? extends TableModel > previousSorter = getRowSorter();
+        final List< ? extends RowSorter.SortKey > sortKeys = ( previousSorter != null )
+            ? previousSorter.getSortKeys()
+            : null;
+
+        final RowSorter< TableModel > sorter = asyncSortingEnabled
+            ? new AsyncTableRowSorter( getModel() )
+            : new TableRowSorter<>( getModel() );
+        if ( ( sortKeys != null ) && !sortKeys.isEmpty() ) {
+            sorter.setSortKeys( sortKeys );
+        }
+        setRowSorter( sorter );
+    }
+
+    /**
+     * Returns the tracker that is notified of cells whose values are set via
+     * the table.
+     *
+     * @return The tracker that is notified of set cells, or {@code null}
+     *
+     * @since 1.0
+     */
+    public final DirtyCellTracker getDirtyCellTracker() {
+        return dirtyCellTracker;
+    }
+
+    /**
+     * Marks the specified view cell as dirty in the dirty cell tracker, if any.
+     * <p>
+     * This is done explicitly rather than relying solely on Table Model Events,
+     * as not all custom models fire events when their values are set.
+     *
+     * @param row
+     *            The view row for the cell whose value was set
+     * @param column
+     *            The view column for the cell whose value was set
+     *
+     * @since 1.0
+     */
+    private void markDirtyCell( final int row, final int column ) {
+        if ( dirtyCellTracker != null ) {
+            dirtyCellTracker.markCell( convertRowIndexToModel( row ),
+                                       convertColumnIndexToModel( column ) );
+        }
+    }
+
     //
     /**
      * Adjusts the value at the specified cell, accompanied by a user alert.
@@ -428,6 +543,7 @@ public class XTable extends JTable implements ForegroundManager {
                                       final int row,
                                       final int column ) {
         super.setValueAt( adjustedValue, row, column );
+        markDirtyCell( row, column );
 
         // EventQueue.invokeLater( ( ) -> {
         requestFocusInWindow();
@@ -436,6 +552,189 @@ public class XTable extends JTable implements ForegroundManager {
         // } );
     }
 
+    ////////////////////// Primitive selection methods ///////////////////////
+
+    /**
+     * Returns a snapshot of the selected view rows as a {@link BitSet}.
+     *
+     * @return A snapshot of the selected view rows
+     *
+     * @since 1.0
+     */
+    public final BitSet getSelectedRowSet() {
+        final ListSelectionModel selectionModel = getSelectionModel();
+        if ( selectionModel instanceof BitSetListSelectionModel ) {
+            return ( ( BitSetListSelectionModel ) selectionModel ).getSelectedIndexSet();
+        }
+
+        final BitSet selectedRowSet = new BitSet();
+        for ( final int selectedRow : super.getSelectedRows() ) {
+            selectedRowSet.set( selectedRow );
+        }
+        return selectedRowSet;
+    }
+
+    /**
+     * Returns the lowest selected view row, or -1 if none are selected.
+     *
+     * @return The lowest selected view row, or -1 if none are selected
+     *
+     * @since 1.0
+     */
+    public final int getMinSelectedRow() {
+        return getSelectionModel().getMinSelectionIndex();
+    }
+
+    /**
+     * Returns the highest selected view row, or -1 if none are selected.
+     *
+     * @return The highest selected view row, or -1 if none are selected
+     *
+     * @since 1.0
+     */
+    public final int getMaxSelectedRow() {
+        return getSelectionModel().getMaxSelectionIndex();
+    }
+
+    ///////////////////// JTable method overrides ////////////////////////////
+
+    /**
+     * Returns the indices of all selected view rows, in ascending order.
+     * <p>
+     * This takes the snapshot straight from the selection model's bit set when
+     * available, rather than testing every index between the minimum and
+     * maximum selected rows.
+     *
+     * @return The indices of all selected view rows, in ascending order
+     *
+     * @since 1.0
+     */
+    @Override
+    public int[] getSelectedRows() {
+        final ListSelectionModel selectionModel = getSelectionModel();
+        if ( selectionModel instanceof BitSetListSelectionModel ) {
+            return ( ( BitSetListSelectionModel ) selectionModel ).getSelectedIndices();
+        }
+
+        return super.getSelectedRows();
+    }
+
+    /**
+     * Returns the number of selected view rows, in constant time when the
+     * selection model keeps a running count.
+     *
+     * @return The number of selected view rows
+     *
+     * @since 1.0
+     */
+    @Override
+    public int getSelectedRowCount() {
+        final ListSelectionModel selectionModel = getSelectionModel();
+        if ( selectionModel instanceof BitSetListSelectionModel ) {
+            return ( ( BitSetListSelectionModel ) selectionModel ).getSelectedCount();
+        }
+
+        return super.getSelectedRowCount();
+    }
+
+    /**
+     * Sets the data model for this table, and moves the dirty cell tracker (if
+     * any) over to it, so that it stops tracking the replaced model.
+     *
+     * @param dataModel
+     *            The new data source for this table
+     *
+     * @since 1.0
+     */
+    @Override
+    public void setModel( final TableModel dataModel ) {
+        super.setModel( dataModel );
+
+        // This is also called from the superclass constructor, before the
+        // tracker is set.
+        if ( dirtyCellTracker != null ) {
+            dirtyCellTracker.setTableModel( dataModel );
+        }
+    }
+
+    /**
+     * Sets the value for the cell in the table model at {@code row} and
+     * {@code column}, and marks the cell as dirty so that a subsequent commit
+     * of the view to the data can skip all of the cells that weren't edited.
+     *
+     * @param value
+     *            The new value
+     * @param row
+     *            The view row of the cell to be changed
+     * @param column
+     *            The view column of the cell to be changed
+     *
+     * @since 1.0
+     */
+    @Override
+    public void setValueAt( final Object value, final int row, final int column ) {
+        super.setValueAt( value, row, column );
+        markDirtyCell( row, column );
+    }
+
+    /**
+     * Prepares the renderer by querying the table model for the value and
+     * selection state of the cell at {@code row} and {@code column}.
+     * <p>
+     * Numeric cells of a {@link ColumnStoreTableModel} that are rendered by a
+     * plain {@link NumberCellRenderer} (not a subclass) are read and formatted
+     * as primitive doubles, so that repainting them allocates no boxed values.
+     *
+     * @param renderer
+     *            The {@link TableCellRenderer} to prepare
+     * @param row
+     *            The view row of the cell to render
+     * @param column
+     *            The view column of the cell to render
+     * @return The {@link Component} under the event location
+     *
+     * @since 1.0
+     */
+    @Override
+    public Component prepareRenderer( final TableCellRenderer renderer,
+                                      final int row,
+                                      final int column ) {
+        final TableModel tableModel = getModel();
+        // Subclasses of the renderer may customize getTableCellRendererComponent,
+        // which the primitive path would bypass, so only the exact class is
+        // eligible.
+        if ( ( renderer == null ) || ( renderer.getClass() != NumberCellRenderer.class )
+                || !( tableModel instanceof ColumnStoreTableModel ) ) {
+            return super.prepareRenderer( renderer, row, column );
+        }
+
+        final int modelColumn = convertColumnIndexToModel( column );
+        final ColumnStoreTableModel columnStoreTableModel = ( ColumnStoreTableModel ) tableModel;
+        if ( !columnStoreTableModel.isNumericColumn( modelColumn ) ) {
+            return super.prepareRenderer( renderer, row, column );
+        }
+
+        // Determine the selection state the same way as the superclass does.
+        boolean isSelected = false;
+        boolean hasFocus = false;
+        if ( !isPaintingForPrint() ) {
+            isSelected = isCellSelected( row, column );
+            final boolean rowIsLead = getSelectionModel().getLeadSelectionIndex() == row;
+            final boolean columnIsLead = getColumnModel().getSelectionModel()
+                    .getLeadSelectionIndex() == column;
+            hasFocus = rowIsLead && columnIsLead && isFocusOwner();
+        }
+
+        final double value = columnStoreTableModel.getDoubleAt( convertRowIndexToModel( row ),
+                                                                modelColumn );
+        return ( ( NumberCellRenderer ) renderer ).getNumericCellRendererComponent( this,
+                                                                                    value,
+                                                                                    isSelected,
+                                                                                    hasFocus,
+                                                                                    row,
+                                                                                    column );
+    }
+
     /////////////// ForegroundManager implementation methods /////////////////
 
     /**
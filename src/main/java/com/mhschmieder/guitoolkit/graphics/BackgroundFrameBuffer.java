@@ -0,0 +1,455 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the GuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * GuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/guitoolkit
+ */
+package com.mhschmieder.guitoolkit.graphics;
+
+import java.awt.Color;
+import java.awt.EventQueue;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.image.ImageObserver;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@code BackgroundFrameBuffer} renders frames of off-screen content on a
+ * dedicated render thread, while the Event Dispatch Thread keeps showing the
+ * last completed frame, so that expensive scenes never block input handling.
+ * <p>
+ * Each frame is rendered into a back buffer, which is swapped with the front
+ * buffer atomically once the frame is complete. If further frames are
+ * requested while one is rendering, the frame in progress is still shown once
+ * it completes, so that continuous invalidations never starve the display,
+ * and only the most recently requested frame is rendered next, so the render
+ * thread never falls behind a burst of invalidations.
+ * <p>
+ * Frames are rendered into heap-based buffers, as accelerated buffers can
+ * lose their contents at any time, which is hard to recover from off the
+ * Event Dispatch Thread.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class BackgroundFrameBuffer {
+
+    /**
+     * The shared render thread; a single thread keeps background rendering
+     * from competing with the Event Dispatch Thread for more than one core.
+     */
+    private static final ExecutorService RENDER_EXECUTOR = Executors
+            .newSingleThreadExecutor( runnable -> {
+                final Thread thread = new Thread( runnable, "BackgroundFrameBuffer" ); //$NON-NLS-1$
+                thread.setDaemon( true );
+                return thread;
+            } );
+
+    /**
+     * The renderer that draws each frame, on the render thread.
+     */
+    private final OffScreenFrameRenderer frameRenderer;
+
+    /**
+     * The action to run on the Event Dispatch Thread whenever a new frame is
+     * swapped in, which usually repaints the component showing the frames.
+     */
+    private final Runnable               frameCompletionAction;
+
+    /**
+     * The lock that guards both frame buffer fields, making swapping the front
+     * buffer atomic with respect to showing it, and making the hand-off of the
+     * back buffer to and from the render thread atomic with respect to
+     * releasing the frames.
+     */
+    private final Object                 frameLock;
+
+    /**
+     * The buffer holding the last completed frame, guarded by the frame lock.
+     */
+    private OffScreenBuffer              frontBuffer;
+
+    /**
+     * The width of the last completed frame, guarded by the frame lock.
+     */
+    private int                          frontWidth;
+
+    /**
+     * The height of the last completed frame, guarded by the frame lock.
+     */
+    private int                          frontHeight;
+
+    /**
+     * The spare buffer that the next frame is rendered into, guarded by the
+     * frame lock; the render thread takes it out of this field while it
+     * renders, so that a buffer is never owned by both it and the pool.
+     */
+    private OffScreenBuffer              backBuffer;
+
+    /**
+     * The most recently requested frame.
+     */
+    private volatile FrameRequest        latestRequest;
+
+    /**
+     * Flag for whether the render thread has been asked to render frames.
+     */
+    private final AtomicBoolean          renderPending;
+
+    /**
+     * Flag for whether this frame buffer has been disposed.
+     */
+    private volatile boolean             disposed;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs a {@code BackgroundFrameBuffer}.
+     *
+     * @param renderer
+     *            The renderer that draws each frame, on the render thread
+     * @param completionAction
+     *            The action to run on the Event Dispatch Thread whenever a new
+     *            frame is swapped in, which usually repaints the component
+     *
+     * @version 1.0
+     */
+    public BackgroundFrameBuffer( final OffScreenFrameRenderer renderer,
+                                  final Runnable completionAction ) {
+        frameRenderer = renderer;
+        frameCompletionAction = completionAction;
+
+        frameLock = new Object();
+        frontBuffer = null;
+        frontWidth = 0;
+        frontHeight = 0;
+        backBuffer = null;
+        latestRequest = null;
+        renderPending = new AtomicBoolean( false );
+        disposed = false;
+    }
+
+    /////////////////////////// Frame methods ////////////////////////////////
+
+    /**
+     * Requests that a new frame be rendered, superseding any frame that was
+     * requested before but hasn't started rendering yet.
+     * <p>
+     * This method is normally called on the Event Dispatch Thread, capturing
+     * whatever the frame depends on before handing it to the render thread.
+     *
+     * @param graphicsConfiguration
+     *            The Graphics Configuration of the screen that the frame will
+     *            be shown on
+     * @param width
+     *            The width of the frame, in pixels
+     * @param height
+     *            The height of the frame, in pixels
+     * @param backgroundColor
+     *            The color to clear the frame to before rendering it
+     *
+     * @version 1.0
+     */
+    public void requestFrame( final GraphicsConfiguration graphicsConfiguration,
+                              final int width,
+                              final int height,
+                              final Color backgroundColor ) {
+        if ( disposed || ( graphicsConfiguration == null ) || ( width <= 0 ) || ( height <= 0 ) ) {
+            return;
+        }
+
+        latestRequest = new FrameRequest( graphicsConfiguration, width, height, backgroundColor );
+
+        // Only start the render thread if it isn't already working, as it
+        // always picks up the latest request before it stops.
+        if ( renderPending.compareAndSet( false, true ) ) {
+            RENDER_EXECUTOR.execute( this::renderFrames );
+        }
+    }
+
+    /**
+     * Returns {@code true} if the last completed frame was drawn, or
+     * {@code false} if no frame has completed yet.
+     *
+     * @param graphicsContext
+     *            The Graphics Context to draw the frame to
+     * @param x
+     *            The x-coordinate to draw the frame at
+     * @param y
+     *            The y-coordinate to draw the frame at
+     * @param imageObserver
+     *            The object to notify as more of the image is converted
+     * @return {@code true} if the last completed frame was drawn
+     *
+     * @version 1.0
+     */
+    public boolean drawFrame( final Graphics2D graphicsContext,
+                              final int x,
+                              final int y,
+                              final ImageObserver imageObserver ) {
+        synchronized ( frameLock ) {
+            if ( frontBuffer == null ) {
+                return false;
+            }
+
+            frontBuffer.drawBuffer( graphicsContext,
+                                    x,
+                                    y,
+                                    frontWidth,
+                                    frontHeight,
+                                    imageObserver );
+            return true;
+        }
+    }
+
+    /**
+     * Returns the approximate number of bytes held by the frame buffers.
+     *
+     * @return The approximate number of bytes held by the frame buffers
+     *
+     * @version 1.0
+     */
+    public long getByteSize() {
+        synchronized ( frameLock ) {
+            long byteSize = 0L;
+            if ( frontBuffer != null ) {
+                byteSize += frontBuffer.getByteSize();
+            }
+            if ( backBuffer != null ) {
+                byteSize += backBuffer.getByteSize();
+            }
+            return byteSize;
+        }
+    }
+
+    /**
+     * Returns the frame buffers to the shared pool, such as to save memory
+     * while the frames aren't showing; nothing is drawn until the next
+     * requested frame completes.
+     *
+     * @version 1.0
+     */
+    public void releaseFrames() {
+        synchronized ( frameLock ) {
+            // A frame in progress holds its buffer outside of these fields,
+            // so it is unaffected and simply returns its buffer when done.
+            final OffScreenBufferPool bufferPool = OffScreenBufferPool.getSharedPool();
+            bufferPool.release( frontBuffer );
+            frontBuffer = null;
+            bufferPool.release( backBuffer );
+            backBuffer = null;
+        }
+    }
+
+    /**
+     * Stops rendering frames, and returns the frame buffers to the shared
+     * pool; the frame buffer must not be used again afterwards.
+     *
+     * @version 1.0
+     */
+    public void dispose() {
+        disposed = true;
+
+        releaseFrames();
+    }
+
+    /**
+     * Renders frames until the most recently requested frame has been
+     * swapped in; this runs on the render thread.
+     *
+     * @version 1.0
+     */
+    private void renderFrames() {
+        while ( true ) {
+            final FrameRequest request = latestRequest;
+            if ( disposed ) {
+                releaseBackBuffer();
+                renderPending.set( false );
+                return;
+            }
+
+            if ( renderFrame( request ) ) {
+                EventQueue.invokeLater( frameCompletionAction );
+            }
+
+            // Stop only if no newer frame was requested in the meantime; as a
+            // request that arrives right after this check can't restart us
+            // while we're still flagged as pending, check once more after
+            // clearing the flag.
+            if ( latestRequest == request ) {
+                renderPending.set( false );
+                if ( ( latestRequest == request ) || !renderPending.compareAndSet( false, true ) ) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns {@code true} if the requested frame was rendered and swapped in,
+     * or {@code false} if it failed to render or the frame buffer was disposed;
+     * this runs on the render thread.
+     *
+     * @param request
+     *            The frame to render
+     * @return {@code true} if the frame was swapped in
+     *
+     * @version 1.0
+     */
+    private boolean renderFrame( final FrameRequest request ) {
+        // Take ownership of the spare buffer for the duration of the frame.
+        OffScreenBuffer renderBuffer;
+        synchronized ( frameLock ) {
+            renderBuffer = backBuffer;
+            backBuffer = null;
+        }
+
+        final OffScreenBufferPool bufferPool = OffScreenBufferPool.getSharedPool();
+        if ( ( renderBuffer == null ) || !renderBuffer.fits( request.width, request.height )
+                || !request.graphicsConfiguration
+                        .equals( renderBuffer.getGraphicsConfiguration() ) ) {
+            bufferPool.release( renderBuffer );
+            renderBuffer = bufferPool
+                    .acquire( request.graphicsConfiguration, request.width, request.height, false );
+        }
+
+        boolean frameRendered = false;
+        final Graphics2D graphics2D = renderBuffer.createGraphics();
+        try {
+            graphics2D.setClip( 0, 0, request.width, request.height );
+            graphics2D.setBackground( request.backgroundColor );
+            graphics2D.clearRect( 0, 0, request.width, request.height );
+
+            frameRenderer.renderFrame( graphics2D, request.width, request.height );
+            frameRendered = true;
+        }
+        catch ( final RuntimeException re ) {
+            // Don't let one bad frame kill the shared render thread.
+            re.printStackTrace();
+        }
+        finally {
+            graphics2D.dispose();
+        }
+
+        synchronized ( frameLock ) {
+            // Show the frame even if it was superseded while rendering, as it
+            // is still newer than the front buffer and the newer request is
+            // rendered next; otherwise keep its buffer as the spare unless the
+            // frame buffer was disposed.
+            if ( !frameRendered || disposed ) {
+                if ( ( backBuffer == null ) && !disposed ) {
+                    backBuffer = renderBuffer;
+                }
+                else {
+                    bufferPool.release( renderBuffer );
+                }
+                return false;
+            }
+
+            final OffScreenBuffer previousFrontBuffer = frontBuffer;
+            frontBuffer = renderBuffer;
+            frontWidth = request.width;
+            frontHeight = request.height;
+            if ( backBuffer == null ) {
+                backBuffer = previousFrontBuffer;
+            }
+            else {
+                bufferPool.release( previousFrontBuffer );
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the back buffer to the shared pool; this runs on the render
+     * thread once the frame buffer has been disposed.
+     *
+     * @version 1.0
+     */
+    private void releaseBackBuffer() {
+        synchronized ( frameLock ) {
+            OffScreenBufferPool.getSharedPool().release( backBuffer );
+            backBuffer = null;
+        }
+    }
+
+    /**
+     * A request for a frame, capturing everything that the frame depends on
+     * other than the content drawn by the frame renderer.
+     */
+    private static final class FrameRequest {
+
+        /**
+         * The Graphics Configuration of the screen the frame is shown on.
+         */
+        final GraphicsConfiguration graphicsConfiguration;
+
+        /**
+         * The width of the frame, in pixels.
+         */
+        final int                   width;
+
+        /**
+         * The height of the frame, in pixels.
+         */
+        final int                   height;
+
+        /**
+         * The color to clear the frame to before rendering it.
+         */
+        final Color                 backgroundColor;
+
+        /**
+         * Constructs a {@code FrameRequest}.
+         *
+         * @param configuration
+         *            The Graphics Configuration of the screen the frame is
+         *            shown on
+         * @param frameWidth
+         *            The width of the frame, in pixels
+         * @param frameHeight
+         *            The height of the frame, in pixels
+         * @param frameBackground
+         *            The color to clear the frame to before rendering it
+         */
+        FrameRequest( final GraphicsConfiguration configuration,
+                      final int frameWidth,
+                      final int frameHeight,
+                      final Color frameBackground ) {
+            graphicsConfiguration = configuration;
+            width = frameWidth;
+            height = frameHeight;
+            backgroundColor = frameBackground;
+        }
+
+    }
+
+}
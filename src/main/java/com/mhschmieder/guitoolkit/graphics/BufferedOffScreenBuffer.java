@@ -0,0 +1,179 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the GuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * GuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/guitoolkit
+ */
+package com.mhschmieder.guitoolkit.graphics;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+
+/**
+ * {@code BufferedOffScreenBuffer} is an {@link OffScreenBuffer} whose pixels
+ * live in a {@link BufferedImage} in the Java heap, so that its contents are
+ * never lost. This is the traditional z-buffering approach, and the fallback
+ * when hardware acceleration is unavailable.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class BufferedOffScreenBuffer extends OffScreenBuffer {
+
+    /**
+     * The image that holds the buffer contents.
+     */
+    private final BufferedImage bufferedImage;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs a {@code BufferedOffScreenBuffer} around an existing image.
+     *
+     * @param configuration
+     *            The Graphics Configuration that the image is compatible with
+     * @param image
+     *            The image that holds the buffer contents
+     *
+     * @version 1.0
+     */
+    public BufferedOffScreenBuffer( final GraphicsConfiguration configuration,
+                                    final BufferedImage image ) {
+        // Always call the superclass constructor first!
+        super( configuration, image.getWidth(), image.getHeight(), image.getTransparency() );
+
+        bufferedImage = image;
+    }
+
+    /////////////////////////// Accessor methods /////////////////////////////
+
+    /**
+     * Returns the image that holds the buffer contents.
+     *
+     * @return The image that holds the buffer contents
+     *
+     * @version 1.0
+     */
+    public BufferedImage getBufferedImage() {
+        return bufferedImage;
+    }
+
+    /////////////////// OffScreenBuffer method overrides /////////////////////
+
+    /**
+     * Returns the number of bytes of memory held by the buffer's raster.
+     *
+     * @return The number of bytes of memory held by the buffer's raster
+     *
+     * @version 1.0
+     */
+    @Override
+    public long getByteSize() {
+        return ( ( long ) width * height * bufferedImage.getColorModel().getPixelSize() ) >> 3;
+    }
+
+    /**
+     * Returns {@code true} if the Java 2D pipeline has cached the image in
+     * video memory, which it may do for images that are rarely modified.
+     *
+     * @return {@code true} if the buffer is currently hardware-accelerated
+     *
+     * @version 1.0
+     */
+    @Override
+    public boolean isAccelerated() {
+        return bufferedImage.getCapabilities( null ).isAccelerated();
+    }
+
+    /**
+     * Returns a new Graphics Context for rendering into the buffer; the caller
+     * is responsible for disposing it.
+     *
+     * @return A new Graphics Context for rendering into the buffer
+     *
+     * @version 1.0
+     */
+    @Override
+    public Graphics2D createGraphics() {
+        return bufferedImage.createGraphics();
+    }
+
+    /**
+     * Returns {@code false}, as heap-based buffers never need regenerating due
+     * to external causes.
+     *
+     * @param graphicsConfiguration
+     *            The current Graphics Configuration of the screen that the
+     *            buffer will be shown on, or {@code null} if unknown
+     * @return {@code false}, as heap-based buffers never lose their contents
+     *
+     * @version 1.0
+     */
+    @Override
+    public boolean validate( final GraphicsConfiguration graphicsConfiguration ) {
+        return false;
+    }
+
+    /**
+     * Returns {@code false}, as heap-based buffers never lose their contents.
+     *
+     * @return {@code false}, as heap-based buffers never lose their contents
+     *
+     * @version 1.0
+     */
+    @Override
+    public boolean contentsLost() {
+        return false;
+    }
+
+    /**
+     * Returns the image that holds the buffer contents, for drawing it.
+     *
+     * @return The image that holds the buffer contents
+     *
+     * @version 1.0
+     */
+    @Override
+    protected Image getImage() {
+        return bufferedImage;
+    }
+
+    /**
+     * Releases any cached accelerated copy of the buffer; the heap raster
+     * itself is released once the buffer is no longer referenced.
+     *
+     * @version 1.0
+     */
+    @Override
+    public void flush() {
+        bufferedImage.flush();
+    }
+
+}
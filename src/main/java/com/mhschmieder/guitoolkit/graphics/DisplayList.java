@@ -0,0 +1,408 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the GuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * GuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/guitoolkit
+ */
+package com.mhschmieder.guitoolkit.graphics;
+
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Paint;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.Stroke;
+import java.awt.font.GlyphVector;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * {@code DisplayList} is an immutable recording of the drawing commands issued
+ * to a {@link DisplayListGraphics2D}, which can be replayed any number of times
+ * into other {@link Graphics2D} targets, such as those for vector graphics
+ * file formats, without repeating the (often expensive) painting logic that
+ * produced it.
+ * <p>
+ * The recording is stored compactly as parallel arrays of operation codes and
+ * operands, rather than as one command object per operation. State changes
+ * (transform, clip, paint, etc.) are only recorded when they differ from the
+ * previously recorded state, so redundant state changes are never replayed.
+ * <p>
+ * All transforms and clips are replayed relative to the transform and clip of
+ * the target at the time replay starts, so that a display list can be placed
+ * anywhere within a larger vectorized layout. The graphics state of the target
+ * is left unchanged by replay.
+ * <p>
+ * The bounds of each drawing operation are recorded along with it, so that
+ * replay can skip any drawing that falls entirely outside the target's clip.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class DisplayList {
+
+    /** Operation code for setting the transform, relative to the base. */
+    static final byte        OP_SET_TRANSFORM = 0;
+
+    /** Operation code for setting the clip, relative to the base clip. */
+    static final byte        OP_SET_CLIP      = 1;
+
+    /** Operation code for setting the paint. */
+    static final byte        OP_SET_PAINT     = 2;
+
+    /** Operation code for setting the stroke. */
+    static final byte        OP_SET_STROKE    = 3;
+
+    /** Operation code for setting the font. */
+    static final byte        OP_SET_FONT      = 4;
+
+    /** Operation code for setting the composite. */
+    static final byte        OP_SET_COMPOSITE = 5;
+
+    /** Operation code for setting the rendering hints. */
+    static final byte        OP_SET_HINTS     = 6;
+
+    /** Operation code for setting XOR mode, or paint mode if no color. */
+    static final byte        OP_SET_XOR_MODE  = 7;
+
+    /** Operation code for stroking the outline of a shape. */
+    static final byte        OP_DRAW_SHAPE    = 8;
+
+    /** Operation code for filling the interior of a shape. */
+    static final byte        OP_FILL_SHAPE    = 9;
+
+    /** Operation code for drawing a text string at a location. */
+    static final byte        OP_DRAW_TEXT     = 10;
+
+    /** Operation code for drawing a glyph vector at a location. */
+    static final byte        OP_DRAW_GLYPHS   = 11;
+
+    /** Operation code for drawing an image with an image transform. */
+    static final byte        OP_DRAW_IMAGE    = 12;
+
+    /**
+     * The shared empty display list, for when nothing has been recorded.
+     */
+    public static final DisplayList EMPTY = new DisplayList( new byte[ 0 ],
+                                                             new Object[ 0 ],
+                                                             new float[ 0 ],
+                                                             new float[ 0 ] );
+
+    /**
+     * The operation codes, in recording order.
+     */
+    private final byte[]     operations;
+
+    /**
+     * The object operand of each operation, such as a shape or a font.
+     */
+    private final Object[]   operands;
+
+    /**
+     * The x and y coordinates of each text drawing operation, in recording
+     * order, as a flat array of coordinate pairs.
+     */
+    private final float[]    coordinates;
+
+    /**
+     * The conservative bounds of each drawing operation in the base space of
+     * the recording, as a flat array of (minX, minY, maxX, maxY) tuples.
+     */
+    private final float[]    drawingBounds;
+
+    /**
+     * The number of operations that draw something, as opposed to those that
+     * just change graphics state.
+     */
+    private final int        drawingOperationCount;
+
+    /**
+     * The union of the bounds of all drawing operations, or {@code null} if
+     * nothing is drawn.
+     */
+    private final Rectangle2D bounds;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs a {@code DisplayList} from arrays that are owned exclusively
+     * by this display list from now on; only used by the display list recorder.
+     *
+     * @param displayListOperations
+     *            The operation codes, in recording order
+     * @param displayListOperands
+     *            The object operand of each operation
+     * @param displayListCoordinates
+     *            The text coordinate pairs, in recording order
+     * @param displayListBounds
+     *            The bounds of each drawing operation, in recording order
+     *
+     * @version 1.0
+     */
+    DisplayList( final byte[] displayListOperations,
+                 final Object[] displayListOperands,
+                 final float[] displayListCoordinates,
+                 final float[] displayListBounds ) {
+        operations = displayListOperations;
+        operands = displayListOperands;
+        coordinates = displayListCoordinates;
+        drawingBounds = displayListBounds;
+
+        int drawingOperations = 0;
+        for ( final byte operation : operations ) {
+            if ( operation >= OP_DRAW_SHAPE ) {
+                drawingOperations++;
+            }
+        }
+        drawingOperationCount = drawingOperations;
+
+        float minX = Float.POSITIVE_INFINITY;
+        float minY = Float.POSITIVE_INFINITY;
+        float maxX = Float.NEGATIVE_INFINITY;
+        float maxY = Float.NEGATIVE_INFINITY;
+        for ( int i = 0; i < drawingBounds.length; i += 4 ) {
+            minX = FastMath.min( minX, drawingBounds[ i ] );
+            minY = FastMath.min( minY, drawingBounds[ i + 1 ] );
+            maxX = FastMath.max( maxX, drawingBounds[ i + 2 ] );
+            maxY = FastMath.max( maxY, drawingBounds[ i + 3 ] );
+        }
+        bounds = ( drawingBounds.length > 0 )
+            ? new Rectangle2D.Float( minX, minY, maxX - minX, maxY - minY )
+            : null;
+    }
+
+    ////////////////////////// Accessor methods //////////////////////////////
+
+    /**
+     * Returns the total number of recorded operations, including state changes.
+     *
+     * @return The total number of recorded operations
+     *
+     * @version 1.0
+     */
+    public int getOperationCount() {
+        return operations.length;
+    }
+
+    /**
+     * Returns the number of recorded operations that draw something.
+     *
+     * @return The number of recorded drawing operations
+     *
+     * @version 1.0
+     */
+    public int getDrawingOperationCount() {
+        return drawingOperationCount;
+    }
+
+    /**
+     * Returns {@code true} if this display list draws nothing at all.
+     *
+     * @return {@code true} if this display list draws nothing at all
+     *
+     * @version 1.0
+     */
+    public boolean isEmpty() {
+        return drawingOperationCount == 0;
+    }
+
+    /**
+     * Returns the conservative bounds of everything that is drawn, in the
+     * coordinate space that the display list is replayed relative to.
+     *
+     * @return The bounds of everything that is drawn, or {@code null} if
+     *         nothing is drawn
+     *
+     * @version 1.0
+     */
+    public Rectangle2D getBounds() {
+        return ( bounds != null ) ? ( Rectangle2D ) bounds.clone() : null;
+    }
+
+    ////////////////////////// Replay methods ////////////////////////////////
+
+    /**
+     * Returns {@code true} if the specified drawing operation could be visible
+     * within the specified cull bounds.
+     *
+     * @param drawingIndex
+     *            The index of the drawing operation, among drawing operations
+     * @param cullBounds
+     *            The bounds outside of which nothing is visible, or
+     *            {@code null} if there are no such bounds
+     * @return {@code true} if the drawing operation could be visible
+     *
+     * @version 1.0
+     */
+    private boolean isDrawingVisible( final int drawingIndex, final Rectangle2D cullBounds ) {
+        if ( cullBounds == null ) {
+            return true;
+        }
+
+        final int boundsIndex = drawingIndex << 2;
+        return ( drawingBounds[ boundsIndex + 2 ] >= cullBounds.getMinX() )
+                && ( drawingBounds[ boundsIndex ] <= cullBounds.getMaxX() )
+                && ( drawingBounds[ boundsIndex + 3 ] >= cullBounds.getMinY() )
+                && ( drawingBounds[ boundsIndex + 1 ] <= cullBounds.getMaxY() );
+    }
+
+    /**
+     * Replays all of the recorded operations into the specified graphics
+     * context, relative to its current transform and clip.
+     * <p>
+     * The replay is done on a copy of the graphics context, so that none of
+     * the recorded state changes leak back into the caller's graphics context.
+     *
+     * @param graphicsContext
+     *            The {@link Graphics2D} Graphics Context to replay into
+     *
+     * @version 1.0
+     */
+    public void replay( final Graphics2D graphicsContext ) {
+        if ( operations.length == 0 ) {
+            return;
+        }
+
+        final Graphics2D graphics = ( Graphics2D ) graphicsContext.create();
+        try {
+            replayOperations( graphics );
+        }
+        finally {
+            graphics.dispose();
+        }
+    }
+
+    /**
+     * Replays all of the recorded operations into the specified graphics
+     * context, which is owned by the caller and is modified by the replay.
+     *
+     * @param graphics
+     *            The {@link Graphics2D} Graphics Context to replay into
+     *
+     * @version 1.0
+     */
+    private void replayOperations( final Graphics2D graphics ) {
+        final AffineTransform baseTransform = graphics.getTransform();
+        final Shape baseClip = graphics.getClip();
+
+        // Drawing that is entirely outside the base clip is skipped; recorded
+        // clips only ever narrow the base clip, so it is a safe cull region.
+        final Rectangle2D cullBounds = ( baseClip != null ) ? baseClip.getBounds2D() : null;
+
+        // Keep track of the full transform in effect, as clips are recorded in
+        // the base space and so have to be applied with the base transform.
+        AffineTransform currentTransform = baseTransform;
+        int coordinateIndex = 0;
+        int drawingIndex = 0;
+
+        final int operationCount = operations.length;
+        for ( int i = 0; i < operationCount; i++ ) {
+            final Object operand = operands[ i ];
+            switch ( operations[ i ] ) {
+            case OP_SET_TRANSFORM:
+                currentTransform = new AffineTransform( baseTransform );
+                currentTransform.concatenate( ( AffineTransform ) operand );
+                graphics.setTransform( currentTransform );
+                break;
+            case OP_SET_CLIP:
+                graphics.setTransform( baseTransform );
+                graphics.setClip( baseClip );
+                if ( operand != null ) {
+                    graphics.clip( ( Shape ) operand );
+                }
+                graphics.setTransform( currentTransform );
+                break;
+            case OP_SET_PAINT:
+                graphics.setPaint( ( Paint ) operand );
+                break;
+            case OP_SET_STROKE:
+                graphics.setStroke( ( Stroke ) operand );
+                break;
+            case OP_SET_FONT:
+                graphics.setFont( ( Font ) operand );
+                break;
+            case OP_SET_COMPOSITE:
+                graphics.setComposite( ( Composite ) operand );
+                break;
+            case OP_SET_HINTS:
+                graphics.setRenderingHints( ( RenderingHints ) operand );
+                break;
+            case OP_SET_XOR_MODE:
+                if ( operand != null ) {
+                    graphics.setXORMode( ( Color ) operand );
+                }
+                else {
+                    graphics.setPaintMode();
+                }
+                break;
+            case OP_DRAW_SHAPE:
+                if ( isDrawingVisible( drawingIndex++, cullBounds ) ) {
+                    graphics.draw( ( Shape ) operand );
+                }
+                break;
+            case OP_FILL_SHAPE:
+                if ( isDrawingVisible( drawingIndex++, cullBounds ) ) {
+                    graphics.fill( ( Shape ) operand );
+                }
+                break;
+            case OP_DRAW_TEXT:
+                if ( isDrawingVisible( drawingIndex++, cullBounds ) ) {
+                    graphics.drawString( ( String ) operand,
+                                         coordinates[ coordinateIndex ],
+                                         coordinates[ coordinateIndex + 1 ] );
+                }
+                coordinateIndex += 2;
+                break;
+            case OP_DRAW_GLYPHS:
+                if ( isDrawingVisible( drawingIndex++, cullBounds ) ) {
+                    graphics.drawGlyphVector( ( GlyphVector ) operand,
+                                              coordinates[ coordinateIndex ],
+                                              coordinates[ coordinateIndex + 1 ] );
+                }
+                coordinateIndex += 2;
+                break;
+            case OP_DRAW_IMAGE:
+                if ( isDrawingVisible( drawingIndex++, cullBounds ) ) {
+                    final Object[] imageOperands = ( Object[] ) operand;
+                    graphics.drawImage( ( BufferedImage ) imageOperands[ 0 ],
+                                        ( AffineTransform ) imageOperands[ 1 ],
+                                        null );
+                }
+                break;
+            default:
+                break;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,161 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the GuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * GuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/guitoolkit
+ */
+package com.mhschmieder.guitoolkit.graphics;
+
+import java.awt.Graphics2D;
+import java.util.function.Consumer;
+
+/**
+ * {@code DisplayListCache} holds the most recently recorded
+ * {@link DisplayList} for a vector source, along with the content version and
+ * size of the vector source at the time of recording, so that repeated
+ * vectorization of unchanged content can skip painting and just replay.
+ * <p>
+ * The owner is expected to call {@link #invalidate()} whenever its content
+ * changes, which bumps the content version; changes in size are detected
+ * automatically.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class DisplayListCache {
+
+    /**
+     * The cached display list, or {@code null} if there is none.
+     */
+    private DisplayList displayList;
+
+    /**
+     * The current content version of the vector source, which is bumped on
+     * every invalidation so that recordings in progress can detect it.
+     */
+    private long        contentVersion;
+
+    /**
+     * The content version of the vector source when the display list was
+     * recorded.
+     */
+    private long        recordedContentVersion;
+
+    /**
+     * The width of the vector source when the display list was recorded.
+     */
+    private int         width;
+
+    /**
+     * The height of the vector source when the display list was recorded.
+     */
+    private int         height;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs an empty {@code DisplayListCache}.
+     *
+     * @version 1.0
+     */
+    public DisplayListCache() {
+        displayList = null;
+        contentVersion = 0L;
+    }
+
+    /////////////////////////// Cache methods ////////////////////////////////
+
+    /**
+     * Returns the display list for the current content of the vector source,
+     * recording it first via the supplied painter if the cached one is missing
+     * or stale.
+     * <p>
+     * A recording is only cached if the content was not invalidated while it
+     * was being made, so that it never hides a concurrent content change.
+     *
+     * @param graphicsContext
+     *            The {@link Graphics2D} Graphics Context that the display list
+     *            is intended for, used for the initial graphics state
+     * @param currentWidth
+     *            The current width of the vector source
+     * @param currentHeight
+     *            The current height of the vector source
+     * @param painter
+     *            The painter that renders the content of the vector source
+     * @return The display list for the current content of the vector source
+     *
+     * @version 1.0
+     */
+    public DisplayList getDisplayList( final Graphics2D graphicsContext,
+                                       final int currentWidth,
+                                       final int currentHeight,
+                                       final Consumer< Graphics2D > painter ) {
+        // Capture the version before painting, so that any invalidation made
+        // during recording marks the new recording as stale.
+        final long currentContentVersion;
+        synchronized ( this ) {
+            if ( ( displayList != null ) && ( recordedContentVersion == contentVersion )
+                    && ( width == currentWidth ) && ( height == currentHeight ) ) {
+                return displayList;
+            }
+            currentContentVersion = contentVersion;
+        }
+
+        final DisplayListGraphics2D recorder = new DisplayListGraphics2D( graphicsContext );
+        try {
+            painter.accept( recorder );
+        }
+        finally {
+            recorder.dispose();
+        }
+        final DisplayList newDisplayList = recorder.getDisplayList();
+
+        synchronized ( this ) {
+            if ( currentContentVersion == contentVersion ) {
+                displayList = newDisplayList;
+                recordedContentVersion = currentContentVersion;
+                width = currentWidth;
+                height = currentHeight;
+            }
+        }
+
+        return newDisplayList;
+    }
+
+    /**
+     * Discards the cached display list and bumps the content version, so that
+     * the next request records anew.
+     *
+     * @version 1.0
+     */
+    public synchronized void invalidate() {
+        contentVersion++;
+        displayList = null;
+    }
+
+}
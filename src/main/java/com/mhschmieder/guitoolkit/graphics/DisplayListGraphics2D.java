@@ -0,0 +1,536 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the GuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * GuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/guitoolkit
+ */
+package com.mhschmieder.guitoolkit.graphics;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Font;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Paint;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.Stroke;
+import java.awt.font.GlyphVector;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Line2D;
+import java.awt.geom.Path2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.geom.RectangularShape;
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+import java.util.Arrays;
+
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * {@code DisplayListGraphics2D} is a {@link Graphics2D} implementation that
+ * records all drawing into a {@link DisplayList} instead of rasterizing it, so
+ * that expensive painting logic can be run once and its output then replayed
+ * into any number of other graphics contexts.
+ * <p>
+ * All graphics contexts derived from a recorder via {@link #create()} share
+ * the same recording, and each drawing command is preceded by just those state
+ * changes that differ from the last state that was recorded, so interleaved
+ * drawing from parent and child graphics contexts is recorded correctly.
+ * <p>
+ * Shapes and images supplied by the caller are copied when recorded, as they
+ * might be modified after they are drawn, but fonts, paints, strokes and glyph
+ * vectors are treated as immutable, as they are throughout Java2D in practice.
+ * <p>
+ * The conservative device space bounds of each drawing command are recorded
+ * too, so that replay can cull drawing that is outside the target's clip.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public class DisplayListGraphics2D extends StatefulGraphics2D {
+
+    /**
+     * The recording that is shared by this graphics context and all graphics
+     * contexts that were created from it.
+     */
+    private final Recording recording;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs a {@code DisplayListGraphics2D} with the default graphics
+     * state and an empty recording.
+     *
+     * @version 1.0
+     */
+    public DisplayListGraphics2D() {
+        // Always call the superclass constructor first!
+        super();
+
+        recording = new Recording();
+    }
+
+    /**
+     * Constructs a {@code DisplayListGraphics2D} with an empty recording, whose
+     * initial paint, stroke, font, composite, background and rendering hints
+     * match those of another graphics context. This is important for painting
+     * code that queries the graphics context, such as for font metrics.
+     *
+     * @param graphicsContext
+     *            The graphics context to copy the initial graphics state from
+     *
+     * @version 1.0
+     */
+    public DisplayListGraphics2D( final Graphics2D graphicsContext ) {
+        // Always call the superclass constructor first!
+        super( graphicsContext );
+
+        recording = new Recording();
+    }
+
+    /**
+     * Constructs a {@code DisplayListGraphics2D} that copies the graphics state
+     * of another one, and records into the same display list.
+     *
+     * @param parent
+     *            The graphics context that this one is created from
+     *
+     * @version 1.0
+     */
+    protected DisplayListGraphics2D( final DisplayListGraphics2D parent ) {
+        // Always call the superclass constructor first!
+        super( parent );
+
+        recording = parent.recording;
+    }
+
+    /////////////////////// Display list methods /////////////////////////////
+
+    /**
+     * Returns an immutable snapshot of everything that has been recorded so far
+     * by this graphics context and by all graphics contexts that share its
+     * recording. Recording can continue afterwards without affecting it.
+     *
+     * @return An immutable snapshot of the recorded display list
+     *
+     * @version 1.0
+     */
+    public DisplayList getDisplayList() {
+        return recording.toDisplayList();
+    }
+
+    /**
+     * Records whatever parts of the current graphics state differ from the
+     * last recorded state, so that the next drawing command replays correctly.
+     *
+     * @version 1.0
+     */
+    private void recordStateChanges() {
+        final Recording rec = recording;
+
+        // The clip is stored in device space, and so is independent of the
+        // transform. Clips are replaced rather than modified, so identity is
+        // enough to detect changes, which avoids expensive shape comparisons.
+        if ( !rec.clipRecorded || ( rec.clip != deviceClip ) ) {
+            rec.clip = deviceClip;
+            rec.clipRecorded = true;
+            rec.add( DisplayList.OP_SET_CLIP, deviceClip );
+        }
+        if ( !transform.equals( rec.transform ) ) {
+            rec.transform = new AffineTransform( transform );
+            rec.add( DisplayList.OP_SET_TRANSFORM, rec.transform );
+        }
+        if ( !paint.equals( rec.paint ) ) {
+            rec.paint = paint;
+            rec.add( DisplayList.OP_SET_PAINT, paint );
+        }
+        if ( !stroke.equals( rec.stroke ) ) {
+            rec.stroke = stroke;
+            rec.add( DisplayList.OP_SET_STROKE, stroke );
+        }
+        if ( !font.equals( rec.font ) ) {
+            rec.font = font;
+            rec.add( DisplayList.OP_SET_FONT, font );
+        }
+        if ( !composite.equals( rec.composite ) ) {
+            rec.composite = composite;
+            rec.add( DisplayList.OP_SET_COMPOSITE, composite );
+        }
+        if ( !hints.equals( rec.hints ) ) {
+            rec.hints = hints;
+            rec.add( DisplayList.OP_SET_HINTS, hints );
+        }
+        if ( !rec.xorColorRecorded
+                || ( ( xorColor != null ) ? !xorColor.equals( rec.xorColor )
+                                          : ( rec.xorColor != null ) ) ) {
+            rec.xorColor = xorColor;
+            rec.xorColorRecorded = true;
+            rec.add( DisplayList.OP_SET_XOR_MODE, xorColor );
+        }
+    }
+
+    /**
+     * Returns the distance that stroking a shape can extend past its bounds,
+     * in user space, with the current stroke.
+     *
+     * @param shape
+     *            The shape to be stroked
+     * @return The distance that stroking can extend past the shape's bounds
+     *
+     * @version 1.0
+     */
+    private double getStrokePadding( final Shape shape ) {
+        if ( stroke instanceof BasicStroke ) {
+            // Miter joins can extend past the outline by up to half the line
+            // width times the miter limit.
+            final BasicStroke basicStroke = ( BasicStroke ) stroke;
+            final double halfWidth = 0.5d * FastMath.max( 1f, basicStroke.getLineWidth() );
+            return ( basicStroke.getLineJoin() == BasicStroke.JOIN_MITER )
+                ? halfWidth * FastMath.max( 1f, basicStroke.getMiterLimit() )
+                : halfWidth;
+        }
+
+        final Rectangle2D shapeBounds = shape.getBounds2D();
+        final Rectangle2D strokedBounds = stroke.createStrokedShape( shape ).getBounds2D();
+        return FastMath.max( FastMath.max( shapeBounds.getMinX() - strokedBounds.getMinX(),
+                                           shapeBounds.getMinY() - strokedBounds.getMinY() ),
+                             FastMath.max( strokedBounds.getMaxX() - shapeBounds.getMaxX(),
+                                           strokedBounds.getMaxY() - shapeBounds.getMaxY() ) );
+    }
+
+    /**
+     * Returns the device space bounds of a drawing command, from its user
+     * space bounds and padding, clipped to the current device clip.
+     *
+     * @param userBounds
+     *            The bounds of the drawing command in user space
+     * @param padding
+     *            The distance to grow the user space bounds by on all sides
+     * @return The device space bounds of the drawing command, or {@code null}
+     *         if it is entirely outside the current clip and need not be
+     *         recorded at all
+     *
+     * @version 1.0
+     */
+    private Rectangle2D getDeviceBounds( final Rectangle2D userBounds, final double padding ) {
+        final Rectangle2D paddedBounds = new Rectangle2D.Double( userBounds.getX() - padding,
+                                                                 userBounds.getY() - padding,
+                                                                 userBounds.getWidth()
+                                                                         + ( 2d * padding ),
+                                                                 userBounds.getHeight()
+                                                                         + ( 2d * padding ) );
+        final Rectangle2D deviceBounds = transform.isIdentity()
+            ? paddedBounds
+            : transform.createTransformedShape( paddedBounds ).getBounds2D();
+        if ( deviceClip != null ) {
+            final Rectangle2D clipBounds = deviceClip.getBounds2D();
+            if ( !clipBounds.intersects( deviceBounds ) ) {
+                return null;
+            }
+            Rectangle2D.intersect( deviceBounds, clipBounds, deviceBounds );
+        }
+        return deviceBounds;
+    }
+
+    /**
+     * Returns a private copy of a shape, preserving its type where possible
+     * so that replay targets can still recognize rectangles, lines, etc.
+     *
+     * @param shape
+     *            The shape to copy
+     * @return A private copy of the shape
+     *
+     * @version 1.0
+     */
+    private static Shape copyShape( final Shape shape ) {
+        if ( shape instanceof RectangularShape ) {
+            return ( Shape ) ( ( RectangularShape ) shape ).clone();
+        }
+        if ( shape instanceof Line2D ) {
+            return ( Shape ) ( ( Line2D ) shape ).clone();
+        }
+        if ( shape instanceof Path2D.Float ) {
+            return new Path2D.Float( shape );
+        }
+        return new Path2D.Double( shape );
+    }
+
+    /**
+     * Returns a private copy of an image, so that later changes to the
+     * caller's image do not affect the recording.
+     *
+     * @param image
+     *            The image to copy
+     * @return A private copy of the image
+     *
+     * @version 1.0
+     */
+    private static BufferedImage copyImage( final BufferedImage image ) {
+        final ColorModel colorModel = image.getColorModel();
+        return new BufferedImage( colorModel,
+                                  image.copyData( null ),
+                                  colorModel.isAlphaPremultiplied(),
+                                  null );
+    }
+
+    //////////////////////// Primitive drawing methods ///////////////////////
+
+    @Override
+    protected void drawShape( final Shape shape, final boolean shapeIsShared ) {
+        if ( shape == null ) {
+            return;
+        }
+
+        final Rectangle2D deviceBounds = getDeviceBounds( shape.getBounds2D(),
+                                                          getStrokePadding( shape ) );
+        if ( deviceBounds == null ) {
+            return;
+        }
+
+        recordStateChanges();
+        recording.addBounds( deviceBounds );
+        recording.add( DisplayList.OP_DRAW_SHAPE, shapeIsShared ? copyShape( shape ) : shape );
+    }
+
+    @Override
+    protected void fillShape( final Shape shape, final boolean shapeIsShared ) {
+        if ( shape == null ) {
+            return;
+        }
+
+        final Rectangle2D deviceBounds = getDeviceBounds( shape.getBounds2D(), 0d );
+        if ( deviceBounds == null ) {
+            return;
+        }
+
+        recordStateChanges();
+        recording.addBounds( deviceBounds );
+        recording.add( DisplayList.OP_FILL_SHAPE, shapeIsShared ? copyShape( shape ) : shape );
+    }
+
+    @Override
+    protected void drawText( final String text, final float x, final float y ) {
+        if ( ( text == null ) || text.isEmpty() ) {
+            return;
+        }
+
+        // Italic and other overhanging glyphs can extend past the logical
+        // bounds, so those are padded by a fraction of the font size.
+        final Rectangle2D textBounds = font.getStringBounds( text, getFontRenderContext() );
+        textBounds.setRect( x + textBounds.getX(),
+                            y + textBounds.getY(),
+                            textBounds.getWidth(),
+                            textBounds.getHeight() );
+        final Rectangle2D deviceBounds = getDeviceBounds( textBounds, 0.5d * font.getSize2D() );
+        if ( deviceBounds == null ) {
+            return;
+        }
+
+        recordStateChanges();
+        recording.addBounds( deviceBounds );
+        recording.add( DisplayList.OP_DRAW_TEXT, text, x, y );
+    }
+
+    @Override
+    protected void drawGlyphs( final GlyphVector glyphVector, final float x, final float y ) {
+        if ( glyphVector == null ) {
+            return;
+        }
+
+        final Rectangle2D glyphBounds = glyphVector.getVisualBounds();
+        glyphBounds.setRect( x + glyphBounds.getX(),
+                             y + glyphBounds.getY(),
+                             glyphBounds.getWidth(),
+                             glyphBounds.getHeight() );
+        final Rectangle2D deviceBounds = getDeviceBounds( glyphBounds, 1d );
+        if ( deviceBounds == null ) {
+            return;
+        }
+
+        recordStateChanges();
+        recording.addBounds( deviceBounds );
+        recording.add( DisplayList.OP_DRAW_GLYPHS, glyphVector, x, y );
+    }
+
+    @Override
+    protected void drawBufferedImage( final BufferedImage image,
+                                      final AffineTransform imageTransform ) {
+        if ( image == null ) {
+            return;
+        }
+
+        final Rectangle2D imageBounds = imageTransform
+                .createTransformedShape( new Rectangle2D.Double( 0d,
+                                                                 0d,
+                                                                 image.getWidth(),
+                                                                 image.getHeight() ) )
+                .getBounds2D();
+        final Rectangle2D deviceBounds = getDeviceBounds( imageBounds, 0d );
+        if ( deviceBounds == null ) {
+            return;
+        }
+
+        recordStateChanges();
+        recording.addBounds( deviceBounds );
+        recording.add( DisplayList.OP_DRAW_IMAGE,
+                       new Object[] { copyImage( image ), imageTransform } );
+    }
+
+    /////////////////////// Graphics context methods /////////////////////////
+
+    @Override
+    public Graphics create() {
+        return new DisplayListGraphics2D( this );
+    }
+
+    @Override
+    public void dispose() {
+        // There are no native resources to release, and the shared recording
+        // must stay intact for the other graphics contexts that use it.
+    }
+
+    /**
+     * {@code Recording} holds the growable operation buffers for a display
+     * list, along with the last graphics state that was recorded into them.
+     */
+    private static final class Recording {
+
+        /**
+         * The initial capacity of the operation buffers.
+         */
+        private static final int INITIAL_CAPACITY = 256;
+
+        /** The recorded operation codes. */
+        private byte[]           operations       = new byte[ INITIAL_CAPACITY ];
+
+        /** The recorded object operands. */
+        private Object[]         operands         = new Object[ INITIAL_CAPACITY ];
+
+        /** The recorded text coordinate pairs. */
+        private float[]          coordinates      = new float[ INITIAL_CAPACITY ];
+
+        /** The number of recorded operations. */
+        private int              operationCount;
+
+        /** The number of recorded text coordinates. */
+        private int              coordinateCount;
+
+        /** The last recorded transform. */
+        private AffineTransform  transform;
+
+        /** The last recorded device space clip. */
+        private Shape            clip;
+
+        /** Whether any clip has been recorded yet, as {@code null} is valid. */
+        private boolean          clipRecorded;
+
+        /** The last recorded paint. */
+        private Paint            paint;
+
+        /** The last recorded stroke. */
+        private Stroke           stroke;
+
+        /** The last recorded font. */
+        private Font             font;
+
+        /** The last recorded composite. */
+        private Composite        composite;
+
+        /** The last recorded rendering hints. */
+        private RenderingHints   hints;
+
+        /** The last recorded XOR mode color. */
+        private Color            xorColor;
+
+        /** The recorded drawing bounds, as (minX, minY, maxX, maxY) tuples. */
+        private float[]          drawingBounds    = new float[ INITIAL_CAPACITY ];
+
+        /** The number of recorded drawing bounds values. */
+        private int              drawingBoundsCount;
+
+        /** Whether any XOR mode has been recorded yet, as {@code null} is valid. */
+        private boolean          xorColorRecorded;
+
+        /**
+         * Appends an operation and its object operand, growing as needed.
+         */
+        void add( final byte operation, final Object operand ) {
+            if ( operationCount == operations.length ) {
+                final int capacity = operationCount << 1;
+                operations = Arrays.copyOf( operations, capacity );
+                operands = Arrays.copyOf( operands, capacity );
+            }
+            operations[ operationCount ] = operation;
+            operands[ operationCount ] = operand;
+            operationCount++;
+        }
+
+        /**
+         * Appends an operation with an object operand and a coordinate pair.
+         */
+        void add( final byte operation, final Object operand, final float x, final float y ) {
+            if ( ( coordinateCount + 2 ) > coordinates.length ) {
+                coordinates = Arrays.copyOf( coordinates, coordinates.length << 1 );
+            }
+            coordinates[ coordinateCount++ ] = x;
+            coordinates[ coordinateCount++ ] = y;
+            add( operation, operand );
+        }
+
+        /**
+         * Appends the device space bounds of a drawing operation, rounded
+         * outwards to float precision.
+         */
+        void addBounds( final Rectangle2D bounds ) {
+            if ( ( drawingBoundsCount + 4 ) > drawingBounds.length ) {
+                drawingBounds = Arrays.copyOf( drawingBounds, drawingBounds.length << 1 );
+            }
+            drawingBounds[ drawingBoundsCount++ ] = Math.nextDown( ( float ) bounds.getMinX() );
+            drawingBounds[ drawingBoundsCount++ ] = Math.nextDown( ( float ) bounds.getMinY() );
+            drawingBounds[ drawingBoundsCount++ ] = Math.nextUp( ( float ) bounds.getMaxX() );
+            drawingBounds[ drawingBoundsCount++ ] = Math.nextUp( ( float ) bounds.getMaxY() );
+        }
+
+        /**
+         * Returns an immutable, right-sized snapshot of the recording.
+         */
+        DisplayList toDisplayList() {
+            if ( operationCount == 0 ) {
+                return DisplayList.EMPTY;
+            }
+            return new DisplayList( Arrays.copyOf( operations, operationCount ),
+                                    Arrays.copyOf( operands, operationCount ),
+                                    Arrays.copyOf( coordinates, coordinateCount ),
+                                    Arrays.copyOf( drawingBounds, drawingBoundsCount ) );
+        }
+
+    }
+
+}
@@ -0,0 +1,406 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the GuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * GuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/guitoolkit
+ */
+package com.mhschmieder.guitoolkit.graphics;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.awt.image.ImageObserver;
+import java.awt.image.VolatileImage;
+
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * {@code OffScreenBuffer} is the abstract base class for the off-screen images
+ * that back z-buffered rendering, hiding whether the pixels live in a
+ * {@code BufferedImage} in the Java heap or in a hardware-accelerated
+ * {@link VolatileImage}.
+ * <p>
+ * Accelerated buffers can lose their contents at any time, such as when the
+ * display mode changes or another application takes over the video memory, so
+ * clients must call {@link #validate} before rendering to or showing a buffer,
+ * and must check {@link #contentsLost} after showing it; in either case a
+ * {@code true} result means the buffer has to be fully regenerated.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public abstract class OffScreenBuffer {
+
+    /**
+     * The number of bytes per pixel to assume for buffers whose storage isn't
+     * directly visible, such as those in video memory.
+     */
+    protected static final int      BYTES_PER_PIXEL = 4;
+
+    /**
+     * The width of the buffer, in pixels.
+     */
+    protected final int             width;
+
+    /**
+     * The height of the buffer, in pixels.
+     */
+    protected final int             height;
+
+    /**
+     * The transparency of the buffer, as one of the {@link Transparency}
+     * constants.
+     */
+    protected final int             transparency;
+
+    /**
+     * The Graphics Configuration that the buffer is compatible with.
+     */
+    protected GraphicsConfiguration graphicsConfiguration;
+
+    /**
+     * Flag for whether a hardware-accelerated buffer was requested when this
+     * buffer was created, even if acceleration turned out to be unavailable.
+     */
+    private boolean                 accelerationRequested;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs an {@code OffScreenBuffer}; only accessible to derived
+     * classes.
+     *
+     * @param configuration
+     *            The Graphics Configuration that the buffer is compatible with
+     * @param bufferWidth
+     *            The width of the buffer, in pixels
+     * @param bufferHeight
+     *            The height of the buffer, in pixels
+     * @param bufferTransparency
+     *            The transparency of the buffer, as one of the
+     *            {@link Transparency} constants
+     *
+     * @version 1.0
+     */
+    protected OffScreenBuffer( final GraphicsConfiguration configuration,
+                               final int bufferWidth,
+                               final int bufferHeight,
+                               final int bufferTransparency ) {
+        graphicsConfiguration = configuration;
+        width = bufferWidth;
+        height = bufferHeight;
+        transparency = bufferTransparency;
+        accelerationRequested = false;
+    }
+
+    ////////////////////////// Factory methods ///////////////////////////////
+
+    /**
+     * Returns a new opaque off-screen buffer that is compatible with the
+     * specified Graphics Configuration, using a hardware-accelerated
+     * {@link VolatileImage} if requested and available, and otherwise a
+     * compatible {@code BufferedImage}.
+     *
+     * @param graphicsConfiguration
+     *            The Graphics Configuration of the screen that the buffer will
+     *            be shown on
+     * @param bufferWidth
+     *            The width of the buffer, in pixels
+     * @param bufferHeight
+     *            The height of the buffer, in pixels
+     * @param preferAccelerated
+     *            {@code true} to use a hardware-accelerated buffer if possible
+     * @return A new off-screen buffer, or {@code null} if there is no Graphics
+     *         Configuration (such as for a component that isn't displayable)
+     *         or the requested size is empty
+     *
+     * @version 1.0
+     */
+    public static OffScreenBuffer createOffScreenBuffer( final GraphicsConfiguration graphicsConfiguration,
+                                                         final int bufferWidth,
+                                                         final int bufferHeight,
+                                                         final boolean preferAccelerated ) {
+        return createOffScreenBuffer( graphicsConfiguration,
+                                      bufferWidth,
+                                      bufferHeight,
+                                      preferAccelerated,
+                                      Transparency.OPAQUE );
+    }
+
+    /**
+     * Returns a new off-screen buffer of the specified transparency that is
+     * compatible with the specified Graphics Configuration, using a
+     * hardware-accelerated {@link VolatileImage} if requested and available,
+     * and otherwise a compatible {@code BufferedImage}.
+     *
+     * @param graphicsConfiguration
+     *            The Graphics Configuration of the screen that the buffer will
+     *            be shown on
+     * @param bufferWidth
+     *            The width of the buffer, in pixels
+     * @param bufferHeight
+     *            The height of the buffer, in pixels
+     * @param preferAccelerated
+     *            {@code true} to use a hardware-accelerated buffer if possible
+     * @param bufferTransparency
+     *            The transparency of the buffer, as one of the
+     *            {@link Transparency} constants
+     * @return A new off-screen buffer, or {@code null} if there is no Graphics
+     *         Configuration (such as for a component that isn't displayable)
+     *         or the requested size is empty
+     *
+     * @version 1.0
+     */
+    public static OffScreenBuffer createOffScreenBuffer( final GraphicsConfiguration graphicsConfiguration,
+                                                         final int bufferWidth,
+                                                         final int bufferHeight,
+                                                         final boolean preferAccelerated,
+                                                         final int bufferTransparency ) {
+        if ( ( graphicsConfiguration == null ) || ( bufferWidth <= 0 ) || ( bufferHeight <= 0 ) ) {
+            return null;
+        }
+
+        if ( preferAccelerated ) {
+            final VolatileImage volatileImage = graphicsConfiguration
+                    .createCompatibleVolatileImage( bufferWidth,
+                                                    bufferHeight,
+                                                    bufferTransparency );
+
+            // An unaccelerated volatile image is just a slower buffered image
+            // that can still lose its contents, so it is never worth keeping.
+            if ( ( volatileImage != null ) && volatileImage.getCapabilities().isAccelerated() ) {
+                return new VolatileOffScreenBuffer( graphicsConfiguration, volatileImage );
+            }
+            if ( volatileImage != null ) {
+                volatileImage.flush();
+            }
+        }
+
+        // Remember the requested strategy, so that a pooled fallback buffer
+        // can be reused for later requests of the same strategy.
+        final BufferedImage bufferedImage = graphicsConfiguration
+                .createCompatibleImage( bufferWidth, bufferHeight, bufferTransparency );
+        final OffScreenBuffer bufferedBuffer = new BufferedOffScreenBuffer( graphicsConfiguration,
+                                                                            bufferedImage );
+        bufferedBuffer.accelerationRequested = preferAccelerated;
+
+        return bufferedBuffer;
+    }
+
+    ///////////////////////// Buffer query methods ///////////////////////////
+
+    /**
+     * Returns the width of the buffer.
+     *
+     * @return The width of the buffer, in pixels
+     *
+     * @version 1.0
+     */
+    public final int getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the height of the buffer.
+     *
+     * @return The height of the buffer, in pixels
+     *
+     * @version 1.0
+     */
+    public final int getHeight() {
+        return height;
+    }
+
+    /**
+     * Returns the Graphics Configuration that the buffer is compatible with.
+     *
+     * @return The Graphics Configuration that the buffer is compatible with
+     *
+     * @version 1.0
+     */
+    public final GraphicsConfiguration getGraphicsConfiguration() {
+        return graphicsConfiguration;
+    }
+
+    /**
+     * Returns the transparency of the buffer.
+     *
+     * @return The transparency of the buffer, as one of the
+     *         {@link Transparency} constants
+     *
+     * @version 1.0
+     */
+    public final int getTransparency() {
+        return transparency;
+    }
+
+    /**
+     * Returns the approximate number of bytes of memory held by the buffer.
+     *
+     * @return The approximate number of bytes of memory held by the buffer
+     *
+     * @version 1.0
+     */
+    public long getByteSize() {
+        return ( long ) width * height * BYTES_PER_PIXEL;
+    }
+
+    /**
+     * Returns {@code true} if the buffer is at least as large as the specified
+     * size, so that it can be reused for that size.
+     *
+     * @param minimumWidth
+     *            The minimum width required, in pixels
+     * @param minimumHeight
+     *            The minimum height required, in pixels
+     * @return {@code true} if the buffer is at least as large as the specified
+     *         size
+     *
+     * @version 1.0
+     */
+    public final boolean fits( final int minimumWidth, final int minimumHeight ) {
+        return ( width >= minimumWidth ) && ( height >= minimumHeight );
+    }
+
+    /**
+     * Returns {@code true} if the buffer is currently hardware-accelerated.
+     *
+     * @return {@code true} if the buffer is currently hardware-accelerated
+     *
+     * @version 1.0
+     */
+    public abstract boolean isAccelerated();
+
+    /**
+     * Returns {@code true} if a hardware-accelerated buffer was requested when
+     * this buffer was created, whether or not acceleration was available.
+     *
+     * @return {@code true} if a hardware-accelerated buffer was requested
+     *
+     * @version 1.0
+     */
+    public final boolean isAccelerationRequested() {
+        return accelerationRequested || ( this instanceof VolatileOffScreenBuffer );
+    }
+
+    ///////////////////////// Buffer access methods //////////////////////////
+
+    /**
+     * Returns a new Graphics Context for rendering into the buffer; the caller
+     * is responsible for disposing it.
+     *
+     * @return A new Graphics Context for rendering into the buffer
+     *
+     * @version 1.0
+     */
+    public abstract Graphics2D createGraphics();
+
+    /**
+     * Returns {@code true} if the buffer contents were lost or the buffer had
+     * to be recreated, in which case it has to be fully regenerated before it
+     * is shown.
+     *
+     * @param graphicsConfiguration
+     *            The current Graphics Configuration of the screen that the
+     *            buffer will be shown on, or {@code null} if unknown
+     * @return {@code true} if the buffer has to be fully regenerated
+     *
+     * @version 1.0
+     */
+    public abstract boolean validate( final GraphicsConfiguration graphicsConfiguration );
+
+    /**
+     * Returns {@code true} if the buffer contents were lost since the last
+     * call to {@link #validate}, meaning that whatever was just shown from the
+     * buffer may have been garbage.
+     *
+     * @return {@code true} if the buffer contents were lost
+     *
+     * @version 1.0
+     */
+    public abstract boolean contentsLost();
+
+    /**
+     * Draws the top-left region of the buffer at the specified location of a
+     * Graphics Context; the buffer may be larger than the region in use.
+     *
+     * @param graphicsContext
+     *            The Graphics Context to draw the buffer to
+     * @param x
+     *            The x-coordinate to draw the buffer at
+     * @param y
+     *            The y-coordinate to draw the buffer at
+     * @param regionWidth
+     *            The width of the region of the buffer to draw
+     * @param regionHeight
+     *            The height of the region of the buffer to draw
+     * @param imageObserver
+     *            The object to notify as more of the image is converted
+     *
+     * @version 1.0
+     */
+    public final void drawBuffer( final Graphics2D graphicsContext,
+                                  final int x,
+                                  final int y,
+                                  final int regionWidth,
+                                  final int regionHeight,
+                                  final ImageObserver imageObserver ) {
+        final int sourceWidth = FastMath.min( regionWidth, width );
+        final int sourceHeight = FastMath.min( regionHeight, height );
+        graphicsContext.drawImage( getImage(),
+                                   x,
+                                   y,
+                                   x + sourceWidth,
+                                   y + sourceHeight,
+                                   0,
+                                   0,
+                                   sourceWidth,
+                                   sourceHeight,
+                                   imageObserver );
+    }
+
+    /**
+     * Returns the image that holds the buffer contents, for drawing it.
+     *
+     * @return The image that holds the buffer contents
+     *
+     * @version 1.0
+     */
+    protected abstract Image getImage();
+
+    /**
+     * Releases the resources held by the buffer; the buffer must not be used
+     * again afterwards.
+     *
+     * @version 1.0
+     */
+    public abstract void flush();
+
+}
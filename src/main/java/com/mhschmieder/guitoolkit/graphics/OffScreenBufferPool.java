@@ -0,0 +1,381 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the GuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * GuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/guitoolkit
+ */
+package com.mhschmieder.guitoolkit.graphics;
+
+import java.awt.GraphicsConfiguration;
+import java.awt.Transparency;
+import java.util.Iterator;
+import java.util.LinkedList;
+
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * {@code OffScreenBufferPool} recycles off-screen buffers, so that resizing a
+ * z-buffered component doesn't allocate a fresh full-size raster on every
+ * pixel of movement.
+ * <p>
+ * Buffers are allocated in size steps, so a component that grows slightly
+ * keeps fitting in its current buffer, and released buffers are kept for
+ * reuse by any component on the same screen, up to a memory cap beyond which
+ * the least recently released buffers are discarded.
+ * <p>
+ * All methods are thread-safe.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class OffScreenBufferPool {
+
+    /**
+     * The size step, in pixels, that buffer dimensions are rounded up to.
+     */
+    public static final int                  SIZE_STEP          = 128;
+
+    /**
+     * The default memory cap for released buffers, in bytes.
+     */
+    public static final long                 DEFAULT_MEMORY_CAP = 64L * 1024L * 1024L;
+
+    /**
+     * The largest factor by which a reused buffer's area may exceed the area
+     * that was asked for, so that small components don't tie up huge buffers.
+     */
+    private static final int                 MAXIMUM_AREA_RATIO = 2;
+
+    /**
+     * The shared pool, used by default for all z-buffered components.
+     */
+    private static final OffScreenBufferPool SHARED_POOL        =
+                                                         new OffScreenBufferPool( DEFAULT_MEMORY_CAP );
+
+    /**
+     * The released buffers, from least to most recently released.
+     */
+    private final LinkedList< OffScreenBuffer > releasedBuffers;
+
+    /**
+     * The total number of bytes held by the released buffers.
+     */
+    private long                                releasedByteSize;
+
+    /**
+     * The maximum number of bytes to hold in released buffers.
+     */
+    private long                                memoryCap;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs an empty {@code OffScreenBufferPool}.
+     *
+     * @param maximumByteSize
+     *            The maximum number of bytes to hold in released buffers
+     *
+     * @version 1.0
+     */
+    public OffScreenBufferPool( final long maximumByteSize ) {
+        releasedBuffers = new LinkedList<>();
+        releasedByteSize = 0L;
+        memoryCap = FastMath.max( 0L, maximumByteSize );
+    }
+
+    /**
+     * Returns the shared pool, used by default for all z-buffered components.
+     *
+     * @return The shared pool
+     *
+     * @version 1.0
+     */
+    public static OffScreenBufferPool getSharedPool() {
+        return SHARED_POOL;
+    }
+
+    /**
+     * Returns the specified buffer dimension rounded up to the size step.
+     *
+     * @param size
+     *            The buffer dimension to round up, in pixels
+     * @return The buffer dimension rounded up to the size step
+     *
+     * @version 1.0
+     */
+    public static int getSteppedSize( final int size ) {
+        return ( ( FastMath.max( size, 1 ) + SIZE_STEP - 1 ) / SIZE_STEP ) * SIZE_STEP;
+    }
+
+    /**
+     * Returns {@code true} if the buffer is larger than the stepped size for
+     * the specified dimensions, meaning that it could be shrunk once the size
+     * has settled.
+     *
+     * @param buffer
+     *            The buffer to check
+     * @param usedWidth
+     *            The width of the buffer region in use, in pixels
+     * @param usedHeight
+     *            The height of the buffer region in use, in pixels
+     * @return {@code true} if the buffer is larger than necessary
+     *
+     * @version 1.0
+     */
+    public static boolean isOversized( final OffScreenBuffer buffer,
+                                       final int usedWidth,
+                                       final int usedHeight ) {
+        return ( buffer.getWidth() > getSteppedSize( usedWidth ) )
+                || ( buffer.getHeight() > getSteppedSize( usedHeight ) );
+    }
+
+    ////////////////////////// Pooling methods ///////////////////////////////
+
+    /**
+     * Returns an opaque buffer that is at least as large as the specified
+     * size, reusing a released buffer if a suitable one is available, and
+     * otherwise allocating a new one with its dimensions rounded up to the
+     * size step.
+     *
+     * @param graphicsConfiguration
+     *            The Graphics Configuration of the screen that the buffer will
+     *            be shown on
+     * @param minimumWidth
+     *            The minimum width required, in pixels
+     * @param minimumHeight
+     *            The minimum height required, in pixels
+     * @param preferAccelerated
+     *            {@code true} to use a hardware-accelerated buffer if possible
+     * @return An opaque buffer that is at least as large as the specified
+     *         size, or {@code null} if there is no Graphics Configuration or
+     *         the requested size is empty
+     *
+     * @version 1.0
+     */
+    public OffScreenBuffer acquire( final GraphicsConfiguration graphicsConfiguration,
+                                    final int minimumWidth,
+                                    final int minimumHeight,
+                                    final boolean preferAccelerated ) {
+        return acquire( graphicsConfiguration,
+                        minimumWidth,
+                        minimumHeight,
+                        preferAccelerated,
+                        Transparency.OPAQUE );
+    }
+
+    /**
+     * Returns a buffer of the specified transparency that is at least as large
+     * as the specified size,
+     * reusing a released buffer if a suitable one is available, and otherwise
+     * allocating a new one with its dimensions rounded up to the size step.
+     * <p>
+     * Reused buffers keep whatever contents they had, so they must be fully
+     * regenerated before they are shown.
+     *
+     * @param graphicsConfiguration
+     *            The Graphics Configuration of the screen that the buffer will
+     *            be shown on
+     * @param minimumWidth
+     *            The minimum width required, in pixels
+     * @param minimumHeight
+     *            The minimum height required, in pixels
+     * @param preferAccelerated
+     *            {@code true} to use a hardware-accelerated buffer if possible
+     * @param bufferTransparency
+     *            The transparency of the buffer, as one of the
+     *            {@link Transparency} constants
+     * @return A buffer that is at least as large as the specified size, or
+     *         {@code null} if there is no Graphics Configuration or the
+     *         requested size is empty
+     *
+     * @version 1.0
+     */
+    public OffScreenBuffer acquire( final GraphicsConfiguration graphicsConfiguration,
+                                    final int minimumWidth,
+                                    final int minimumHeight,
+                                    final boolean preferAccelerated,
+                                    final int bufferTransparency ) {
+        if ( ( graphicsConfiguration == null ) || ( minimumWidth <= 0 )
+                || ( minimumHeight <= 0 ) ) {
+            return null;
+        }
+
+        final int steppedWidth = getSteppedSize( minimumWidth );
+        final int steppedHeight = getSteppedSize( minimumHeight );
+        final long maximumArea = ( long ) steppedWidth * steppedHeight * MAXIMUM_AREA_RATIO;
+
+        synchronized ( this ) {
+            // Take the smallest released buffer that fits, to leave the larger
+            // ones for the components that need them.
+            OffScreenBuffer bestBuffer = null;
+            long bestArea = Long.MAX_VALUE;
+            for ( final OffScreenBuffer buffer : releasedBuffers ) {
+                final long area = ( long ) buffer.getWidth() * buffer.getHeight();
+                if ( buffer.fits( minimumWidth, minimumHeight ) && ( area <= maximumArea )
+                        && ( area < bestArea )
+                        && isCompatible( buffer,
+                                         graphicsConfiguration,
+                                         preferAccelerated,
+                                         bufferTransparency ) ) {
+                    bestBuffer = buffer;
+                    bestArea = area;
+                }
+            }
+
+            if ( bestBuffer != null ) {
+                releasedBuffers.remove( bestBuffer );
+                releasedByteSize -= bestBuffer.getByteSize();
+                return bestBuffer;
+            }
+        }
+
+        return OffScreenBuffer.createOffScreenBuffer( graphicsConfiguration,
+                                                      steppedWidth,
+                                                      steppedHeight,
+                                                      preferAccelerated,
+                                                      bufferTransparency );
+    }
+
+    /**
+     * Returns a buffer to the pool for reuse, discarding the least recently
+     * released buffers if this takes the pool over its memory cap.
+     *
+     * @param buffer
+     *            The buffer to release; this may be {@code null}, and must not
+     *            be used by the caller afterwards
+     *
+     * @version 1.0
+     */
+    public synchronized void release( final OffScreenBuffer buffer ) {
+        if ( buffer == null ) {
+            return;
+        }
+
+        releasedBuffers.addLast( buffer );
+        releasedByteSize += buffer.getByteSize();
+
+        trimToMemoryCap();
+    }
+
+    /**
+     * Discards all released buffers.
+     *
+     * @version 1.0
+     */
+    public synchronized void clear() {
+        for ( final OffScreenBuffer buffer : releasedBuffers ) {
+            buffer.flush();
+        }
+        releasedBuffers.clear();
+        releasedByteSize = 0L;
+    }
+
+    /**
+     * Returns the total number of bytes held by the released buffers.
+     *
+     * @return The total number of bytes held by the released buffers
+     *
+     * @version 1.0
+     */
+    public synchronized long getReleasedByteSize() {
+        return releasedByteSize;
+    }
+
+    /**
+     * Returns the maximum number of bytes to hold in released buffers.
+     *
+     * @return The maximum number of bytes to hold in released buffers
+     *
+     * @version 1.0
+     */
+    public synchronized long getMemoryCap() {
+        return memoryCap;
+    }
+
+    /**
+     * Sets the maximum number of bytes to hold in released buffers, discarding
+     * released buffers immediately if the new cap is lower.
+     *
+     * @param maximumByteSize
+     *            The maximum number of bytes to hold in released buffers
+     *
+     * @version 1.0
+     */
+    public synchronized void setMemoryCap( final long maximumByteSize ) {
+        memoryCap = FastMath.max( 0L, maximumByteSize );
+
+        trimToMemoryCap();
+    }
+
+    /**
+     * Discards the least recently released buffers until the pool is within
+     * its memory cap.
+     *
+     * @version 1.0
+     */
+    private void trimToMemoryCap() {
+        final Iterator< OffScreenBuffer > bufferIterator = releasedBuffers.iterator();
+        while ( ( releasedByteSize > memoryCap ) && bufferIterator.hasNext() ) {
+            final OffScreenBuffer buffer = bufferIterator.next();
+            bufferIterator.remove();
+            releasedByteSize -= buffer.getByteSize();
+            buffer.flush();
+        }
+    }
+
+    /**
+     * Returns {@code true} if a released buffer can be reused for the
+     * specified screen and acceleration preference.
+     *
+     * @param buffer
+     *            The released buffer
+     * @param graphicsConfiguration
+     *            The Graphics Configuration of the screen that the buffer will
+     *            be shown on
+     * @param preferAccelerated
+     *            {@code true} if a hardware-accelerated buffer was requested
+     * @param bufferTransparency
+     *            The transparency that was requested
+     * @return {@code true} if the released buffer can be reused
+     *
+     * @version 1.0
+     */
+    private static boolean isCompatible( final OffScreenBuffer buffer,
+                                         final GraphicsConfiguration graphicsConfiguration,
+                                         final boolean preferAccelerated,
+                                         final int bufferTransparency ) {
+        // Match on the strategy that was requested rather than the one that
+        // was obtained, so that heap buffers that stand in for unavailable
+        // acceleration are reused by components that ask for it again, but
+        // are never handed to a component that asked for a heap buffer.
+        return graphicsConfiguration.equals( buffer.getGraphicsConfiguration() )
+                && ( preferAccelerated == buffer.isAccelerationRequested() )
+                && ( bufferTransparency == buffer.getTransparency() );
+    }
+
+}
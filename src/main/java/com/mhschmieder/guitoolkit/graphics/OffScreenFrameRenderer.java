@@ -0,0 +1,67 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the GuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * GuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/guitoolkit
+ */
+package com.mhschmieder.guitoolkit.graphics;
+
+import java.awt.Graphics2D;
+
+/**
+ * {@code OffScreenFrameRenderer} is an interface that establishes the contract
+ * for rendering complete frames of off-screen content away from the Event
+ * Dispatch Thread, such as for a {@link BackgroundFrameBuffer}.
+ * <p>
+ * Implementations are called on a render thread, so they must not touch Swing
+ * components or their models, and should only read state that is either
+ * immutable or safely published, such as a snapshot taken on the Event
+ * Dispatch Thread when the frame was requested. Tiled renderers may also call
+ * them from several threads at once, one per tile being rendered.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public interface OffScreenFrameRenderer {
+
+    /**
+     * Renders a complete frame of off-screen content, into a canvas that has
+     * already been cleared to the background color.
+     *
+     * @param graphicsContext
+     *            The Graphics Context for the frame
+     * @param width
+     *            The width of the frame, in pixels
+     * @param height
+     *            The height of the frame, in pixels
+     *
+     * @version 1.0
+     */
+    void renderFrame( final Graphics2D graphicsContext, final int width, final int height );
+
+}
@@ -0,0 +1,955 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the GuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * GuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/guitoolkit
+ */
+package com.mhschmieder.guitoolkit.graphics;
+
+import java.awt.AlphaComposite;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.Paint;
+import java.awt.Polygon;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.Stroke;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.font.TextLayout;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Arc2D;
+import java.awt.geom.Area;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Line2D;
+import java.awt.geom.NoninvertibleTransformException;
+import java.awt.geom.Path2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.geom.RoundRectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.BufferedImageOp;
+import java.awt.image.ImageObserver;
+import java.awt.image.RenderedImage;
+import java.awt.image.renderable.RenderableImage;
+import java.text.AttributedCharacterIterator;
+import java.util.Map;
+
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * {@code StatefulGraphics2D} is an abstract base class for {@link Graphics2D}
+ * implementations that don't rasterize, such as display list recorders and
+ * vector format writers, which need to track the graphics state themselves.
+ * <p>
+ * All of the graphics state (transform, clip, paint, stroke, font, composite,
+ * background and rendering hints) is tracked here, and all of the many drawing
+ * methods of {@link Graphics} and {@link Graphics2D} are reduced to a handful
+ * of primitive operations for shapes, text and images, which are the only
+ * methods that derived classes need to implement.
+ * <p>
+ * The clip is tracked in the device space of the graphics context, which is
+ * the coordinate space that applies before the current transform, so that it
+ * stays fixed when the transform changes.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public abstract class StatefulGraphics2D extends Graphics2D {
+
+    /**
+     * A scratch graphics context for font metrics and device configuration,
+     * which works even in a headless environment.
+     */
+    private static final Graphics2D SCRATCH_GRAPHICS = new BufferedImage( 1,
+                                                                          1,
+                                                                          BufferedImage.TYPE_INT_ARGB )
+                                                                                  .createGraphics();
+
+    /**
+     * The current transform, from user space to device space.
+     */
+    protected AffineTransform       transform;
+
+    /**
+     * The current clip in device space, or {@code null} if there is no clip.
+     */
+    protected Shape                 deviceClip;
+
+    /**
+     * The current paint.
+     */
+    protected Paint                 paint;
+
+    /**
+     * The current stroke.
+     */
+    protected Stroke                stroke;
+
+    /**
+     * The current font.
+     */
+    protected Font                  font;
+
+    /**
+     * The current composite.
+     */
+    protected Composite             composite;
+
+    /**
+     * The current background color, used for clearing rectangles.
+     */
+    protected Color                 background;
+
+    /**
+     * The XOR mode alternation color, or {@code null} in paint mode.
+     */
+    protected Color                 xorColor;
+
+    /**
+     * The current rendering hints.
+     */
+    protected RenderingHints        hints;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs a {@code StatefulGraphics2D} with the default graphics state.
+     *
+     * @version 1.0
+     */
+    protected StatefulGraphics2D() {
+        // Always call the superclass constructor first!
+        super();
+
+        transform = new AffineTransform();
+        deviceClip = null;
+        paint = Color.BLACK;
+        stroke = new BasicStroke();
+        font = new Font( Font.DIALOG, Font.PLAIN, 12 );
+        composite = AlphaComposite.SrcOver;
+        background = Color.WHITE;
+        xorColor = null;
+        hints = new RenderingHints( null );
+    }
+
+    /**
+     * Constructs a {@code StatefulGraphics2D} that starts with a copy of the
+     * graphics state of another graphics context, except for its transform and
+     * clip, which become the device space of the new graphics context.
+     *
+     * @param graphicsContext
+     *            The graphics context to copy the graphics state from
+     *
+     * @version 1.0
+     */
+    protected StatefulGraphics2D( final Graphics2D graphicsContext ) {
+        this();
+
+        if ( graphicsContext != null ) {
+            paint = graphicsContext.getPaint();
+            stroke = graphicsContext.getStroke();
+            font = graphicsContext.getFont();
+            composite = graphicsContext.getComposite();
+            background = graphicsContext.getBackground();
+            hints = ( RenderingHints ) graphicsContext.getRenderingHints().clone();
+        }
+    }
+
+    /**
+     * Constructs a {@code StatefulGraphics2D} that is an independent copy of
+     * another one, for use when implementing {@link #create()}.
+     *
+     * @param parent
+     *            The graphics context to copy all of the graphics state from
+     *
+     * @version 1.0
+     */
+    protected StatefulGraphics2D( final StatefulGraphics2D parent ) {
+        // Always call the superclass constructor first!
+        super();
+
+        transform = new AffineTransform( parent.transform );
+        deviceClip = parent.deviceClip;
+        paint = parent.paint;
+        stroke = parent.stroke;
+        font = parent.font;
+        composite = parent.composite;
+        background = parent.background;
+        xorColor = parent.xorColor;
+        hints = ( RenderingHints ) parent.hints.clone();
+    }
+
+    //////////////////////// Primitive drawing methods ///////////////////////
+
+    /**
+     * Strokes the outline of a shape, in user space, with the current state.
+     *
+     * @param shape
+     *            The shape to stroke
+     * @param shapeIsShared
+     *            {@code true} if the shape belongs to the caller and may be
+     *            modified later, so must be copied if it is to be retained
+     *
+     * @version 1.0
+     */
+    protected abstract void drawShape( final Shape shape, final boolean shapeIsShared );
+
+    /**
+     * Fills the interior of a shape, in user space, with the current state.
+     *
+     * @param shape
+     *            The shape to fill
+     * @param shapeIsShared
+     *            {@code true} if the shape belongs to the caller and may be
+     *            modified later, so must be copied if it is to be retained
+     *
+     * @version 1.0
+     */
+    protected abstract void fillShape( final Shape shape, final boolean shapeIsShared );
+
+    /**
+     * Draws a text string, in user space, with the current state.
+     *
+     * @param text
+     *            The text string to draw
+     * @param x
+     *            The x-coordinate of the text baseline origin
+     * @param y
+     *            The y-coordinate of the text baseline origin
+     *
+     * @version 1.0
+     */
+    protected abstract void drawText( final String text, final float x, final float y );
+
+    /**
+     * Draws a glyph vector, in user space, with the current state.
+     *
+     * @param glyphVector
+     *            The glyph vector to draw
+     * @param x
+     *            The x-coordinate of the glyph vector origin
+     * @param y
+     *            The y-coordinate of the glyph vector origin
+     *
+     * @version 1.0
+     */
+    protected abstract void drawGlyphs( final GlyphVector glyphVector,
+                                        final float x,
+                                        final float y );
+
+    /**
+     * Draws an image, mapped into user space by an image transform, with the
+     * current state.
+     *
+     * @param image
+     *            The image to draw
+     * @param imageTransform
+     *            The transform from image space to user space
+     *
+     * @version 1.0
+     */
+    protected abstract void drawBufferedImage( final BufferedImage image,
+                                               final AffineTransform imageTransform );
+
+    ////////////////////////// Image helper methods //////////////////////////
+
+    /**
+     * Returns the specified image as a {@link BufferedImage}, rendering it into
+     * a new one if it isn't one already (e.g. for volatile or toolkit images).
+     *
+     * @param image
+     *            The image to convert
+     * @return The image as a {@link BufferedImage}, or {@code null} if the
+     *         image is not yet loaded
+     *
+     * @version 1.0
+     */
+    protected static BufferedImage toBufferedImage( final Image image ) {
+        if ( image instanceof BufferedImage ) {
+            return ( BufferedImage ) image;
+        }
+
+        final int width = image.getWidth( null );
+        final int height = image.getHeight( null );
+        if ( ( width <= 0 ) || ( height <= 0 ) ) {
+            return null;
+        }
+
+        final BufferedImage bufferedImage = new BufferedImage( width,
+                                                               height,
+                                                               BufferedImage.TYPE_INT_ARGB );
+        final Graphics2D graphics = bufferedImage.createGraphics();
+        try {
+            graphics.drawImage( image, 0, 0, null );
+        }
+        finally {
+            graphics.dispose();
+        }
+        return bufferedImage;
+    }
+
+    /**
+     * Returns a new image holding the specified region of an image.
+     *
+     * @param image
+     *            The source image
+     * @param x
+     *            The x-coordinate of the region in the source image
+     * @param y
+     *            The y-coordinate of the region in the source image
+     * @param width
+     *            The width of the region
+     * @param height
+     *            The height of the region
+     * @return A new image holding the specified region, or {@code null} if
+     *         the region is empty
+     *
+     * @version 1.0
+     */
+    private static BufferedImage cropImage( final BufferedImage image,
+                                            final int x,
+                                            final int y,
+                                            final int width,
+                                            final int height ) {
+        final Rectangle region = new Rectangle( x, y, width, height )
+                .intersection( new Rectangle( 0, 0, image.getWidth(), image.getHeight() ) );
+        if ( region.isEmpty() ) {
+            return null;
+        }
+        return image.getSubimage( region.x, region.y, region.width, region.height );
+    }
+
+    /**
+     * Draws an image scaled into a user space rectangle, with an optional
+     * background color.
+     *
+     * @version 1.0
+     */
+    private boolean drawImageScaled( final BufferedImage image,
+                                     final double x,
+                                     final double y,
+                                     final double width,
+                                     final double height,
+                                     final Color backgroundColor ) {
+        if ( image == null ) {
+            return true;
+        }
+
+        if ( backgroundColor != null ) {
+            final Paint savedPaint = paint;
+            paint = backgroundColor;
+            fillShape( new Rectangle2D.Double( x, y, width, height ), false );
+            paint = savedPaint;
+        }
+
+        final AffineTransform imageTransform = new AffineTransform( width / image.getWidth(),
+                                                                    0d,
+                                                                    0d,
+                                                                    height / image.getHeight(),
+                                                                    x,
+                                                                    y );
+        drawBufferedImage( image, imageTransform );
+        return true;
+    }
+
+    ///////////////////////// Graphics state methods /////////////////////////
+
+    @Override
+    public Color getColor() {
+        return ( paint instanceof Color ) ? ( Color ) paint : null;
+    }
+
+    @Override
+    public void setColor( final Color color ) {
+        if ( color != null ) {
+            paint = color;
+        }
+    }
+
+    @Override
+    public void setPaintMode() {
+        xorColor = null;
+    }
+
+    @Override
+    public void setXORMode( final Color color ) {
+        xorColor = color;
+    }
+
+    @Override
+    public Font getFont() {
+        return font;
+    }
+
+    @Override
+    public void setFont( final Font newFont ) {
+        if ( newFont != null ) {
+            font = newFont;
+        }
+    }
+
+    @Override
+    public FontMetrics getFontMetrics( final Font metricsFont ) {
+        synchronized ( SCRATCH_GRAPHICS ) {
+            SCRATCH_GRAPHICS.setRenderingHints( hints );
+            return SCRATCH_GRAPHICS.getFontMetrics( metricsFont );
+        }
+    }
+
+    @Override
+    public Rectangle getClipBounds() {
+        final Shape clip = getClip();
+        return ( clip != null ) ? clip.getBounds() : null;
+    }
+
+    @Override
+    public void clipRect( final int x, final int y, final int width, final int height ) {
+        clip( new Rectangle( x, y, width, height ) );
+    }
+
+    @Override
+    public void setClip( final int x, final int y, final int width, final int height ) {
+        setClip( new Rectangle( x, y, width, height ) );
+    }
+
+    @Override
+    public Shape getClip() {
+        if ( deviceClip == null ) {
+            return null;
+        }
+
+        try {
+            return transform.createInverse().createTransformedShape( deviceClip );
+        }
+        catch ( final NoninvertibleTransformException nte ) {
+            return null;
+        }
+    }
+
+    @Override
+    public void setClip( final Shape clip ) {
+        deviceClip = ( clip != null ) ? transform.createTransformedShape( clip ) : null;
+    }
+
+    @Override
+    public void clip( final Shape clip ) {
+        if ( clip == null ) {
+            deviceClip = null;
+            return;
+        }
+
+        final Shape transformedClip = transform.createTransformedShape( clip );
+        if ( deviceClip == null ) {
+            deviceClip = transformedClip;
+        }
+        else {
+            final Area clipArea = new Area( deviceClip );
+            clipArea.intersect( new Area( transformedClip ) );
+            deviceClip = clipArea;
+        }
+    }
+
+    @Override
+    public GraphicsConfiguration getDeviceConfiguration() {
+        return SCRATCH_GRAPHICS.getDeviceConfiguration();
+    }
+
+    @Override
+    public void setComposite( final Composite newComposite ) {
+        if ( newComposite != null ) {
+            composite = newComposite;
+        }
+    }
+
+    @Override
+    public Composite getComposite() {
+        return composite;
+    }
+
+    @Override
+    public void setPaint( final Paint newPaint ) {
+        if ( newPaint != null ) {
+            paint = newPaint;
+        }
+    }
+
+    @Override
+    public Paint getPaint() {
+        return paint;
+    }
+
+    @Override
+    public void setStroke( final Stroke newStroke ) {
+        if ( newStroke != null ) {
+            stroke = newStroke;
+        }
+    }
+
+    @Override
+    public Stroke getStroke() {
+        return stroke;
+    }
+
+    @Override
+    public void setRenderingHint( final RenderingHints.Key hintKey, final Object hintValue ) {
+        hints = ( RenderingHints ) hints.clone();
+        hints.put( hintKey, hintValue );
+    }
+
+    @Override
+    public Object getRenderingHint( final RenderingHints.Key hintKey ) {
+        return hints.get( hintKey );
+    }
+
+    @Override
+    public void setRenderingHints( final Map< ?, ? > newHints ) {
+        hints = new RenderingHints( null );
+        hints.putAll( newHints );
+    }
+
+    @Override
+    public void addRenderingHints( final Map< ?, ? > newHints ) {
+        hints = ( RenderingHints ) hints.clone();
+        hints.putAll( newHints );
+    }
+
+    @Override
+    public RenderingHints getRenderingHints() {
+        return ( RenderingHints ) hints.clone();
+    }
+
+    @Override
+    public void setBackground( final Color color ) {
+        background = color;
+    }
+
+    @Override
+    public Color getBackground() {
+        return background;
+    }
+
+    @Override
+    public FontRenderContext getFontRenderContext() {
+        final Object antialiasing = hints.get( RenderingHints.KEY_TEXT_ANTIALIASING );
+        final Object fractionalMetrics = hints.get( RenderingHints.KEY_FRACTIONALMETRICS );
+        return new FontRenderContext( new AffineTransform( transform ),
+                                      ( antialiasing != null )
+                                          ? antialiasing
+                                          : RenderingHints.VALUE_TEXT_ANTIALIAS_DEFAULT,
+                                      ( fractionalMetrics != null )
+                                          ? fractionalMetrics
+                                          : RenderingHints.VALUE_FRACTIONALMETRICS_DEFAULT );
+    }
+
+    /////////////////////// Transform state methods //////////////////////////
+
+    @Override
+    public void translate( final int x, final int y ) {
+        transform.translate( x, y );
+    }
+
+    @Override
+    public void translate( final double tx, final double ty ) {
+        transform.translate( tx, ty );
+    }
+
+    @Override
+    public void rotate( final double theta ) {
+        transform.rotate( theta );
+    }
+
+    @Override
+    public void rotate( final double theta, final double x, final double y ) {
+        transform.rotate( theta, x, y );
+    }
+
+    @Override
+    public void scale( final double sx, final double sy ) {
+        transform.scale( sx, sy );
+    }
+
+    @Override
+    public void shear( final double shx, final double shy ) {
+        transform.shear( shx, shy );
+    }
+
+    @Override
+    public void transform( final AffineTransform transformToConcatenate ) {
+        transform.concatenate( transformToConcatenate );
+    }
+
+    @Override
+    public void setTransform( final AffineTransform newTransform ) {
+        transform = new AffineTransform( newTransform );
+    }
+
+    @Override
+    public AffineTransform getTransform() {
+        return new AffineTransform( transform );
+    }
+
+    ///////////////////////// Shape drawing methods //////////////////////////
+
+    @Override
+    public void draw( final Shape shape ) {
+        drawShape( shape, true );
+    }
+
+    @Override
+    public void fill( final Shape shape ) {
+        fillShape( shape, true );
+    }
+
+    @Override
+    public boolean hit( final Rectangle rect, final Shape shape, final boolean onStroke ) {
+        final Shape testShape = onStroke ? stroke.createStrokedShape( shape ) : shape;
+        return transform.createTransformedShape( testShape ).intersects( rect );
+    }
+
+    @Override
+    public void drawLine( final int x1, final int y1, final int x2, final int y2 ) {
+        drawShape( new Line2D.Float( x1, y1, x2, y2 ), false );
+    }
+
+    @Override
+    public void fillRect( final int x, final int y, final int width, final int height ) {
+        fillShape( new Rectangle( x, y, width, height ), false );
+    }
+
+    @Override
+    public void drawRect( final int x, final int y, final int width, final int height ) {
+        drawShape( new Rectangle( x, y, width, height ), false );
+    }
+
+    @Override
+    public void clearRect( final int x, final int y, final int width, final int height ) {
+        final Paint savedPaint = paint;
+        final Composite savedComposite = composite;
+        paint = background;
+        composite = AlphaComposite.Src;
+        fillShape( new Rectangle( x, y, width, height ), false );
+        paint = savedPaint;
+        composite = savedComposite;
+    }
+
+    @Override
+    public void drawRoundRect( final int x,
+                               final int y,
+                               final int width,
+                               final int height,
+                               final int arcWidth,
+                               final int arcHeight ) {
+        drawShape( new RoundRectangle2D.Float( x, y, width, height, arcWidth, arcHeight ), false );
+    }
+
+    @Override
+    public void fillRoundRect( final int x,
+                               final int y,
+                               final int width,
+                               final int height,
+                               final int arcWidth,
+                               final int arcHeight ) {
+        fillShape( new RoundRectangle2D.Float( x, y, width, height, arcWidth, arcHeight ), false );
+    }
+
+    @Override
+    public void drawOval( final int x, final int y, final int width, final int height ) {
+        drawShape( new Ellipse2D.Float( x, y, width, height ), false );
+    }
+
+    @Override
+    public void fillOval( final int x, final int y, final int width, final int height ) {
+        fillShape( new Ellipse2D.Float( x, y, width, height ), false );
+    }
+
+    @Override
+    public void drawArc( final int x,
+                         final int y,
+                         final int width,
+                         final int height,
+                         final int startAngle,
+                         final int arcAngle ) {
+        drawShape( new Arc2D.Float( x, y, width, height, startAngle, arcAngle, Arc2D.OPEN ),
+                   false );
+    }
+
+    @Override
+    public void fillArc( final int x,
+                         final int y,
+                         final int width,
+                         final int height,
+                         final int startAngle,
+                         final int arcAngle ) {
+        fillShape( new Arc2D.Float( x, y, width, height, startAngle, arcAngle, Arc2D.PIE ),
+                   false );
+    }
+
+    @Override
+    public void drawPolyline( final int[] xPoints, final int[] yPoints, final int nPoints ) {
+        if ( nPoints <= 0 ) {
+            return;
+        }
+
+        final Path2D.Float polyline = new Path2D.Float( Path2D.WIND_NON_ZERO, nPoints );
+        polyline.moveTo( xPoints[ 0 ], yPoints[ 0 ] );
+        for ( int i = 1; i < nPoints; i++ ) {
+            polyline.lineTo( xPoints[ i ], yPoints[ i ] );
+        }
+        drawShape( polyline, false );
+    }
+
+    @Override
+    public void drawPolygon( final int[] xPoints, final int[] yPoints, final int nPoints ) {
+        drawShape( new Polygon( xPoints, yPoints, nPoints ), false );
+    }
+
+    @Override
+    public void fillPolygon( final int[] xPoints, final int[] yPoints, final int nPoints ) {
+        fillShape( new Polygon( xPoints, yPoints, nPoints ), false );
+    }
+
+    @Override
+    public void copyArea( final int x,
+                          final int y,
+                          final int width,
+                          final int height,
+                          final int dx,
+                          final int dy ) {
+        // There are no pixels to copy from in a non-rasterizing context.
+    }
+
+    ////////////////////////// Text drawing methods //////////////////////////
+
+    @Override
+    public void drawString( final String str, final int x, final int y ) {
+        drawText( str, x, y );
+    }
+
+    @Override
+    public void drawString( final String str, final float x, final float y ) {
+        drawText( str, x, y );
+    }
+
+    @Override
+    public void drawString( final AttributedCharacterIterator iterator,
+                            final int x,
+                            final int y ) {
+        drawString( iterator, ( float ) x, ( float ) y );
+    }
+
+    @Override
+    public void drawString( final AttributedCharacterIterator iterator,
+                            final float x,
+                            final float y ) {
+        if ( iterator.getBeginIndex() == iterator.getEndIndex() ) {
+            return;
+        }
+
+        // A text layout draws its styled runs back into this graphics context
+        // as glyph vectors, so attributed text needs no special handling.
+        final TextLayout textLayout = new TextLayout( iterator, getFontRenderContext() );
+        textLayout.draw( this, x, y );
+    }
+
+    @Override
+    public void drawGlyphVector( final GlyphVector glyphVector, final float x, final float y ) {
+        drawGlyphs( glyphVector, x, y );
+    }
+
+    ///////////////////////// Image drawing methods //////////////////////////
+
+    @Override
+    public boolean drawImage( final Image image,
+                              final AffineTransform imageTransform,
+                              final ImageObserver observer ) {
+        final BufferedImage bufferedImage = toBufferedImage( image );
+        if ( bufferedImage != null ) {
+            drawBufferedImage( bufferedImage,
+                               ( imageTransform != null )
+                                   ? new AffineTransform( imageTransform )
+                                   : new AffineTransform() );
+        }
+        return true;
+    }
+
+    @Override
+    public void drawImage( final BufferedImage image,
+                           final BufferedImageOp op,
+                           final int x,
+                           final int y ) {
+        final BufferedImage filteredImage = ( op != null ) ? op.filter( image, null ) : image;
+        drawBufferedImage( filteredImage, AffineTransform.getTranslateInstance( x, y ) );
+    }
+
+    @Override
+    public void drawRenderedImage( final RenderedImage image,
+                                   final AffineTransform imageTransform ) {
+        final BufferedImage bufferedImage;
+        if ( image instanceof BufferedImage ) {
+            bufferedImage = ( BufferedImage ) image;
+        }
+        else {
+            bufferedImage = new BufferedImage( image.getWidth(),
+                                               image.getHeight(),
+                                               BufferedImage.TYPE_INT_ARGB );
+            final Graphics2D graphics = bufferedImage.createGraphics();
+            try {
+                graphics.drawRenderedImage( image, new AffineTransform() );
+            }
+            finally {
+                graphics.dispose();
+            }
+        }
+        drawBufferedImage( bufferedImage,
+                           ( imageTransform != null )
+                               ? new AffineTransform( imageTransform )
+                               : new AffineTransform() );
+    }
+
+    @Override
+    public void drawRenderableImage( final RenderableImage image,
+                                     final AffineTransform imageTransform ) {
+        drawRenderedImage( image.createDefaultRendering(), imageTransform );
+    }
+
+    @Override
+    public boolean drawImage( final Image image,
+                              final int x,
+                              final int y,
+                              final ImageObserver observer ) {
+        return drawImage( image, x, y, null, observer );
+    }
+
+    @Override
+    public boolean drawImage( final Image image,
+                              final int x,
+                              final int y,
+                              final int width,
+                              final int height,
+                              final ImageObserver observer ) {
+        return drawImage( image, x, y, width, height, null, observer );
+    }
+
+    @Override
+    public boolean drawImage( final Image image,
+                              final int x,
+                              final int y,
+                              final Color backgroundColor,
+                              final ImageObserver observer ) {
+        final BufferedImage bufferedImage = toBufferedImage( image );
+        if ( bufferedImage == null ) {
+            return true;
+        }
+        return drawImageScaled( bufferedImage,
+                                x,
+                                y,
+                                bufferedImage.getWidth(),
+                                bufferedImage.getHeight(),
+                                backgroundColor );
+    }
+
+    @Override
+    public boolean drawImage( final Image image,
+                              final int x,
+                              final int y,
+                              final int width,
+                              final int height,
+                              final Color backgroundColor,
+                              final ImageObserver observer ) {
+        return drawImageScaled( toBufferedImage( image ), x, y, width, height, backgroundColor );
+    }
+
+    @Override
+    public boolean drawImage( final Image image,
+                              final int dx1,
+                              final int dy1,
+                              final int dx2,
+                              final int dy2,
+                              final int sx1,
+                              final int sy1,
+                              final int sx2,
+                              final int sy2,
+                              final ImageObserver observer ) {
+        return drawImage( image, dx1, dy1, dx2, dy2, sx1, sy1, sx2, sy2, null, observer );
+    }
+
+    @Override
+    public boolean drawImage( final Image image,
+                              final int dx1,
+                              final int dy1,
+                              final int dx2,
+                              final int dy2,
+                              final int sx1,
+                              final int sy1,
+                              final int sx2,
+                              final int sy2,
+                              final Color backgroundColor,
+                              final ImageObserver observer ) {
+        final BufferedImage bufferedImage = toBufferedImage( image );
+        if ( bufferedImage == null ) {
+            return true;
+        }
+
+        // Flipped source or destination rectangles are normalized, as the
+        // flip is then expressed by the sign of the scale factors instead.
+        final BufferedImage croppedImage = cropImage( bufferedImage,
+                                                      FastMath.min( sx1, sx2 ),
+                                                      FastMath.min( sy1, sy2 ),
+                                                      FastMath.abs( sx2 - sx1 ),
+                                                      FastMath.abs( sy2 - sy1 ) );
+        if ( croppedImage == null ) {
+            return true;
+        }
+
+        final boolean flipX = ( ( dx2 - dx1 ) < 0 ) != ( ( sx2 - sx1 ) < 0 );
+        final boolean flipY = ( ( dy2 - dy1 ) < 0 ) != ( ( sy2 - sy1 ) < 0 );
+        final double width = FastMath.abs( dx2 - dx1 );
+        final double height = FastMath.abs( dy2 - dy1 );
+        final double x = FastMath.min( dx1, dx2 );
+        final double y = FastMath.min( dy1, dy2 );
+        if ( !flipX && !flipY ) {
+            return drawImageScaled( croppedImage, x, y, width, height, backgroundColor );
+        }
+
+        final AffineTransform imageTransform = new AffineTransform();
+        imageTransform.translate( flipX ? x + width : x, flipY ? y + height : y );
+        imageTransform.scale( ( flipX ? -width : width ) / croppedImage.getWidth(),
+                              ( flipY ? -height : height ) / croppedImage.getHeight() );
+        drawBufferedImage( croppedImage, imageTransform );
+        return true;
+    }
+
+}
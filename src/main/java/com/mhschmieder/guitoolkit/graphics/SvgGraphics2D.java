@@ -0,0 +1,944 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the GuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * GuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/guitoolkit
+ */
+package com.mhschmieder.guitoolkit.graphics;
+
+import java.awt.AlphaComposite;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Font;
+import java.awt.GradientPaint;
+import java.awt.Graphics;
+import java.awt.Paint;
+import java.awt.Shape;
+import java.awt.font.GlyphVector;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Line2D;
+import java.awt.geom.PathIterator;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.GZIPOutputStream;
+
+import javax.imageio.ImageIO;
+
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * {@code SvgGraphics2D} is a {@link java.awt.Graphics2D} implementation that writes SVG
+ * (or gzip compressed SVGZ) directly to a {@link WritableByteChannel} as the
+ * drawing happens, rather than building a document tree in memory first.
+ * <p>
+ * Memory use is therefore independent of the amount of drawing: each drawing
+ * command is formatted into a reused buffer and written out immediately, and
+ * clips and gradients are written as inline definitions at the point of first
+ * use. Clips are tracked in device space, so each run of drawing with the same
+ * clip is wrapped in a single clipped group, and each element carries its own
+ * transform.
+ * <p>
+ * As the {@link Graphics2D} methods can't throw checked exceptions, the first
+ * I/O failure is retained, after which all further output is skipped. It is
+ * rethrown by {@link #close()}, which must be called on the graphics context
+ * that was constructed (rather than on any of its children) to complete the
+ * document.
+ * <p>
+ * XOR mode has no SVG equivalent, and is ignored.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public class SvgGraphics2D extends StatefulGraphics2D implements Closeable {
+
+    /**
+     * The size of the character buffer between the formatter and the channel.
+     */
+    private static final int   WRITER_BUFFER_SIZE      = 16384;
+
+    /**
+     * The number of decimal places to keep for coordinates and lengths.
+     */
+    private static final double COORDINATE_PRECISION   = 1000d;
+
+    /**
+     * The output state that is shared by this graphics context and all of the
+     * graphics contexts that were created from it.
+     */
+    private final SvgOutput     output;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs an {@code SvgGraphics2D} that writes a new SVG document to
+     * the specified channel, whose view box is the specified bounding box.
+     *
+     * @param channel
+     *            The channel to write the SVG document to; it is closed when
+     *            this graphics context is closed
+     * @param minX
+     *            The x-coordinate of the top left corner of the view box
+     * @param minY
+     *            The y-coordinate of the top left corner of the view box
+     * @param maxX
+     *            The x-coordinate of the bottom right corner of the view box
+     * @param maxY
+     *            The y-coordinate of the bottom right corner of the view box
+     * @param compress
+     *            {@code true} to gzip compress the output, as for SVGZ files
+     * @throws IOException
+     *             If the document header could not be written
+     *
+     * @version 1.0
+     */
+    @SuppressWarnings("nls")
+    public SvgGraphics2D( final WritableByteChannel channel,
+                          final double minX,
+                          final double minY,
+                          final double maxX,
+                          final double maxY,
+                          final boolean compress )
+            throws IOException {
+        // Always call the superclass constructor first!
+        super();
+
+        final OutputStream channelStream = Channels.newOutputStream( channel );
+        final OutputStream outputStream = compress
+            ? new GZIPOutputStream( channelStream, WRITER_BUFFER_SIZE )
+            : channelStream;
+        output = new SvgOutput( new BufferedWriter( new OutputStreamWriter( outputStream,
+                                                                            StandardCharsets.UTF_8 ),
+                                                    WRITER_BUFFER_SIZE ) );
+
+        final double width = FastMath.max( 0d, maxX - minX );
+        final double height = FastMath.max( 0d, maxY - minY );
+        final StringBuilder element = output.element;
+        element.setLength( 0 );
+        element.append( "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" )
+                .append( "<svg xmlns=\"http://www.w3.org/2000/svg\"" )
+                .append( " xmlns:xlink=\"http://www.w3.org/1999/xlink\" version=\"1.1\"" );
+        appendAttribute( element, "width", width );
+        appendAttribute( element, "height", height );
+        element.append( " viewBox=\"" );
+        appendNumber( element, minX ).append( ' ' );
+        appendNumber( element, minY ).append( ' ' );
+        appendNumber( element, width ).append( ' ' );
+        appendNumber( element, height ).append( "\">\n" );
+        output.writeElement();
+
+        final IOException ioException = output.ioException;
+        if ( ioException != null ) {
+            throw ioException;
+        }
+    }
+
+    /**
+     * Constructs an {@code SvgGraphics2D} that copies the graphics state of
+     * another one, and writes to the same document.
+     *
+     * @param parent
+     *            The graphics context that this one is created from
+     *
+     * @version 1.0
+     */
+    protected SvgGraphics2D( final SvgGraphics2D parent ) {
+        // Always call the superclass constructor first!
+        super( parent );
+
+        output = parent.output;
+    }
+
+    ////////////////////////// Document methods //////////////////////////////
+
+    /**
+     * Returns the first I/O failure that occurred while writing, if any.
+     *
+     * @return The first I/O failure that occurred, or {@code null} if none
+     *
+     * @version 1.0
+     */
+    public IOException getIOException() {
+        return output.ioException;
+    }
+
+    /**
+     * Completes the SVG document and closes the output, including the channel.
+     *
+     * @throws IOException
+     *             If any output failed, either now or during earlier drawing
+     *
+     * @version 1.0
+     */
+    @SuppressWarnings("nls")
+    @Override
+    public void close() throws IOException {
+        if ( output.closed ) {
+            return;
+        }
+
+        output.closeClipGroup();
+        output.element.setLength( 0 );
+        output.element.append( "</svg>\n" );
+        output.writeElement();
+        output.closed = true;
+
+        try {
+            output.writer.close();
+        }
+        catch ( final IOException ioe ) {
+            if ( output.ioException == null ) {
+                output.ioException = ioe;
+            }
+        }
+
+        if ( output.ioException != null ) {
+            throw output.ioException;
+        }
+    }
+
+    /////////////////////// Graphics context methods /////////////////////////
+
+    @Override
+    public Graphics create() {
+        return new SvgGraphics2D( this );
+    }
+
+    @Override
+    public void dispose() {
+        // The shared output stays open until the document is closed, as other
+        // graphics contexts may still be writing to it.
+    }
+
+    //////////////////////// Primitive drawing methods ///////////////////////
+
+    @SuppressWarnings("nls")
+    @Override
+    protected void drawShape( final Shape shape, final boolean shapeIsShared ) {
+        if ( ( shape == null ) || !output.isWritable() ) {
+            return;
+        }
+
+        // Non-basic strokes have no SVG equivalent, so their outline is filled.
+        if ( !( stroke instanceof BasicStroke ) ) {
+            fillShape( stroke.createStrokedShape( shape ), false );
+            return;
+        }
+
+        output.selectClip( deviceClip );
+        final String paintReference = writePaintDefinition();
+        final StringBuilder element = output.element;
+        element.setLength( 0 );
+        appendShapeElementStart( element, shape );
+        element.append( " fill=\"none\"" );
+        appendPaint( element, "stroke", paintReference );
+        appendStroke( element, ( BasicStroke ) stroke );
+        appendCommonAttributes( element );
+        element.append( "/>\n" );
+        output.writeElement();
+    }
+
+    @SuppressWarnings("nls")
+    @Override
+    protected void fillShape( final Shape shape, final boolean shapeIsShared ) {
+        if ( ( shape == null ) || !output.isWritable() ) {
+            return;
+        }
+
+        output.selectClip( deviceClip );
+        final String paintReference = writePaintDefinition();
+        final StringBuilder element = output.element;
+        element.setLength( 0 );
+        appendShapeElementStart( element, shape );
+        appendPaint( element, "fill", paintReference );
+        if ( !( shape instanceof Rectangle2D ) && !( shape instanceof Ellipse2D )
+                && !( shape instanceof Line2D ) ) {
+            final PathIterator pathIterator = shape.getPathIterator( null );
+            if ( pathIterator.getWindingRule() == PathIterator.WIND_EVEN_ODD ) {
+                element.append( " fill-rule=\"evenodd\"" );
+            }
+        }
+        appendCommonAttributes( element );
+        element.append( "/>\n" );
+        output.writeElement();
+    }
+
+    @SuppressWarnings("nls")
+    @Override
+    protected void drawText( final String text, final float x, final float y ) {
+        if ( ( text == null ) || text.isEmpty() || !output.isWritable() ) {
+            return;
+        }
+
+        output.selectClip( deviceClip );
+        final String paintReference = writePaintDefinition();
+        final StringBuilder element = output.element;
+        element.setLength( 0 );
+        element.append( "<text xml:space=\"preserve\"" );
+        appendAttribute( element, "x", x );
+        appendAttribute( element, "y", y );
+        element.append( " font-family=\"" ).append( getFontFamily( font ) ).append( '"' );
+        appendAttribute( element, "font-size", font.getSize2D() );
+        if ( font.isBold() ) {
+            element.append( " font-weight=\"bold\"" );
+        }
+        if ( font.isItalic() ) {
+            element.append( " font-style=\"italic\"" );
+        }
+        appendPaint( element, "fill", paintReference );
+        appendCommonAttributes( element );
+        element.append( '>' );
+        appendEscapedText( element, text );
+        element.append( "</text>\n" );
+        output.writeElement();
+    }
+
+    @Override
+    protected void drawGlyphs( final GlyphVector glyphVector, final float x, final float y ) {
+        if ( glyphVector == null ) {
+            return;
+        }
+
+        // Glyph vectors have already been laid out, so their outlines are the
+        // only faithful representation, independent of the fonts available to
+        // the eventual SVG viewer.
+        fillShape( glyphVector.getOutline( x, y ), false );
+    }
+
+    @SuppressWarnings("nls")
+    @Override
+    protected void drawBufferedImage( final BufferedImage image,
+                                      final AffineTransform imageTransform ) {
+        if ( ( image == null ) || !output.isWritable() ) {
+            return;
+        }
+
+        final ByteArrayOutputStream pngStream = new ByteArrayOutputStream();
+        try {
+            if ( !ImageIO.write( image, "png", pngStream ) ) {
+                return;
+            }
+        }
+        catch ( final IOException ioe ) {
+            ioe.printStackTrace();
+            return;
+        }
+
+        output.selectClip( deviceClip );
+        final AffineTransform elementTransform = new AffineTransform( transform );
+        elementTransform.concatenate( imageTransform );
+        final StringBuilder element = output.element;
+        element.setLength( 0 );
+        element.append( "<image" );
+        appendAttribute( element, "width", image.getWidth() );
+        appendAttribute( element, "height", image.getHeight() );
+        appendTransform( element, elementTransform );
+        appendOpacity( element );
+        element.append( " xlink:href=\"data:image/png;base64," );
+        element.append( Base64.getEncoder().encodeToString( pngStream.toByteArray() ) );
+        element.append( "\"/>\n" );
+        output.writeElement();
+    }
+
+    //////////////////////// Element writing methods /////////////////////////
+
+    /**
+     * Appends the start of the most compact SVG element for a shape, including
+     * its geometry but not its paint or other presentation attributes.
+     *
+     * @param element
+     *            The buffer to append the element to
+     * @param shape
+     *            The shape to write
+     *
+     * @version 1.0
+     */
+    @SuppressWarnings("nls")
+    private static void appendShapeElementStart( final StringBuilder element, final Shape shape ) {
+        if ( shape instanceof Rectangle2D ) {
+            final Rectangle2D rectangle = ( Rectangle2D ) shape;
+            element.append( "<rect" );
+            appendAttribute( element, "x", rectangle.getX() );
+            appendAttribute( element, "y", rectangle.getY() );
+            appendAttribute( element, "width", rectangle.getWidth() );
+            appendAttribute( element, "height", rectangle.getHeight() );
+        }
+        else if ( shape instanceof Line2D ) {
+            final Line2D line = ( Line2D ) shape;
+            element.append( "<line" );
+            appendAttribute( element, "x1", line.getX1() );
+            appendAttribute( element, "y1", line.getY1() );
+            appendAttribute( element, "x2", line.getX2() );
+            appendAttribute( element, "y2", line.getY2() );
+        }
+        else if ( shape instanceof Ellipse2D ) {
+            final Ellipse2D ellipse = ( Ellipse2D ) shape;
+            element.append( "<ellipse" );
+            appendAttribute( element, "cx", ellipse.getCenterX() );
+            appendAttribute( element, "cy", ellipse.getCenterY() );
+            appendAttribute( element, "rx", 0.5d * ellipse.getWidth() );
+            appendAttribute( element, "ry", 0.5d * ellipse.getHeight() );
+        }
+        else {
+            element.append( "<path d=\"" );
+            appendPathData( element, shape );
+            element.append( '"' );
+        }
+    }
+
+    /**
+     * Appends the transform and opacity attributes that apply to all elements.
+     *
+     * @param element
+     *            The buffer to append the attributes to
+     *
+     * @version 1.0
+     */
+    private void appendCommonAttributes( final StringBuilder element ) {
+        appendTransform( element, transform );
+        appendOpacity( element );
+    }
+
+    /**
+     * Appends a transform attribute, unless the transform is the identity.
+     *
+     * @param element
+     *            The buffer to append the attribute to
+     * @param elementTransform
+     *            The transform to append
+     *
+     * @version 1.0
+     */
+    @SuppressWarnings("nls")
+    private static void appendTransform( final StringBuilder element,
+                                         final AffineTransform elementTransform ) {
+        if ( elementTransform.isIdentity() ) {
+            return;
+        }
+
+        element.append( " transform=\"matrix(" );
+        appendNumber( element, elementTransform.getScaleX() ).append( ' ' );
+        appendNumber( element, elementTransform.getShearY() ).append( ' ' );
+        appendNumber( element, elementTransform.getShearX() ).append( ' ' );
+        appendNumber( element, elementTransform.getScaleY() ).append( ' ' );
+        appendNumber( element, elementTransform.getTranslateX() ).append( ' ' );
+        appendNumber( element, elementTransform.getTranslateY() ).append( ")\"" );
+    }
+
+    /**
+     * Appends an opacity attribute for the extra alpha of the composite, if
+     * it is translucent.
+     *
+     * @param element
+     *            The buffer to append the attribute to
+     *
+     * @version 1.0
+     */
+    @SuppressWarnings("nls")
+    private void appendOpacity( final StringBuilder element ) {
+        final Composite currentComposite = composite;
+        if ( currentComposite instanceof AlphaComposite ) {
+            final float alpha = ( ( AlphaComposite ) currentComposite ).getAlpha();
+            if ( alpha < 1f ) {
+                appendAttribute( element, "opacity", alpha );
+            }
+        }
+    }
+
+    /**
+     * Appends the paint attribute (and its opacity) for fill or stroke.
+     *
+     * @param element
+     *            The buffer to append the attributes to
+     * @param attributeName
+     *            The paint attribute name; "fill" or "stroke"
+     * @param paintReference
+     *            The gradient reference for the current paint, or {@code null}
+     *            if the current paint is to be written as a color
+     *
+     * @version 1.0
+     */
+    @SuppressWarnings("nls")
+    private void appendPaint( final StringBuilder element,
+                              final String attributeName,
+                              final String paintReference ) {
+        element.append( ' ' ).append( attributeName ).append( "=\"" );
+        if ( paintReference != null ) {
+            element.append( paintReference ).append( '"' );
+            return;
+        }
+
+        final Color color = ( paint instanceof Color ) ? ( Color ) paint : Color.BLACK;
+        appendColor( element, color ).append( '"' );
+        if ( color.getAlpha() < 255 ) {
+            appendAttribute( element, attributeName + "-opacity", color.getAlpha() / 255d );
+        }
+    }
+
+    /**
+     * Appends the stroke presentation attributes for a basic stroke, leaving
+     * out those that match the SVG defaults.
+     *
+     * @param element
+     *            The buffer to append the attributes to
+     * @param basicStroke
+     *            The stroke to append the attributes of
+     *
+     * @version 1.0
+     */
+    @SuppressWarnings("nls")
+    private static void appendStroke( final StringBuilder element, final BasicStroke basicStroke ) {
+        if ( basicStroke.getLineWidth() != 1f ) {
+            appendAttribute( element, "stroke-width", basicStroke.getLineWidth() );
+        }
+
+        switch ( basicStroke.getEndCap() ) {
+        case BasicStroke.CAP_ROUND:
+            element.append( " stroke-linecap=\"round\"" );
+            break;
+        case BasicStroke.CAP_SQUARE:
+            element.append( " stroke-linecap=\"square\"" );
+            break;
+        case BasicStroke.CAP_BUTT:
+        default:
+            break;
+        }
+
+        switch ( basicStroke.getLineJoin() ) {
+        case BasicStroke.JOIN_ROUND:
+            element.append( " stroke-linejoin=\"round\"" );
+            break;
+        case BasicStroke.JOIN_BEVEL:
+            element.append( " stroke-linejoin=\"bevel\"" );
+            break;
+        case BasicStroke.JOIN_MITER:
+        default:
+            if ( basicStroke.getMiterLimit() != 4f ) {
+                appendAttribute( element, "stroke-miterlimit", basicStroke.getMiterLimit() );
+            }
+            break;
+        }
+
+        final float[] dashArray = basicStroke.getDashArray();
+        if ( ( dashArray != null ) && ( dashArray.length > 0 ) ) {
+            element.append( " stroke-dasharray=\"" );
+            for ( int i = 0; i < dashArray.length; i++ ) {
+                if ( i > 0 ) {
+                    element.append( ',' );
+                }
+                appendNumber( element, dashArray[ i ] );
+            }
+            element.append( '"' );
+            if ( basicStroke.getDashPhase() != 0f ) {
+                appendAttribute( element, "stroke-dashoffset", basicStroke.getDashPhase() );
+            }
+        }
+    }
+
+    /**
+     * Returns the reference to use for the current paint, after writing its
+     * definition if it is a gradient that hasn't been written yet.
+     *
+     * @return The paint reference for a gradient, or {@code null} if the
+     *         current paint is to be written as a color
+     *
+     * @version 1.0
+     */
+    @SuppressWarnings("nls")
+    private String writePaintDefinition() {
+        if ( !( paint instanceof GradientPaint ) ) {
+            return null;
+        }
+        if ( paint == output.gradientPaint ) {
+            return output.gradientReference;
+        }
+
+        final GradientPaint gradientPaint = ( GradientPaint ) paint;
+        final String gradientId = "g" + output.nextId++;
+        final StringBuilder element = output.element;
+        element.setLength( 0 );
+        element.append( "<linearGradient id=\"" ).append( gradientId )
+                .append( "\" gradientUnits=\"userSpaceOnUse\"" );
+        appendAttribute( element, "x1", gradientPaint.getPoint1().getX() );
+        appendAttribute( element, "y1", gradientPaint.getPoint1().getY() );
+        appendAttribute( element, "x2", gradientPaint.getPoint2().getX() );
+        appendAttribute( element, "y2", gradientPaint.getPoint2().getY() );
+        if ( gradientPaint.isCyclic() ) {
+            element.append( " spreadMethod=\"reflect\"" );
+        }
+        element.append( ">\n" );
+        appendGradientStop( element, "0", gradientPaint.getColor1() );
+        appendGradientStop( element, "1", gradientPaint.getColor2() );
+        element.append( "</linearGradient>\n" );
+        output.writeElement();
+
+        output.gradientPaint = gradientPaint;
+        output.gradientReference = "url(#" + gradientId + ")";
+        return output.gradientReference;
+    }
+
+    /**
+     * Appends a gradient stop element.
+     *
+     * @param element
+     *            The buffer to append the element to
+     * @param offset
+     *            The offset of the gradient stop
+     * @param color
+     *            The color of the gradient stop
+     *
+     * @version 1.0
+     */
+    @SuppressWarnings("nls")
+    private static void appendGradientStop( final StringBuilder element,
+                                            final String offset,
+                                            final Color color ) {
+        element.append( "<stop offset=\"" ).append( offset ).append( "\" stop-color=\"" );
+        appendColor( element, color ).append( '"' );
+        if ( color.getAlpha() < 255 ) {
+            appendAttribute( element, "stop-opacity", color.getAlpha() / 255d );
+        }
+        element.append( "/>\n" );
+    }
+
+    ///////////////////////// Formatting methods /////////////////////////////
+
+    /**
+     * Appends SVG path data for a shape.
+     *
+     * @param element
+     *            The buffer to append the path data to
+     * @param shape
+     *            The shape to append the path data of
+     *
+     * @version 1.0
+     */
+    static void appendPathData( final StringBuilder element, final Shape shape ) {
+        final double[] coordinates = new double[ 6 ];
+        for ( final PathIterator pathIterator = shape.getPathIterator( null ); !pathIterator
+                .isDone(); pathIterator.next() ) {
+            final int segmentType = pathIterator.currentSegment( coordinates );
+            final int coordinateCount;
+            switch ( segmentType ) {
+            case PathIterator.SEG_MOVETO:
+                element.append( 'M' );
+                coordinateCount = 2;
+                break;
+            case PathIterator.SEG_LINETO:
+                element.append( 'L' );
+                coordinateCount = 2;
+                break;
+            case PathIterator.SEG_QUADTO:
+                element.append( 'Q' );
+                coordinateCount = 4;
+                break;
+            case PathIterator.SEG_CUBICTO:
+                element.append( 'C' );
+                coordinateCount = 6;
+                break;
+            case PathIterator.SEG_CLOSE:
+                element.append( 'Z' );
+                coordinateCount = 0;
+                break;
+            default:
+                coordinateCount = 0;
+                break;
+            }
+
+            for ( int i = 0; i < coordinateCount; i++ ) {
+                if ( i > 0 ) {
+                    element.append( ' ' );
+                }
+                appendNumber( element, coordinates[ i ] );
+            }
+        }
+    }
+
+    /**
+     * Appends a numeric attribute.
+     *
+     * @param element
+     *            The buffer to append the attribute to
+     * @param attributeName
+     *            The name of the attribute
+     * @param value
+     *            The value of the attribute
+     *
+     * @version 1.0
+     */
+    private static void appendAttribute( final StringBuilder element,
+                                         final String attributeName,
+                                         final double value ) {
+        element.append( ' ' ).append( attributeName ).append( "=\"" ); //$NON-NLS-1$
+        appendNumber( element, value ).append( '"' );
+    }
+
+    /**
+     * Appends a number rounded to the coordinate precision, without any
+     * trailing zeros, so that the output stays as compact as possible.
+     *
+     * @param element
+     *            The buffer to append the number to
+     * @param value
+     *            The number to append
+     * @return The buffer, for chaining
+     *
+     * @version 1.0
+     */
+    static StringBuilder appendNumber( final StringBuilder element, final double value ) {
+        final double roundedValue = FastMath.rint( value * COORDINATE_PRECISION )
+                / COORDINATE_PRECISION;
+        if ( Double.isNaN( roundedValue ) || Double.isInfinite( roundedValue ) ) {
+            return element.append( '0' );
+        }
+
+        final long integralValue = ( long ) roundedValue;
+        if ( integralValue == roundedValue ) {
+            return element.append( integralValue );
+        }
+        return element.append( roundedValue );
+    }
+
+    /**
+     * Appends a color in hexadecimal notation, ignoring its alpha.
+     *
+     * @param element
+     *            The buffer to append the color to
+     * @param color
+     *            The color to append
+     * @return The buffer, for chaining
+     *
+     * @version 1.0
+     */
+    private static StringBuilder appendColor( final StringBuilder element, final Color color ) {
+        final String hexDigits = "0123456789abcdef"; //$NON-NLS-1$
+        final int rgb = color.getRGB();
+        element.append( '#' );
+        for ( int shift = 20; shift >= 0; shift -= 4 ) {
+            element.append( hexDigits.charAt( ( rgb >> shift ) & 0xF ) );
+        }
+        return element;
+    }
+
+    /**
+     * Appends text with the XML special characters escaped.
+     *
+     * @param element
+     *            The buffer to append the text to
+     * @param text
+     *            The text to append
+     *
+     * @version 1.0
+     */
+    @SuppressWarnings("nls")
+    private static void appendEscapedText( final StringBuilder element, final String text ) {
+        final int length = text.length();
+        for ( int i = 0; i < length; i++ ) {
+            final char c = text.charAt( i );
+            switch ( c ) {
+            case '<':
+                element.append( "&lt;" );
+                break;
+            case '>':
+                element.append( "&gt;" );
+                break;
+            case '&':
+                element.append( "&amp;" );
+                break;
+            case '"':
+                element.append( "&quot;" );
+                break;
+            default:
+                // Control characters other than whitespace are not legal XML.
+                if ( ( c >= 0x20 ) || ( c == '\t' ) || ( c == '\n' ) || ( c == '\r' ) ) {
+                    element.append( c );
+                }
+                break;
+            }
+        }
+    }
+
+    /**
+     * Returns the SVG font family list for a font, mapping the Java logical
+     * font families to their generic SVG counterparts.
+     *
+     * @param font
+     *            The font to get the SVG font family for
+     * @return The SVG font family list for the font
+     *
+     * @version 1.0
+     */
+    @SuppressWarnings("nls")
+    private static String getFontFamily( final Font font ) {
+        final String family = font.getFamily();
+        switch ( family ) {
+        case Font.DIALOG:
+        case Font.SANS_SERIF:
+            return "sans-serif";
+        case Font.DIALOG_INPUT:
+        case Font.MONOSPACED:
+            return "monospace";
+        case Font.SERIF:
+            return "serif";
+        default:
+            final StringBuilder escapedFamily = new StringBuilder( family.length() + 2 );
+            escapedFamily.append( '\'' );
+            appendEscapedText( escapedFamily, family.replace( '\'', ' ' ) );
+            return escapedFamily.append( '\'' ).toString();
+        }
+    }
+
+    /**
+     * {@code SvgOutput} holds the writer and the document-wide state that is
+     * shared by all of the graphics contexts writing to the same document.
+     */
+    private static final class SvgOutput {
+
+        /** The buffered writer for the document. */
+        final Writer          writer;
+
+        /** The reusable buffer for formatting each element. */
+        final StringBuilder   element = new StringBuilder( 256 );
+
+        /** The first I/O failure, after which nothing more is written. */
+        IOException           ioException;
+
+        /** Whether the document has been closed. */
+        boolean               closed;
+
+        /** The next identifier number for definitions. */
+        int                   nextId;
+
+        /** The device space clip of the currently open group, if any. */
+        Shape                 clip;
+
+        /** Whether a clipped group is currently open. */
+        boolean               clipGroupOpen;
+
+        /** The most recently defined gradient paint. */
+        GradientPaint         gradientPaint;
+
+        /** The reference to the most recently defined gradient paint. */
+        String                gradientReference;
+
+        /**
+         * Constructs the shared output state for a document.
+         *
+         * @param documentWriter
+         *            The buffered writer for the document
+         */
+        SvgOutput( final Writer documentWriter ) {
+            writer = documentWriter;
+        }
+
+        /**
+         * Returns {@code true} if output can still be written.
+         *
+         * @return {@code true} if output can still be written
+         */
+        boolean isWritable() {
+            return !closed && ( ioException == null );
+        }
+
+        /**
+         * Writes out the element buffer, retaining the first I/O failure.
+         */
+        void writeElement() {
+            if ( !isWritable() ) {
+                return;
+            }
+
+            try {
+                writer.append( element );
+            }
+            catch ( final IOException ioe ) {
+                ioException = ioe;
+            }
+        }
+
+        /**
+         * Makes sure subsequent elements are written inside a group that is
+         * clipped to the specified device space clip, if it has changed.
+         *
+         * @param deviceClip
+         *            The device space clip for subsequent elements, or
+         *            {@code null} for no clip
+         */
+        @SuppressWarnings("nls")
+        void selectClip( final Shape deviceClip ) {
+            // Clips are replaced rather than modified, so identity is enough.
+            if ( ( deviceClip == clip ) && ( ( deviceClip == null ) || clipGroupOpen ) ) {
+                return;
+            }
+
+            closeClipGroup();
+            clip = deviceClip;
+            if ( deviceClip == null ) {
+                return;
+            }
+
+            final String clipId = "c" + nextId++;
+            element.setLength( 0 );
+            element.append( "<clipPath id=\"" ).append( clipId ).append( "\"><path d=\"" );
+            appendPathData( element, deviceClip );
+            element.append( "\"/></clipPath>\n<g clip-path=\"url(#" ).append( clipId )
+                    .append( ")\">\n" );
+            writeElement();
+            clipGroupOpen = true;
+        }
+
+        /**
+         * Closes the currently open clipped group, if any.
+         */
+        void closeClipGroup() {
+            if ( !clipGroupOpen ) {
+                return;
+            }
+
+            element.setLength( 0 );
+            element.append( "</g>\n" ); //$NON-NLS-1$
+            writeElement();
+            clipGroupOpen = false;
+            clip = null;
+        }
+
+    }
+
+}
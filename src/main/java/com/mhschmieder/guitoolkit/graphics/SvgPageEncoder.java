@@ -0,0 +1,110 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the GuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * GuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/guitoolkit
+ */
+package com.mhschmieder.guitoolkit.graphics;
+
+import java.awt.geom.Rectangle2D;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+
+/**
+ * {@code SvgPageEncoder} is a {@link VectorPageEncoder} that encodes each page
+ * as a standalone SVG (or SVGZ) document, using {@link SvgGraphics2D}.
+ * <p>
+ * This class is immutable, and so is safe for parallel use.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class SvgPageEncoder implements VectorPageEncoder {
+
+    /**
+     * Flag for whether each page is gzip compressed, as for SVGZ files.
+     */
+    private final boolean compress;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs an {@code SvgPageEncoder}.
+     *
+     * @param compressPages
+     *            {@code true} to gzip compress each page, as for SVGZ files
+     *
+     * @version 1.0
+     */
+    public SvgPageEncoder( final boolean compressPages ) {
+        compress = compressPages;
+    }
+
+    ////////////// VectorPageEncoder implementation methods //////////////////
+
+    /**
+     * Returns the page encoded as a standalone SVG document, whose view box
+     * is the page bounds.
+     *
+     * @param pageIndex
+     *            The zero-based index of the page in the overall export
+     * @param displayList
+     *            The immutable snapshot of the page content
+     * @param pageBounds
+     *            The bounds of the page content, in the coordinate space of the
+     *            display list
+     * @return The page encoded as a standalone SVG document
+     * @throws IOException
+     *             If the page could not be encoded
+     *
+     * @version 1.0
+     */
+    @Override
+    public byte[] encodePage( final int pageIndex,
+                              final DisplayList displayList,
+                              final Rectangle2D pageBounds )
+            throws IOException {
+        final ByteArrayOutputStream pageStream = new ByteArrayOutputStream();
+        final SvgGraphics2D svgGraphics = new SvgGraphics2D( Channels.newChannel( pageStream ),
+                                                             pageBounds.getMinX(),
+                                                             pageBounds.getMinY(),
+                                                             pageBounds.getMaxX(),
+                                                             pageBounds.getMaxY(),
+                                                             compress );
+        try {
+            displayList.replay( svgGraphics );
+        }
+        finally {
+            svgGraphics.close();
+        }
+
+        return pageStream.toByteArray();
+    }
+
+}
@@ -0,0 +1,523 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the GuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * GuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/guitoolkit
+ */
+package com.mhschmieder.guitoolkit.graphics;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Rectangle;
+import java.awt.image.ImageObserver;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * {@code TiledOffScreenRenderer} renders a large off-screen canvas as a grid
+ * of fixed-size tiles, so that memory use scales with the visible part of the
+ * canvas rather than with the canvas itself.
+ * <p>
+ * Tiles are only rendered when they become visible, in parallel on a pool of
+ * worker threads, and are kept in a least recently used cache that is bounded
+ * by bytes. Each tile is rendered by running the full frame renderer with the
+ * Graphics Context translated and clipped to the tile, so renderers that cull
+ * against the clip bounds only pay for what is in the tile.
+ * <p>
+ * The frame renderer is called concurrently from several worker threads, so
+ * it must be thread-safe in addition to not touching Swing components. All
+ * other methods are meant to be called on the Event Dispatch Thread.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class TiledOffScreenRenderer {
+
+    /**
+     * The default tile size, in pixels, which is a multiple of the buffer
+     * pool's size step so that tile buffers recycle without waste.
+     */
+    public static final int              DEFAULT_TILE_SIZE  = 2 * OffScreenBufferPool.SIZE_STEP;
+
+    /**
+     * The default memory cap for cached tiles, in bytes.
+     */
+    public static final long             DEFAULT_MEMORY_CAP = 32L * 1024L * 1024L;
+
+    /**
+     * The shared worker threads for rendering tiles in parallel.
+     */
+    private static final ExecutorService TILE_EXECUTOR      = Executors
+            .newFixedThreadPool( Runtime.getRuntime().availableProcessors(), runnable -> {
+                final Thread thread = new Thread( runnable, "TiledOffScreenRenderer" ); //$NON-NLS-1$
+                thread.setDaemon( true );
+                return thread;
+            } );
+
+    /**
+     * The renderer that draws the canvas, once per tile.
+     */
+    private final OffScreenFrameRenderer                 frameRenderer;
+
+    /**
+     * The width and height of each tile, in pixels.
+     */
+    private final int                                    tileSize;
+
+    /**
+     * The cached tiles, keyed by tile row and column, in least to most
+     * recently used order.
+     */
+    private final LinkedHashMap< Long, OffScreenBuffer > tileCache;
+
+    /**
+     * The total number of bytes held by the cached tiles.
+     */
+    private long                                         cachedByteSize;
+
+    /**
+     * The maximum number of bytes to hold in cached tiles, other than those
+     * that are currently visible.
+     */
+    private long                                         memoryCap;
+
+    /**
+     * The Graphics Configuration of the screen that the canvas is shown on.
+     */
+    private GraphicsConfiguration                        graphicsConfiguration;
+
+    /**
+     * The width of the canvas, in pixels.
+     */
+    private int                                          canvasWidth;
+
+    /**
+     * The height of the canvas, in pixels.
+     */
+    private int                                          canvasHeight;
+
+    /**
+     * The color to clear each tile to before rendering it.
+     */
+    private Color                                        backgroundColor;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs a {@code TiledOffScreenRenderer} with the default tile size
+     * and memory cap.
+     *
+     * @param renderer
+     *            The renderer that draws the canvas, once per tile
+     *
+     * @version 1.0
+     */
+    public TiledOffScreenRenderer( final OffScreenFrameRenderer renderer ) {
+        this( renderer, DEFAULT_TILE_SIZE, DEFAULT_MEMORY_CAP );
+    }
+
+    /**
+     * Constructs a {@code TiledOffScreenRenderer}.
+     *
+     * @param renderer
+     *            The renderer that draws the canvas, once per tile
+     * @param tileDimension
+     *            The width and height of each tile, in pixels
+     * @param maximumByteSize
+     *            The maximum number of bytes to hold in cached tiles, other
+     *            than those that are currently visible
+     *
+     * @version 1.0
+     */
+    public TiledOffScreenRenderer( final OffScreenFrameRenderer renderer,
+                                   final int tileDimension,
+                                   final long maximumByteSize ) {
+        frameRenderer = renderer;
+        tileSize = FastMath.max( 1, tileDimension );
+        memoryCap = FastMath.max( 0L, maximumByteSize );
+
+        tileCache = new LinkedHashMap<>( 16, 0.75f, true );
+        cachedByteSize = 0L;
+        graphicsConfiguration = null;
+        canvasWidth = 0;
+        canvasHeight = 0;
+        backgroundColor = Color.WHITE;
+    }
+
+    /////////////////////////// Canvas methods ///////////////////////////////
+
+    /**
+     * Sets the canvas that the tiles cover, discarding all cached tiles if it
+     * changed, as the content of every tile may depend on it.
+     *
+     * @param configuration
+     *            The Graphics Configuration of the screen that the canvas is
+     *            shown on
+     * @param width
+     *            The width of the canvas, in pixels
+     * @param height
+     *            The height of the canvas, in pixels
+     * @param background
+     *            The color to clear each tile to before rendering it
+     *
+     * @version 1.0
+     */
+    public void setCanvas( final GraphicsConfiguration configuration,
+                           final int width,
+                           final int height,
+                           final Color background ) {
+        final boolean canvasChanged = ( configuration != graphicsConfiguration )
+                || ( width != canvasWidth ) || ( height != canvasHeight )
+                || !background.equals( backgroundColor );
+        if ( !canvasChanged ) {
+            return;
+        }
+
+        graphicsConfiguration = configuration;
+        canvasWidth = width;
+        canvasHeight = height;
+        backgroundColor = background;
+
+        invalidate();
+    }
+
+    /**
+     * Discards all cached tiles, so that they are rendered again when next
+     * visible.
+     *
+     * @version 1.0
+     */
+    public void invalidate() {
+        final OffScreenBufferPool bufferPool = OffScreenBufferPool.getSharedPool();
+        for ( final OffScreenBuffer tile : tileCache.values() ) {
+            bufferPool.release( tile );
+        }
+        tileCache.clear();
+        cachedByteSize = 0L;
+    }
+
+    /**
+     * Discards the cached tiles that intersect the specified region of the
+     * canvas, so that they are rendered again when next visible.
+     *
+     * @param region
+     *            The region of the canvas that changed
+     *
+     * @version 1.0
+     */
+    public void invalidate( final Rectangle region ) {
+        final OffScreenBufferPool bufferPool = OffScreenBufferPool.getSharedPool();
+        final Iterator< Map.Entry< Long, OffScreenBuffer > > tileIterator = tileCache.entrySet()
+                .iterator();
+        while ( tileIterator.hasNext() ) {
+            final Map.Entry< Long, OffScreenBuffer > tileEntry = tileIterator.next();
+            if ( getTileBounds( tileEntry.getKey() ).intersects( region ) ) {
+                final OffScreenBuffer tile = tileEntry.getValue();
+                tileIterator.remove();
+                cachedByteSize -= tile.getByteSize();
+                bufferPool.release( tile );
+            }
+        }
+    }
+
+    /**
+     * Draws the tiles that intersect the visible region of the canvas,
+     * rendering any that aren't cached yet in parallel first.
+     *
+     * @param graphicsContext
+     *            The Graphics Context to draw the tiles to, in canvas
+     *            coordinates
+     * @param visibleRegion
+     *            The visible region of the canvas, or {@code null} for all of it
+     * @param imageObserver
+     *            The object to notify as more of the image is converted
+     *
+     * @version 1.0
+     */
+    public void drawTiles( final Graphics2D graphicsContext,
+                           final Rectangle visibleRegion,
+                           final ImageObserver imageObserver ) {
+        final Rectangle canvasBounds = new Rectangle( 0, 0, canvasWidth, canvasHeight );
+        final Rectangle region = ( visibleRegion != null )
+            ? visibleRegion.intersection( canvasBounds )
+            : canvasBounds;
+        if ( region.isEmpty() || ( graphicsConfiguration == null ) ) {
+            return;
+        }
+
+        final int firstColumn = region.x / tileSize;
+        final int lastColumn = ( ( region.x + region.width ) - 1 ) / tileSize;
+        final int firstRow = region.y / tileSize;
+        final int lastRow = ( ( region.y + region.height ) - 1 ) / tileSize;
+
+        // Collect the visible tiles, acquiring buffers for the missing ones.
+        final Map< Long, OffScreenBuffer > visibleTiles = new HashMap<>();
+        final Map< Long, OffScreenBuffer > missingTiles = new HashMap<>();
+        final OffScreenBufferPool bufferPool = OffScreenBufferPool.getSharedPool();
+        for ( int row = firstRow; row <= lastRow; row++ ) {
+            for ( int column = firstColumn; column <= lastColumn; column++ ) {
+                final Long tileKey = getTileKey( row, column );
+                OffScreenBuffer tile = tileCache.get( tileKey );
+                if ( tile == null ) {
+                    tile = bufferPool.acquire( graphicsConfiguration, tileSize, tileSize, false );
+                    missingTiles.put( tileKey, tile );
+                }
+                visibleTiles.put( tileKey, tile );
+            }
+        }
+
+        renderTiles( missingTiles );
+
+        for ( final Map.Entry< Long, OffScreenBuffer > tileEntry : missingTiles.entrySet() ) {
+            final OffScreenBuffer tile = tileEntry.getValue();
+            tileCache.put( tileEntry.getKey(), tile );
+            cachedByteSize += tile.getByteSize();
+        }
+        trimToMemoryCap( visibleTiles );
+
+        for ( final Map.Entry< Long, OffScreenBuffer > tileEntry : visibleTiles.entrySet() ) {
+            final Rectangle tileBounds = getTileBounds( tileEntry.getKey() );
+            tileEntry.getValue().drawBuffer( graphicsContext,
+                                             tileBounds.x,
+                                             tileBounds.y,
+                                             tileBounds.width,
+                                             tileBounds.height,
+                                             imageObserver );
+        }
+    }
+
+    /**
+     * Returns the total number of bytes held by the cached tiles.
+     *
+     * @return The total number of bytes held by the cached tiles
+     *
+     * @version 1.0
+     */
+    public long getCachedByteSize() {
+        return cachedByteSize;
+    }
+
+    /**
+     * Returns the maximum number of bytes to hold in cached tiles.
+     *
+     * @return The maximum number of bytes to hold in cached tiles
+     *
+     * @version 1.0
+     */
+    public long getMemoryCap() {
+        return memoryCap;
+    }
+
+    /**
+     * Sets the maximum number of bytes to hold in cached tiles, other than
+     * those that are currently visible; the cap is applied on the next draw.
+     *
+     * @param maximumByteSize
+     *            The maximum number of bytes to hold in cached tiles
+     *
+     * @version 1.0
+     */
+    public void setMemoryCap( final long maximumByteSize ) {
+        memoryCap = FastMath.max( 0L, maximumByteSize );
+    }
+
+    /**
+     * Discards all cached tiles; the renderer may still be used afterwards.
+     *
+     * @version 1.0
+     */
+    public void dispose() {
+        invalidate();
+    }
+
+    /**
+     * Renders the specified tiles, in parallel if there are several of them.
+     * Tiles that fail to render are left cleared to the background color.
+     *
+     * @param tiles
+     *            The tiles to render, keyed by tile row and column
+     *
+     * @version 1.0
+     */
+    private void renderTiles( final Map< Long, OffScreenBuffer > tiles ) {
+        if ( tiles.isEmpty() ) {
+            return;
+        }
+
+        // Snapshot the canvas for the workers.
+        final int width = canvasWidth;
+        final int height = canvasHeight;
+        final Color background = backgroundColor;
+
+        final List< Callable< Void > > renderTasks = new ArrayList<>( tiles.size() );
+        for ( final Map.Entry< Long, OffScreenBuffer > tileEntry : tiles.entrySet() ) {
+            final Rectangle tileBounds = getTileBounds( tileEntry.getKey() );
+            final OffScreenBuffer tile = tileEntry.getValue();
+            renderTasks.add( () -> {
+                renderTile( tile, tileBounds, width, height, background );
+                return null;
+            } );
+        }
+
+        // A single tile isn't worth the hand-off to a worker thread.
+        if ( renderTasks.size() == 1 ) {
+            try {
+                renderTasks.get( 0 ).call();
+            }
+            catch ( final Exception e ) {
+                e.printStackTrace();
+            }
+            return;
+        }
+
+        try {
+            for ( final Future< Void > renderResult : TILE_EXECUTOR.invokeAll( renderTasks ) ) {
+                try {
+                    renderResult.get();
+                }
+                catch ( final ExecutionException ee ) {
+                    ee.getCause().printStackTrace();
+                }
+            }
+        }
+        catch ( final InterruptedException ie ) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Renders a single tile; this runs on a worker thread.
+     *
+     * @param tile
+     *            The buffer to render the tile into
+     * @param tileBounds
+     *            The bounds of the tile, in canvas coordinates
+     * @param width
+     *            The width of the canvas, in pixels
+     * @param height
+     *            The height of the canvas, in pixels
+     * @param background
+     *            The color to clear the tile to before rendering it
+     *
+     * @version 1.0
+     */
+    private void renderTile( final OffScreenBuffer tile,
+                             final Rectangle tileBounds,
+                             final int width,
+                             final int height,
+                             final Color background ) {
+        final Graphics2D graphics2D = tile.createGraphics();
+        try {
+            graphics2D.setBackground( background );
+            graphics2D.clearRect( 0, 0, tileSize, tileSize );
+
+            // Render the whole canvas, shifted so that the tile lands at the
+            // origin and clipped so that only the tile is affected.
+            graphics2D.clipRect( 0, 0, tileBounds.width, tileBounds.height );
+            graphics2D.translate( -tileBounds.x, -tileBounds.y );
+            frameRenderer.renderFrame( graphics2D, width, height );
+        }
+        finally {
+            graphics2D.dispose();
+        }
+    }
+
+    /**
+     * Discards the least recently used tiles until the cache is within its
+     * memory cap, never discarding the tiles that are currently visible.
+     *
+     * @param visibleTiles
+     *            The tiles that are currently visible
+     *
+     * @version 1.0
+     */
+    private void trimToMemoryCap( final Map< Long, OffScreenBuffer > visibleTiles ) {
+        final OffScreenBufferPool bufferPool = OffScreenBufferPool.getSharedPool();
+        final Iterator< Map.Entry< Long, OffScreenBuffer > > tileIterator = tileCache.entrySet()
+                .iterator();
+        while ( ( cachedByteSize > memoryCap ) && tileIterator.hasNext() ) {
+            final Map.Entry< Long, OffScreenBuffer > tileEntry = tileIterator.next();
+            if ( visibleTiles.containsKey( tileEntry.getKey() ) ) {
+                continue;
+            }
+
+            final OffScreenBuffer tile = tileEntry.getValue();
+            tileIterator.remove();
+            cachedByteSize -= tile.getByteSize();
+            bufferPool.release( tile );
+        }
+    }
+
+    /**
+     * Returns the cache key for the tile at the specified row and column.
+     *
+     * @param row
+     *            The tile row
+     * @param column
+     *            The tile column
+     * @return The cache key for the tile
+     *
+     * @version 1.0
+     */
+    private static Long getTileKey( final int row, final int column ) {
+        return Long.valueOf( ( ( long ) row << 32 ) | ( column & 0xFFFFFFFFL ) );
+    }
+
+    /**
+     * Returns the bounds of a tile in canvas coordinates, clamped to the
+     * canvas so that edge tiles may be smaller than the tile size.
+     *
+     * @param tileKey
+     *            The cache key for the tile
+     * @return The bounds of the tile in canvas coordinates
+     *
+     * @version 1.0
+     */
+    private Rectangle getTileBounds( final Long tileKey ) {
+        final long key = tileKey.longValue();
+        final int x = ( int ) key * tileSize;
+        final int y = ( int ) ( key >>> 32 ) * tileSize;
+        return new Rectangle( x,
+                              y,
+                              FastMath.min( tileSize, canvasWidth - x ),
+                              FastMath.min( tileSize, canvasHeight - y ) );
+    }
+
+}
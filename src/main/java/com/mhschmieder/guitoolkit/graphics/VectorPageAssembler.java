@@ -0,0 +1,75 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the GuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * GuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/guitoolkit
+ */
+package com.mhschmieder.guitoolkit.graphics;
+
+import java.io.IOException;
+
+/**
+ * {@code VectorPageAssembler} is an interface that establishes the contract
+ * for assembling separately encoded pages into the final export output, such
+ * as by writing them to a file or an archive.
+ * <p>
+ * Pages are always appended strictly in order and from a single thread, even
+ * when they were encoded out of order on several threads, so implementations
+ * need no synchronization of their own.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public interface VectorPageAssembler {
+
+    /**
+     * Appends the next encoded page to the export output.
+     *
+     * @param pageIndex
+     *            The zero-based index of the page in the overall export
+     * @param encodedPage
+     *            The encoded form of the page
+     * @throws IOException
+     *             If the page could not be written to the export output
+     *
+     * @version 1.0
+     */
+    void appendPage( final int pageIndex, final byte[] encodedPage ) throws IOException;
+
+    /**
+     * Completes the export output, once all of the pages have been appended.
+     * This is not called if the export is cancelled or fails.
+     *
+     * @throws IOException
+     *             If the export output could not be completed
+     *
+     * @version 1.0
+     */
+    void finish() throws IOException;
+
+}
@@ -0,0 +1,72 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the GuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * GuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/guitoolkit
+ */
+package com.mhschmieder.guitoolkit.graphics;
+
+import java.awt.geom.Rectangle2D;
+import java.io.IOException;
+
+/**
+ * {@code VectorPageEncoder} is an interface that establishes the contract for
+ * encoding a snapshot of vectorized content into a specific output format,
+ * one page at a time.
+ * <p>
+ * Implementations must be thread-safe, as pages are generally encoded in
+ * parallel on worker threads; as display lists are immutable, this usually
+ * just means not keeping any mutable state in the encoder itself.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public interface VectorPageEncoder {
+
+    /**
+     * Returns the encoded form of a page of vectorized content.
+     *
+     * @param pageIndex
+     *            The zero-based index of the page in the overall export
+     * @param displayList
+     *            The immutable snapshot of the page content
+     * @param pageBounds
+     *            The bounds of the page content, in the coordinate space of the
+     *            display list
+     * @return The encoded form of the page
+     * @throws IOException
+     *             If the page could not be encoded
+     *
+     * @version 1.0
+     */
+    byte[] encodePage( final int pageIndex,
+                       final DisplayList displayList,
+                       final Rectangle2D pageBounds )
+            throws IOException;
+
+}
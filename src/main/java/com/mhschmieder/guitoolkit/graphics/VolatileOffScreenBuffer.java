@@ -0,0 +1,176 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the GuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * GuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/guitoolkit
+ */
+package com.mhschmieder.guitoolkit.graphics;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.image.VolatileImage;
+
+/**
+ * {@code VolatileOffScreenBuffer} is an {@link OffScreenBuffer} whose pixels
+ * live in a hardware-accelerated {@link VolatileImage}, so that both rendering
+ * into the buffer and showing it on screen run through the graphics pipeline
+ * rather than through software blitting loops.
+ * <p>
+ * The image is restored or recreated as needed during {@link #validate}, which
+ * then tells the client that the buffer has to be regenerated.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class VolatileOffScreenBuffer extends OffScreenBuffer {
+
+    /**
+     * The image that holds the buffer contents.
+     */
+    private VolatileImage volatileImage;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs a {@code VolatileOffScreenBuffer} around an existing image.
+     *
+     * @param configuration
+     *            The Graphics Configuration that the image is compatible with
+     * @param image
+     *            The image that holds the buffer contents
+     *
+     * @version 1.0
+     */
+    public VolatileOffScreenBuffer( final GraphicsConfiguration configuration,
+                                    final VolatileImage image ) {
+        // Always call the superclass constructor first!
+        super( configuration, image.getWidth(), image.getHeight(), image.getTransparency() );
+
+        volatileImage = image;
+    }
+
+    /////////////////// OffScreenBuffer method overrides /////////////////////
+
+    /**
+     * Returns {@code true} if the buffer is currently hardware-accelerated.
+     *
+     * @return {@code true} if the buffer is currently hardware-accelerated
+     *
+     * @version 1.0
+     */
+    @Override
+    public boolean isAccelerated() {
+        return volatileImage.getCapabilities().isAccelerated();
+    }
+
+    /**
+     * Returns a new Graphics Context for rendering into the buffer; the caller
+     * is responsible for disposing it.
+     *
+     * @return A new Graphics Context for rendering into the buffer
+     *
+     * @version 1.0
+     */
+    @Override
+    public Graphics2D createGraphics() {
+        return volatileImage.createGraphics();
+    }
+
+    /**
+     * Returns {@code true} if the buffer contents were lost or the buffer had
+     * to be recreated, in which case it has to be fully regenerated before it
+     * is shown.
+     * <p>
+     * If the component has moved to a different screen, the image is recreated
+     * for the new screen, so that it stays accelerated there.
+     *
+     * @param configuration
+     *            The current Graphics Configuration of the screen that the
+     *            buffer will be shown on, or {@code null} if unknown
+     * @return {@code true} if the buffer has to be fully regenerated
+     *
+     * @version 1.0
+     */
+    @Override
+    public boolean validate( final GraphicsConfiguration configuration ) {
+        if ( configuration != null ) {
+            graphicsConfiguration = configuration;
+        }
+
+        switch ( volatileImage.validate( graphicsConfiguration ) ) {
+        case VolatileImage.IMAGE_OK:
+            return false;
+        case VolatileImage.IMAGE_RESTORED:
+            return true;
+        case VolatileImage.IMAGE_INCOMPATIBLE:
+        default:
+            volatileImage.flush();
+            volatileImage = graphicsConfiguration
+                    .createCompatibleVolatileImage( width, height, transparency );
+            return true;
+        }
+    }
+
+    /**
+     * Returns {@code true} if the buffer contents were lost since the last
+     * call to {@link #validate}, meaning that whatever was just shown from the
+     * buffer may have been garbage.
+     *
+     * @return {@code true} if the buffer contents were lost
+     *
+     * @version 1.0
+     */
+    @Override
+    public boolean contentsLost() {
+        return volatileImage.contentsLost();
+    }
+
+    /**
+     * Returns the image that holds the buffer contents, for drawing it.
+     *
+     * @return The image that holds the buffer contents
+     *
+     * @version 1.0
+     */
+    @Override
+    protected Image getImage() {
+        return volatileImage;
+    }
+
+    /**
+     * Releases the video memory held by the buffer.
+     *
+     * @version 1.0
+     */
+    @Override
+    public void flush() {
+        volatileImage.flush();
+    }
+
+}
@@ -0,0 +1,1079 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the GuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * GuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/guitoolkit
+ */
+package com.mhschmieder.guitoolkit.table;
+
+import java.awt.EventQueue;
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.swing.RowFilter;
+import javax.swing.RowSorter;
+import javax.swing.SortOrder;
+import javax.swing.table.TableModel;
+
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * {@code AsyncTableRowSorter} is a {@link RowSorter} for Table Models that
+ * sorts and filters on a background thread, so that sorting a large table does
+ * not block user input on the event dispatch thread.
+ * <p>
+ * Each sort or filter request is processed in three steps:
+ * <ol>
+ * <li>The key columns are copied into a snapshot on the event dispatch thread,
+ * as primitive arrays for the numeric columns of a
+ * {@link ColumnStoreTableModel}, or as value arrays otherwise.</li>
+ * <li>The snapshot is filtered and then sorted on a background thread, by
+ * ranking each key column and then doing a stable least-significant-key-first
+ * parallel sort of packed primitive keys, so that no boxed comparisons are
+ * needed beyond the ranking of non-numeric columns.</li>
+ * <li>The new view index is published to the table in a single swap on the
+ * event dispatch thread, followed by the usual sorter change notification.</li>
+ * </ol>
+ * <p>
+ * Every new request increments a generation counter, which makes any request
+ * that is still in progress abandon its work and discard its results. Tables
+ * with fewer rows than the asynchronous threshold are sorted immediately on the
+ * calling thread, using the same algorithm, as the overhead of hopping threads
+ * would then outweigh the benefit.
+ * <p>
+ * Model changes are applied to the current view index immediately, as the
+ * table relies on the index being valid right after each change: deleted rows
+ * are removed from the view, and inserted rows are appended to the end of the
+ * view until the background re-sort completes.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public class AsyncTableRowSorter extends RowSorter< TableModel > {
+
+    /**
+     * The default number of model rows at or above which sorting is done on a
+     * background thread.
+     */
+    public static final int             DEFAULT_ASYNC_THRESHOLD = 10000;
+
+    /**
+     * The default maximum number of sort keys, matching Swing's default.
+     */
+    public static final int             DEFAULT_MAX_SORT_KEYS   = 3;
+
+    /**
+     * The shared executor for background sort requests; a single thread is
+     * sufficient as stale requests are abandoned, and the primitive sorts
+     * themselves run in parallel on the common fork/join pool.
+     */
+    private static final ExecutorService SORT_EXECUTOR           = Executors
+            .newSingleThreadExecutor( runnable -> {
+                final Thread thread = new Thread( runnable, "AsyncTableRowSorter" ); //$NON-NLS-1$
+                thread.setDaemon( true );
+                return thread;
+            } );
+
+    /**
+     * The per-thread collators for string comparison, as collators are not
+     * safe to share between the sort thread and any other thread.
+     */
+    private static final ThreadLocal< Collator > COLLATORS       = ThreadLocal
+            .withInitial( Collator::getInstance );
+
+    /**
+     * The Table Model that is being sorted.
+     */
+    private TableModel                  tableModel;
+
+    /**
+     * The current sort keys, in order of precedence.
+     */
+    private List< SortKey >             sortKeys;
+
+    /**
+     * The current row filter, or {@code null} if no rows are filtered.
+     */
+    private RowFilter< ? super TableModel, ? super Integer > rowFilter;
+
+    /**
+     * The custom comparators for specific model columns.
+     */
+    private final Map< Integer, Comparator< ? > > comparators;
+
+    /**
+     * The snapshot of all column values that the row filter was last applied
+     * to, by column, or {@code null} if a new snapshot has to be taken. Column
+     * arrays are copied before they are patched, as the background thread may
+     * still be reading them.
+     */
+    private Object[][]                  filterValues;
+
+    /**
+     * The mapping from view index to model index, or {@code null} for the
+     * identity mapping.
+     */
+    private int[]                       viewToModel;
+
+    /**
+     * The mapping from model index to view index, or {@code null} for the
+     * identity mapping; excluded model rows map to -1.
+     */
+    private int[]                       modelToView;
+
+    /**
+     * The number of model rows that the current mapping accounts for.
+     */
+    private int                         modelRowCount;
+
+    /**
+     * The generation of the most recent request; incremented on every request
+     * so that requests that are still in progress know they are stale.
+     */
+    private final AtomicInteger         generation;
+
+    /**
+     * The generation of the asynchronous request that is in progress, or -1
+     * if there is none.
+     */
+    private int                         pendingGeneration;
+
+    /**
+     * The number of model rows at or above which sorting is asynchronous.
+     */
+    private int                         asyncThreshold;
+
+    /**
+     * The maximum number of sort keys.
+     */
+    private int                         maxSortKeys;
+
+    /**
+     * Flag for whether to re-sort when rows are updated.
+     */
+    private boolean                     sortsOnUpdates;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs an {@code AsyncTableRowSorter} for the specified Table Model.
+     *
+     * @param model
+     *            The Table Model to sort and filter
+     *
+     * @version 1.0
+     */
+    public AsyncTableRowSorter( final TableModel model ) {
+        // Always call the superclass constructor first!
+        super();
+
+        tableModel = model;
+        sortKeys = Collections.emptyList();
+        rowFilter = null;
+        comparators = new HashMap<>();
+        filterValues = null;
+        viewToModel = null;
+        modelToView = null;
+        modelRowCount = model.getRowCount();
+        generation = new AtomicInteger();
+        pendingGeneration = -1;
+        asyncThreshold = DEFAULT_ASYNC_THRESHOLD;
+        maxSortKeys = DEFAULT_MAX_SORT_KEYS;
+        sortsOnUpdates = false;
+    }
+
+    ////////////////// Accessor methods for private data /////////////////////
+
+    /**
+     * Sets the Table Model to sort and filter, discarding the sort keys and
+     * the current view index.
+     *
+     * @param model
+     *            The Table Model to sort and filter
+     *
+     * @version 1.0
+     */
+    public void setModel( final TableModel model ) {
+        tableModel = model;
+        modelStructureChanged();
+    }
+
+    /**
+     * Sets the number of model rows at or above which sorting is done on a
+     * background thread.
+     *
+     * @param threshold
+     *            The number of rows at or above which sorting is asynchronous
+     *
+     * @version 1.0
+     */
+    public void setAsyncThreshold( final int threshold ) {
+        asyncThreshold = threshold;
+    }
+
+    /**
+     * Sets the maximum number of sort keys.
+     *
+     * @param maximumSortKeys
+     *            The maximum number of sort keys
+     *
+     * @version 1.0
+     */
+    public void setMaxSortKeys( final int maximumSortKeys ) {
+        maxSortKeys = FastMath.max( 1, maximumSortKeys );
+    }
+
+    /**
+     * Sets whether to re-sort when rows are updated.
+     *
+     * @param sortOnUpdates
+     *            {@code true} if the rows should be re-sorted on updates
+     *
+     * @version 1.0
+     */
+    public void setSortsOnUpdates( final boolean sortOnUpdates ) {
+        sortsOnUpdates = sortOnUpdates;
+    }
+
+    /**
+     * Sets the comparator to use for the specified model column, in place of
+     * the natural ordering of its values.
+     *
+     * @param column
+     *            The model column to set the comparator for
+     * @param comparator
+     *            The comparator to use, or {@code null} for natural ordering
+     *
+     * @version 1.0
+     */
+    public void setComparator( final int column, final Comparator< ? > comparator ) {
+        if ( comparator == null ) {
+            comparators.remove( Integer.valueOf( column ) );
+        }
+        else {
+            comparators.put( Integer.valueOf( column ), comparator );
+        }
+    }
+
+    /**
+     * Sets the row filter, and requests a new view index to apply it.
+     *
+     * @param filter
+     *            The row filter, or {@code null} for no filtering
+     *
+     * @version 1.0
+     */
+    public void setRowFilter( final RowFilter< ? super TableModel, ? super Integer > filter ) {
+        rowFilter = filter;
+        requestSort();
+    }
+
+    /**
+     * Returns the row filter.
+     *
+     * @return The row filter, or {@code null} if there is no filtering
+     *
+     * @version 1.0
+     */
+    public RowFilter< ? super TableModel, ? super Integer > getRowFilter() {
+        return rowFilter;
+    }
+
+    /**
+     * Returns {@code true} if a sort or filter request is still in progress.
+     *
+     * @return {@code true} if a sort or filter request is still in progress
+     *
+     * @version 1.0
+     */
+    public boolean isSortPending() {
+        return pendingGeneration == generation.get();
+    }
+
+    ////////////////////// RowSorter method overrides ////////////////////////
+
+    @Override
+    public TableModel getModel() {
+        return tableModel;
+    }
+
+    @Override
+    public void toggleSortOrder( final int column ) {
+        final List< SortKey > newSortKeys = new ArrayList<>( sortKeys );
+        final SortKey primarySortKey = newSortKeys.isEmpty() ? null : newSortKeys.get( 0 );
+        if ( ( primarySortKey != null ) && ( primarySortKey.getColumn() == column ) ) {
+            final SortOrder sortOrder = ( primarySortKey.getSortOrder() == SortOrder.ASCENDING )
+                ? SortOrder.DESCENDING
+                : SortOrder.ASCENDING;
+            newSortKeys.set( 0, new SortKey( column, sortOrder ) );
+        }
+        else {
+            newSortKeys.removeIf( sortKey -> sortKey.getColumn() == column );
+            newSortKeys.add( 0, new SortKey( column, SortOrder.ASCENDING ) );
+            if ( newSortKeys.size() > maxSortKeys ) {
+                newSortKeys.subList( maxSortKeys, newSortKeys.size() ).clear();
+            }
+        }
+
+        setSortKeys( newSortKeys );
+    }
+
+    @Override
+    public int convertRowIndexToModel( final int index ) {
+        if ( viewToModel == null ) {
+            if ( ( index < 0 ) || ( index >= modelRowCount ) ) {
+                throw new IndexOutOfBoundsException( "Invalid view index: " + index ); //$NON-NLS-1$
+            }
+            return index;
+        }
+        return viewToModel[ index ];
+    }
+
+    @Override
+    public int convertRowIndexToView( final int index ) {
+        if ( modelToView == null ) {
+            if ( ( index < 0 ) || ( index >= modelRowCount ) ) {
+                throw new IndexOutOfBoundsException( "Invalid model index: " + index ); //$NON-NLS-1$
+            }
+            return index;
+        }
+        return modelToView[ index ];
+    }
+
+    @Override
+    public void setSortKeys( final List< ? extends SortKey > keys ) {
+        final List< SortKey > newSortKeys = ( keys == null )
+            ? Collections.emptyList()
+            : Collections.unmodifiableList( new ArrayList<>( keys ) );
+        if ( newSortKeys.equals( sortKeys ) ) {
+            return;
+        }
+
+        sortKeys = newSortKeys;
+        fireSortOrderChanged();
+        requestSort();
+    }
+
+    @Override
+    public List< ? extends SortKey > getSortKeys() {
+        return sortKeys;
+    }
+
+    @Override
+    public int getViewRowCount() {
+        return ( viewToModel == null ) ? modelRowCount : viewToModel.length;
+    }
+
+    @Override
+    public int getModelRowCount() {
+        return tableModel.getRowCount();
+    }
+
+    @Override
+    public void modelStructureChanged() {
+        generation.incrementAndGet();
+        modelRowCount = tableModel.getRowCount();
+        filterValues = null;
+        if ( !sortKeys.isEmpty() ) {
+            sortKeys = Collections.emptyList();
+            fireSortOrderChanged();
+        }
+        publishMapping( null, null );
+        if ( rowFilter != null ) {
+            requestSort();
+        }
+    }
+
+    @Override
+    public void allRowsChanged() {
+        filterValues = null;
+        if ( tableModel.getRowCount() != modelRowCount ) {
+            modelRowCount = tableModel.getRowCount();
+            publishMapping( null, null );
+        }
+        requestSort();
+    }
+
+    @Override
+    public void rowsInserted( final int firstRow, final int endRow ) {
+        final int count = endRow - firstRow + 1;
+        modelRowCount += count;
+        filterValues = null;
+        if ( viewToModel == null ) {
+            requestSort();
+            return;
+        }
+
+        // Shift the existing model indices, then append the new rows to the
+        // end of the view until the re-sort completes.
+        final int oldViewRowCount = viewToModel.length;
+        final int[] newViewToModel = Arrays.copyOf( viewToModel, oldViewRowCount + count );
+        for ( int viewRow = 0; viewRow < oldViewRowCount; viewRow++ ) {
+            if ( newViewToModel[ viewRow ] >= firstRow ) {
+                newViewToModel[ viewRow ] += count;
+            }
+        }
+        for ( int i = 0; i < count; i++ ) {
+            newViewToModel[ oldViewRowCount + i ] = firstRow + i;
+        }
+
+        // Keep the appended rows even if there is a filter, as the filter will
+        // be re-applied by the re-sort.
+        final int[] previousViewToModel = viewToModel;
+        viewToModel = newViewToModel;
+        modelToView = invertMapping( newViewToModel, modelRowCount );
+        fireRowSorterChanged( previousViewToModel );
+
+        requestSort();
+    }
+
+    @Override
+    public void rowsDeleted( final int firstRow, final int endRow ) {
+        final int count = endRow - firstRow + 1;
+        modelRowCount -= count;
+        filterValues = null;
+        if ( viewToModel == null ) {
+            requestSort();
+            return;
+        }
+
+        final int[] newViewToModel = new int[ viewToModel.length ];
+        int newViewRowCount = 0;
+        for ( final int modelRow : viewToModel ) {
+            if ( modelRow < firstRow ) {
+                newViewToModel[ newViewRowCount++ ] = modelRow;
+            }
+            else if ( modelRow > endRow ) {
+                newViewToModel[ newViewRowCount++ ] = modelRow - count;
+            }
+        }
+
+        final int[] previousViewToModel = viewToModel;
+        viewToModel = Arrays.copyOf( newViewToModel, newViewRowCount );
+        modelToView = invertMapping( viewToModel, modelRowCount );
+        fireRowSorterChanged( previousViewToModel );
+
+        requestSort();
+    }
+
+    @Override
+    public void rowsUpdated( final int firstRow, final int endRow ) {
+        if ( rowFilter != null ) {
+            for ( int column = 0; column < tableModel.getColumnCount(); column++ ) {
+                updateFilterValues( firstRow, endRow, column );
+            }
+        }
+        if ( sortsOnUpdates || ( rowFilter != null ) ) {
+            requestSort();
+        }
+    }
+
+    @Override
+    public void rowsUpdated( final int firstRow, final int endRow, final int column ) {
+        if ( rowFilter != null ) {
+            updateFilterValues( firstRow, endRow, column );
+        }
+        if ( ( rowFilter != null ) || ( sortsOnUpdates && isSortColumn( column ) ) ) {
+            requestSort();
+        }
+    }
+
+    /**
+     * Patches the updated cells of a column into the retained row filter
+     * snapshot, so that the next request doesn't have to take a new snapshot
+     * of every cell; the snapshot is discarded if it can't be patched.
+     *
+     * @param firstRow
+     *            The first updated model row
+     * @param endRow
+     *            The last updated model row
+     * @param column
+     *            The updated model column
+     *
+     * @version 1.0
+     */
+    private void updateFilterValues( final int firstRow, final int endRow, final int column ) {
+        if ( filterValues == null ) {
+            return;
+        }
+        if ( ( column < 0 ) || ( column >= filterValues.length ) || ( firstRow < 0 )
+                || ( endRow >= filterValues[ column ].length ) || ( endRow < firstRow ) ) {
+            filterValues = null;
+            return;
+        }
+
+        // Copy the column before patching it, and the outer array too, so that
+        // a snapshot that is still in use on the background thread is intact.
+        final Object[][] newFilterValues = filterValues.clone();
+        final Object[] columnValues = filterValues[ column ].clone();
+        for ( int row = firstRow; row <= endRow; row++ ) {
+            columnValues[ row ] = tableModel.getValueAt( row, column );
+        }
+        newFilterValues[ column ] = columnValues;
+        filterValues = newFilterValues;
+    }
+
+    ///////////////////////// Sort request methods ///////////////////////////
+
+    /**
+     * Returns {@code true} if the specified model column is a sort key.
+     *
+     * @param column
+     *            The model column to check
+     * @return {@code true} if the specified model column is a sort key
+     *
+     * @version 1.0
+     */
+    private boolean isSortColumn( final int column ) {
+        for ( final SortKey sortKey : sortKeys ) {
+            if ( sortKey.getColumn() == column ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Requests a new view index for the current sort keys and row filter,
+     * abandoning any request that is still in progress.
+     *
+     * @version 1.0
+     */
+    private void requestSort() {
+        final int requestGeneration = generation.incrementAndGet();
+
+        // Without sort keys or filtering, the view index is the identity.
+        final List< SortKey > activeSortKeys = getActiveSortKeys();
+        if ( activeSortKeys.isEmpty() && ( rowFilter == null ) ) {
+            pendingGeneration = -1;
+            publishMapping( null, null );
+            return;
+        }
+
+        final SortSnapshot snapshot = new SortSnapshot( tableModel,
+                                                        activeSortKeys,
+                                                        rowFilter,
+                                                        filterValues,
+                                                        comparators,
+                                                        requestGeneration,
+                                                        generation );
+        filterValues = snapshot.getFilterValues();
+        if ( modelRowCount < asyncThreshold ) {
+            pendingGeneration = -1;
+            final int[] sortedViewToModel = snapshot.sort();
+            publishMapping( sortedViewToModel, invertMapping( sortedViewToModel, modelRowCount ) );
+            return;
+        }
+
+        pendingGeneration = requestGeneration;
+        SORT_EXECUTOR.execute( () -> {
+            final int[] sortedViewToModel = snapshot.sort();
+            if ( sortedViewToModel == null ) {
+                return;
+            }
+            final int[] sortedModelToView = invertMapping( sortedViewToModel,
+                                                           snapshot.getRowCount() );
+            EventQueue.invokeLater( () -> {
+                // Only publish if nothing changed since the snapshot was taken.
+                if ( ( generation.get() == requestGeneration )
+                        && ( modelRowCount == snapshot.getRowCount() ) ) {
+                    pendingGeneration = -1;
+                    publishMapping( sortedViewToModel, sortedModelToView );
+                }
+            } );
+        } );
+    }
+
+    /**
+     * Returns the sort keys that actually affect ordering, in order of
+     * precedence, with unsorted keys and invalid columns removed.
+     *
+     * @return The sort keys that actually affect ordering
+     *
+     * @version 1.0
+     */
+    private List< SortKey > getActiveSortKeys() {
+        final int columnCount = tableModel.getColumnCount();
+        final List< SortKey > activeSortKeys = new ArrayList<>( sortKeys.size() );
+        for ( final SortKey sortKey : sortKeys ) {
+            if ( ( sortKey.getSortOrder() != SortOrder.UNSORTED ) && ( sortKey.getColumn() >= 0 )
+                    && ( sortKey.getColumn() < columnCount ) ) {
+                activeSortKeys.add( sortKey );
+            }
+        }
+        return activeSortKeys;
+    }
+
+    /**
+     * Swaps in a new view index in one step, and notifies the listeners.
+     *
+     * @param newViewToModel
+     *            The new mapping from view index to model index, or
+     *            {@code null} for the identity mapping
+     * @param newModelToView
+     *            The new mapping from model index to view index, or
+     *            {@code null} for the identity mapping
+     *
+     * @version 1.0
+     */
+    private void publishMapping( final int[] newViewToModel, final int[] newModelToView ) {
+        if ( ( newViewToModel == null ) && ( viewToModel == null ) ) {
+            return;
+        }
+
+        // The listeners need the previous view index to restore the selection,
+        // so an identity mapping has to be made explicit.
+        final int[] previousViewToModel = ( viewToModel != null )
+            ? viewToModel
+            : makeIdentityMapping( modelRowCount );
+
+        viewToModel = newViewToModel;
+        modelToView = newModelToView;
+
+        fireRowSorterChanged( previousViewToModel );
+    }
+
+    /**
+     * Returns an identity mapping of the specified size.
+     *
+     * @param size
+     *            The number of indices in the mapping
+     * @return An identity mapping of the specified size
+     *
+     * @version 1.0
+     */
+    private static int[] makeIdentityMapping( final int size ) {
+        final int[] mapping = new int[ size ];
+        Arrays.setAll( mapping, index -> index );
+        return mapping;
+    }
+
+    /**
+     * Returns the inverse of a view to model mapping, with model rows that are
+     * not in the view mapped to -1.
+     *
+     * @param mapping
+     *            The mapping from view index to model index
+     * @param rowCount
+     *            The number of model rows
+     * @return The mapping from model index to view index
+     *
+     * @version 1.0
+     */
+    private static int[] invertMapping( final int[] mapping, final int rowCount ) {
+        final int[] inverse = new int[ rowCount ];
+        Arrays.fill( inverse, -1 );
+        for ( int viewRow = 0; viewRow < mapping.length; viewRow++ ) {
+            inverse[ mapping[ viewRow ] ] = viewRow;
+        }
+        return inverse;
+    }
+
+    /**
+     * {@code SortSnapshot} is an immutable copy of everything that is needed to
+     * compute a view index, so that the computation can run off of the event
+     * dispatch thread without touching the live Table Model.
+     */
+    private static final class SortSnapshot {
+
+        /**
+         * The live Table Model, which is only exposed to the row filter as its
+         * identifying model and must not be read off of the EDT.
+         */
+        private final TableModel    model;
+
+        /**
+         * The number of model rows at the time of the snapshot.
+         */
+        private final int           rowCount;
+
+        /**
+         * The sort keys to apply, in order of precedence.
+         */
+        private final List< SortKey > sortKeys;
+
+        /**
+         * The numeric key column values, or {@code null} for non-numeric keys.
+         */
+        private final double[][]    numericKeys;
+
+        /**
+         * The non-numeric key column values, or {@code null} for numeric keys.
+         */
+        private final Object[][]    objectKeys;
+
+        /**
+         * The comparators for the non-numeric key columns.
+         */
+        private final Comparator< Object >[] keyComparators;
+
+        /**
+         * The row filter, or {@code null} if no rows are filtered.
+         */
+        private final RowFilter< ? super TableModel, ? super Integer > rowFilter;
+
+        /**
+         * All of the column values, by column, when a row filter is in use.
+         */
+        private final Object[][]    filterValues;
+
+        /**
+         * The generation of the request that this snapshot is for.
+         */
+        private final int           requestGeneration;
+
+        /**
+         * The sorter's generation counter, for checking for stale requests.
+         */
+        private final AtomicInteger currentGeneration;
+
+        /**
+         * Takes a snapshot of the key columns, and of all columns if a row
+         * filter is in use and no retained snapshot of them is available. This
+         * must be called on the event dispatch thread.
+         */
+        @SuppressWarnings("unchecked")
+        SortSnapshot( final TableModel tableModel,
+                      final List< SortKey > activeSortKeys,
+                      final RowFilter< ? super TableModel, ? super Integer > filter,
+                      final Object[][] retainedFilterValues,
+                      final Map< Integer, Comparator< ? > > customComparators,
+                      final int generation,
+                      final AtomicInteger generationCounter ) {
+            model = tableModel;
+            rowCount = tableModel.getRowCount();
+            sortKeys = activeSortKeys;
+            rowFilter = filter;
+            requestGeneration = generation;
+            currentGeneration = generationCounter;
+
+            final int numberOfKeys = activeSortKeys.size();
+            numericKeys = new double[ numberOfKeys ][];
+            objectKeys = new Object[ numberOfKeys ][];
+            keyComparators = ( Comparator< Object >[] ) new Comparator< ? >[ numberOfKeys ];
+            for ( int key = 0; key < numberOfKeys; key++ ) {
+                final int column = activeSortKeys.get( key ).getColumn();
+                final Comparator< ? > customComparator = customComparators
+                        .get( Integer.valueOf( column ) );
+                if ( ( customComparator == null )
+                        && ( tableModel instanceof ColumnStoreTableModel )
+                        && ( ( ColumnStoreTableModel ) tableModel ).isNumericColumn( column ) ) {
+                    final ColumnStore columnStore = ( ( ColumnStoreTableModel ) tableModel )
+                            .getColumnStore( column );
+                    final double[] values = new double[ rowCount ];
+                    for ( int row = 0; row < rowCount; row++ ) {
+                        values[ row ] = columnStore.getDoubleAt( row );
+                    }
+                    numericKeys[ key ] = values;
+                }
+                else {
+                    final Object[] values = new Object[ rowCount ];
+                    for ( int row = 0; row < rowCount; row++ ) {
+                        values[ row ] = tableModel.getValueAt( row, column );
+                    }
+                    objectKeys[ key ] = values;
+                    keyComparators[ key ] = ( customComparator != null )
+                        ? ( Comparator< Object > ) customComparator
+                        : makeNaturalComparator();
+                }
+            }
+
+            if ( ( filter != null ) && ( retainedFilterValues != null )
+                    && ( retainedFilterValues.length == tableModel.getColumnCount() )
+                    && ( ( retainedFilterValues.length == 0 )
+                            || ( retainedFilterValues[ 0 ].length == rowCount ) ) ) {
+                filterValues = retainedFilterValues;
+            }
+            else if ( filter != null ) {
+                final int columnCount = tableModel.getColumnCount();
+                filterValues = new Object[ columnCount ][ rowCount ];
+                for ( int column = 0; column < columnCount; column++ ) {
+                    for ( int row = 0; row < rowCount; row++ ) {
+                        filterValues[ column ][ row ] = tableModel.getValueAt( row, column );
+                    }
+                }
+            }
+            else {
+                filterValues = null;
+            }
+        }
+
+        /**
+         * Returns the snapshot of all column values for the row filter.
+         *
+         * @return The snapshot of all column values for the row filter, or
+         *         {@code null} if no row filter is in use
+         */
+        Object[][] getFilterValues() {
+            return filterValues;
+        }
+
+        /**
+         * Returns the number of model rows at the time of the snapshot.
+         *
+         * @return The number of model rows at the time of the snapshot
+         */
+        int getRowCount() {
+            return rowCount;
+        }
+
+        /**
+         * Returns {@code true} if a newer request has superseded this one.
+         *
+         * @return {@code true} if a newer request has superseded this one
+         */
+        private boolean isStale() {
+            return currentGeneration.get() != requestGeneration;
+        }
+
+        /**
+         * Returns the view index for the snapshot, or {@code null} if the
+         * request became stale while it was being computed.
+         *
+         * @return The mapping from view index to model index, or {@code null}
+         */
+        int[] sort() {
+            // Filter first, so that excluded rows don't have to be sorted.
+            int[] permutation = filter();
+            if ( ( permutation == null ) || isStale() ) {
+                return null;
+            }
+
+            // Apply the keys from least to most significant, using a stable
+            // sort on packed rank and position so that ties keep the order of
+            // the less significant keys, and ultimately the model order.
+            final int viewRowCount = permutation.length;
+            final long[] packedKeys = new long[ viewRowCount ];
+            for ( int key = sortKeys.size() - 1; key >= 0; key-- ) {
+                final int[] ranks = rankKey( key );
+                if ( ( ranks == null ) || isStale() ) {
+                    return null;
+                }
+
+                for ( int position = 0; position < viewRowCount; position++ ) {
+                    packedKeys[ position ] = ( ( long ) ranks[ permutation[ position ] ] << 32 )
+                            | position;
+                }
+                Arrays.parallelSort( packedKeys );
+
+                final int[] sortedPermutation = new int[ viewRowCount ];
+                for ( int position = 0; position < viewRowCount; position++ ) {
+                    sortedPermutation[ position ] = permutation[ ( int ) packedKeys[ position ] ];
+                }
+                permutation = sortedPermutation;
+            }
+
+            return isStale() ? null : permutation;
+        }
+
+        /**
+         * Returns the model rows that pass the row filter, in model order.
+         *
+         * @return The model rows that pass the row filter, or {@code null} if
+         *         the request became stale
+         */
+        private int[] filter() {
+            if ( rowFilter == null ) {
+                return makeIdentityMapping( rowCount );
+            }
+
+            final SnapshotEntry entry = new SnapshotEntry();
+            final int[] includedRows = new int[ rowCount ];
+            int includedRowCount = 0;
+            for ( int row = 0; row < rowCount; row++ ) {
+                if ( ( ( row & 0xFFF ) == 0 ) && isStale() ) {
+                    return null;
+                }
+                entry.row = row;
+                if ( rowFilter.include( entry ) ) {
+                    includedRows[ includedRowCount++ ] = row;
+                }
+            }
+
+            return Arrays.copyOf( includedRows, includedRowCount );
+        }
+
+        /**
+         * Returns the dense rank of every model row for the specified key, in
+         * the key's sort order.
+         *
+         * @param key
+         *            The index of the sort key to rank by
+         * @return The dense rank of every model row, or {@code null} if the
+         *         request became stale
+         */
+        private int[] rankKey( final int key ) {
+            final boolean descending = sortKeys.get( key ).getSortOrder() == SortOrder.DESCENDING;
+            final int[] ranks = new int[ rowCount ];
+            int maximumRank;
+
+            if ( numericKeys[ key ] != null ) {
+                // Rank primitive values against their sorted distinct values.
+                final double[] values = numericKeys[ key ];
+                final double[] distinctValues = values.clone();
+                Arrays.parallelSort( distinctValues );
+                final int distinctCount = removeDuplicates( distinctValues );
+                for ( int row = 0; row < rowCount; row++ ) {
+                    ranks[ row ] = Arrays.binarySearch( distinctValues,
+                                                        0,
+                                                        distinctCount,
+                                                        values[ row ] );
+                }
+                maximumRank = distinctCount - 1;
+            }
+            else {
+                // Rank objects against their sorted distinct values, with
+                // nulls ranked first as the natural comparators can't see them.
+                final Object[] values = objectKeys[ key ];
+                final Comparator< Object > comparator = Comparator
+                        .nullsFirst( keyComparators[ key ] );
+                final Object[] distinctValues = values.clone();
+                int distinctCount = 0;
+                try {
+                    // Comparators need not be thread-safe (collators and date
+                    // formats aren't), so objects are sorted on this thread
+                    // alone; only primitive keys are sorted in parallel.
+                    Arrays.sort( distinctValues, comparator );
+                    if ( isStale() ) {
+                        return null;
+                    }
+
+                    for ( int i = 0; i < distinctValues.length; i++ ) {
+                        if ( ( distinctCount == 0 ) || ( comparator.compare(
+                                distinctValues[ distinctCount - 1 ], distinctValues[ i ] ) != 0 ) ) {
+                            distinctValues[ distinctCount++ ] = distinctValues[ i ];
+                        }
+                    }
+                    for ( int row = 0; row < rowCount; row++ ) {
+                        // Comparators that are inconsistent may not find a row's
+                        // own value, in which case the insertion point is used.
+                        final int rank = Arrays.binarySearch( distinctValues,
+                                                              0,
+                                                              distinctCount,
+                                                              values[ row ],
+                                                              comparator );
+                        ranks[ row ] = ( rank < 0 ) ? -rank - 1 : rank;
+                    }
+                }
+                catch ( final ClassCastException | IllegalArgumentException e ) {
+                    // Mixed types that can't be compared, or that violate the
+                    // comparator contract, leave the order as is.
+                    Arrays.fill( ranks, 0 );
+                    return ranks;
+                }
+                maximumRank = distinctCount;
+            }
+
+            if ( descending ) {
+                for ( int row = 0; row < rowCount; row++ ) {
+                    ranks[ row ] = maximumRank - ranks[ row ];
+                }
+            }
+
+            return ranks;
+        }
+
+        /**
+         * Compacts a sorted array so that its distinct values come first.
+         *
+         * @param sortedValues
+         *            The sorted values to compact in place
+         * @return The number of distinct values
+         */
+        private static int removeDuplicates( final double[] sortedValues ) {
+            int distinctCount = 0;
+            for ( int i = 0; i < sortedValues.length; i++ ) {
+                if ( ( distinctCount == 0 ) || ( Double
+                        .compare( sortedValues[ distinctCount - 1 ], sortedValues[ i ] ) != 0 ) ) {
+                    sortedValues[ distinctCount++ ] = sortedValues[ i ];
+                }
+            }
+            return distinctCount;
+        }
+
+        /**
+         * Returns a comparator that uses the natural ordering of comparable
+         * values of the same class, and locale-sensitive string comparison
+         * otherwise, in the same spirit as Swing's table row sorter.
+         *
+         * @return A comparator for the natural ordering of cell values
+         */
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        private static Comparator< Object > makeNaturalComparator() {
+            return ( value1, value2 ) -> {
+                if ( ( value1 instanceof Comparable ) && !( value1 instanceof String )
+                        && ( value1.getClass() == value2.getClass() ) ) {
+                    return ( ( Comparable ) value1 ).compareTo( value2 );
+                }
+                return COLLATORS.get().compare( value1.toString(), value2.toString() );
+            };
+        }
+
+        /**
+         * {@code SnapshotEntry} is a row filter entry that reads its values from
+         * the snapshot rather than from the live Table Model.
+         */
+        private final class SnapshotEntry extends RowFilter.Entry< TableModel, Integer > {
+
+            /**
+             * The model row that this entry currently represents.
+             */
+            int row;
+
+            @Override
+            public TableModel getModel() {
+                return model;
+            }
+
+            @Override
+            public int getValueCount() {
+                return filterValues.length;
+            }
+
+            @Override
+            public Object getValue( final int index ) {
+                return filterValues[ index ][ row ];
+            }
+
+            @Override
+            public Integer getIdentifier() {
+                return Integer.valueOf( row );
+            }
+        }
+    }
+
+}
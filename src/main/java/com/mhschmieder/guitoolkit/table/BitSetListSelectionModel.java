@@ -0,0 +1,244 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the GuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * GuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/guitoolkit
+ */
+package com.mhschmieder.guitoolkit.table;
+
+import java.util.BitSet;
+
+import javax.swing.DefaultListSelectionModel;
+
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * {@code BitSetListSelectionModel} is a specialization of
+ * {@link DefaultListSelectionModel} that keeps a shadow {@link BitSet} of the
+ * selected indices along with a running count of them, so that clients can
+ * query the selection count in constant time and take primitive snapshots of
+ * the selection without iterating over boxed indices.
+ * <p>
+ * The minimum and maximum selection indices are already tracked in constant
+ * time by the base class. The shadow is synchronized from the range of indices
+ * that the base class reports as changed, so a change only costs time in
+ * proportion to the affected range, and large selected ranges (such as from a
+ * Select All) are stored as compactly as the base class stores them.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public class BitSetListSelectionModel extends DefaultListSelectionModel {
+    /**
+     * Unique Serial Version ID for this class, to avoid class loader conflicts.
+     */
+    private static final long serialVersionUID = 3470184766913225408L;
+
+    /**
+     * The shadow copy of the selected indices; this is only reassigned when
+     * the selection model is cloned.
+     */
+    private BitSet            selectedIndices;
+
+    /**
+     * The number of selected indices.
+     */
+    private int               selectedCount;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs an empty {@code BitSetListSelectionModel}.
+     *
+     * @version 1.0
+     */
+    public BitSetListSelectionModel() {
+        // Always call the superclass constructor first!
+        super();
+
+        selectedIndices = new BitSet();
+        selectedCount = 0;
+    }
+
+    ///////////////////// Primitive selection methods ////////////////////////
+
+    /**
+     * Returns the number of selected indices, in constant time.
+     *
+     * @return The number of selected indices
+     *
+     * @version 1.0
+     */
+    public final int getSelectedCount() {
+        return selectedCount;
+    }
+
+    /**
+     * Returns a snapshot of the selected indices as a {@link BitSet}.
+     *
+     * @return A snapshot of the selected indices
+     *
+     * @version 1.0
+     */
+    public final BitSet getSelectedIndexSet() {
+        return ( BitSet ) selectedIndices.clone();
+    }
+
+    /**
+     * Returns a snapshot of the selected indices as a primitive array, in
+     * ascending order.
+     *
+     * @return A snapshot of the selected indices, in ascending order
+     *
+     * @version 1.0
+     */
+    public final int[] getSelectedIndices() {
+        return selectedIndices.stream().toArray();
+    }
+
+    /**
+     * Returns the index of the next selected index at or after the specified
+     * index, or -1 if there is none; this allows iterating the selection
+     * without taking a snapshot.
+     *
+     * @param fromIndex
+     *            The index to start searching from, inclusive
+     * @return The next selected index, or -1 if there is none
+     *
+     * @version 1.0
+     */
+    public final int nextSelectedIndex( final int fromIndex ) {
+        return selectedIndices.nextSetBit( fromIndex );
+    }
+
+    /**
+     * Returns the index of the previous selected index at or before the
+     * specified index, or -1 if there is none; this allows iterating the
+     * selection in reverse without taking a snapshot.
+     *
+     * @param fromIndex
+     *            The index to start searching from, inclusive
+     * @return The previous selected index, or -1 if there is none
+     *
+     * @version 1.0
+     */
+    public final int previousSelectedIndex( final int fromIndex ) {
+        return ( fromIndex < 0 ) ? -1 : selectedIndices.previousSetBit( fromIndex );
+    }
+
+    ///////////// DefaultListSelectionModel method overrides /////////////////
+
+    /**
+     * Synchronizes the shadow selection over the changed range of indices
+     * before notifying the listeners, so that listeners already see the new
+     * selection state through the primitive selection methods.
+     *
+     * @param firstIndex
+     *            The first index in the interval
+     * @param lastIndex
+     *            The last index in the interval
+     * @param isAdjusting
+     *            {@code true} if this is the final change in a series of
+     *            adjustments
+     *
+     * @version 1.0
+     */
+    @Override
+    protected void fireValueChanged( final int firstIndex,
+                                     final int lastIndex,
+                                     final boolean isAdjusting ) {
+        synchronizeSelection( firstIndex, lastIndex );
+
+        super.fireValueChanged( firstIndex, lastIndex, isAdjusting );
+    }
+
+    /**
+     * Returns a clone of this selection model with the same selection, and with
+     * its own copy of the shadow selection so that the two stay independent.
+     * <p>
+     * As with the base class, the listeners are not cloned.
+     *
+     * @return A clone of this selection model
+     * @throws CloneNotSupportedException
+     *             If the selection model does not both (a) implement the
+     *             Cloneable interface and (b) define a {@code clone} method
+     *
+     * @version 1.0
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        final BitSetListSelectionModel selectionModel = ( BitSetListSelectionModel ) super.clone();
+        selectionModel.selectedIndices = ( BitSet ) selectedIndices.clone();
+
+        return selectionModel;
+    }
+
+    /**
+     * Synchronizes the shadow selection with the base class selection over the
+     * specified range of indices, keeping the selected count up to date.
+     *
+     * @param firstIndex
+     *            The first index in the interval
+     * @param lastIndex
+     *            The last index in the interval
+     *
+     * @version 1.0
+     */
+    private void synchronizeSelection( final int firstIndex, final int lastIndex ) {
+        // Changes that shift indices may report an open-ended range, so limit
+        // the range to where anything is selected, either before or after.
+        final int firstSynchronizedIndex = FastMath.max( 0, firstIndex );
+        final int lastSynchronizedIndex = FastMath.min( lastIndex,
+                                                        FastMath.max( getMaxSelectionIndex(),
+                                                                      selectedIndices.length()
+                                                                              - 1 ) );
+        if ( lastSynchronizedIndex < firstSynchronizedIndex ) {
+            return;
+        }
+
+        // Nothing selected in the range means a single clear is enough.
+        final int minimumSelectionIndex = getMinSelectionIndex();
+        final int maximumSelectionIndex = getMaxSelectionIndex();
+        if ( ( minimumSelectionIndex < 0 ) || ( minimumSelectionIndex > lastSynchronizedIndex )
+                || ( maximumSelectionIndex < firstSynchronizedIndex ) ) {
+            selectedCount -= selectedIndices
+                    .get( firstSynchronizedIndex, lastSynchronizedIndex + 1 ).cardinality();
+            selectedIndices.clear( firstSynchronizedIndex, lastSynchronizedIndex + 1 );
+            return;
+        }
+
+        for ( int index = firstSynchronizedIndex; index <= lastSynchronizedIndex; index++ ) {
+            final boolean selected = isSelectedIndex( index );
+            if ( selected != selectedIndices.get( index ) ) {
+                selectedIndices.set( index, selected );
+                selectedCount += selected ? 1 : -1;
+            }
+        }
+    }
+
+}
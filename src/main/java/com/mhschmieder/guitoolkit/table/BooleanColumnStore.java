@@ -0,0 +1,156 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the GuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * GuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/guitoolkit
+ */
+package com.mhschmieder.guitoolkit.table;
+
+import java.util.BitSet;
+
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * {@code BooleanColumnStore} is a {@link ColumnStore} that packs its values
+ * into a {@link BitSet}, using one bit per row instead of one reference to a
+ * shared {@code Boolean} instance per row.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class BooleanColumnStore extends ColumnStore {
+
+    /**
+     * The bit-packed storage for the column values.
+     */
+    private final BitSet values;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs a {@code BooleanColumnStore} with the specified initial
+     * capacity.
+     *
+     * @param initialCapacity
+     *            The number of rows to allocate storage for up front
+     *
+     * @version 1.0
+     */
+    public BooleanColumnStore( final int initialCapacity ) {
+        // Always call the superclass constructor first!
+        super();
+
+        values = new BitSet( FastMath.max( initialCapacity, MINIMUM_CAPACITY ) );
+    }
+
+    ////////////////////// Storage management methods ////////////////////////
+
+    @Override
+    public void ensureCapacity( final int minimumCapacity ) {
+        // A bit set grows on demand, and clear bits take no explicit storage.
+    }
+
+    @Override
+    public void insertRows( final int row, final int count, final int rowCount ) {
+        insertBits( values, row, count, rowCount );
+    }
+
+    @Override
+    public void removeRows( final int row, final int count, final int rowCount ) {
+        removeBits( values, row, count, rowCount );
+    }
+
+    @Override
+    public void copyValue( final int sourceRow, final int targetRow ) {
+        values.set( targetRow, values.get( sourceRow ) );
+    }
+
+    ///////////////////////// Typed accessor methods /////////////////////////
+
+    @Override
+    public Class< ? > getColumnClass() {
+        return Boolean.class;
+    }
+
+    @Override
+    public Object getValueAt( final int row ) {
+        return Boolean.valueOf( values.get( row ) );
+    }
+
+    @Override
+    public void setValueAt( final Object value, final int row ) {
+        if ( value instanceof Boolean ) {
+            values.set( row, ( ( Boolean ) value ).booleanValue() );
+        }
+        else if ( value instanceof String ) {
+            values.set( row, Boolean.parseBoolean( ( ( String ) value ).trim() ) );
+        }
+        else if ( value instanceof Number ) {
+            values.set( row, ( ( Number ) value ).doubleValue() != 0d );
+        }
+        else {
+            values.clear( row );
+        }
+    }
+
+    @Override
+    public double getDoubleAt( final int row ) {
+        return values.get( row ) ? 1d : 0d;
+    }
+
+    @Override
+    public int getIntAt( final int row ) {
+        return values.get( row ) ? 1 : 0;
+    }
+
+    @Override
+    public boolean getBooleanAt( final int row ) {
+        return values.get( row );
+    }
+
+    @Override
+    public String getStringAt( final int row ) {
+        return Boolean.toString( values.get( row ) );
+    }
+
+    @Override
+    public void setDoubleAt( final double value, final int row ) {
+        values.set( row, value != 0d );
+    }
+
+    @Override
+    public void setIntAt( final int value, final int row ) {
+        values.set( row, value != 0 );
+    }
+
+    @Override
+    public void setBooleanAt( final boolean value, final int row ) {
+        values.set( row, value );
+    }
+
+}
@@ -0,0 +1,77 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the GuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * GuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/guitoolkit
+ */
+package com.mhschmieder.guitoolkit.table;
+
+import java.awt.Component;
+
+import javax.swing.JTable;
+
+/**
+ * {@code CellTextFormatter} is an interface that establishes the contract for
+ * converting the value of a Table Cell to the text that represents it in
+ * vectorized output, such as for vector graphics file export of a table.
+ * <p>
+ * The formatter is given the component that the cell's renderer returned for
+ * the cell value, so that it can reuse whatever formatting the renderer has
+ * already applied (numeric formats, units, on/off labels, etc.) instead of
+ * duplicating that logic.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public interface CellTextFormatter {
+
+    /**
+     * Returns the text that represents the specified Table Cell value.
+     *
+     * @param table
+     *            The Table that hosts the data
+     * @param cellData
+     *            The Cell Data for this Table Cell, as stored in the table
+     * @param cellComponent
+     *            The component that the Cell Renderer returned for this value
+     * @param row
+     *            The row index of the Table Cell, or -1 for a header cell
+     * @param column
+     *            The column index of the Table Cell
+     * @return The text that represents the Table Cell value, or {@code null}
+     *         if nothing should be output for this Table Cell
+     *
+     * @version 1.0
+     */
+    String getCellText( final JTable table,
+                        final Object cellData,
+                        final Component cellComponent,
+                        final int row,
+                        final int column );
+
+}
@@ -0,0 +1,180 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the GuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * GuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/guitoolkit
+ */
+package com.mhschmieder.guitoolkit.table;
+
+import java.awt.Component;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.swing.AbstractButton;
+import javax.swing.JLabel;
+import javax.swing.JTable;
+
+/**
+ * {@code CellTextFormatterRegistry} maps column classes to the
+ * {@link CellTextFormatter} to use when vectorizing the cells of each column,
+ * much as {@link JTable} maps column classes to default renderers.
+ * <p>
+ * Formatters are looked up by walking up the class hierarchy from the column
+ * class, falling back to a default formatter that uses the text that the Cell
+ * Renderer has already set on its component. As all of the renderers in this
+ * library are labels, this means that numeric columns are output with their
+ * number formats and units, and toggle button columns with their on/off labels,
+ * without any need to convert the Table Model to strings first.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class CellTextFormatterRegistry {
+
+    /**
+     * The formatter that uses the text of the rendered cell component, or the
+     * string value of the Cell Data if the component doesn't display any.
+     */
+    public static final CellTextFormatter RENDERED_TEXT_FORMATTER =
+            ( table, cellData, cellComponent, row, column ) -> getRenderedText( cellData,
+                                                                                cellComponent );
+
+    /**
+     * The formatters registered for specific column classes.
+     */
+    private final Map< Class< ? >, CellTextFormatter > formatters;
+
+    /**
+     * The formatter to use when none is registered for the column class.
+     */
+    private CellTextFormatter                        defaultFormatter;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs a {@code CellTextFormatterRegistry} with no class-specific
+     * formatters, so that all cells use their rendered text.
+     *
+     * @version 1.0
+     */
+    public CellTextFormatterRegistry() {
+        formatters = new ConcurrentHashMap<>();
+        defaultFormatter = RENDERED_TEXT_FORMATTER;
+    }
+
+    //////////////////////// Registration methods ////////////////////////////
+
+    /**
+     * Registers the formatter to use for columns of the specified class and
+     * its subclasses, unless they have a more specific formatter.
+     *
+     * @param columnClass
+     *            The column class to register the formatter for
+     * @param formatter
+     *            The formatter to use, or {@code null} to unregister
+     *
+     * @version 1.0
+     */
+    public void setFormatter( final Class< ? > columnClass, final CellTextFormatter formatter ) {
+        if ( formatter != null ) {
+            formatters.put( columnClass, formatter );
+        }
+        else {
+            formatters.remove( columnClass );
+        }
+    }
+
+    /**
+     * Sets the formatter to use when none is registered for the column class.
+     *
+     * @param formatter
+     *            The default formatter, or {@code null} to restore the
+     *            rendered text formatter
+     *
+     * @version 1.0
+     */
+    public void setDefaultFormatter( final CellTextFormatter formatter ) {
+        defaultFormatter = ( formatter != null ) ? formatter : RENDERED_TEXT_FORMATTER;
+    }
+
+    /**
+     * Returns the formatter to use for columns of the specified class, which
+     * is the one registered for the closest superclass if there is none for
+     * the class itself.
+     *
+     * @param columnClass
+     *            The column class to find the formatter for
+     * @return The formatter to use for columns of the specified class
+     *
+     * @version 1.0
+     */
+    public CellTextFormatter getFormatter( final Class< ? > columnClass ) {
+        if ( !formatters.isEmpty() ) {
+            for ( Class< ? > c = columnClass; c != null; c = c.getSuperclass() ) {
+                final CellTextFormatter formatter = formatters.get( c );
+                if ( formatter != null ) {
+                    return formatter;
+                }
+            }
+        }
+
+        return defaultFormatter;
+    }
+
+    /////////////////////// Default formatting methods ///////////////////////
+
+    /**
+     * Returns the text that a rendered cell component displays, or the string
+     * value of the Cell Data if the component doesn't display text, or is a
+     * button with no text (such as a check box for a Boolean value).
+     *
+     * @param cellData
+     *            The Cell Data for the Table Cell
+     * @param cellComponent
+     *            The component that the Cell Renderer returned for the value
+     * @return The text to output for the Table Cell, or {@code null} if none
+     *
+     * @version 1.0
+     */
+    public static String getRenderedText( final Object cellData, final Component cellComponent ) {
+        if ( cellComponent instanceof JLabel ) {
+            return ( ( JLabel ) cellComponent ).getText();
+        }
+        if ( cellComponent instanceof AbstractButton ) {
+            // Buttons such as the check boxes of the default Boolean renderer
+            // often show their state with no text, in which case the text
+            // alone would lose the Cell Data.
+            final String buttonText = ( ( AbstractButton ) cellComponent ).getText();
+            if ( ( buttonText != null ) && !buttonText.isEmpty() ) {
+                return buttonText;
+            }
+        }
+        return ( cellData != null ) ? cellData.toString() : null;
+    }
+
+}
@@ -0,0 +1,326 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the GuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * GuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/guitoolkit
+ */
+package com.mhschmieder.guitoolkit.table;
+
+import java.util.BitSet;
+
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * {@code ColumnStore} is the abstract base class for the typed, primitive
+ * column storage used by {@link ColumnStoreTableModel}.
+ * <p>
+ * Each column stores its values contiguously in a primitive array (or bit set,
+ * or dictionary code array), rather than as one boxed object per cell, so that
+ * large numeric tables use a fraction of the heap of an {@code Object[][]} or
+ * {@code Vector<Vector>} based model. The typed getters avoid boxing entirely,
+ * and only the generic {@link #getValueAt} accessor creates wrapper objects.
+ * <p>
+ * Column stores have no awareness of their own row count, as that is owned by
+ * the Table Model so that all columns always stay in sync with each other.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public abstract class ColumnStore {
+
+    /**
+     * The minimum capacity to allocate when a column first needs storage.
+     */
+    protected static final int MINIMUM_CAPACITY = 16;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs a {@code ColumnStore}; only accessible to derived classes.
+     *
+     * @version 1.0
+     */
+    protected ColumnStore() {}
+
+    ////////////////////// Storage management methods ////////////////////////
+
+    /**
+     * Returns the new capacity to use when growing storage to hold at least
+     * the specified number of rows, using a geometric growth policy to keep
+     * the amortized cost of appending rows constant.
+     *
+     * @param currentCapacity
+     *            The current storage capacity, in rows
+     * @param minimumCapacity
+     *            The minimum number of rows that must fit after growing
+     * @return The new capacity to use when growing storage
+     *
+     * @version 1.0
+     */
+    protected static int getGrownCapacity( final int currentCapacity, final int minimumCapacity ) {
+        final int grownCapacity = FastMath.max( MINIMUM_CAPACITY,
+                                                currentCapacity + ( currentCapacity >> 1 ) );
+        return FastMath.max( grownCapacity, minimumCapacity );
+    }
+
+    /**
+     * Opens a gap of clear bits at the specified row index of a bit set that
+     * holds one bit per row, shifting all subsequent bits down.
+     *
+     * @param bits
+     *            The bit set that holds one bit per row
+     * @param row
+     *            The index of the first row to insert
+     * @param count
+     *            The number of rows to insert
+     * @param rowCount
+     *            The number of rows in the column before the insertion
+     *
+     * @version 1.0
+     */
+    protected static void insertBits( final BitSet bits,
+                                      final int row,
+                                      final int count,
+                                      final int rowCount ) {
+        // Shift the tail down by the insertion count, then clear the gap. The
+        // tail is retrieved as a single range so that this is word-at-a-time.
+        final BitSet tail = bits.get( row, rowCount );
+        bits.clear( row, rowCount + count );
+        for ( int i = tail.nextSetBit( 0 ); i >= 0; i = tail.nextSetBit( i + 1 ) ) {
+            bits.set( row + count + i );
+        }
+    }
+
+    /**
+     * Removes a contiguous range of rows from a bit set that holds one bit per
+     * row, shifting all subsequent bits up.
+     *
+     * @param bits
+     *            The bit set that holds one bit per row
+     * @param row
+     *            The index of the first row to remove
+     * @param count
+     *            The number of rows to remove
+     * @param rowCount
+     *            The number of rows in the column before the removal
+     *
+     * @version 1.0
+     */
+    protected static void removeBits( final BitSet bits,
+                                      final int row,
+                                      final int count,
+                                      final int rowCount ) {
+        final BitSet tail = bits.get( row + count, rowCount );
+        bits.clear( row, rowCount );
+        for ( int i = tail.nextSetBit( 0 ); i >= 0; i = tail.nextSetBit( i + 1 ) ) {
+            bits.set( row + i );
+        }
+    }
+
+    /**
+     * Makes sure this column can hold at least the specified number of rows.
+     *
+     * @param minimumCapacity
+     *            The minimum number of rows this column must be able to hold
+     *
+     * @version 1.0
+     */
+    public abstract void ensureCapacity( final int minimumCapacity );
+
+    /**
+     * Opens a gap of default-valued rows at the specified row index, shifting
+     * all subsequent rows down.
+     *
+     * @param row
+     *            The index of the first row to insert
+     * @param count
+     *            The number of rows to insert
+     * @param rowCount
+     *            The number of rows in the column before the insertion
+     *
+     * @version 1.0
+     */
+    public abstract void insertRows( final int row, final int count, final int rowCount );
+
+    /**
+     * Removes a contiguous range of rows, shifting all subsequent rows up.
+     *
+     * @param row
+     *            The index of the first row to remove
+     * @param count
+     *            The number of rows to remove
+     * @param rowCount
+     *            The number of rows in the column before the removal
+     *
+     * @version 1.0
+     */
+    public abstract void removeRows( final int row, final int count, final int rowCount );
+
+    /**
+     * Copies the value at one row to another row, without boxing it.
+     *
+     * @param sourceRow
+     *            The row whose value is to be copied
+     * @param targetRow
+     *            The row whose value is to be replaced
+     *
+     * @version 1.0
+     */
+    public abstract void copyValue( final int sourceRow, final int targetRow );
+
+    ///////////////////////// Typed accessor methods /////////////////////////
+
+    /**
+     * Returns the class type of the values stored in this column.
+     *
+     * @return The class type of the values stored in this column
+     *
+     * @version 1.0
+     */
+    public abstract Class< ? > getColumnClass();
+
+    /**
+     * Returns the value at the specified row, boxed as an object.
+     * <p>
+     * This is the slow path that is needed by the generic {@code TableModel}
+     * contract; use the typed getters wherever the column type is known.
+     *
+     * @param row
+     *            The row whose value is to be queried
+     * @return The value at the specified row, boxed as an object
+     *
+     * @version 1.0
+     */
+    public abstract Object getValueAt( final int row );
+
+    /**
+     * Sets the value at the specified row, converting it from an object.
+     *
+     * @param value
+     *            The new value; this can be {@code null}
+     * @param row
+     *            The row whose value is to be changed
+     *
+     * @version 1.0
+     */
+    public abstract void setValueAt( final Object value, final int row );
+
+    /**
+     * Returns the value at the specified row as a primitive double.
+     *
+     * @param row
+     *            The row whose value is to be queried
+     * @return The value at the specified row as a primitive double
+     *
+     * @version 1.0
+     */
+    public abstract double getDoubleAt( final int row );
+
+    /**
+     * Returns the value at the specified row as a primitive int.
+     *
+     * @param row
+     *            The row whose value is to be queried
+     * @return The value at the specified row as a primitive int
+     *
+     * @version 1.0
+     */
+    public abstract int getIntAt( final int row );
+
+    /**
+     * Returns the value at the specified row as a primitive boolean.
+     *
+     * @param row
+     *            The row whose value is to be queried
+     * @return The value at the specified row as a primitive boolean
+     *
+     * @version 1.0
+     */
+    public abstract boolean getBooleanAt( final int row );
+
+    /**
+     * Returns the value at the specified row as a string.
+     *
+     * @param row
+     *            The row whose value is to be queried
+     * @return The value at the specified row as a string, or {@code null} if
+     *         there is no value
+     *
+     * @version 1.0
+     */
+    public abstract String getStringAt( final int row );
+
+    /**
+     * Sets the value at the specified row from a primitive double.
+     *
+     * @param value
+     *            The new value
+     * @param row
+     *            The row whose value is to be changed
+     *
+     * @version 1.0
+     */
+    public abstract void setDoubleAt( final double value, final int row );
+
+    /**
+     * Sets the value at the specified row from a primitive int.
+     *
+     * @param value
+     *            The new value
+     * @param row
+     *            The row whose value is to be changed
+     *
+     * @version 1.0
+     */
+    public abstract void setIntAt( final int value, final int row );
+
+    /**
+     * Sets the value at the specified row from a primitive boolean.
+     *
+     * @param value
+     *            The new value
+     * @param row
+     *            The row whose value is to be changed
+     *
+     * @version 1.0
+     */
+    public abstract void setBooleanAt( final boolean value, final int row );
+
+    /**
+     * Returns {@code true} if the values in this column are numeric, and can
+     * therefore be read losslessly via {@link #getDoubleAt}.
+     *
+     * @return {@code true} if the values in this column are numeric
+     *
+     * @version 1.0
+     */
+    public boolean isNumeric() {
+        return false;
+    }
+
+}
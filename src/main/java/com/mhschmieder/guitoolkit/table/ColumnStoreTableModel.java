@@ -0,0 +1,532 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the GuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * GuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/guitoolkit
+ */
+package com.mhschmieder.guitoolkit.table;
+
+import javax.swing.table.AbstractTableModel;
+
+/**
+ * {@code ColumnStoreTableModel} is a specialization of
+ * {@link AbstractTableModel} that stores its data column by column in typed,
+ * primitive {@link ColumnStore} instances, rather than as one boxed object per
+ * cell in an {@code Object[][]} or {@code Vector<Vector>}.
+ * <p>
+ * Column types of {@code Double}, {@code Float}, {@code Integer},
+ * {@code Short}, {@code Long}, {@code Boolean} and {@code String} are mapped to
+ * their most compact store, which reports and boxes values as the declared
+ * column type; other types are rejected, as they cannot be stored without
+ * losing their type. Typed accessors such as {@link #getDoubleAt(int, int)} are
+ * provided alongside the generic {@link #getValueAt(int, int)}, so that
+ * renderers, sorters and exporters can read numeric cells without any
+ * allocation.
+ * <p>
+ * Large edits should be bracketed by {@link #beginBulkUpdate()} and
+ * {@link #endBulkUpdate()}, so that listeners get a single data change event
+ * in place of one event per modified cell.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public class ColumnStoreTableModel extends AbstractTableModel {
+    /**
+     * Unique Serial Version ID for this class, to avoid class loader conflicts.
+     */
+    private static final long     serialVersionUID = -5837110384469206743L;
+
+    /**
+     * The names of the table columns.
+     */
+    private final String[]        columnNames;
+
+    /**
+     * The typed storage for each table column.
+     */
+    private final ColumnStore[]   columnStores;
+
+    /**
+     * Flag for whether the table cells are editable or not.
+     */
+    private final boolean         cellsEditable;
+
+    /**
+     * The number of rows that are currently in use in every column store.
+     */
+    private int                   rowCount;
+
+    /**
+     * The nesting depth of bulk updates, during which events are suppressed.
+     */
+    private int                   bulkUpdateDepth;
+
+    /**
+     * Flag for whether any changes were made during the current bulk update.
+     */
+    private boolean               bulkUpdateModified;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs an empty {@code ColumnStoreTableModel} with the specified
+     * column names and column types.
+     *
+     * @param columnNamesForTable
+     *            The names of the table columns
+     * @param columnTypes
+     *            The class types of the table columns, which determine the kind
+     *            of column store that is used for each column
+     * @throws IllegalArgumentException
+     *             If any column type has no matching column store
+     * @param initialCapacity
+     *            The number of rows to allocate storage for up front
+     * @param cellsAreEditable
+     *            {@code true} if the table cells are editable
+     *
+     * @version 1.0
+     */
+    public ColumnStoreTableModel( final String[] columnNamesForTable,
+                                  final Class< ? >[] columnTypes,
+                                  final int initialCapacity,
+                                  final boolean cellsAreEditable ) {
+        // Always call the superclass constructor first!
+        super();
+
+        if ( columnNamesForTable.length != columnTypes.length ) {
+            throw new IllegalArgumentException(
+                    "Column names and column types must have the same length" ); //$NON-NLS-1$
+        }
+
+        columnNames = columnNamesForTable.clone();
+        cellsEditable = cellsAreEditable;
+
+        columnStores = new ColumnStore[ columnTypes.length ];
+        for ( int column = 0; column < columnTypes.length; column++ ) {
+            columnStores[ column ] = makeColumnStore( columnTypes[ column ], initialCapacity );
+        }
+
+        rowCount = 0;
+        bulkUpdateDepth = 0;
+        bulkUpdateModified = false;
+    }
+
+    /**
+     * Returns the most compact column store for the specified column type.
+     *
+     * @param columnType
+     *            The class type of the column values
+     * @param initialCapacity
+     *            The number of rows to allocate storage for up front
+     * @return The most compact column store for the specified column type
+     * @throws IllegalArgumentException
+     *             If there is no column store for the specified column type
+     *
+     * @version 1.0
+     */
+    @SuppressWarnings("nls")
+    public static ColumnStore makeColumnStore( final Class< ? > columnType,
+                                               final int initialCapacity ) {
+        if ( Double.class.equals( columnType ) ) {
+            return new DoubleColumnStore( initialCapacity, false );
+        }
+        if ( Float.class.equals( columnType ) ) {
+            return new DoubleColumnStore( initialCapacity, true );
+        }
+        if ( Integer.class.equals( columnType ) ) {
+            return new IntColumnStore( initialCapacity, false );
+        }
+        if ( Short.class.equals( columnType ) ) {
+            return new IntColumnStore( initialCapacity, true );
+        }
+        if ( Long.class.equals( columnType ) ) {
+            return new LongColumnStore( initialCapacity );
+        }
+        if ( Boolean.class.equals( columnType ) ) {
+            return new BooleanColumnStore( initialCapacity );
+        }
+        if ( String.class.equals( columnType ) ) {
+            return new DictionaryStringColumnStore( initialCapacity );
+        }
+        throw new IllegalArgumentException( "No column store for column type " + columnType );
+    }
+
+    ////////////////// AbstractTableModel method overrides //////////////////
+
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columnStores.length;
+    }
+
+    @Override
+    public String getColumnName( final int column ) {
+        return columnNames[ column ];
+    }
+
+    @Override
+    public Class< ? > getColumnClass( final int column ) {
+        return columnStores[ column ].getColumnClass();
+    }
+
+    @Override
+    public boolean isCellEditable( final int row, final int column ) {
+        return cellsEditable;
+    }
+
+    @Override
+    public Object getValueAt( final int row, final int column ) {
+        return columnStores[ column ].getValueAt( row );
+    }
+
+    @Override
+    public void setValueAt( final Object value, final int row, final int column ) {
+        columnStores[ column ].setValueAt( value, row );
+        fireCellUpdated( row, column );
+    }
+
+    ///////////////////////// Typed accessor methods /////////////////////////
+
+    /**
+     * Returns the column store for the specified column, for clients that need
+     * to iterate a whole column without per-cell method dispatch overhead.
+     *
+     * @param column
+     *            The column whose store is to be returned
+     * @return The column store for the specified column
+     *
+     * @version 1.0
+     */
+    public final ColumnStore getColumnStore( final int column ) {
+        return columnStores[ column ];
+    }
+
+    /**
+     * Returns {@code true} if the specified column holds numeric values that
+     * can be read losslessly via {@link #getDoubleAt(int, int)}.
+     *
+     * @param column
+     *            The column to query
+     * @return {@code true} if the specified column holds numeric values
+     *
+     * @version 1.0
+     */
+    public final boolean isNumericColumn( final int column ) {
+        return columnStores[ column ].isNumeric();
+    }
+
+    /**
+     * Returns the value at the specified cell as a primitive double, without
+     * boxing.
+     *
+     * @param row
+     *            The row whose value is to be queried
+     * @param column
+     *            The column whose value is to be queried
+     * @return The value at the specified cell as a primitive double
+     *
+     * @version 1.0
+     */
+    public final double getDoubleAt( final int row, final int column ) {
+        return columnStores[ column ].getDoubleAt( row );
+    }
+
+    /**
+     * Returns the value at the specified cell as a primitive int, without
+     * boxing.
+     *
+     * @param row
+     *            The row whose value is to be queried
+     * @param column
+     *            The column whose value is to be queried
+     * @return The value at the specified cell as a primitive int
+     *
+     * @version 1.0
+     */
+    public final int getIntAt( final int row, final int column ) {
+        return columnStores[ column ].getIntAt( row );
+    }
+
+    /**
+     * Returns the value at the specified cell as a primitive boolean, without
+     * boxing.
+     *
+     * @param row
+     *            The row whose value is to be queried
+     * @param column
+     *            The column whose value is to be queried
+     * @return The value at the specified cell as a primitive boolean
+     *
+     * @version 1.0
+     */
+    public final boolean getBooleanAt( final int row, final int column ) {
+        return columnStores[ column ].getBooleanAt( row );
+    }
+
+    /**
+     * Returns the value at the specified cell as a string.
+     *
+     * @param row
+     *            The row whose value is to be queried
+     * @param column
+     *            The column whose value is to be queried
+     * @return The value at the specified cell as a string, or {@code null} if
+     *         there is no value
+     *
+     * @version 1.0
+     */
+    public final String getStringAt( final int row, final int column ) {
+        return columnStores[ column ].getStringAt( row );
+    }
+
+    /**
+     * Sets the value at the specified cell from a primitive double, without
+     * boxing.
+     *
+     * @param value
+     *            The new value
+     * @param row
+     *            The row whose value is to be changed
+     * @param column
+     *            The column whose value is to be changed
+     *
+     * @version 1.0
+     */
+    public final void setDoubleAt( final double value, final int row, final int column ) {
+        columnStores[ column ].setDoubleAt( value, row );
+        fireCellUpdated( row, column );
+    }
+
+    /**
+     * Sets the value at the specified cell from a primitive int, without
+     * boxing.
+     *
+     * @param value
+     *            The new value
+     * @param row
+     *            The row whose value is to be changed
+     * @param column
+     *            The column whose value is to be changed
+     *
+     * @version 1.0
+     */
+    public final void setIntAt( final int value, final int row, final int column ) {
+        columnStores[ column ].setIntAt( value, row );
+        fireCellUpdated( row, column );
+    }
+
+    /**
+     * Sets the value at the specified cell from a primitive boolean, without
+     * boxing.
+     *
+     * @param value
+     *            The new value
+     * @param row
+     *            The row whose value is to be changed
+     * @param column
+     *            The column whose value is to be changed
+     *
+     * @version 1.0
+     */
+    public final void setBooleanAt( final boolean value, final int row, final int column ) {
+        columnStores[ column ].setBooleanAt( value, row );
+        fireCellUpdated( row, column );
+    }
+
+    //////////////////////// Row management methods //////////////////////////
+
+    /**
+     * Appends the specified number of default-valued rows to the end of the
+     * table model, firing a single insertion event.
+     *
+     * @param count
+     *            The number of rows to append
+     * @return The index of the first appended row
+     *
+     * @version 1.0
+     */
+    public final int appendRows( final int count ) {
+        final int firstRow = rowCount;
+        insertRows( firstRow, count );
+        return firstRow;
+    }
+
+    /**
+     * Inserts the specified number of default-valued rows at the specified row
+     * index, firing a single insertion event.
+     *
+     * @param row
+     *            The index of the first row to insert
+     * @param count
+     *            The number of rows to insert
+     *
+     * @version 1.0
+     */
+    public final void insertRows( final int row, final int count ) {
+        insertRows( row, count, -1 );
+    }
+
+    /**
+     * Inserts the specified number of rows at the specified row index, each a
+     * copy of a template row, firing a single insertion event.
+     *
+     * @param row
+     *            The index of the first row to insert
+     * @param count
+     *            The number of rows to insert
+     * @param templateRow
+     *            The index of the row to copy into each inserted row, as of
+     *            before the insertion, or {@code -1} for default-valued rows
+     *
+     * @version 1.0
+     */
+    public final void insertRows( final int row, final int count, final int templateRow ) {
+        if ( ( row < 0 ) || ( row > rowCount ) || ( count <= 0 ) ) {
+            return;
+        }
+
+        // Fill the new rows before any event is fired, so that listeners never
+        // see them with their default values.
+        final int sourceRow = ( templateRow >= row ) ? templateRow + count : templateRow;
+        for ( final ColumnStore columnStore : columnStores ) {
+            columnStore.insertRows( row, count, rowCount );
+            if ( ( templateRow >= 0 ) && ( templateRow < rowCount ) ) {
+                for ( int targetRow = row; targetRow < row + count; targetRow++ ) {
+                    columnStore.copyValue( sourceRow, targetRow );
+                }
+            }
+        }
+        rowCount += count;
+
+        if ( bulkUpdateDepth > 0 ) {
+            bulkUpdateModified = true;
+        }
+        else {
+            fireTableRowsInserted( row, row + count - 1 );
+        }
+    }
+
+    /**
+     * Removes a contiguous, inclusive range of rows, firing a single deletion
+     * event.
+     *
+     * @param firstRow
+     *            The index of the first row to remove
+     * @param lastRow
+     *            The index of the last row to remove
+     *
+     * @version 1.0
+     */
+    public final void removeRows( final int firstRow, final int lastRow ) {
+        if ( ( firstRow < 0 ) || ( lastRow >= rowCount ) || ( firstRow > lastRow ) ) {
+            return;
+        }
+
+        final int count = lastRow - firstRow + 1;
+        for ( final ColumnStore columnStore : columnStores ) {
+            columnStore.removeRows( firstRow, count, rowCount );
+        }
+        rowCount -= count;
+
+        if ( bulkUpdateDepth > 0 ) {
+            bulkUpdateModified = true;
+        }
+        else {
+            fireTableRowsDeleted( firstRow, lastRow );
+        }
+    }
+
+    /**
+     * Makes sure every column can hold at least the specified number of rows,
+     * to avoid incremental growth when the final size is known in advance.
+     *
+     * @param minimumCapacity
+     *            The minimum number of rows every column must be able to hold
+     *
+     * @version 1.0
+     */
+    public final void ensureCapacity( final int minimumCapacity ) {
+        for ( final ColumnStore columnStore : columnStores ) {
+            columnStore.ensureCapacity( minimumCapacity );
+        }
+    }
+
+    ///////////////////////// Bulk update methods ////////////////////////////
+
+    /**
+     * Starts a bulk update, during which no per-cell or per-row events are
+     * fired. Bulk updates may be nested.
+     *
+     * @version 1.0
+     */
+    public final void beginBulkUpdate() {
+        bulkUpdateDepth++;
+    }
+
+    /**
+     * Ends a bulk update, firing a single data change event if anything was
+     * modified since the outermost bulk update started.
+     *
+     * @version 1.0
+     */
+    public final void endBulkUpdate() {
+        if ( bulkUpdateDepth <= 0 ) {
+            return;
+        }
+
+        bulkUpdateDepth--;
+        if ( ( bulkUpdateDepth == 0 ) && bulkUpdateModified ) {
+            bulkUpdateModified = false;
+            fireTableDataChanged();
+        }
+    }
+
+    /**
+     * Fires a cell update event, unless a bulk update is in progress.
+     *
+     * @param row
+     *            The row of the cell that was updated
+     * @param column
+     *            The column of the cell that was updated
+     *
+     * @version 1.0
+     */
+    private void fireCellUpdated( final int row, final int column ) {
+        if ( bulkUpdateDepth > 0 ) {
+            bulkUpdateModified = true;
+        }
+        else {
+            fireTableCellUpdated( row, column );
+        }
+    }
+
+}
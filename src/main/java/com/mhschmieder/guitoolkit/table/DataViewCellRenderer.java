@@ -138,8 +138,8 @@ public class DataViewCellRenderer extends DefaultTableCellRenderer {
         // row to use a larger, bold, font, as column headers.
         final Font defaultFont = component.getFont();
         final Font tableCellFont = ( firstRowHeader && ( row == 0 ) )
-            ? defaultFont.deriveFont( Font.BOLD, 11 )
-            : defaultFont.deriveFont( Font.PLAIN, 10 );
+            ? FontVariantCache.getFont( defaultFont, Font.BOLD, 11f )
+            : FontVariantCache.getFont( defaultFont, Font.PLAIN, 10f );
         component.setFont( tableCellFont );
 
         return component;
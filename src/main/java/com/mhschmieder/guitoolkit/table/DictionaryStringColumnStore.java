@@ -0,0 +1,304 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the GuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * GuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/guitoolkit
+ */
+package com.mhschmieder.guitoolkit.table;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * {@code DictionaryStringColumnStore} is a {@link ColumnStore} for string data
+ * that dictionary-encodes its values, storing one primitive {@code int} code
+ * per row that indexes into a shared list of distinct strings.
+ * <p>
+ * Measurement tables tend to have low-cardinality text columns (units, channel
+ * names, status labels, etc.), so each distinct string is only held once no
+ * matter how many rows reference it. A code of {@code -1} denotes a missing
+ * ({@code null}) value.
+ * <p>
+ * As values are overwritten or rows removed, strings may remain in the
+ * dictionary with no rows referencing them. To keep long-running tables with
+ * churning values from leaking, the dictionary is compacted down to its live
+ * strings whenever it grows past a multiple of the row count; this re-codes
+ * every row, but its cost is amortized over the growth that triggered it.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class DictionaryStringColumnStore extends ColumnStore {
+
+    /**
+     * The code that denotes a missing ({@code null}) value.
+     */
+    private static final int     NULL_CODE         = -1;
+
+    /**
+     * The multiple of the row count that the dictionary size may reach before
+     * it is compacted.
+     */
+    private static final int     COMPACTION_FACTOR = 2;
+
+    /**
+     * The per-row dictionary codes for the column values.
+     */
+    private int[]                codes;
+
+    /**
+     * The distinct strings that are referenced by the dictionary codes.
+     */
+    private final List< String > dictionary;
+
+    /**
+     * The reverse lookup from each distinct string to its dictionary code.
+     */
+    private final Map< String, Integer > dictionaryIndex;
+
+    /**
+     * The number of rows in the column, as tracked through row insertions and
+     * removals; this bounds the codes that are live.
+     */
+    private int                  liveRowCount;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs a {@code DictionaryStringColumnStore} with the specified
+     * initial capacity.
+     *
+     * @param initialCapacity
+     *            The number of rows to allocate storage for up front
+     *
+     * @version 1.0
+     */
+    public DictionaryStringColumnStore( final int initialCapacity ) {
+        // Always call the superclass constructor first!
+        super();
+
+        codes = new int[ FastMath.max( initialCapacity, 0 ) ];
+        Arrays.fill( codes, NULL_CODE );
+
+        dictionary = new ArrayList<>();
+        dictionaryIndex = new HashMap<>();
+        liveRowCount = 0;
+    }
+
+    ////////////////////// Storage management methods ////////////////////////
+
+    @Override
+    public void ensureCapacity( final int minimumCapacity ) {
+        if ( minimumCapacity > codes.length ) {
+            final int oldCapacity = codes.length;
+            codes = Arrays.copyOf( codes, getGrownCapacity( oldCapacity, minimumCapacity ) );
+            Arrays.fill( codes, oldCapacity, codes.length, NULL_CODE );
+        }
+    }
+
+    @Override
+    public void insertRows( final int row, final int count, final int rowCount ) {
+        ensureCapacity( rowCount + count );
+        System.arraycopy( codes, row, codes, row + count, rowCount - row );
+        Arrays.fill( codes, row, row + count, NULL_CODE );
+        liveRowCount = rowCount + count;
+    }
+
+    @Override
+    public void removeRows( final int row, final int count, final int rowCount ) {
+        System.arraycopy( codes, row + count, codes, row, rowCount - row - count );
+        Arrays.fill( codes, rowCount - count, rowCount, NULL_CODE );
+        liveRowCount = rowCount - count;
+    }
+
+    /**
+     * Returns the dictionary code for the specified string, adding the string
+     * to the dictionary if it has not been seen before.
+     *
+     * @param value
+     *            The string to encode; this can be {@code null}
+     * @return The dictionary code for the specified string
+     *
+     * @version 1.0
+     */
+    private int encode( final String value ) {
+        if ( value == null ) {
+            return NULL_CODE;
+        }
+
+        final Integer code = dictionaryIndex.get( value );
+        if ( code != null ) {
+            return code.intValue();
+        }
+
+        // Drop the unreferenced strings before growing any further, if the
+        // dictionary has grown well past what the live rows could reference.
+        if ( dictionary.size() >= ( COMPACTION_FACTOR
+                * FastMath.max( liveRowCount, MINIMUM_CAPACITY ) ) ) {
+            compactDictionary();
+        }
+
+        final int newCode = dictionary.size();
+        dictionary.add( value );
+        dictionaryIndex.put( value, Integer.valueOf( newCode ) );
+        return newCode;
+    }
+
+    /**
+     * Rebuilds the dictionary from the strings that are referenced by the live
+     * rows, re-coding every row in order of first reference.
+     *
+     * @version 1.0
+     */
+    private void compactDictionary() {
+        final int[] codeMap = new int[ dictionary.size() ];
+        Arrays.fill( codeMap, NULL_CODE );
+
+        final List< String > liveStrings = new ArrayList<>();
+        for ( int row = 0; row < liveRowCount; row++ ) {
+            final int code = codes[ row ];
+            if ( code == NULL_CODE ) {
+                continue;
+            }
+            if ( codeMap[ code ] == NULL_CODE ) {
+                codeMap[ code ] = liveStrings.size();
+                liveStrings.add( dictionary.get( code ) );
+            }
+            codes[ row ] = codeMap[ code ];
+        }
+
+        dictionary.clear();
+        dictionary.addAll( liveStrings );
+        dictionaryIndex.clear();
+        for ( int code = 0; code < liveStrings.size(); code++ ) {
+            dictionaryIndex.put( liveStrings.get( code ), Integer.valueOf( code ) );
+        }
+    }
+
+    /**
+     * Returns the number of distinct strings held by the dictionary.
+     *
+     * @return The number of distinct strings held by the dictionary
+     *
+     * @version 1.0
+     */
+    public int getDictionarySize() {
+        return dictionary.size();
+    }
+
+    /**
+     * Returns the dictionary code at the specified row, which is useful for
+     * fast equality tests and grouping without comparing strings. Codes are
+     * only stable until the next value is set, as that may compact the
+     * dictionary.
+     *
+     * @param row
+     *            The row whose dictionary code is to be queried
+     * @return The dictionary code at the specified row, or {@code -1} if there
+     *         is no value
+     *
+     * @version 1.0
+     */
+    public int getCodeAt( final int row ) {
+        return codes[ row ];
+    }
+
+    @Override
+    public void copyValue( final int sourceRow, final int targetRow ) {
+        codes[ targetRow ] = codes[ sourceRow ];
+    }
+
+    ///////////////////////// Typed accessor methods /////////////////////////
+
+    @Override
+    public Class< ? > getColumnClass() {
+        return String.class;
+    }
+
+    @Override
+    public Object getValueAt( final int row ) {
+        return getStringAt( row );
+    }
+
+    @Override
+    public void setValueAt( final Object value, final int row ) {
+        codes[ row ] = encode( ( value != null ) ? value.toString() : null );
+    }
+
+    @Override
+    public double getDoubleAt( final int row ) {
+        final String value = getStringAt( row );
+        if ( value == null ) {
+            return Double.NaN;
+        }
+
+        try {
+            return Double.parseDouble( value.trim() );
+        }
+        catch ( final NumberFormatException nfe ) {
+            return Double.NaN;
+        }
+    }
+
+    @Override
+    public int getIntAt( final int row ) {
+        return ( int ) getDoubleAt( row );
+    }
+
+    @Override
+    public boolean getBooleanAt( final int row ) {
+        return Boolean.parseBoolean( getStringAt( row ) );
+    }
+
+    @Override
+    public String getStringAt( final int row ) {
+        final int code = codes[ row ];
+        return ( code == NULL_CODE ) ? null : dictionary.get( code );
+    }
+
+    @Override
+    public void setDoubleAt( final double value, final int row ) {
+        codes[ row ] = encode( Double.toString( value ) );
+    }
+
+    @Override
+    public void setIntAt( final int value, final int row ) {
+        codes[ row ] = encode( Integer.toString( value ) );
+    }
+
+    @Override
+    public void setBooleanAt( final boolean value, final int row ) {
+        codes[ row ] = encode( Boolean.toString( value ) );
+    }
+
+}
@@ -0,0 +1,348 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the GuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * GuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/guitoolkit
+ */
+package com.mhschmieder.guitoolkit.table;
+
+import java.util.BitSet;
+
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
+import javax.swing.table.TableModel;
+
+/**
+ * {@code DirtyCellTracker} keeps track of which cells of a {@link TableModel}
+ * have been edited or changed since the last time the view was committed to
+ * the underlying data, so that commits can visit just those cells instead of
+ * every row and column of the table.
+ * <p>
+ * Cells are tracked by model index in a compact row-major {@link BitSet}. The
+ * tracker is fed by the Table Model Events of the model that it listens to, as
+ * well as by explicit marking from the table when an editor commits a value,
+ * as not all custom models fire events from {@code setValueAt}.
+ * <p>
+ * Changes that can't be tracked cell by cell, such as structure changes or
+ * wholesale data changes, switch the tracker to requiring a full sweep.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class DirtyCellTracker implements TableModelListener {
+
+    /**
+     * The model whose cells are being tracked.
+     */
+    private TableModel       tableModel;
+
+    /**
+     * The dirty cells, indexed as {@code ( row * columnCount ) + column}.
+     */
+    private final BitSet     dirtyCells;
+
+    /**
+     * The number of columns used to index the dirty cells.
+     */
+    private int              columnCount;
+
+    /**
+     * Flag for whether a change was seen that requires a full sweep.
+     */
+    private boolean          fullSweepRequired;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs a {@code DirtyCellTracker} for the specified model, and starts
+     * listening to it for changes.
+     * <p>
+     * A full sweep is initially required, as nothing is known yet about which
+     * cells might differ from the underlying data.
+     *
+     * @param model
+     *            The model whose cells are to be tracked
+     *
+     * @version 1.0
+     */
+    public DirtyCellTracker( final TableModel model ) {
+        tableModel = model;
+        dirtyCells = new BitSet();
+        columnCount = model.getColumnCount();
+        fullSweepRequired = true;
+
+        model.addTableModelListener( this );
+    }
+
+    ////////////////// Accessor methods for private data /////////////////////
+
+    /**
+     * Returns the model whose cells are being tracked.
+     *
+     * @return The model whose cells are being tracked
+     *
+     * @version 1.0
+     */
+    public TableModel getTableModel() {
+        return tableModel;
+    }
+
+    /**
+     * Switches the tracker over to a different model, to follow a table whose
+     * model was replaced.
+     * <p>
+     * The tracker stops listening to the old model, so that it is not kept
+     * alive by it and doesn't mark cells that are no longer shown, and a full
+     * sweep is required as nothing is known about the new model's cells.
+     *
+     * @param model
+     *            The model whose cells are to be tracked from now on
+     *
+     * @version 1.0
+     */
+    public void setTableModel( final TableModel model ) {
+        if ( model == tableModel ) {
+            return;
+        }
+
+        tableModel.removeTableModelListener( this );
+        tableModel = model;
+        columnCount = model.getColumnCount();
+        markAll();
+
+        model.addTableModelListener( this );
+    }
+
+    /**
+     * Returns {@code true} if a change was seen that requires a full sweep.
+     *
+     * @return {@code true} if a change was seen that requires a full sweep
+     *
+     * @version 1.0
+     */
+    public boolean isFullSweepRequired() {
+        return fullSweepRequired;
+    }
+
+    /**
+     * Returns {@code true} if no cells are dirty and no full sweep is needed.
+     *
+     * @return {@code true} if no cells are dirty and no full sweep is needed
+     *
+     * @version 1.0
+     */
+    public boolean isClean() {
+        return !fullSweepRequired && dirtyCells.isEmpty();
+    }
+
+    /**
+     * Returns the number of dirty cells.
+     *
+     * @return The number of dirty cells
+     *
+     * @version 1.0
+     */
+    public int getDirtyCellCount() {
+        return dirtyCells.cardinality();
+    }
+
+    ////////////////////// Dirty cell marking methods ////////////////////////
+
+    /**
+     * Marks the specified cell as dirty.
+     *
+     * @param row
+     *            The model row index of the dirty cell
+     * @param column
+     *            The model column index of the dirty cell
+     *
+     * @version 1.0
+     */
+    public void markCell( final int row, final int column ) {
+        if ( ( row < 0 ) || ( column < 0 ) || ( column >= columnCount ) ) {
+            return;
+        }
+
+        dirtyCells.set( ( row * columnCount ) + column );
+    }
+
+    /**
+     * Marks all cells in the specified range of rows as dirty.
+     *
+     * @param firstRow
+     *            The model row index of the first dirty row
+     * @param lastRow
+     *            The model row index of the last dirty row
+     *
+     * @version 1.0
+     */
+    public void markRows( final int firstRow, final int lastRow ) {
+        if ( ( firstRow < 0 ) || ( lastRow < firstRow ) ) {
+            return;
+        }
+
+        dirtyCells.set( firstRow * columnCount, ( lastRow + 1 ) * columnCount );
+    }
+
+    /**
+     * Marks the whole table as requiring a full sweep.
+     *
+     * @version 1.0
+     */
+    public void markAll() {
+        fullSweepRequired = true;
+        dirtyCells.clear();
+    }
+
+    /**
+     * Clears all dirty cells, as well as any full sweep requirement.
+     * <p>
+     * This is normally called after committing the view to the data, but can
+     * also be called after loading the view from the data, so that the cells
+     * that were programmatically set don't get committed back again.
+     *
+     * @version 1.0
+     */
+    public void clear() {
+        fullSweepRequired = false;
+        dirtyCells.clear();
+        columnCount = tableModel.getColumnCount();
+    }
+
+    //////////////////////// Dirty cell query methods ////////////////////////
+
+    /**
+     * Returns the index of the first dirty cell at or after the specified
+     * index, or -1 if there are no more dirty cells. Indices are row-major, and
+     * can be decoded with {@link #getRow(int)} and {@link #getColumn(int)}.
+     *
+     * @param fromIndex
+     *            The index to start searching from, inclusive
+     * @return The index of the next dirty cell, or -1 if there is none
+     *
+     * @version 1.0
+     */
+    public int nextDirtyCell( final int fromIndex ) {
+        return dirtyCells.nextSetBit( fromIndex );
+    }
+
+    /**
+     * Returns the model row index for the specified dirty cell index.
+     *
+     * @param cellIndex
+     *            The dirty cell index to decode
+     * @return The model row index for the dirty cell
+     *
+     * @version 1.0
+     */
+    public int getRow( final int cellIndex ) {
+        return cellIndex / columnCount;
+    }
+
+    /**
+     * Returns the model column index for the specified dirty cell index.
+     *
+     * @param cellIndex
+     *            The dirty cell index to decode
+     * @return The model column index for the dirty cell
+     *
+     * @version 1.0
+     */
+    public int getColumn( final int cellIndex ) {
+        return cellIndex % columnCount;
+    }
+
+    ///////////////// TableModelListener implementation methods //////////////
+
+    /**
+     * Updates the dirty cells to track a change to the table data.
+     *
+     * @param tableModelEvent
+     *            The event that describes the change to the table data
+     *
+     * @version 1.0
+     */
+    @Override
+    public void tableChanged( final TableModelEvent tableModelEvent ) {
+        final int firstRow = tableModelEvent.getFirstRow();
+        final int lastRow = tableModelEvent.getLastRow();
+        if ( ( firstRow == TableModelEvent.HEADER_ROW ) || ( lastRow == Integer.MAX_VALUE )
+                || ( tableModel.getColumnCount() != columnCount ) ) {
+            markAll();
+            return;
+        }
+
+        final int column = tableModelEvent.getColumn();
+        switch ( tableModelEvent.getType() ) {
+        case TableModelEvent.INSERT:
+            shiftRows( firstRow, lastRow - firstRow + 1 );
+            markRows( firstRow, lastRow );
+            break;
+        case TableModelEvent.DELETE:
+            shiftRows( lastRow + 1, -( lastRow - firstRow + 1 ) );
+            break;
+        default:
+            if ( column == TableModelEvent.ALL_COLUMNS ) {
+                markRows( firstRow, lastRow );
+            }
+            else {
+                for ( int row = firstRow; row <= lastRow; row++ ) {
+                    markCell( row, column );
+                }
+            }
+            break;
+        }
+    }
+
+    /**
+     * Shifts the dirty cells at or after the specified row by a row offset,
+     * dropping any dirty cells that fall within a deleted range.
+     *
+     * @param firstRow
+     *            The first model row index to shift
+     * @param rowOffset
+     *            The number of inserted rows, or minus the number deleted
+     *
+     * @version 1.0
+     */
+    private void shiftRows( final int firstRow, final int rowOffset ) {
+        final int firstIndex = firstRow * columnCount;
+        final int cellOffset = rowOffset * columnCount;
+        final int clearIndex = ( rowOffset < 0 ) ? firstIndex + cellOffset : firstIndex;
+        if ( dirtyCells.nextSetBit( clearIndex ) < 0 ) {
+            return;
+        }
+
+        final BitSet tail = dirtyCells.get( firstIndex, dirtyCells.length() );
+        dirtyCells.clear( clearIndex, dirtyCells.length() );
+        for ( int i = tail.nextSetBit( 0 ); i >= 0; i = tail.nextSetBit( i + 1 ) ) {
+            dirtyCells.set( firstIndex + cellOffset + i );
+        }
+    }
+
+}
@@ -0,0 +1,250 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the GuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * GuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/guitoolkit
+ */
+package com.mhschmieder.guitoolkit.table;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * {@code DoubleColumnStore} is a {@link ColumnStore} that keeps its values in a
+ * primitive {@code double[]}, for floating-point measurement data.
+ * <p>
+ * Columns declared as {@code Float} share this storage, but their values are
+ * rounded to float precision on entry and are boxed back as {@code Float}, so
+ * that the declared column class is honored.
+ * <p>
+ * Missing or unparseable values are flagged in a separate bit set, so that
+ * they remain distinct from genuine {@code Double.NaN} values. The generic
+ * accessor reports them back as {@code null} so that empty cells render as
+ * blank rather than as "NaN", while the primitive accessors report them as
+ * {@code Double.NaN}.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class DoubleColumnStore extends ColumnStore {
+
+    /**
+     * The primitive storage for the column values; empty cells hold NaN.
+     */
+    private double[]      values;
+
+    /**
+     * The rows whose values are missing, and which therefore read as empty.
+     */
+    private final BitSet  missingValues;
+
+    /**
+     * Flag for whether the values are rounded to, and boxed as, {@code Float}.
+     */
+    private final boolean floatValued;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs a {@code DoubleColumnStore} with the specified initial
+     * capacity.
+     *
+     * @param initialCapacity
+     *            The number of rows to allocate storage for up front
+     *
+     * @version 1.0
+     */
+    public DoubleColumnStore( final int initialCapacity ) {
+        this( initialCapacity, false );
+    }
+
+    /**
+     * Constructs a {@code DoubleColumnStore} with the specified initial
+     * capacity, for either {@code Double} or {@code Float} values.
+     *
+     * @param initialCapacity
+     *            The number of rows to allocate storage for up front
+     * @param floatValues
+     *            {@code true} if the values are to be rounded to, and boxed
+     *            as, {@code Float}
+     *
+     * @version 1.0
+     */
+    public DoubleColumnStore( final int initialCapacity, final boolean floatValues ) {
+        // Always call the superclass constructor first!
+        super();
+
+        values = new double[ FastMath.max( initialCapacity, 0 ) ];
+        missingValues = new BitSet();
+        floatValued = floatValues;
+    }
+
+    ////////////////////// Storage management methods ////////////////////////
+
+    @Override
+    public void ensureCapacity( final int minimumCapacity ) {
+        if ( minimumCapacity > values.length ) {
+            values = Arrays.copyOf( values, getGrownCapacity( values.length, minimumCapacity ) );
+        }
+    }
+
+    @Override
+    public void insertRows( final int row, final int count, final int rowCount ) {
+        ensureCapacity( rowCount + count );
+        System.arraycopy( values, row, values, row + count, rowCount - row );
+        Arrays.fill( values, row, row + count, 0d );
+        insertBits( missingValues, row, count, rowCount );
+    }
+
+    @Override
+    public void removeRows( final int row, final int count, final int rowCount ) {
+        System.arraycopy( values, row + count, values, row, rowCount - row - count );
+        removeBits( missingValues, row, count, rowCount );
+    }
+
+    @Override
+    public void copyValue( final int sourceRow, final int targetRow ) {
+        values[ targetRow ] = values[ sourceRow ];
+        missingValues.set( targetRow, missingValues.get( sourceRow ) );
+    }
+
+    ///////////////////////// Typed accessor methods /////////////////////////
+
+    @Override
+    public Class< ? > getColumnClass() {
+        return floatValued ? Float.class : Double.class;
+    }
+
+    @Override
+    public Object getValueAt( final int row ) {
+        if ( missingValues.get( row ) ) {
+            return null;
+        }
+        final double value = values[ row ];
+        return floatValued ? ( Object ) Float.valueOf( ( float ) value ) : Double.valueOf( value );
+    }
+
+    @Override
+    public void setValueAt( final Object value, final int row ) {
+        if ( value instanceof Number ) {
+            setDoubleAt( ( ( Number ) value ).doubleValue(), row );
+        }
+        else if ( value instanceof String ) {
+            try {
+                setDoubleAt( Double.parseDouble( ( ( String ) value ).trim() ), row );
+            }
+            catch ( final NumberFormatException nfe ) {
+                setMissingAt( row );
+            }
+        }
+        else {
+            setMissingAt( row );
+        }
+    }
+
+    @Override
+    public double getDoubleAt( final int row ) {
+        return values[ row ];
+    }
+
+    @Override
+    public int getIntAt( final int row ) {
+        return ( int ) values[ row ];
+    }
+
+    @Override
+    public boolean getBooleanAt( final int row ) {
+        return values[ row ] != 0d;
+    }
+
+    @Override
+    public String getStringAt( final int row ) {
+        if ( missingValues.get( row ) ) {
+            return null;
+        }
+        final double value = values[ row ];
+        return floatValued ? Float.toString( ( float ) value ) : Double.toString( value );
+    }
+
+    @Override
+    public void setDoubleAt( final double value, final int row ) {
+        values[ row ] = floatValued ? ( float ) value : value;
+        missingValues.clear( row );
+    }
+
+    @Override
+    public void setIntAt( final int value, final int row ) {
+        setDoubleAt( value, row );
+    }
+
+    @Override
+    public void setBooleanAt( final boolean value, final int row ) {
+        values[ row ] = value ? 1d : 0d;
+        missingValues.clear( row );
+    }
+
+    @Override
+    public boolean isNumeric() {
+        return true;
+    }
+
+    /**
+     * Marks the value at the specified row as missing.
+     *
+     * @param row
+     *            The row whose value is missing
+     *
+     * @version 1.0
+     */
+    private void setMissingAt( final int row ) {
+        values[ row ] = Double.NaN;
+        missingValues.set( row );
+    }
+
+    /**
+     * Copies a contiguous range of the column values into a new array, in
+     * which missing values are {@code Double.NaN}.
+     * <p>
+     * This is mostly used for taking immutable snapshots of a column, such as
+     * for sorting or exporting on a background thread.
+     *
+     * @param row
+     *            The index of the first row to copy
+     * @param count
+     *            The number of rows to copy
+     * @return A new array holding the requested range of column values
+     *
+     * @version 1.0
+     */
+    public double[] copyValues( final int row, final int count ) {
+        return Arrays.copyOfRange( values, row, row + count );
+    }
+
+}
@@ -0,0 +1,193 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the GuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * GuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/guitoolkit
+ */
+package com.mhschmieder.guitoolkit.table;
+
+import java.awt.Font;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.swing.UIManager;
+
+/**
+ * {@code FontVariantCache} is a static utilities class that caches the style
+ * and size variants that are derived from base fonts, so that table cell and
+ * header renderers can reuse the same {@link Font} instances across calls
+ * instead of deriving a new one for every cell that is painted.
+ * <p>
+ * The cache is thread-safe, and cache hits allocate nothing. Variants are held
+ * per base font in a small copy-on-write array, as each base font typically
+ * only has a handful of variants (e.g. plain for data cells and bold italic
+ * for row headers).
+ * <p>
+ * As the base font is part of the key, font changes on a table naturally map
+ * to new cache entries. The whole cache is flushed when the Look and Feel
+ * changes, as well as when the number of base fonts exceeds a sanity limit.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class FontVariantCache {
+
+    /**
+     * The maximum number of base fonts to cache variants for before flushing
+     * the cache, to avoid unbounded growth from transient fonts.
+     */
+    private static final int                                  MAXIMUM_BASE_FONTS = 64;
+
+    /**
+     * The cached variants, keyed by base font.
+     */
+    private static final ConcurrentMap< Font, FontVariant[] > FONT_VARIANTS      =
+            new ConcurrentHashMap<>();
+
+    static {
+        // Flush the cache whenever the Look and Feel changes, as the default
+        // fonts that are used as base fonts typically change along with it.
+        UIManager.addPropertyChangeListener( evt -> {
+            if ( "lookAndFeel".equals( evt.getPropertyName() ) ) { //$NON-NLS-1$
+                clear();
+            }
+        } );
+    }
+
+    /**
+     * The default constructor is disabled, as this is a static utilities class.
+     */
+    private FontVariantCache() {}
+
+    /**
+     * Returns the variant of the base font with the specified style and size,
+     * deriving it only the first time that it is requested.
+     *
+     * @param baseFont
+     *            The font to derive the variant from
+     * @param style
+     *            The style of the font variant, as a {@link Font} style mask
+     * @param size
+     *            The point size of the font variant
+     * @return The variant of the base font with the specified style and size
+     *
+     * @version 1.0
+     */
+    public static Font getFont( final Font baseFont, final int style, final float size ) {
+        if ( baseFont == null ) {
+            return null;
+        }
+
+        // Search the existing variants; this is the allocation-free hit path.
+        final FontVariant[] variants = FONT_VARIANTS.get( baseFont );
+        if ( variants != null ) {
+            for ( final FontVariant variant : variants ) {
+                if ( ( variant.style == style ) && ( variant.size == size ) ) {
+                    return variant.font;
+                }
+            }
+        }
+
+        // Derive the variant, then publish it via a copy-on-write array. If
+        // another thread wins the race, we simply end up re-deriving later.
+        final Font font = baseFont.deriveFont( style, size );
+        if ( ( variants == null ) && ( FONT_VARIANTS.size() >= MAXIMUM_BASE_FONTS ) ) {
+            clear();
+        }
+        FONT_VARIANTS.merge( baseFont,
+                             new FontVariant[] { new FontVariant( style, size, font ) },
+                             FontVariantCache::appendVariants );
+
+        return font;
+    }
+
+    /**
+     * Clears all cached font variants.
+     * <p>
+     * This is called automatically when the Look and Feel changes, but may
+     * also be called by applications that change font settings globally.
+     *
+     * @version 1.0
+     */
+    public static void clear() {
+        FONT_VARIANTS.clear();
+    }
+
+    /**
+     * Returns a new array holding the existing variants followed by the added
+     * variants.
+     *
+     * @param existingVariants
+     *            The variants that are already cached for a base font
+     * @param addedVariants
+     *            The variants to add for that base font
+     * @return A new array holding the existing and added variants
+     *
+     * @version 1.0
+     */
+    private static FontVariant[] appendVariants( final FontVariant[] existingVariants,
+                                                 final FontVariant[] addedVariants ) {
+        final FontVariant[] variants = new FontVariant[ existingVariants.length
+                + addedVariants.length ];
+        System.arraycopy( existingVariants, 0, variants, 0, existingVariants.length );
+        System.arraycopy( addedVariants,
+                          0,
+                          variants,
+                          existingVariants.length,
+                          addedVariants.length );
+        return variants;
+    }
+
+    /**
+     * {@code FontVariant} is an immutable cache entry for one derived font.
+     */
+    private static final class FontVariant {
+
+        /**
+         * The style that the font was derived with.
+         */
+        final int   style;
+
+        /**
+         * The size that the font was derived with.
+         */
+        final float size;
+
+        /**
+         * The derived font.
+         */
+        final Font  font;
+
+        FontVariant( final int fontStyle, final float fontSize, final Font derivedFont ) {
+            style = fontStyle;
+            size = fontSize;
+            font = derivedFont;
+        }
+    }
+
+}
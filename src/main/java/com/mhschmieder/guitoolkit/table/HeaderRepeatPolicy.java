@@ -0,0 +1,77 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the GuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * GuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/guitoolkit
+ */
+package com.mhschmieder.guitoolkit.table;
+
+/**
+ * {@code HeaderRepeatPolicy} is an enumeration of the ways that the Table
+ * Header can be placed when a table is vectorized across multiple pages.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public enum HeaderRepeatPolicy {
+    /**
+     * The Table Header is not output on any page.
+     */
+    NONE,
+    /**
+     * The Table Header is only output at the top of the first page.
+     */
+    FIRST_PAGE,
+    /**
+     * The Table Header is repeated at the top of every page, which is usually
+     * preferred for printed reports, so that every page is self-describing.
+     */
+    EVERY_PAGE;
+
+    /**
+     * Returns {@code true} if the Table Header is output on the specified page.
+     *
+     * @param pageIndex
+     *            The zero-based index of the page
+     * @return {@code true} if the Table Header is output on the specified page
+     *
+     * @version 1.0
+     */
+    public boolean isHeaderOnPage( final int pageIndex ) {
+        switch ( this ) {
+        case FIRST_PAGE:
+            return pageIndex == 0;
+        case EVERY_PAGE:
+            return true;
+        case NONE:
+        default:
+            return false;
+        }
+    }
+
+}
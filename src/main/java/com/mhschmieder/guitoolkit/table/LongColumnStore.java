@@ -0,0 +1,245 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the GuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * GuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/guitoolkit
+ */
+package com.mhschmieder.guitoolkit.table;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * {@code LongColumnStore} is a {@link ColumnStore} that keeps its values in a
+ * primitive {@code long[]}, for time stamps, large counts, and other integral
+ * data that does not fit the range of an {@code int}.
+ * <p>
+ * Missing, unparseable and out-of-range values are flagged in a separate bit
+ * set, and are reported back as {@code null} by the generic accessor and as
+ * {@code Double.NaN} by {@link #getDoubleAt}.
+ * <p>
+ * As values beyond 2^53 cannot be read losslessly as a double, this column is
+ * not reported as numeric, so that sorters compare the boxed values instead.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class LongColumnStore extends ColumnStore {
+
+    /**
+     * The primitive storage for the column values; empty cells hold zero.
+     */
+    private long[]       values;
+
+    /**
+     * The rows whose values are missing, and which therefore read as empty.
+     */
+    private final BitSet missingValues;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs a {@code LongColumnStore} with the specified initial capacity.
+     *
+     * @param initialCapacity
+     *            The number of rows to allocate storage for up front
+     *
+     * @version 1.0
+     */
+    public LongColumnStore( final int initialCapacity ) {
+        // Always call the superclass constructor first!
+        super();
+
+        values = new long[ FastMath.max( initialCapacity, 0 ) ];
+        missingValues = new BitSet();
+    }
+
+    ////////////////////// Storage management methods ////////////////////////
+
+    @Override
+    public void ensureCapacity( final int minimumCapacity ) {
+        if ( minimumCapacity > values.length ) {
+            values = Arrays.copyOf( values, getGrownCapacity( values.length, minimumCapacity ) );
+        }
+    }
+
+    @Override
+    public void insertRows( final int row, final int count, final int rowCount ) {
+        ensureCapacity( rowCount + count );
+        System.arraycopy( values, row, values, row + count, rowCount - row );
+        Arrays.fill( values, row, row + count, 0L );
+        insertBits( missingValues, row, count, rowCount );
+    }
+
+    @Override
+    public void removeRows( final int row, final int count, final int rowCount ) {
+        System.arraycopy( values, row + count, values, row, rowCount - row - count );
+        removeBits( missingValues, row, count, rowCount );
+    }
+
+    @Override
+    public void copyValue( final int sourceRow, final int targetRow ) {
+        values[ targetRow ] = values[ sourceRow ];
+        missingValues.set( targetRow, missingValues.get( sourceRow ) );
+    }
+
+    ///////////////////////// Typed accessor methods /////////////////////////
+
+    @Override
+    public Class< ? > getColumnClass() {
+        return Long.class;
+    }
+
+    @Override
+    public Object getValueAt( final int row ) {
+        return missingValues.get( row ) ? null : Long.valueOf( values[ row ] );
+    }
+
+    @Override
+    public void setValueAt( final Object value, final int row ) {
+        if ( ( value instanceof Double ) || ( value instanceof Float ) ) {
+            setDoubleAt( ( ( Number ) value ).doubleValue(), row );
+        }
+        else if ( value instanceof Number ) {
+            setLongAt( ( ( Number ) value ).longValue(), row );
+        }
+        else if ( value instanceof String ) {
+            try {
+                setLongAt( Long.parseLong( ( ( String ) value ).trim() ), row );
+            }
+            catch ( final NumberFormatException nfe ) {
+                setMissingAt( row );
+            }
+        }
+        else {
+            setMissingAt( row );
+        }
+    }
+
+    @Override
+    public double getDoubleAt( final int row ) {
+        return missingValues.get( row ) ? Double.NaN : values[ row ];
+    }
+
+    @Override
+    public int getIntAt( final int row ) {
+        return ( int ) values[ row ];
+    }
+
+    @Override
+    public boolean getBooleanAt( final int row ) {
+        return values[ row ] != 0L;
+    }
+
+    @Override
+    public String getStringAt( final int row ) {
+        return missingValues.get( row ) ? null : Long.toString( values[ row ] );
+    }
+
+    @Override
+    public void setDoubleAt( final double value, final int row ) {
+        // The upper limit is exclusive, as Long.MAX_VALUE rounds up to 2^63.
+        if ( Double.isNaN( value ) || ( value < Long.MIN_VALUE ) || ( value >= Long.MAX_VALUE ) ) {
+            setMissingAt( row );
+        }
+        else {
+            setLongAt( ( long ) value, row );
+        }
+    }
+
+    @Override
+    public void setIntAt( final int value, final int row ) {
+        setLongAt( value, row );
+    }
+
+    @Override
+    public void setBooleanAt( final boolean value, final int row ) {
+        setLongAt( value ? 1L : 0L, row );
+    }
+
+    /**
+     * Returns the value at the specified row as a primitive long.
+     *
+     * @param row
+     *            The row whose value is to be queried
+     * @return The value at the specified row as a primitive long, which is
+     *         zero if there is no value
+     *
+     * @version 1.0
+     */
+    public long getLongAt( final int row ) {
+        return values[ row ];
+    }
+
+    /**
+     * Sets the value at the specified row from a primitive long.
+     *
+     * @param value
+     *            The new value
+     * @param row
+     *            The row whose value is to be changed
+     *
+     * @version 1.0
+     */
+    public void setLongAt( final long value, final int row ) {
+        values[ row ] = value;
+        missingValues.clear( row );
+    }
+
+    /**
+     * Marks the value at the specified row as missing.
+     *
+     * @param row
+     *            The row whose value is missing
+     *
+     * @version 1.0
+     */
+    private void setMissingAt( final int row ) {
+        values[ row ] = 0L;
+        missingValues.set( row );
+    }
+
+    /**
+     * Copies a contiguous range of the column values into a new array, in
+     * which missing values are zero.
+     *
+     * @param row
+     *            The index of the first row to copy
+     * @param count
+     *            The number of rows to copy
+     * @return A new array holding the requested range of column values
+     *
+     * @version 1.0
+     */
+    public long[] copyValues( final int row, final int count ) {
+        return Arrays.copyOfRange( values, row, row + count );
+    }
+
+}
@@ -32,7 +32,11 @@ package com.mhschmieder.guitoolkit.table;
 
 import java.awt.Color;
 import java.awt.Component;
+import java.text.DecimalFormat;
+import java.text.FieldPosition;
 import java.text.NumberFormat;
+import java.text.ParsePosition;
+import java.util.Arrays;
 import java.util.Locale;
 
 import javax.swing.JTable;
@@ -59,6 +63,20 @@ public class NumberCellRenderer extends TextFieldCellRenderer {
      */
     public static final int   CELL_ALIGNMENT   = SwingConstants.RIGHT;
 
+    /**
+     * The number of slots in each of the direct-mapped display string caches;
+     * this must be a power of two so that slot indices can be taken from the
+     * top bits of a hash.
+     */
+    private static final int  DISPLAY_CACHE_SIZE  = 1024;
+
+    /**
+     * The right shift that reduces a 32-bit multiplicative hash to its top
+     * bits, so that it indexes a slot of the display string caches.
+     */
+    private static final int  DISPLAY_CACHE_SHIFT = Integer
+            .numberOfLeadingZeros( DISPLAY_CACHE_SIZE - 1 );
+
     /**
      * Returns a copy of the original numeric string, stripped of the positive
      * sign if present.
@@ -114,6 +132,53 @@ public class NumberCellRenderer extends TextFieldCellRenderer {
      */
     protected NumberFormat numberParse;
 
+    /**
+     * Reusable buffer that numeric values are formatted into, so that cache
+     * misses only allocate the final display string.
+     */
+    private final StringBuffer  formatBuffer;
+
+    /**
+     * Reusable field position required by the buffer-based format call.
+     */
+    private final FieldPosition formatFieldPosition;
+
+    /**
+     * Reusable parse position, which lets us detect unparseable strings
+     * without the cost of throwing and catching exceptions in the paint loop.
+     */
+    private final ParsePosition parsePosition;
+
+    /**
+     * Direct-mapped cache keys for numeric values, as raw double bits.
+     */
+    private final long[]        valueCacheKeys;
+
+    /**
+     * Direct-mapped cache of display strings for numeric values.
+     */
+    private final String[]      valueCacheStrings;
+
+    /**
+     * Direct-mapped cache keys for textual values, as the trimmed strings.
+     */
+    private final String[]      textCacheKeys;
+
+    /**
+     * Direct-mapped cache of display strings for textual values.
+     */
+    private final String[]      textCacheStrings;
+
+    /**
+     * The format settings that the cached display strings were produced with;
+     * the caches are flushed whenever these no longer match the formatter.
+     */
+    private int                 cachedMinimumFractionDigits;
+    private int                 cachedMaximumFractionDigits;
+    private boolean             cachedGroupingUsed;
+    private String              cachedUnitsLabel;
+    private String              cachedPositivePrefix;
+
     //////////////////////////// Constructors ////////////////////////////////
 
     /**
@@ -193,6 +258,15 @@ public class NumberCellRenderer extends TextFieldCellRenderer {
         unitsLabel = units;
         trimPlusSign = stripPositiveSign;
 
+        formatBuffer = new StringBuffer( 32 );
+        formatFieldPosition = new FieldPosition( NumberFormat.INTEGER_FIELD );
+        parsePosition = new ParsePosition( 0 );
+
+        valueCacheKeys = new long[ DISPLAY_CACHE_SIZE ];
+        valueCacheStrings = new String[ DISPLAY_CACHE_SIZE ];
+        textCacheKeys = new String[ DISPLAY_CACHE_SIZE ];
+        textCacheStrings = new String[ DISPLAY_CACHE_SIZE ];
+
         try {
             initCellRenderer();
         }
@@ -257,6 +331,134 @@ public class NumberCellRenderer extends TextFieldCellRenderer {
      */
     public final void setUnitsLabel( final String units ) {
         unitsLabel = units;
+
+        // Cached display strings include the old units, so are now stale.
+        clearDisplayCache();
+    }
+
+    ///////////////////// Display string cache methods ///////////////////////
+
+    /**
+     * Clears the display string caches.
+     * <p>
+     * The caches are flushed automatically when the fraction digits, grouping
+     * or units change, but derived classes that alter other aspects of the
+     * number formatter should call this method afterwards.
+     *
+     * @version 1.0
+     */
+    public final void clearDisplayCache() {
+        Arrays.fill( valueCacheStrings, null );
+        Arrays.fill( textCacheKeys, null );
+        Arrays.fill( textCacheStrings, null );
+
+        cachedMinimumFractionDigits = numberFormat.getMinimumFractionDigits();
+        cachedMaximumFractionDigits = numberFormat.getMaximumFractionDigits();
+        cachedGroupingUsed = numberFormat.isGroupingUsed();
+        cachedUnitsLabel = unitsLabel;
+        cachedPositivePrefix = ( numberFormat instanceof DecimalFormat )
+            ? ( ( DecimalFormat ) numberFormat ).getPositivePrefix()
+            : null;
+    }
+
+    /**
+     * Flushes the display string caches if the number format settings or the
+     * units have changed since the cached strings were produced.
+     * <p>
+     * The number formatter is accessible to derived classes, which commonly
+     * adjust its precision directly, so this is checked on each use rather
+     * than relying on notification from a setter.
+     *
+     * @version 1.0
+     */
+    private void validateDisplayCache() {
+        if ( ( cachedMinimumFractionDigits != numberFormat.getMinimumFractionDigits() )
+                || ( cachedMaximumFractionDigits != numberFormat.getMaximumFractionDigits() )
+                || ( cachedGroupingUsed != numberFormat.isGroupingUsed() )
+                || ( cachedUnitsLabel != unitsLabel )
+                || ( ( numberFormat instanceof DecimalFormat ) && !( ( DecimalFormat ) numberFormat )
+                        .getPositivePrefix().equals( cachedPositivePrefix ) ) ) {
+            clearDisplayCache();
+        }
+    }
+
+    /**
+     * Returns the display string for a numeric value, formatted with the
+     * current number format and with the units label appended.
+     * <p>
+     * Values are looked up in a bounded, direct-mapped cache first, so that
+     * repainting a grid of recurring values allocates nothing at all; a miss
+     * formats straight into a reused buffer and allocates only the result.
+     *
+     * @param value
+     *            The numeric value to format for display
+     * @return The display string for the numeric value
+     *
+     * @version 1.0
+     */
+    @SuppressWarnings("nls")
+    public final String getDisplayString( final double value ) {
+        if ( Double.isNaN( value ) ) {
+            return "";
+        }
+
+        validateDisplayCache();
+
+        // Normalize negative zero so that it shares a slot with zero.
+        final long bits = Double.doubleToLongBits( value + 0d );
+        final int slot = ( int ) ( bits ^ ( bits >>> 32 ) ) * 0x9E3779B9 >>> DISPLAY_CACHE_SHIFT;
+        final String cachedString = valueCacheStrings[ slot ];
+        if ( ( cachedString != null ) && ( valueCacheKeys[ slot ] == bits ) ) {
+            return cachedString;
+        }
+
+        formatBuffer.setLength( 0 );
+        numberFormat.format( value, formatBuffer, formatFieldPosition );
+        if ( unitsLabel != null ) {
+            formatBuffer.append( unitsLabel );
+        }
+        final String displayString = formatBuffer.toString();
+
+        valueCacheKeys[ slot ] = bits;
+        valueCacheStrings[ slot ] = displayString;
+
+        return displayString;
+    }
+
+    /**
+     * Returns the display string for a numeric value in string form, which is
+     * parsed and then formatted with the current number format.
+     * <p>
+     * Strings that cannot be parsed are displayed as-is, rather than treated
+     * as an error, as this is called from the paint loop.
+     *
+     * @param text
+     *            The trimmed, non-empty numeric string to format for display
+     * @return The display string for the numeric string
+     *
+     * @version 1.0
+     */
+    private String getDisplayString( final String text ) {
+        validateDisplayCache();
+
+        final int slot = ( text.hashCode() * 0x9E3779B9 ) >>> DISPLAY_CACHE_SHIFT;
+        final String cachedKey = textCacheKeys[ slot ];
+        if ( ( cachedKey != null ) && cachedKey.equals( text ) ) {
+            return textCacheStrings[ slot ];
+        }
+
+        final String numericString = trimPlusSign ? stripPositiveSign( text ) : text;
+        parsePosition.setIndex( 0 );
+        parsePosition.setErrorIndex( -1 );
+        final Number number = numberParse.parse( numericString, parsePosition );
+        final String displayString = ( ( number == null ) || ( parsePosition.getErrorIndex() >= 0 ) )
+            ? text
+            : getDisplayString( number.doubleValue() );
+
+        textCacheKeys[ slot ] = text;
+        textCacheStrings[ slot ] = displayString;
+
+        return displayString;
     }
 
     /////////////// DefaultTableCellRenderer method overrides ////////////////
@@ -300,20 +502,18 @@ public class NumberCellRenderer extends TextFieldCellRenderer {
         final boolean applyRowHeaderStyle = cellIsRowHeader
                 && ( column == TableConstants.COLUMN_ROW_HEADER );
 
-        // Provide exception-proof handling of the cell's current value.
-        String newValue = ( value instanceof String ) ? ( ( String ) value ).trim() : "";
-        if ( !newValue.isEmpty() && ( !applyRowHeaderStyle ) ) {
-            try {
-                if ( trimPlusSign ) {
-                    newValue = stripPositiveSign( newValue );
-                }
-                newValue = numberFormat.format( numberParse.parse( newValue ).doubleValue() )
-                        + unitsLabel;
-            }
-            catch ( final Exception e ) {
-                e.printStackTrace();
+        // Provide exception-proof handling of the cell's current value. Primitive
+        // numeric values skip parsing altogether, and both paths are cached.
+        String newValue = "";
+        if ( value instanceof String ) {
+            newValue = ( ( String ) value ).trim();
+            if ( !newValue.isEmpty() && ( !applyRowHeaderStyle ) ) {
+                newValue = getDisplayString( newValue );
             }
         }
+        else if ( ( value instanceof Number ) && ( !applyRowHeaderStyle ) ) {
+            newValue = getDisplayString( ( ( Number ) value ).doubleValue() );
+        }
 
         final Component component = super.getTableCellRendererComponent( table,
                                                                          newValue,
@@ -325,4 +525,48 @@ public class NumberCellRenderer extends TextFieldCellRenderer {
         return component;
     }
 
+    /**
+     * Returns the table cell renderer for the specified row and column, given
+     * the cell's value as a primitive double.
+     * <p>
+     * This is the allocation-free counterpart of
+     * {@link #getTableCellRendererComponent}, for tables whose models can read
+     * numeric cells without boxing them first; {@code Double.NaN} is treated
+     * as an empty cell.
+     *
+     * @param table
+     *            The {@link JTable} that uses this cell renderer
+     * @param value
+     *            The numeric value to assign to the cell at {@code [row, column]}
+     * @param isSelected
+     *            {@code true} if cell is selected
+     * @param hasFocus
+     *            {@code true} if cell has focus
+     * @param row
+     *            The row index of the cell to render
+     * @param column
+     *            The column index of the cell to render
+     * @return The table cell renderer for the specified cell
+     *
+     * @version 1.0
+     */
+    @SuppressWarnings("nls")
+    public Component getNumericCellRendererComponent( final JTable table,
+                                                      final double value,
+                                                      final boolean isSelected,
+                                                      final boolean hasFocus,
+                                                      final int row,
+                                                      final int column ) {
+        final boolean applyRowHeaderStyle = cellIsRowHeader
+                && ( column == TableConstants.COLUMN_ROW_HEADER );
+        final String newValue = applyRowHeaderStyle ? "" : getDisplayString( value );
+
+        return super.getTableCellRendererComponent( table,
+                                                    newValue,
+                                                    isSelected,
+                                                    hasFocus,
+                                                    row,
+                                                    column );
+    }
+
 }
@@ -0,0 +1,355 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the GuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * GuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/guitoolkit
+ */
+package com.mhschmieder.guitoolkit.table;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.swing.Timer;
+import javax.swing.table.AbstractTableModel;
+
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * {@code RingBufferTableModel} is a specialization of
+ * {@link AbstractTableModel} for live, append-only data such as continuous
+ * measurement logs, which keeps only the most recent rows up to a fixed
+ * capacity in a ring buffer.
+ * <p>
+ * Rows may be appended from any thread. They are queued without blocking, and
+ * moved into the ring buffer on the event dispatch thread at most once per
+ * frame, at which time listeners are sent at most one row deletion event for
+ * the rows that were evicted and one row insertion event for the rows that
+ * were added, no matter how many rows were appended during that frame.
+ * <p>
+ * Eviction simply advances the head of the ring buffer, so dropping the oldest
+ * rows never copies the rest of the data. Appended row arrays are stored as-is,
+ * so producers must not modify them after appending them.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public class RingBufferTableModel extends AbstractTableModel {
+    /**
+     * Unique Serial Version ID for this class, to avoid class loader conflicts.
+     */
+    private static final long                     serialVersionUID              =
+            -2243785910436286547L;
+
+    /**
+     * The default interval between updates, in milliseconds, which is one
+     * frame at sixty frames per second.
+     */
+    public static final int                       DEFAULT_FRAME_INTERVAL_MILLIS = 16;
+
+    /**
+     * The names of the table columns.
+     */
+    private final String[]                        columnNames;
+
+    /**
+     * The class types of the table columns.
+     */
+    private final Class< ? >[]                    columnClasses;
+
+    /**
+     * The ring buffer of rows; only accessed on the event dispatch thread.
+     */
+    private final Object[][]                      rows;
+
+    /**
+     * The ring buffer index of the oldest row.
+     */
+    private int                                   head;
+
+    /**
+     * The number of rows currently in the ring buffer.
+     */
+    private int                                   size;
+
+    /**
+     * The rows that were appended but not yet moved into the ring buffer.
+     */
+    private final ConcurrentLinkedQueue< Object[] > pendingRows;
+
+    /**
+     * Flag for whether an update is already scheduled for the next frame.
+     */
+    private final AtomicBoolean                   updateScheduled;
+
+    /**
+     * The timer that moves the pending rows into the ring buffer once per
+     * frame, on the event dispatch thread.
+     */
+    private final transient Timer                 updateTimer;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs an empty {@code RingBufferTableModel} that updates at most
+     * once per frame.
+     *
+     * @param columnNamesForTable
+     *            The names of the table columns
+     * @param capacity
+     *            The maximum number of rows to keep
+     *
+     * @version 1.0
+     */
+    public RingBufferTableModel( final String[] columnNamesForTable, final int capacity ) {
+        this( columnNamesForTable, null, capacity, DEFAULT_FRAME_INTERVAL_MILLIS );
+    }
+
+    /**
+     * Constructs an empty {@code RingBufferTableModel}.
+     *
+     * @param columnNamesForTable
+     *            The names of the table columns
+     * @param columnClassesForTable
+     *            The class types of the table columns, or {@code null} if all
+     *            columns are to be treated as {@code Object}
+     * @param capacity
+     *            The maximum number of rows to keep
+     * @param frameIntervalMillis
+     *            The minimum interval between updates, in milliseconds
+     *
+     * @version 1.0
+     */
+    public RingBufferTableModel( final String[] columnNamesForTable,
+                                 final Class< ? >[] columnClassesForTable,
+                                 final int capacity,
+                                 final int frameIntervalMillis ) {
+        // Always call the superclass constructor first!
+        super();
+
+        columnNames = columnNamesForTable.clone();
+        columnClasses = new Class< ? >[ columnNames.length ];
+        Arrays.fill( columnClasses, Object.class );
+        if ( columnClassesForTable != null ) {
+            System.arraycopy( columnClassesForTable,
+                              0,
+                              columnClasses,
+                              0,
+                              FastMath.min( columnClasses.length, columnClassesForTable.length ) );
+        }
+
+        rows = new Object[ FastMath.max( 1, capacity ) ][];
+        head = 0;
+        size = 0;
+
+        pendingRows = new ConcurrentLinkedQueue<>();
+        updateScheduled = new AtomicBoolean( false );
+        updateTimer = new Timer( FastMath.max( 0, frameIntervalMillis ), evt -> update() );
+        updateTimer.setRepeats( false );
+
+        // A coalescing timer drops an event that is posted while its previous
+        // event is still being handled, which would leave the update flag set
+        // with no update ever coming to clear it.
+        updateTimer.setCoalesce( false );
+    }
+
+    ////////////////// Accessor methods for private data /////////////////////
+
+    /**
+     * Returns the maximum number of rows to keep.
+     *
+     * @return The maximum number of rows to keep
+     *
+     * @version 1.0
+     */
+    public final int getCapacity() {
+        return rows.length;
+    }
+
+    ////////////////////////// Row streaming methods /////////////////////////
+
+    /**
+     * Appends a row to the end of the table; this may be called from any
+     * thread, and never blocks.
+     * <p>
+     * The row becomes visible to the table with the next per-frame update.
+     *
+     * @param row
+     *            The cell values for the new row, which must not be modified
+     *            after this call
+     *
+     * @version 1.0
+     */
+    public final void appendRow( final Object[] row ) {
+        if ( row == null ) {
+            return;
+        }
+
+        pendingRows.offer( row );
+
+        // Only the first append in each frame needs to schedule the update, as
+        // the update drains all of the rows that were appended up until then.
+        // Swing Timers are safe to start from any thread.
+        if ( updateScheduled.compareAndSet( false, true ) ) {
+            updateTimer.start();
+        }
+    }
+
+    /**
+     * Removes all rows, including any that are still pending; this must be
+     * called on the event dispatch thread.
+     *
+     * @version 1.0
+     */
+    public final void clear() {
+        pendingRows.clear();
+        if ( size > 0 ) {
+            final int lastRow = size - 1;
+            Arrays.fill( rows, null );
+            head = 0;
+            size = 0;
+            fireTableRowsDeleted( 0, lastRow );
+        }
+    }
+
+    /**
+     * Stops any scheduled update, for when the model is no longer in use.
+     *
+     * @version 1.0
+     */
+    public final void dispose() {
+        updateTimer.stop();
+        pendingRows.clear();
+    }
+
+    /**
+     * Moves the pending rows into the ring buffer, evicting the oldest rows as
+     * needed, and notifies listeners with at most one deletion event and one
+     * insertion event. This is always invoked on the event dispatch thread.
+     * <p>
+     * The evictions are applied and announced before the new rows are added,
+     * so that listeners always see a row count that matches the event.
+     *
+     * @version 1.0
+     */
+    private void update() {
+        try {
+            flushPendingRows();
+        }
+        finally {
+            // Clear the flag only once the flush is done, so that no second
+            // update can be scheduled while this one is still running. Rows
+            // appended after the drain schedule the next update here instead.
+            updateScheduled.set( false );
+            if ( !pendingRows.isEmpty() && updateScheduled.compareAndSet( false, true ) ) {
+                updateTimer.start();
+            }
+        }
+    }
+
+    /**
+     * Moves the pending rows into the ring buffer, evicting the oldest rows as
+     * needed, and fires the corresponding deletion and insertion events.
+     *
+     * @version 1.0
+     */
+    private void flushPendingRows() {
+        // Rows that would be both added and evicted in this frame are never
+        // seen by the listeners, so only the newest rows that fit are kept.
+        final int capacity = rows.length;
+        final ArrayDeque< Object[] > addedRows = new ArrayDeque<>();
+        Object[] row = pendingRows.poll();
+        while ( row != null ) {
+            if ( addedRows.size() == capacity ) {
+                addedRows.removeFirst();
+            }
+            addedRows.addLast( row );
+            row = pendingRows.poll();
+        }
+
+        final int insertedRowCount = addedRows.size();
+        if ( insertedRowCount == 0 ) {
+            return;
+        }
+
+        // First evict the oldest rows to make room for the new ones.
+        final int deletedRowCount = FastMath.max( 0, ( size + insertedRowCount ) - capacity );
+        if ( deletedRowCount > 0 ) {
+            for ( int i = 0; i < deletedRowCount; i++ ) {
+                rows[ ( head + i ) % capacity ] = null;
+            }
+            head = ( head + deletedRowCount ) % capacity;
+            size -= deletedRowCount;
+            fireTableRowsDeleted( 0, deletedRowCount - 1 );
+        }
+
+        // Then write the new rows after the newest row.
+        for ( final Object[] addedRow : addedRows ) {
+            rows[ ( head + size ) % capacity ] = addedRow;
+            size++;
+        }
+        fireTableRowsInserted( size - insertedRowCount, size - 1 );
+    }
+
+    ////////////////// AbstractTableModel method overrides ///////////////////
+
+    @Override
+    public int getRowCount() {
+        return size;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    @Override
+    public String getColumnName( final int column ) {
+        return columnNames[ column ];
+    }
+
+    @Override
+    public Class< ? > getColumnClass( final int column ) {
+        return columnClasses[ column ];
+    }
+
+    @Override
+    public boolean isCellEditable( final int row, final int column ) {
+        return false;
+    }
+
+    @Override
+    public Object getValueAt( final int row, final int column ) {
+        final Object[] rowValues = rows[ ( head + row ) % rows.length ];
+        return ( ( rowValues != null ) && ( column < rowValues.length ) )
+            ? rowValues[ column ]
+            : null;
+    }
+
+}
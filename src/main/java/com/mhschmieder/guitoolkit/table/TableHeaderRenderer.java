@@ -189,7 +189,8 @@ public class TableHeaderRenderer extends DefaultTableCellRenderer {
         // cases. This may currently be a Windows-specific issue.
         final Font defaultFont = component.getFont();
         final float boldFontSize = FastMath.max( 11f, preferredFontSize );
-        final Font tableCellFont = defaultFont.deriveFont( Font.BOLD | Font.ITALIC, boldFontSize );
+        final Font tableCellFont = FontVariantCache
+                .getFont( defaultFont, Font.BOLD | Font.ITALIC, boldFontSize );
         component.setFont( tableCellFont );
 
         // Set the background and foreground colors for the table header cells.
@@ -108,6 +108,11 @@ public class TableInitializationUtilities {
 
     /**
      * Packs all rows for best height based on cell components.
+     * <p>
+     * The preferred row heights are cached by the table's
+     * {@link TableRowMetrics} engine, which is installed on first use. After
+     * that, only rows reported as changed by the table model get re-measured,
+     * and very large tables are estimated from a sample of rows.
      *
      * @param table
      *            The Table that hosts the data
@@ -115,13 +120,14 @@ public class TableInitializationUtilities {
      * @since 1.0
      */
     public static void packAllRows( final JTable table ) {
-        final int firstRow = 0;
-        final int lastRow = table.getRowCount() - 1;
-        packRows( table, firstRow, lastRow );
+        TableRowMetrics.getRowMetrics( table ).packAllRows();
     }
 
     /**
      * Packs the selected row range for best height based on cell components.
+     * <p>
+     * The selected rows are always re-measured, but the resulting uniform row
+     * height also accounts for the cached heights of all other rows.
      *
      * @param table
      *            The Table that hosts the data
@@ -135,24 +141,7 @@ public class TableInitializationUtilities {
      * @since 1.0
      */
     public static void packRows( final JTable table, final int firstRow, final int lastRow ) {
-        // Find out what the intra-cell spacing is between table rows.
-        final int margin = table.getRowMargin();
-
-        // Get the current row height default for all table rows.
-        int rowHeight = table.getRowHeight();
-
-        // Find the tallest cell in the selected row range.
-        for ( int row = firstRow; row <= lastRow; row++ ) {
-            // Get the preferred height for the current row, and use it to
-            // update overall preferred row height for the selected row range.
-            final int preferredRowHeight = getPreferredRowHeight( table, row, rowHeight, margin );
-            rowHeight = FastMath.max( rowHeight, preferredRowHeight );
-        }
-
-        // Set the row heights for the entire table, based on the assigned cell
-        // renderers, so that selected text is not occluded when a cell with a
-        // drop-list is selected.
-        table.setRowHeight( rowHeight );
+        TableRowMetrics.getRowMetrics( table ).packRows( firstRow, lastRow );
     }
 
     /**
@@ -0,0 +1,233 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the GuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * GuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/guitoolkit
+ */
+package com.mhschmieder.guitoolkit.table;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.io.IOException;
+import java.util.BitSet;
+
+import javax.swing.JTable;
+
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * {@code TablePageExporter} vectorizes a table across as many fixed-height
+ * pages as it takes to hold all of its included rows, rather than as one
+ * arbitrarily tall page, and streams each page to a {@link TablePageSink} as
+ * soon as it is complete.
+ * <p>
+ * Each page hosts a contiguous range of the included rows, optionally topped
+ * by the Table Header according to the {@link HeaderRepeatPolicy}. Only the
+ * included row indices are computed up front; no page content is retained
+ * once the page has been handed to the sink.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class TablePageExporter {
+
+    /**
+     * The Table that hosts the data.
+     */
+    private final JTable                    table;
+
+    /**
+     * The height of each page, in pixels.
+     */
+    private final int                       pageHeight;
+
+    /**
+     * The policy for which pages the Table Header is output on.
+     */
+    private final HeaderRepeatPolicy        headerRepeatPolicy;
+
+    /**
+     * The registry of Cell Text Formatters to use, or {@code null} for the
+     * shared default registry.
+     */
+    private final CellTextFormatterRegistry cellTextFormatters;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs a {@code TablePageExporter} for the specified table, using the
+     * shared default registry of Cell Text Formatters.
+     *
+     * @param exportTable
+     *            The Table that hosts the data
+     * @param exportPageHeight
+     *            The height of each page, in pixels
+     * @param exportHeaderRepeatPolicy
+     *            The policy for which pages the Table Header is output on
+     *
+     * @version 1.0
+     */
+    public TablePageExporter( final JTable exportTable,
+                              final int exportPageHeight,
+                              final HeaderRepeatPolicy exportHeaderRepeatPolicy ) {
+        this( exportTable, exportPageHeight, exportHeaderRepeatPolicy, null );
+    }
+
+    /**
+     * Constructs a {@code TablePageExporter} for the specified table.
+     *
+     * @param exportTable
+     *            The Table that hosts the data
+     * @param exportPageHeight
+     *            The height of each page, in pixels
+     * @param exportHeaderRepeatPolicy
+     *            The policy for which pages the Table Header is output on
+     * @param exportCellTextFormatters
+     *            The registry of Cell Text Formatters to use per column class,
+     *            or {@code null} to use the shared default registry
+     *
+     * @version 1.0
+     */
+    public TablePageExporter( final JTable exportTable,
+                              final int exportPageHeight,
+                              final HeaderRepeatPolicy exportHeaderRepeatPolicy,
+                              final CellTextFormatterRegistry exportCellTextFormatters ) {
+        table = exportTable;
+        pageHeight = exportPageHeight;
+        headerRepeatPolicy = ( exportHeaderRepeatPolicy != null )
+            ? exportHeaderRepeatPolicy
+            : HeaderRepeatPolicy.NONE;
+        cellTextFormatters = exportCellTextFormatters;
+    }
+
+    /////////////////////////// Export methods ///////////////////////////////
+
+    /**
+     * Returns the number of pages that were exported, after vectorizing all of
+     * the non-excluded Table Rows across pages and streaming each page to the
+     * sink in turn.
+     * <p>
+     * At least one page is always exported, so that an empty table still
+     * produces its header (if any), and every page holds at least one row even
+     * if the page height is too small for it, so that export always finishes.
+     *
+     * @param pageSink
+     *            The destination for the vectorized pages
+     * @param offsetX
+     *            The offset to apply along the x-axis on every page
+     * @param offsetY
+     *            The offset to apply along the y-axis on every page
+     * @param rowsToExclude
+     *            A {@link BitSet} of the rows to exclude from vectorization;
+     *            not required to be contiguous, and may be {@code null}
+     * @param backgroundColor
+     *            The Background Color of the host component; needed strictly
+     *            for a workaround related to several vector graphics formatter
+     *            libraries that destructively change the color vs. save/restore
+     * @return The number of pages that were exported
+     * @throws IOException
+     *             If the sink failed to create or write a page
+     *
+     * @version 1.0
+     */
+    public int exportPages( final TablePageSink pageSink,
+                            final int offsetX,
+                            final int offsetY,
+                            final BitSet rowsToExclude,
+                            final Color backgroundColor )
+            throws IOException {
+        final int[] includedRows = TableVectorizationUtilities
+                .getIncludedRows( table.getModel().getRowCount(), rowsToExclude );
+        final int rowPitch = FastMath.max( 1, table.getRowHeight() + table.getRowMargin() );
+        final int pageWidth = offsetX + table.getColumnModel().getTotalColumnWidth();
+
+        int pageIndex = 0;
+        int fromIndex = 0;
+        do {
+            final boolean headerOnPage = headerRepeatPolicy.isHeaderOnPage( pageIndex );
+            final int rowsHeight = pageHeight - offsetY - ( headerOnPage ? rowPitch : 0 );
+            final int rowsPerPage = FastMath.max( 1, rowsHeight / rowPitch );
+            final int toIndex = ( int ) FastMath.min( ( long ) fromIndex + rowsPerPage,
+                                                      includedRows.length );
+
+            final Graphics2D graphicsContext = pageSink.beginPage( pageIndex,
+                                                                   pageWidth,
+                                                                   pageHeight );
+            try {
+                TableVectorizationUtilities.vectorizeTable( graphicsContext,
+                                                            offsetX,
+                                                            offsetY,
+                                                            table,
+                                                            headerOnPage,
+                                                            includedRows,
+                                                            fromIndex,
+                                                            toIndex,
+                                                            backgroundColor,
+                                                            cellTextFormatters );
+            }
+            finally {
+                pageSink.endPage( pageIndex, graphicsContext );
+            }
+
+            fromIndex = toIndex;
+            pageIndex++;
+        }
+        while ( fromIndex < includedRows.length );
+
+        return pageIndex;
+    }
+
+    /**
+     * Returns the number of pages that {@link #exportPages} would produce for
+     * the specified number of included rows, such as for "Page n of m" labels.
+     *
+     * @param includedRowCount
+     *            The number of Table Rows that are to be vectorized
+     * @param offsetY
+     *            The offset to apply along the y-axis on every page
+     * @return The number of pages needed for the included rows
+     *
+     * @version 1.0
+     */
+    public int getPageCount( final int includedRowCount, final int offsetY ) {
+        final int rowPitch = FastMath.max( 1, table.getRowHeight() + table.getRowMargin() );
+
+        int pageCount = 0;
+        int remainingRowCount = includedRowCount;
+        do {
+            final boolean headerOnPage = headerRepeatPolicy.isHeaderOnPage( pageCount );
+            final int rowsHeight = pageHeight - offsetY - ( headerOnPage ? rowPitch : 0 );
+            remainingRowCount -= FastMath.max( 1, rowsHeight / rowPitch );
+            pageCount++;
+        }
+        while ( remainingRowCount > 0 );
+
+        return pageCount;
+    }
+
+}
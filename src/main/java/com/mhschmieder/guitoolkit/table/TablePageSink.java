@@ -0,0 +1,85 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the GuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * GuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/guitoolkit
+ */
+package com.mhschmieder.guitoolkit.table;
+
+import java.awt.Graphics2D;
+import java.io.IOException;
+
+/**
+ * {@code TablePageSink} is an interface that establishes the contract for the
+ * destination of paginated table vectorization, such as a multi-page vector
+ * graphics document writer or a printer job.
+ * <p>
+ * Pages are delivered strictly in order, and each page is completed before the
+ * next one is begun, so implementations can write each page out (and release
+ * its resources) as soon as it is ended rather than holding the whole document
+ * in memory.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public interface TablePageSink {
+
+    /**
+     * Begins a new page and returns the graphics context to vectorize it into.
+     *
+     * @param pageIndex
+     *            The zero-based index of the new page
+     * @param pageWidth
+     *            The width of the page content, in pixels
+     * @param pageHeight
+     *            The height of the page, in pixels
+     * @return The {@link Graphics2D} Graphics Context for the new page
+     * @throws IOException
+     *             If the page could not be created in the destination
+     *
+     * @version 1.0
+     */
+    Graphics2D beginPage( final int pageIndex, final int pageWidth, final int pageHeight )
+            throws IOException;
+
+    /**
+     * Ends the current page, once all of its content has been vectorized into
+     * the graphics context that was returned when the page was begun.
+     *
+     * @param pageIndex
+     *            The zero-based index of the completed page
+     * @param graphicsContext
+     *            The {@link Graphics2D} Graphics Context of the completed page
+     * @throws IOException
+     *             If the page could not be written to the destination
+     *
+     * @version 1.0
+     */
+    void endPage( final int pageIndex, final Graphics2D graphicsContext ) throws IOException;
+
+}
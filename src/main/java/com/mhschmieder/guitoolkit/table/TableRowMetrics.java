@@ -0,0 +1,653 @@
+/**
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the GuiToolkit Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * GuiToolkit Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/guitoolkit
+ */
+package com.mhschmieder.guitoolkit.table;
+
+import java.awt.EventQueue;
+import java.beans.PropertyChangeListener;
+import java.util.Arrays;
+import java.util.BitSet;
+
+import javax.swing.JTable;
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
+import javax.swing.table.TableModel;
+
+import org.apache.commons.math3.util.FastMath;
+
+/**
+ * {@code TableRowMetrics} is a row-metrics engine that caches the preferred
+ * height of every row of a {@link JTable}, so that the uniform row height can
+ * be kept up to date without measuring every cell of the table each time.
+ * <p>
+ * Once installed on a table, it listens for Table Model Events and only
+ * re-measures the rows that are reported as changed. Measurements are deferred
+ * to the end of the current event so that bursts of changes are coalesced, and
+ * so that the table's own view of the model is up to date before measuring.
+ * <p>
+ * Tables with more rows than the sampling threshold are estimated from an
+ * evenly spaced sample of rows on a full measurement, as the cost of measuring
+ * every cell of a very large table would otherwise freeze the UI. Rows that
+ * subsequently change are still measured exactly, so the estimate is refined
+ * as the table is edited.
+ * <p>
+ * The engine is stored as a client property of the table that it measures, so
+ * that the static packing methods in {@link TableInitializationUtilities} can
+ * find and reuse its cached heights.
+ *
+ * @version 1.0
+ *
+ * @author Mark Schmieder
+ */
+public final class TableRowMetrics {
+
+    /**
+     * The client property key that the engine is stored under on its table.
+     */
+    public static final String  CLIENT_PROPERTY_KEY       = "TableRowMetrics"; //$NON-NLS-1$
+
+    /**
+     * The default number of rows above which full measurements are sampled.
+     */
+    public static final int     DEFAULT_SAMPLING_THRESHOLD = 2000;
+
+    /**
+     * The default number of rows to measure when sampling.
+     */
+    public static final int     DEFAULT_SAMPLE_SIZE        = 500;
+
+    /**
+     * The cached height for a row that has not been measured.
+     */
+    private static final int    UNMEASURED                 = -1;
+
+    /**
+     * The table whose row heights are being managed.
+     */
+    private final JTable        table;
+
+    /**
+     * The smallest row height to apply, which is the row height that the
+     * table had when this engine was installed.
+     */
+    private final int           minimumRowHeight;
+
+    /**
+     * The cached preferred height of each row, indexed by model row.
+     */
+    private int[]               rowHeights;
+
+    /**
+     * The number of model rows that are accounted for in the cached heights.
+     */
+    private int                 rowCount;
+
+    /**
+     * The largest cached preferred height, or zero if nothing is measured.
+     */
+    private int                 maximumRowHeight;
+
+    /**
+     * The model rows that are waiting to be measured.
+     */
+    private final BitSet        pendingRows;
+
+    /**
+     * Flag for whether a deferred measurement has already been scheduled.
+     */
+    private boolean             measurementScheduled;
+
+    /**
+     * Flag for whether the whole table is accounted for, either by an exact
+     * measurement or by a sampled estimate.
+     */
+    private boolean             metricsValid;
+
+    /**
+     * The number of rows above which full measurements are sampled.
+     */
+    private int                 samplingThreshold;
+
+    /**
+     * The number of rows to measure when sampling.
+     */
+    private int                 sampleSize;
+
+    /**
+     * The model that the Table Model Listener is currently registered on.
+     */
+    private TableModel          listenedModel;
+
+    /**
+     * The listener for incremental changes to the table data.
+     */
+    private final TableModelListener tableModelListener;
+
+    //////////////////////////// Constructors ////////////////////////////////
+
+    /**
+     * Constructs a {@code TableRowMetrics} engine for the specified table.
+     * <p>
+     * This is private so that there is never more than one engine per table;
+     * use {@link #getRowMetrics(JTable)} to obtain the engine for a table.
+     *
+     * @param hostTable
+     *            The table whose row heights are to be managed
+     *
+     * @version 1.0
+     */
+    private TableRowMetrics( final JTable hostTable ) {
+        table = hostTable;
+        minimumRowHeight = hostTable.getRowHeight();
+
+        rowHeights = new int[ 0 ];
+        rowCount = 0;
+        maximumRowHeight = 0;
+        pendingRows = new BitSet();
+        measurementScheduled = false;
+        metricsValid = false;
+
+        samplingThreshold = DEFAULT_SAMPLING_THRESHOLD;
+        sampleSize = DEFAULT_SAMPLE_SIZE;
+
+        tableModelListener = this::tableChanged;
+        listenedModel = null;
+        attachToModel( hostTable.getModel() );
+
+        // Follow the table when it is given a new model, as all of the cached
+        // heights then refer to data that is no longer shown.
+        final PropertyChangeListener modelChangeListener = evt -> {
+            attachToModel( table.getModel() );
+            invalidate();
+        };
+        hostTable.addPropertyChangeListener( "model", modelChangeListener ); //$NON-NLS-1$
+    }
+
+    /**
+     * Returns the row-metrics engine for the specified table, installing a new
+     * one if the table doesn't have one yet.
+     *
+     * @param table
+     *            The table whose row-metrics engine is needed
+     * @return The row-metrics engine for the specified table
+     *
+     * @since 1.0
+     */
+    public static TableRowMetrics getRowMetrics( final JTable table ) {
+        final Object clientProperty = table.getClientProperty( CLIENT_PROPERTY_KEY );
+        if ( clientProperty instanceof TableRowMetrics ) {
+            return ( TableRowMetrics ) clientProperty;
+        }
+
+        final TableRowMetrics rowMetrics = new TableRowMetrics( table );
+        table.putClientProperty( CLIENT_PROPERTY_KEY, rowMetrics );
+        return rowMetrics;
+    }
+
+    /**
+     * Registers the Table Model Listener on the specified model, moving it off
+     * of any previously listened model.
+     *
+     * @param tableModel
+     *            The model to listen to for data changes
+     *
+     * @version 1.0
+     */
+    private void attachToModel( final TableModel tableModel ) {
+        if ( listenedModel == tableModel ) {
+            return;
+        }
+
+        if ( listenedModel != null ) {
+            listenedModel.removeTableModelListener( tableModelListener );
+        }
+        listenedModel = tableModel;
+        if ( listenedModel != null ) {
+            listenedModel.addTableModelListener( tableModelListener );
+        }
+    }
+
+    ////////////////// Accessor methods for private data /////////////////////
+
+    /**
+     * Sets the number of rows above which full measurements are sampled.
+     *
+     * @param threshold
+     *            The number of rows above which full measurements are sampled
+     *
+     * @version 1.0
+     */
+    public void setSamplingThreshold( final int threshold ) {
+        samplingThreshold = FastMath.max( 0, threshold );
+    }
+
+    /**
+     * Sets the number of rows to measure when sampling.
+     *
+     * @param size
+     *            The number of rows to measure when sampling
+     *
+     * @version 1.0
+     */
+    public void setSampleSize( final int size ) {
+        sampleSize = FastMath.max( 1, size );
+    }
+
+    /**
+     * Returns the cached preferred height of the specified model row.
+     *
+     * @param modelRow
+     *            The model index of the row whose height is needed
+     * @return The cached preferred height of the row, or -1 if the row has not
+     *         been measured (such as when it was skipped by sampling)
+     *
+     * @version 1.0
+     */
+    public int getRowHeight( final int modelRow ) {
+        return ( ( modelRow >= 0 ) && ( modelRow < rowCount ) )
+            ? rowHeights[ modelRow ]
+            : UNMEASURED;
+    }
+
+    /**
+     * Returns the uniform row height that accommodates every measured row.
+     *
+     * @return The uniform row height that accommodates every measured row
+     *
+     * @version 1.0
+     */
+    public int getPackedRowHeight() {
+        return FastMath.max( minimumRowHeight, maximumRowHeight );
+    }
+
+    /////////////////////// Row measurement methods //////////////////////////
+
+    /**
+     * Discards all cached heights, so that the next pack measures afresh.
+     * <p>
+     * This should be called after changing anything that affects the cell
+     * renderers globally, such as the table font or the renderers themselves.
+     *
+     * @version 1.0
+     */
+    public void invalidate() {
+        metricsValid = false;
+        pendingRows.clear();
+    }
+
+    /**
+     * Makes sure that all rows are accounted for, measuring or sampling them
+     * only if the cached heights are not already valid, and then applies the
+     * resulting uniform row height to the table.
+     *
+     * @version 1.0
+     */
+    public void packAllRows() {
+        if ( !metricsValid ) {
+            measureAllRows();
+        }
+        else {
+            measurePendingRows();
+        }
+
+        applyRowHeight();
+    }
+
+    /**
+     * Measures the specified range of view rows and applies the resulting
+     * uniform row height to the table.
+     *
+     * @param firstViewRow
+     *            The view index of the first row to measure
+     * @param lastViewRow
+     *            The view index of the last row to measure
+     *
+     * @version 1.0
+     */
+    public void packRows( final int firstViewRow, final int lastViewRow ) {
+        syncRowCount();
+
+        final int margin = table.getRowMargin();
+        final int firstRow = FastMath.max( 0, firstViewRow );
+        final int lastRow = FastMath.min( table.getRowCount() - 1, lastViewRow );
+        for ( int viewRow = firstRow; viewRow <= lastRow; viewRow++ ) {
+            measureViewRow( viewRow, margin );
+        }
+
+        applyRowHeight();
+    }
+
+    /**
+     * Measures every row of the table from scratch, or an evenly spaced sample
+     * of rows if the table is larger than the sampling threshold.
+     *
+     * @version 1.0
+     */
+    private void measureAllRows() {
+        rowCount = table.getModel().getRowCount();
+        rowHeights = new int[ rowCount ];
+        Arrays.fill( rowHeights, UNMEASURED );
+        maximumRowHeight = 0;
+        pendingRows.clear();
+
+        final int margin = table.getRowMargin();
+        final int viewRowCount = table.getRowCount();
+        if ( viewRowCount <= samplingThreshold ) {
+            for ( int viewRow = 0; viewRow < viewRowCount; viewRow++ ) {
+                measureViewRow( viewRow, margin );
+            }
+        }
+        else {
+            // Always include the last row, as rows appended by users are the
+            // most likely to differ from the rest.
+            final double stride = ( double ) viewRowCount / sampleSize;
+            for ( int sample = 0; sample < sampleSize; sample++ ) {
+                measureViewRow( ( int ) ( sample * stride ), margin );
+            }
+            measureViewRow( viewRowCount - 1, margin );
+        }
+
+        metricsValid = true;
+    }
+
+    /**
+     * Measures the rows that were reported as changed since the last time.
+     *
+     * @version 1.0
+     */
+    private void measurePendingRows() {
+        measurementScheduled = false;
+        if ( pendingRows.isEmpty() ) {
+            return;
+        }
+
+        final int margin = table.getRowMargin();
+        for ( int modelRow = pendingRows.nextSetBit( 0 ); ( modelRow >= 0 )
+                && ( modelRow < rowCount ); modelRow = pendingRows.nextSetBit( modelRow + 1 ) ) {
+            // Rows that are filtered out of view are left for later, as they
+            // have no renderer state to measure until they are shown.
+            final int viewRow = table.convertRowIndexToView( modelRow );
+            if ( viewRow >= 0 ) {
+                setRowHeight( modelRow, getPreferredRowHeight( viewRow, margin ) );
+            }
+        }
+        pendingRows.clear();
+    }
+
+    /**
+     * Measures the specified view row and caches its height by model row.
+     *
+     * @param viewRow
+     *            The view index of the row to measure
+     * @param margin
+     *            The intra-cell spacing that is applied between table rows
+     *
+     * @version 1.0
+     */
+    private void measureViewRow( final int viewRow, final int margin ) {
+        final int modelRow = table.convertRowIndexToModel( viewRow );
+        if ( ( modelRow >= 0 ) && ( modelRow < rowCount ) ) {
+            setRowHeight( modelRow, getPreferredRowHeight( viewRow, margin ) );
+        }
+    }
+
+    /**
+     * Returns the preferred height for the specified view row, based purely on
+     * its cell renderers.
+     *
+     * @param viewRow
+     *            The view index of the row to measure
+     * @param margin
+     *            The intra-cell spacing that is applied between table rows
+     * @return The preferred height for the specified view row
+     *
+     * @version 1.0
+     */
+    private int getPreferredRowHeight( final int viewRow, final int margin ) {
+        return TableInitializationUtilities.getPreferredRowHeight( table, viewRow, 0, margin );
+    }
+
+    /**
+     * Caches the height of the specified model row, keeping the maximum height
+     * up to date.
+     *
+     * @param modelRow
+     *            The model index of the row whose height was measured
+     * @param rowHeight
+     *            The measured height of the row
+     *
+     * @version 1.0
+     */
+    private void setRowHeight( final int modelRow, final int rowHeight ) {
+        final int oldRowHeight = rowHeights[ modelRow ];
+        rowHeights[ modelRow ] = rowHeight;
+
+        if ( rowHeight >= maximumRowHeight ) {
+            maximumRowHeight = rowHeight;
+        }
+        else if ( oldRowHeight == maximumRowHeight ) {
+            // The tallest row may have shrunk, so rescan the cached heights.
+            // This is a pass over a primitive array, not over the renderers.
+            recomputeMaximumRowHeight();
+        }
+    }
+
+    /**
+     * Recomputes the maximum row height from the cached row heights.
+     *
+     * @version 1.0
+     */
+    private void recomputeMaximumRowHeight() {
+        int maximum = 0;
+        for ( int row = 0; row < rowCount; row++ ) {
+            maximum = FastMath.max( maximum, rowHeights[ row ] );
+        }
+        maximumRowHeight = maximum;
+    }
+
+    /**
+     * Applies the uniform row height to the table, if it changed.
+     *
+     * @version 1.0
+     */
+    private void applyRowHeight() {
+        final int packedRowHeight = getPackedRowHeight();
+        if ( table.getRowHeight() != packedRowHeight ) {
+            table.setRowHeight( packedRowHeight );
+        }
+    }
+
+    /**
+     * Makes sure that the cached heights cover exactly the current model rows,
+     * in case the model changed without being noticed (e.g. no events fired).
+     *
+     * @version 1.0
+     */
+    private void syncRowCount() {
+        final int modelRowCount = table.getModel().getRowCount();
+        if ( modelRowCount != rowCount ) {
+            rowHeights = Arrays.copyOf( rowHeights, modelRowCount );
+            if ( modelRowCount > rowCount ) {
+                Arrays.fill( rowHeights, rowCount, modelRowCount, UNMEASURED );
+            }
+            rowCount = modelRowCount;
+            recomputeMaximumRowHeight();
+        }
+    }
+
+    ////////////////////// Table Model Event handling ////////////////////////
+
+    /**
+     * Updates the cached heights to track a change to the table data, and
+     * schedules the changed rows for measurement.
+     *
+     * @param tableModelEvent
+     *            The event that describes the change to the table data
+     *
+     * @version 1.0
+     */
+    private void tableChanged( final TableModelEvent tableModelEvent ) {
+        // Nothing is cached before the first pack, so there's nothing to track.
+        if ( !metricsValid ) {
+            return;
+        }
+
+        final int firstRow = tableModelEvent.getFirstRow();
+        final int lastRow = tableModelEvent.getLastRow();
+        if ( ( firstRow == TableModelEvent.HEADER_ROW ) || ( lastRow == Integer.MAX_VALUE ) ) {
+            // The structure or all of the data changed, so start over.
+            invalidate();
+            scheduleMeasurement();
+            return;
+        }
+
+        final int count = lastRow - firstRow + 1;
+        switch ( tableModelEvent.getType() ) {
+        case TableModelEvent.INSERT:
+            insertRows( firstRow, count );
+            break;
+        case TableModelEvent.DELETE:
+            deleteRows( firstRow, count );
+            break;
+        default:
+            break;
+        }
+
+        if ( tableModelEvent.getType() != TableModelEvent.DELETE ) {
+            pendingRows.set( firstRow, lastRow + 1 );
+        }
+        scheduleMeasurement();
+    }
+
+    /**
+     * Opens a gap of unmeasured rows in the cached heights.
+     *
+     * @param firstRow
+     *            The model index of the first inserted row
+     * @param count
+     *            The number of inserted rows
+     *
+     * @version 1.0
+     */
+    private void insertRows( final int firstRow, final int count ) {
+        if ( ( firstRow < 0 ) || ( firstRow > rowCount ) ) {
+            invalidate();
+            return;
+        }
+
+        if ( rowHeights.length < ( rowCount + count ) ) {
+            rowHeights = Arrays.copyOf( rowHeights,
+                                        FastMath.max( rowCount + count, rowHeights.length * 2 ) );
+        }
+        System.arraycopy( rowHeights, firstRow, rowHeights, firstRow + count, rowCount - firstRow );
+        Arrays.fill( rowHeights, firstRow, firstRow + count, UNMEASURED );
+        rowCount += count;
+
+        shiftPendingRows( firstRow, count );
+    }
+
+    /**
+     * Removes a range of rows from the cached heights.
+     *
+     * @param firstRow
+     *            The model index of the first deleted row
+     * @param count
+     *            The number of deleted rows
+     *
+     * @version 1.0
+     */
+    private void deleteRows( final int firstRow, final int count ) {
+        if ( ( firstRow < 0 ) || ( ( firstRow + count ) > rowCount ) ) {
+            invalidate();
+            return;
+        }
+
+        boolean maximumRemoved = false;
+        for ( int row = firstRow; row < ( firstRow + count ); row++ ) {
+            maximumRemoved |= ( rowHeights[ row ] == maximumRowHeight );
+        }
+
+        System.arraycopy( rowHeights,
+                          firstRow + count,
+                          rowHeights,
+                          firstRow,
+                          rowCount - firstRow - count );
+        rowCount -= count;
+
+        shiftPendingRows( firstRow, -count );
+
+        if ( maximumRemoved ) {
+            recomputeMaximumRowHeight();
+        }
+    }
+
+    /**
+     * Shifts the pending rows at or after the specified row by a row offset,
+     * dropping any pending rows that fall within a deleted range.
+     *
+     * @param firstRow
+     *            The model index of the first inserted or deleted row
+     * @param offset
+     *            The number of inserted rows, or minus the number deleted
+     *
+     * @version 1.0
+     */
+    private void shiftPendingRows( final int firstRow, final int offset ) {
+        if ( pendingRows.nextSetBit( firstRow ) < 0 ) {
+            return;
+        }
+
+        final BitSet tail = pendingRows.get( firstRow, pendingRows.length() );
+        pendingRows.clear( firstRow, pendingRows.length() );
+        final int start = ( offset < 0 ) ? -offset : 0;
+        for ( int row = tail.nextSetBit( start ); row >= 0; row = tail.nextSetBit( row + 1 ) ) {
+            pendingRows.set( firstRow + row + offset );
+        }
+    }
+
+    /**
+     * Schedules a deferred measurement of the pending rows, unless one is
+     * already scheduled.
+     *
+     * @version 1.0
+     */
+    private void scheduleMeasurement() {
+        if ( measurementScheduled ) {
+            return;
+        }
+
+        measurementScheduled = true;
+        EventQueue.invokeLater( () -> {
+            measurementScheduled = false;
+            packAllRows();
+        } );
+    }
+
+}
@@ -35,6 +35,8 @@ import java.awt.Component;
 import java.awt.Font;
 import java.awt.FontMetrics;
 import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.util.BitSet;
 import java.util.HashSet;
 
 import javax.swing.JLabel;
@@ -43,6 +45,7 @@ import javax.swing.SwingConstants;
 import javax.swing.table.JTableHeader;
 import javax.swing.table.TableCellRenderer;
 import javax.swing.table.TableColumn;
+import javax.swing.table.TableColumnModel;
 import javax.swing.table.TableModel;
 
 import org.apache.commons.math3.util.FastMath;
@@ -62,10 +65,16 @@ import com.mhschmieder.graphicstoolkit.color.ColorUtilities;
  */
 public final class TableVectorizationUtilities {
 
+    /**
+     * The shared Cell Text Formatters, used whenever none are supplied.
+     */
+    private static final CellTextFormatterRegistry DEFAULT_CELL_TEXT_FORMATTERS =
+            new CellTextFormatterRegistry();
+
     //////////////////////// Vectorization methods ///////////////////////////
 
     /**
-     * This method vectorizes the full Table 9except for excluded Table Rows).
+     * This method vectorizes the full Table (except for excluded Table Rows).
      *
      * @param graphicsContext
      *            The {@link Graphics2D} Graphics Context for vectorizing the
@@ -97,51 +106,473 @@ public final class TableVectorizationUtilities {
                                        final boolean tableHeaderIsInUse,
                                        final HashSet< Integer > rowsToExclude,
                                        final Color backgroundColor ) {
+        // Convert the excluded rows to a bit set once up front, so that there
+        // are no boxed lookups per table cell.
+        final BitSet excludedRows = new BitSet();
+        if ( rowsToExclude != null ) {
+            for ( final Integer row : rowsToExclude ) {
+                if ( ( row != null ) && ( row.intValue() >= 0 ) ) {
+                    excludedRows.set( row.intValue() );
+                }
+            }
+        }
+
+        vectorizeTableExcludingRows( graphicsContext,
+                                     offsetX,
+                                     offsetY,
+                                     table,
+                                     tableHeaderIsInUse,
+                                     excludedRows,
+                                     backgroundColor );
+    }
+
+    /**
+     * This method vectorizes the full Table (except for excluded Table Rows).
+     * <p>
+     * This is the allocation-free equivalent of the {@code vectorizeTable}
+     * variant that takes a {@link HashSet}; it has a distinct name so that
+     * calls passing {@code null} for the excluded rows stay unambiguous.
+     *
+     * @param graphicsContext
+     *            The {@link Graphics2D} Graphics Context for vectorizing the
+     *            content of this table
+     * @param offsetX
+     *            The initial offset to apply along the x-axis for positioning
+     *            the table rows in the vectorized output
+     * @param offsetY
+     *            The initial offset to apply along the y-axis for positioning
+     *            the table columns in the vectorized output
+     * @param table
+     *            The Table that hosts the data
+     * @param tableHeaderIsInUse
+     *            {@code true} if the Table Header is in use
+     * @param rowsToExclude
+     *            A {@link BitSet} of the rows to exclude from vectorization;
+     *            not required to be contiguous, and may be {@code null}
+     * @param backgroundColor
+     *            The Background Color of the host component; needed strictly
+     *            for a workaround related to several vector graphics formatter
+     *            libraries that destructively change the color vs. save/restore
+     *
+     * @version 1.0
+     */
+    public static void vectorizeTableExcludingRows( final Graphics2D graphicsContext,
+                                                    final int offsetX,
+                                                    final int offsetY,
+                                                    final JTable table,
+                                                    final boolean tableHeaderIsInUse,
+                                                    final BitSet rowsToExclude,
+                                                    final Color backgroundColor ) {
+        final int rowCount = table.getModel().getRowCount();
+        final int[] includedRows = getIncludedRows( rowCount, rowsToExclude );
+
+        vectorizeTable( graphicsContext,
+                        offsetX,
+                        offsetY,
+                        table,
+                        tableHeaderIsInUse,
+                        includedRows,
+                        backgroundColor,
+                        null );
+    }
+
+    /**
+     * This method vectorizes the Table Header (if in use) and the specified
+     * Table Rows, in row-major order.
+     * <p>
+     * The Cell Renderer and Font Metrics are looked up once per Table Column
+     * rather than once per Table Cell, and the font and color of the Graphics
+     * Context are only changed when they differ from what is already set, as
+     * each redundant state change bloats vector graphics output files. The
+     * Cell Renderer is assumed not to vary by row within a Table Column, which
+     * holds unless {@link JTable#getCellRenderer} is overridden to do so.
+     * <p>
+     * Rows and columns that lie entirely outside the clip of the Graphics
+     * Context are skipped without being rendered, and the visible rows are
+     * found arithmetically, so the cost is proportional to the visible region.
+     * <p>
+     * Each Table Cell is passed to its Cell Renderer with its actual value, and
+     * is then converted to text by the {@link CellTextFormatter} registered for
+     * its column class, so that numeric, boolean and other typed cells are
+     * vectorized with the same formatting that they are displayed with.
+     * <p>
+     * The font and color of the Graphics Context are restored afterwards.
+     *
+     * @param graphicsContext
+     *            The {@link Graphics2D} Graphics Context for vectorizing the
+     *            content of this table
+     * @param offsetX
+     *            The initial offset to apply along the x-axis for positioning
+     *            the table rows in the vectorized output
+     * @param offsetY
+     *            The initial offset to apply along the y-axis for positioning
+     *            the table columns in the vectorized output
+     * @param table
+     *            The Table that hosts the data
+     * @param tableHeaderIsInUse
+     *            {@code true} if the Table Header is in use
+     * @param includedRows
+     *            The indices of the rows to vectorize, in ascending order
+     * @param backgroundColor
+     *            The Background Color of the host component; needed strictly
+     *            for a workaround related to several vector graphics formatter
+     *            libraries that destructively change the color vs. save/restore
+     * @param cellTextFormatters
+     *            The registry of Cell Text Formatters to use per column class,
+     *            or {@code null} to use the shared default registry
+     *
+     * @version 1.0
+     */
+    public static void vectorizeTable( final Graphics2D graphicsContext,
+                                       final int offsetX,
+                                       final int offsetY,
+                                       final JTable table,
+                                       final boolean tableHeaderIsInUse,
+                                       final int[] includedRows,
+                                       final Color backgroundColor,
+                                       final CellTextFormatterRegistry cellTextFormatters ) {
+        vectorizeTable( graphicsContext,
+                        offsetX,
+                        offsetY,
+                        table,
+                        tableHeaderIsInUse,
+                        includedRows,
+                        0,
+                        ( includedRows != null ) ? includedRows.length : 0,
+                        backgroundColor,
+                        cellTextFormatters );
+    }
+
+    /**
+     * This method vectorizes the Table Header (if in use) and a sub-range of
+     * the specified Table Rows, in row-major order, starting at the vertical
+     * offset. This is the basis for paginated vectorization, where each page
+     * hosts a contiguous range of the rows to vectorize.
+     *
+     * @param graphicsContext
+     *            The {@link Graphics2D} Graphics Context for vectorizing the
+     *            content of this table
+     * @param offsetX
+     *            The initial offset to apply along the x-axis for positioning
+     *            the table rows in the vectorized output
+     * @param offsetY
+     *            The initial offset to apply along the y-axis for positioning
+     *            the table columns in the vectorized output
+     * @param table
+     *            The Table that hosts the data
+     * @param tableHeaderIsInUse
+     *            {@code true} if the Table Header is in use
+     * @param includedRows
+     *            The indices of the rows to vectorize, in ascending order
+     * @param fromIndex
+     *            The index in {@code includedRows} of the first row to
+     *            vectorize (inclusive)
+     * @param toIndex
+     *            The index in {@code includedRows} of the last row to
+     *            vectorize (exclusive)
+     * @param backgroundColor
+     *            The Background Color of the host component; needed strictly
+     *            for a workaround related to several vector graphics formatter
+     *            libraries that destructively change the color vs. save/restore
+     * @param cellTextFormatters
+     *            The registry of Cell Text Formatters to use per column class,
+     *            or {@code null} to use the shared default registry
+     *
+     * @version 1.0
+     */
+    public static void vectorizeTable( final Graphics2D graphicsContext,
+                                       final int offsetX,
+                                       final int offsetY,
+                                       final JTable table,
+                                       final boolean tableHeaderIsInUse,
+                                       final int[] includedRows,
+                                       final int fromIndex,
+                                       final int toIndex,
+                                       final Color backgroundColor,
+                                       final CellTextFormatterRegistry cellTextFormatters ) {
         final TableModel tableModel = table.getModel();
-        final int columnCount = tableModel.getColumnCount();
-        final int rowCount = tableModel.getRowCount();
+        final TableColumnModel columnModel = table.getColumnModel();
+        final int columnCount = FastMath.min( tableModel.getColumnCount(),
+                                              columnModel.getColumnCount() );
+        if ( columnCount <= 0 ) {
+            return;
+        }
 
         final int rowHeight = table.getRowHeight();
         final int rowMargin = table.getRowMargin();
+        final int rowPitch = rowHeight + rowMargin;
 
+        // Lay out the table columns once, rather than once per table row.
+        final int[] columnX = new int[ columnCount ];
+        final int[] columnWidths = new int[ columnCount ];
         int rowX = offsetX;
         for ( int columnIndex = 0; columnIndex < columnCount; columnIndex++ ) {
-            final TableColumn column = table.getColumnModel().getColumn( columnIndex );
-            final int columnWidth = column.getWidth();
+            columnX[ columnIndex ] = rowX;
+            columnWidths[ columnIndex ] = columnModel.getColumn( columnIndex ).getWidth();
+            rowX += columnWidths[ columnIndex ];
+        }
+
+        // Cull the table columns that are entirely outside the clip region,
+        // which is usually much smaller than the table for zoomed exports.
+        final Rectangle clipBounds = graphicsContext.getClipBounds();
+        int firstColumn = 0;
+        int lastColumn = columnCount;
+        if ( clipBounds != null ) {
+            while ( ( firstColumn < columnCount ) && ( ( columnX[ firstColumn ]
+                    + columnWidths[ firstColumn ] ) <= clipBounds.x ) ) {
+                firstColumn++;
+            }
+            while ( ( lastColumn > firstColumn )
+                    && ( columnX[ lastColumn - 1 ] >= ( clipBounds.x + clipBounds.width ) ) ) {
+                lastColumn--;
+            }
+            if ( firstColumn >= lastColumn ) {
+                return;
+            }
+        }
+
+        // JFreePDF writes white text even against a white background, unless we
+        // reset the foreground for the current background. As this color is the
+        // same for every table cell, it only needs to be set once for the table.
+        final Color oldColor = graphicsContext.getColor();
+        final Font oldFont = graphicsContext.getFont();
+        final CellVectorizationState state = new CellVectorizationState( columnCount, oldFont );
+        final CellTextFormatterRegistry formatters = ( cellTextFormatters != null )
+            ? cellTextFormatters
+            : DEFAULT_CELL_TEXT_FORMATTERS;
+        graphicsContext.setColor( ColorUtilities.getForegroundFromBackground( backgroundColor ) );
 
+        try {
             int rowY = offsetY;
 
-            // Vectorize the table header, when present and in use.
-            if ( tableHeaderIsInUse ) {
-                rowY = vectorizeTableHeader( graphicsContext,
-                                             table,
-                                             column,
-                                             columnIndex,
-                                             rowX,
-                                             rowY,
-                                             columnWidth,
-                                             rowHeight,
-                                             rowMargin,
-                                             backgroundColor );
+            // Vectorize the table header, when present and in use and visible.
+            final JTableHeader tableHeader = table.getTableHeader();
+            if ( tableHeaderIsInUse && ( tableHeader != null )
+                    && isRowVisible( rowY, rowPitch, clipBounds ) ) {
+                final TableCellRenderer defaultHeaderRenderer = tableHeader.getDefaultRenderer();
+                for ( int columnIndex = firstColumn; columnIndex < lastColumn; columnIndex++ ) {
+                    final TableColumn column = columnModel.getColumn( columnIndex );
+                    final TableCellRenderer headerRenderer = ( column
+                            .getHeaderRenderer() != null )
+                                ? column.getHeaderRenderer()
+                                : defaultHeaderRenderer;
+                    final Object headerData = column.getHeaderValue();
+                    final CellTextFormatter headerFormatter = formatters
+                            .getFormatter( ( headerData != null )
+                                ? headerData.getClass()
+                                : Object.class );
+                    vectorizeTableCell( graphicsContext,
+                                        state,
+                                        table,
+                                        headerData,
+                                        headerRenderer,
+                                        headerFormatter,
+                                        -1,
+                                        columnIndex,
+                                        columnX[ columnIndex ],
+                                        rowY,
+                                        columnWidths[ columnIndex ] );
+                }
+
+            }
+            if ( tableHeaderIsInUse && ( tableHeader != null ) ) {
+                rowY += rowPitch;
+            }
+
+            if ( ( includedRows == null ) || ( fromIndex >= toIndex ) ) {
+                return;
+            }
+
+            // Cull the table rows that are entirely outside the clip region.
+            // As text is drawn above its baseline, and all rows have the same
+            // height, the visible range is found directly and conservatively.
+            int firstRow = fromIndex;
+            int lastRow = toIndex;
+            if ( clipBounds != null ) {
+                final long firstVisible = ( long ) FastMath
+                        .floor( ( ( double ) clipBounds.y - rowY ) / rowPitch ) - 1L;
+                final long lastVisible = ( long ) FastMath
+                        .floor( ( ( double ) clipBounds.y + clipBounds.height - rowY )
+                                / rowPitch ) + 2L;
+                firstRow = ( int ) FastMath.max( fromIndex, fromIndex + firstVisible );
+                lastRow = ( int ) FastMath.min( toIndex, fromIndex + lastVisible );
+                if ( firstRow >= lastRow ) {
+                    return;
+                }
+                rowY += ( firstRow - fromIndex ) * rowPitch;
             }
 
-            // Vectorize the non-excluded table rows.
-            vectorizeTableRows( graphicsContext,
-                                table,
-                                rowCount,
-                                rowsToExclude,
-                                columnIndex,
-                                rowX,
-                                rowY,
-                                columnWidth,
-                                rowHeight,
-                                rowMargin,
-                                backgroundColor );
-
-            rowX += columnWidth;
+            // Cache the cell renderer per table column, using the first row
+            // that is to be vectorized as representative of the column, and
+            // the cell text formatter for the column's class.
+            final TableCellRenderer[] cellRenderers = new TableCellRenderer[ columnCount ];
+            final CellTextFormatter[] cellFormatters = new CellTextFormatter[ columnCount ];
+            for ( int columnIndex = firstColumn; columnIndex < lastColumn; columnIndex++ ) {
+                cellRenderers[ columnIndex ] = table.getCellRenderer( includedRows[ firstRow ],
+                                                                      columnIndex );
+                cellFormatters[ columnIndex ] = formatters
+                        .getFormatter( table.getColumnClass( columnIndex ) );
+            }
+
+            // Vectorize the non-excluded table rows, one full row at a time.
+            for ( int i = firstRow; i < lastRow; i++ ) {
+                final int rowIndex = includedRows[ i ];
+                for ( int columnIndex = firstColumn; columnIndex < lastColumn; columnIndex++ ) {
+                    vectorizeTableCell( graphicsContext,
+                                        state,
+                                        table,
+                                        table.getValueAt( rowIndex, columnIndex ),
+                                        cellRenderers[ columnIndex ],
+                                        cellFormatters[ columnIndex ],
+                                        rowIndex,
+                                        columnIndex,
+                                        columnX[ columnIndex ],
+                                        rowY,
+                                        columnWidths[ columnIndex ] );
+                }
+
+                rowY += rowPitch;
+            }
+        }
+        finally {
+            graphicsContext.setFont( oldFont );
+            graphicsContext.setColor( oldColor );
         }
     }
 
+    /**
+     * Returns {@code true} if any text drawn on the specified baseline could be
+     * visible within the clip bounds, allowing a full row pitch above and below
+     * the baseline for ascenders and descenders.
+     *
+     * @param rowY
+     *            The y-coordinate of the text baseline for the row
+     * @param rowPitch
+     *            The vertical distance between successive rows
+     * @param clipBounds
+     *            The clip bounds of the Graphics Context, or {@code null} if
+     *            there is no clip
+     * @return {@code true} if the row could be visible within the clip bounds
+     *
+     * @version 1.0
+     */
+    private static boolean isRowVisible( final int rowY,
+                                         final int rowPitch,
+                                         final Rectangle clipBounds ) {
+        return ( clipBounds == null ) || ( ( ( rowY + rowPitch ) > clipBounds.y )
+                && ( ( rowY - rowPitch ) < ( clipBounds.y + clipBounds.height ) ) );
+    }
+
+    /**
+     * Returns the indices of all rows that are not excluded, in ascending
+     * order, so that vectorization loops need no per-row exclusion checks.
+     *
+     * @param rowCount
+     *            The total number of rows in the Table
+     * @param rowsToExclude
+     *            A {@link BitSet} of the rows to exclude; may be {@code null}
+     * @return The indices of all rows that are not excluded
+     *
+     * @version 1.0
+     */
+    public static int[] getIncludedRows( final int rowCount, final BitSet rowsToExclude ) {
+        final int excludedRowCount = ( rowsToExclude != null )
+            ? rowsToExclude.get( 0, FastMath.max( 0, rowCount ) ).cardinality()
+            : 0;
+        final int[] includedRows = new int[ FastMath.max( 0, rowCount - excludedRowCount ) ];
+
+        int includedRowIndex = 0;
+        for ( int rowIndex = 0; rowIndex < rowCount; rowIndex++ ) {
+            if ( ( rowsToExclude == null ) || !rowsToExclude.get( rowIndex ) ) {
+                includedRows[ includedRowIndex++ ] = rowIndex;
+            }
+        }
+
+        return includedRows;
+    }
+
+    /**
+     * This method vectorizes a specific Table Cell, as long as it has text,
+     * only changing the font of the Graphics Context when it differs from the
+     * font that is already set.
+     *
+     * @param graphicsContext
+     *            The {@link Graphics2D} Graphics Context for vectorizing the
+     *            content of this table
+     * @param state
+     *            The cached state for the current table vectorization
+     * @param table
+     *            The Table that hosts the data
+     * @param cellData
+     *            The Cell Data for this Table Cell
+     * @param cellRenderer
+     *            The Cell Renderer to use for this specific Table Cell
+     * @param cellFormatter
+     *            The Cell Text Formatter to use for this specific Table Cell
+     * @param rowIndex
+     *            The current Table Row index to render
+     * @param columnIndex
+     *            The current Table Column index to render
+     * @param rowX
+     *            The x-coordinate for placing and rendering this Table Cell
+     * @param rowY
+     *            The y-coordinate for placing and rendering this Table Cell
+     * @param columnWidth
+     *            The width of the current Table Column
+     *
+     * @version 1.0
+     */
+    private static void vectorizeTableCell( final Graphics2D graphicsContext,
+                                            final CellVectorizationState state,
+                                            final JTable table,
+                                            final Object cellData,
+                                            final TableCellRenderer cellRenderer,
+                                            final CellTextFormatter cellFormatter,
+                                            final int rowIndex,
+                                            final int columnIndex,
+                                            final int rowX,
+                                            final int rowY,
+                                            final int columnWidth ) {
+        // Make sure the current table cell can be rendered.
+        if ( ( cellData == null ) || ( cellRenderer == null ) ) {
+            return;
+        }
+
+        final Component cellComponent = cellRenderer.getTableCellRendererComponent( table,
+                                                                                    cellData,
+                                                                                    false,
+                                                                                    false,
+                                                                                    rowIndex,
+                                                                                    columnIndex );
+        final String cellString = cellFormatter
+                .getCellText( table, cellData, cellComponent, rowIndex, columnIndex );
+        if ( ( cellString == null ) || cellString.isEmpty() ) {
+            return;
+        }
+
+        final Font cellFont = ( cellComponent.getFont() != null )
+            ? cellComponent.getFont()
+            : state.currentFont;
+        if ( !cellFont.equals( state.currentFont ) ) {
+            graphicsContext.setFont( cellFont );
+            state.currentFont = cellFont;
+        }
+
+        final int cellAlignment = ( cellComponent instanceof JLabel )
+            ? ( ( JLabel ) cellComponent ).getHorizontalAlignment()
+            : SwingConstants.LEFT;
+
+        // Only measure the text when the alignment depends on its width.
+        final int cellDataWidth = ( ( cellAlignment == SwingConstants.CENTER )
+                || ( cellAlignment == SwingConstants.RIGHT ) )
+                    ? state.getFontMetrics( columnIndex, cellComponent, cellFont )
+                            .stringWidth( cellString )
+                    : 0;
+        final int rowXAligned = getAlignedX( rowX, columnWidth, cellAlignment, cellDataWidth );
+
+        graphicsContext.drawString( cellString, rowXAligned, rowY );
+    }
+
     /**
      * Returns the adjusted value of the vertical offset for rendering data, so
      * that the next export target in the pipeline gets positioned correctly.
@@ -289,7 +720,8 @@ public final class TableVectorizationUtilities {
     }
 
     /**
-     * This method vectorizes a specific Table Cell, as long as it is a String.
+     * This method vectorizes a specific Table Cell, as long as it has text,
+     * using the shared Cell Text Formatter for the class of its Cell Data.
      *
      * @param graphicsContext
      *            The {@link Graphics2D} Graphics Context for vectorizing the
@@ -328,30 +760,78 @@ public final class TableVectorizationUtilities {
                                            final int columnWidth,
                                            final Color backgroundColor ) {
         // Make sure the current table cell can be rendered.
-        final String cellString = ( cellData instanceof String )
-            ? ( String ) cellData
-            : ( cellData instanceof StringBuffer )
-                ? cellData.toString()
-                : ( cellData instanceof StringBuilder ) ? cellData.toString() : null;
-        if ( cellString == null ) {
+        if ( cellData == null ) {
             return;
         }
 
         final Component cellComponent = cellRenderer.getTableCellRendererComponent( table,
-                                                                                    cellString,
+                                                                                    cellData,
                                                                                     false,
                                                                                     false,
                                                                                     rowIndex,
                                                                                     columnIndex );
+        final String cellString = DEFAULT_CELL_TEXT_FORMATTERS.getFormatter( cellData.getClass() )
+                .getCellText( table, cellData, cellComponent, rowIndex, columnIndex );
+        if ( ( cellString == null ) || cellString.isEmpty() ) {
+            return;
+        }
 
         final Font cellFont = cellComponent.getFont();
         graphicsContext.setFont( cellFont );
 
-        final JLabel cellLabel = ( JLabel ) cellComponent;
-        final int cellAlignment = cellLabel.getHorizontalAlignment();
+        final int cellAlignment = ( cellComponent instanceof JLabel )
+            ? ( ( JLabel ) cellComponent ).getHorizontalAlignment()
+            : SwingConstants.LEFT;
         final FontMetrics cellFontMetrics = cellComponent.getFontMetrics( cellFont );
         final int cellDataWidth = cellFontMetrics.stringWidth( cellString );
 
+        final int rowXAligned = getAlignedX( rowX, columnWidth, cellAlignment, cellDataWidth );
+
+        // JFreePDF writes white text even against a white background, unless we
+        // reset the foreground for the current background. Additionally,
+        // JFreeSVG needs the table background to be used as the basis vs. the
+        // Graphics Context's current background. Fortunately, EpsToolkit works
+        // properly with or without any of these edits.
+        final Color oldColor = graphicsContext.getColor();
+        final Color newColor = ColorUtilities.getForegroundFromBackground( backgroundColor );
+        graphicsContext.setColor( newColor );
+        graphicsContext.drawString( cellString, rowXAligned, rowY );
+        graphicsContext.setColor( oldColor );
+    }
+
+    /**
+     * Returns the shared registry of Cell Text Formatters, which is used by
+     * all table vectorization that doesn't supply a registry of its own, so
+     * that applications can register formatters for their own column classes.
+     *
+     * @return The shared registry of Cell Text Formatters
+     *
+     * @version 1.0
+     */
+    public static CellTextFormatterRegistry getDefaultCellTextFormatters() {
+        return DEFAULT_CELL_TEXT_FORMATTERS;
+    }
+
+    /**
+     * Returns the x-coordinate at which to draw cell text so that it honors
+     * the horizontal alignment of its Table Cell.
+     *
+     * @param rowX
+     *            The x-coordinate of the left edge of the Table Cell
+     * @param columnWidth
+     *            The width of the current Table Column
+     * @param cellAlignment
+     *            The horizontal alignment of the Table Cell
+     * @param cellDataWidth
+     *            The rendered width of the cell text
+     * @return The x-coordinate at which to draw the cell text
+     *
+     * @version 1.0
+     */
+    private static int getAlignedX( final int rowX,
+                                    final int columnWidth,
+                                    final int cellAlignment,
+                                    final int cellDataWidth ) {
         int rowXAligned = rowX;
 
         switch ( cellAlignment ) {
@@ -375,16 +855,68 @@ public final class TableVectorizationUtilities {
             break;
         }
 
-        // JFreePDF writes white text even against a white background, unless we
-        // reset the foreground for the current background. Additionally,
-        // JFreeSVG needs the table background to be used as the basis vs. the
-        // Graphics Context's current background. Fortunately, EpsToolkit works
-        // properly with or without any of these edits.
-        final Color oldColor = graphicsContext.getColor();
-        final Color newColor = ColorUtilities.getForegroundFromBackground( backgroundColor );
-        graphicsContext.setColor( newColor );
-        graphicsContext.drawString( cellString, rowXAligned, rowY );
-        graphicsContext.setColor( oldColor );
+        return rowXAligned;
+    }
+
+    /**
+     * {@code CellVectorizationState} holds the per-column font metrics cache
+     * and the current font of the Graphics Context, for the duration of a
+     * single table vectorization.
+     */
+    private static final class CellVectorizationState {
+
+        /**
+         * The font that the Graphics Context is currently set to.
+         */
+        Font                        currentFont;
+
+        /**
+         * The font that the cached font metrics of each column are for.
+         */
+        private final Font[]        columnFonts;
+
+        /**
+         * The cached font metrics of each column.
+         */
+        private final FontMetrics[] columnFontMetrics;
+
+        /**
+         * Constructs the state for vectorizing a table.
+         *
+         * @param columnCount
+         *            The number of table columns to cache font metrics for
+         * @param initialFont
+         *            The font that the Graphics Context is initially set to
+         */
+        CellVectorizationState( final int columnCount, final Font initialFont ) {
+            currentFont = initialFont;
+            columnFonts = new Font[ columnCount ];
+            columnFontMetrics = new FontMetrics[ columnCount ];
+        }
+
+        /**
+         * Returns the font metrics for the specified column and font, only
+         * querying the cell component when the font differs from last time.
+         *
+         * @param columnIndex
+         *            The current Table Column index
+         * @param cellComponent
+         *            The component returned by the Cell Renderer
+         * @param cellFont
+         *            The font of the cell component
+         * @return The font metrics for the specified column and font
+         */
+        FontMetrics getFontMetrics( final int columnIndex,
+                                    final Component cellComponent,
+                                    final Font cellFont ) {
+            if ( ( columnFontMetrics[ columnIndex ] == null )
+                    || !cellFont.equals( columnFonts[ columnIndex ] ) ) {
+                columnFonts[ columnIndex ] = cellFont;
+                columnFontMetrics[ columnIndex ] = cellComponent.getFontMetrics( cellFont );
+            }
+            return columnFontMetrics[ columnIndex ];
+        }
+
     }
 
 }
@@ -173,8 +173,8 @@ public class XCellRenderer extends DefaultTableCellRenderer {
         final float boldFontSize = FastMath.max( 11f, preferredFontSize );
         final float plainFontSize = FastMath.min( 12f, preferredFontSize );
         final Font tableCellFont = applyRowHeaderStyle
-            ? defaultFont.deriveFont( Font.BOLD | Font.ITALIC, boldFontSize )
-            : defaultFont.deriveFont( Font.PLAIN, plainFontSize );
+            ? FontVariantCache.getFont( defaultFont, Font.BOLD | Font.ITALIC, boldFontSize )
+            : FontVariantCache.getFont( defaultFont, Font.PLAIN, plainFontSize );
         component.setFont( tableCellFont );
 
         // This is temporary code for debugging purposes, to see what fonts are